@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.benchmarks;
+
+import com.salesforce.apollo.ethereal.Adder;
+import com.salesforce.apollo.ethereal.Dag;
+import com.salesforce.apollo.ethereal.Unit;
+import com.salesforce.apollo.ethereal.proto.Have;
+import com.salesforce.apollo.ethereal.proto.Missing;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The reliable broadcast Adder: producing the local process' units through the prevote, commit and output stages, and
+ * the have/missing reconciliation performed on each gossip round
+ *
+ * @author hal.hildebrand
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AdderBenchmark {
+    private static final short PID = 0;
+
+    @Param({ "16", "64" })
+    public short nProc;
+
+    @Param({ "30" })
+    public int levels;
+
+    private Have       emptyHave;
+    private List<Unit> foreign;
+    private Adder      full;
+    private List<Unit> own;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var units = SyntheticDag.units(nProc, levels);
+        own = units.stream().filter(u -> u.creator() == PID).toList();
+        foreign = units.stream().filter(u -> u.creator() != PID).toList();
+        full = adder(SyntheticDag.dag(nProc, units));
+        emptyHave = adder(new Dag.DagImpl(SyntheticDag.config(nProc, PID), 0)).have();
+    }
+
+    @Benchmark
+    public Have have() {
+        return full.have();
+    }
+
+    @Benchmark
+    public Adder produce() {
+        var adder = adder(SyntheticDag.dag(nProc, foreign));
+        own.forEach(adder::produce);
+        return adder;
+    }
+
+    @Benchmark
+    public Missing updateFor() {
+        return full.updateFor(emptyHave);
+    }
+
+    private Adder adder(Dag dag) {
+        var config = SyntheticDag.config(nProc, PID);
+        return new Adder(0, dag, 1024 * 1024, config, new ConcurrentSkipListSet<>());
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.benchmarks;
+
+import com.google.protobuf.ByteString;
+import com.salesforce.apollo.choam.support.BatchingQueue;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Filling and draining the CHOAM transaction BatchingQueue, as the producer does for each unit's data
+ *
+ * @author hal.hildebrand
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchingQueueBenchmark {
+    private static final int EVENTS        = 10_000;
+    private static final int MAX_BYTE_SIZE = 1024 * 1024;
+
+    @Param({ "100", "1000" })
+    public int batchSize;
+
+    @Param({ "256" })
+    public int eventSize;
+
+    private List<ByteString> events;
+
+    @Setup
+    public void setup() {
+        var entropy = new Random(0x666);
+        events = IntStream.range(0, EVENTS).mapToObj(i -> {
+            var bytes = new byte[eventSize];
+            entropy.nextBytes(bytes);
+            return ByteString.copyFrom(bytes);
+        }).toList();
+    }
+
+    @Benchmark
+    public void fillAndDrain(Blackhole blackhole) throws InterruptedException {
+        var queue = new BatchingQueue<ByteString>(Integer.MAX_VALUE, batchSize, ByteString::size, MAX_BYTE_SIZE);
+        for (var event : events) {
+            blackhole.consume(queue.offer(event));
+        }
+        List<ByteString> batch;
+        while ((batch = queue.take(Duration.ZERO)) != null) {
+            blackhole.consume(batch);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the JMH suites, accepting the standard JMH command line. Unless a result format is explicitly supplied, the
+ * results are published as JSON to the file named by the <code>jmh.result</code> system property, defaulting to
+ * <code>target/jmh-result.json</code>, so that runs may be compared mechanically for regressions.
+ *
+ * @author hal.hildebrand
+ */
+public class BenchmarkRunner {
+    public static final String DEFAULT_RESULT  = "target/jmh-result.json";
+    public static final String RESULT_PROPERTY = "jmh.result";
+
+    public static void main(String[] argv) throws Exception {
+        var commandLine = new CommandLineOptions(argv);
+        var builder = new OptionsBuilder().parent(commandLine);
+        if (!commandLine.getResultFormat().hasValue()) {
+            builder.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLine.getResult().hasValue()) {
+            builder.result(System.getProperty(RESULT_PROPERTY, DEFAULT_RESULT));
+        }
+        new Runner(builder.build()).run();
+    }
+}
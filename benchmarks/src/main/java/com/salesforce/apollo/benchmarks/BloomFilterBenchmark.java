@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.benchmarks;
+
+import com.salesforce.apollo.bloomFilters.BloomFilter;
+import com.salesforce.apollo.bloomFilters.BloomFilter.DigestBloomFilter;
+import com.salesforce.apollo.cryptography.Digest;
+import com.salesforce.apollo.cryptography.DigestAlgorithm;
+import com.salesforce.apollo.cryptography.proto.Biff;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Digest bloom filter population, membership and the Biff serialization round trip used by every gossip exchange
+ *
+ * @author hal.hildebrand
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BloomFilterBenchmark {
+    private static final double FPR  = 0.000125;
+    private static final long   SEED = 0x1638;
+
+    @Param({ "1000", "100000" })
+    public int size;
+
+    private Biff                biff;
+    private BloomFilter<Digest> populated;
+    private List<Digest>        members;
+    private List<Digest>        probes;
+
+    @Setup
+    public void setup() {
+        var entropy = new Random(0x666);
+        members = IntStream.range(0, size).mapToObj(i -> DigestAlgorithm.DEFAULT.random(entropy)).toList();
+        probes = IntStream.range(0, size).mapToObj(i -> DigestAlgorithm.DEFAULT.random(entropy)).toList();
+        populated = new DigestBloomFilter(SEED, size, FPR);
+        members.forEach(populated::add);
+        biff = populated.toBff();
+    }
+
+    @Benchmark
+    public BloomFilter<Digest> add() {
+        var bff = new DigestBloomFilter(SEED, size, FPR);
+        members.forEach(bff::add);
+        return bff;
+    }
+
+    @Benchmark
+    public void contains(Blackhole blackhole) {
+        for (var d : members) {
+            blackhole.consume(populated.contains(d));
+        }
+        for (var d : probes) {
+            blackhole.consume(populated.contains(d));
+        }
+    }
+
+    @Benchmark
+    public BloomFilter<Digest> deserialize() {
+        return BloomFilter.from(biff);
+    }
+
+    @Benchmark
+    public Biff serialize() {
+        return populated.toBff();
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.benchmarks;
+
+import com.salesforce.apollo.ethereal.Dag;
+import com.salesforce.apollo.ethereal.PreUnit;
+import com.salesforce.apollo.ethereal.Unit;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserting a regular DAG into an empty Ethereal Dag, both directly and through parent decoding as the Adder does
+ *
+ * @author hal.hildebrand
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DagBenchmark {
+    @Param({ "16", "64" })
+    public short nProc;
+
+    @Param({ "100" })
+    public int levels;
+
+    private List<PreUnit> preUnits;
+    private List<Unit>    units;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        units = SyntheticDag.units(nProc, levels);
+        preUnits = units.stream().map(Unit::toPreUnit).toList();
+    }
+
+    @Benchmark
+    public Dag decodeAndInsert() {
+        var dag = new Dag.DagImpl(SyntheticDag.config(nProc, (short) 0), 0);
+        for (var pu : preUnits) {
+            var decoded = dag.decodeParents(pu);
+            if (decoded.inError()) {
+                throw new IllegalStateException("Unable to decode: " + pu + " : " + decoded.classification());
+            }
+            dag.insert(dag.build(pu, decoded.parents()));
+        }
+        return dag;
+    }
+
+    @Benchmark
+    public Dag insert() {
+        var dag = new Dag.DagImpl(SyntheticDag.config(nProc, (short) 0), 0);
+        units.forEach(dag::insert);
+        return dag;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.benchmarks;
+
+import com.salesforce.apollo.bloomFilters.BloomFilter.DigestBloomFilter;
+import com.salesforce.apollo.cryptography.Digest;
+import com.salesforce.apollo.ethereal.Dag;
+import com.salesforce.apollo.ethereal.Unit;
+import com.salesforce.apollo.ethereal.proto.PreUnit_s;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The unit index of the Ethereal Dag as gossip uses it: populating a bloom filter with the units of a full epoch,
+ * answering the units missing from a bloom filter holding the lower half of the levels, and inserting the epoch's
+ * units. The contended group populates bloom filters while another thread inserts into the same dag
+ *
+ * @author hal.hildebrand
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DagIndexBenchmark {
+    @Param({ "64" })
+    public short nProc;
+
+    @Param({ "1000" })
+    public int levels;
+
+    private Dag               dag;
+    private DigestBloomFilter empty;
+    private DigestBloomFilter lowerHalf;
+    private List<Unit>        units;
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(3)
+    public DigestBloomFilter contendedHave(Contended contended, Filter filter) {
+        filter.filter.clear();
+        contended.dag.have(filter.filter);
+        return filter.filter;
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(1)
+    public void contendedInsert(Contended contended) {
+        contended.insert(this);
+    }
+
+    @Benchmark
+    public DigestBloomFilter have() {
+        empty.clear();
+        dag.have(empty);
+        return empty;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Dag insert() {
+        return SyntheticDag.dag(nProc, units);
+    }
+
+    @Benchmark
+    public Map<Digest, PreUnit_s> missing() {
+        var missing = new HashMap<Digest, PreUnit_s>();
+        dag.missing(lowerHalf, missing);
+        return missing;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        units = SyntheticDag.units(nProc, levels);
+        dag = SyntheticDag.dag(nProc, units);
+        empty = filter(units.size());
+        lowerHalf = filter(units.size());
+        units.subList(0, units.size() / 2).forEach(u -> lowerHalf.add(u.hash()));
+    }
+
+    private static DigestBloomFilter filter(int n) {
+        return new DigestBloomFilter(0x1638L, n, 1.0 / ((double) n * 2));
+    }
+
+    @State(Scope.Group)
+    public static class Contended {
+        private volatile Dag dag;
+        private          int next;
+
+        @Setup(Level.Iteration)
+        public void setup(DagIndexBenchmark benchmark) {
+            dag = new Dag.DagImpl(SyntheticDag.config(benchmark.nProc, (short) 0), 0);
+            next = 0;
+        }
+
+        private void insert(DagIndexBenchmark benchmark) {
+            if (next == benchmark.units.size()) {
+                dag = new Dag.DagImpl(SyntheticDag.config(benchmark.nProc, (short) 0), 0);
+                next = 0;
+            }
+            dag.insert(benchmark.units.get(next++));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Filter {
+        private DigestBloomFilter filter;
+
+        @Setup(Level.Trial)
+        public void setup(DagIndexBenchmark benchmark) {
+            filter = filter(benchmark.units.size());
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.benchmarks;
+
+import com.salesforce.apollo.cryptography.Digest;
+import com.salesforce.apollo.cryptography.DigestAlgorithm;
+import com.salesforce.apollo.ethereal.Crown;
+import com.salesforce.apollo.ethereal.Dag;
+import com.salesforce.apollo.ethereal.PreUnit;
+import com.salesforce.apollo.ethereal.Unit;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pre units decoded per second, as the Adder decodes them: the parents of the units of the top level of the regular DAG
+ * are resolved from the dag of the levels below, and the control hash of their crown is verified. The Adder decodes
+ * into a reusable array and verifies the crown from the cached crown fragments of the parents; for comparison, the
+ * fresh decoding allocates the parents and combines the digests of the parents
+ *
+ * @author hal.hildebrand
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DecodeParentsBenchmark {
+    private static final int LEVELS = 10;
+
+    @Param({ "16", "64", "128" })
+    public short nProc;
+
+    private Dag           dag;
+    private int           index;
+    private Unit[]        parents;
+    private List<PreUnit> top;
+
+    @Benchmark
+    public boolean decode() {
+        var pu = top.get(next());
+        var decoded = dag.decodeParents(pu, parents);
+        return !decoded.inError() && Crown.controlHash(decoded.parents(), DigestAlgorithm.DEFAULT)
+                                          .equals(pu.view().controlHash());
+    }
+
+    @Benchmark
+    public boolean decodeFresh() {
+        var pu = top.get(next());
+        var decoded = dag.decodeParents(pu);
+        if (decoded.inError()) {
+            return false;
+        }
+        var digests = new Digest[nProc];
+        var p = decoded.parents();
+        for (int i = 0; i < nProc; i++) {
+            digests[i] = p[i] == null ? null : p[i].hash();
+        }
+        return Digest.combine(DigestAlgorithm.DEFAULT, digests).equals(pu.view().controlHash());
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var units = SyntheticDag.units(nProc, LEVELS);
+        var below = units.subList(0, units.size() - nProc);
+        dag = SyntheticDag.dag(nProc, below);
+        top = units.subList(below.size(), units.size()).stream().map(Unit::toPreUnit).toList();
+        parents = new Unit[nProc];
+        if (!decode() || !decodeFresh()) {
+            throw new IllegalStateException("Unable to decode the top level");
+        }
+    }
+
+    private int next() {
+        var i = index;
+        index = i + 1 == top.size() ? 0 : i + 1;
+        return i;
+    }
+}
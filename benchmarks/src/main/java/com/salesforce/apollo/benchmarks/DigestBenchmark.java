@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.benchmarks;
+
+import com.google.protobuf.ByteString;
+import com.salesforce.apollo.cryptography.Digest;
+import com.salesforce.apollo.cryptography.DigestAlgorithm;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hashing throughput of the digest algorithms over representative message sizes, and the digest combinators used
+ * throughout the ring and crown computations
+ *
+ * @author hal.hildebrand
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DigestBenchmark {
+    @Param({ "BLAKE2B_256", "BLAKE3_256", "SHA2_256", "SHA3_256" })
+    public DigestAlgorithm algorithm;
+
+    @Param({ "64", "1024", "65536" })
+    public int size;
+
+    private byte[]     bytes;
+    private ByteString byteString;
+    private Digest     a;
+    private Digest     b;
+
+    @Setup
+    public void setup() {
+        var entropy = new Random(0x666);
+        bytes = new byte[size];
+        entropy.nextBytes(bytes);
+        byteString = ByteString.copyFrom(bytes);
+        a = algorithm.random(entropy);
+        b = algorithm.random(entropy);
+    }
+
+    @Benchmark
+    public Digest digestBytes() {
+        return algorithm.digest(bytes);
+    }
+
+    @Benchmark
+    public Digest digestByteString() {
+        return algorithm.digest(byteString);
+    }
+
+    @Benchmark
+    public Digest prefix() {
+        return a.prefix(1);
+    }
+
+    @Benchmark
+    public Digest xor() {
+        return a.xor(b);
+    }
+}
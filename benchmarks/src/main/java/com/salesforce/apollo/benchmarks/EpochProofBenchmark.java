@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.benchmarks;
+
+import com.google.protobuf.ByteString;
+import com.salesforce.apollo.cryptography.*;
+import com.salesforce.apollo.ethereal.EpochProofBuilder.Share;
+import com.salesforce.apollo.ethereal.WeakThresholdKey;
+import com.salesforce.apollo.ethereal.WeakThresholdKey.MultiSigWeakThresholdKey;
+import com.salesforce.apollo.ethereal.proto.EpochProof;
+import com.salesforce.apollo.ethereal.proto.Proof;
+import org.joou.ULong;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Epoch proofs of committees of 16, 64 and 256 members: verifying the multi-signature of the weak threshold key,
+ * combining the threshold of shares into it, and, for comparison, verifying the signatures of the entire committee
+ *
+ * @author hal.hildebrand
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EpochProofBenchmark {
+    @Param({ "16", "64", "256" })
+    public int members;
+
+    private JohnHancock      committee;
+    private ByteString       message;
+    private EpochProof       proof;
+    private List<Share>      shares;
+    private Verifier         verifier;
+    private WeakThresholdKey wtk;
+
+    @Benchmark
+    public JohnHancock combine() {
+        return wtk.combineShares(shares);
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        var entropy = SecureRandom.getInstance("SHA1PRNG");
+        entropy.setSeed(new byte[] { 6, 6, 6 });
+        var threshold = 2 * ((members - 1) / 3) + 1;
+        var keys = new PublicKey[members];
+        var signers = new Signer[members];
+        for (int i = 0; i < members; i++) {
+            var keyPair = SignatureAlgorithm.ED_25519.generateKeyPair(entropy);
+            keys[i] = keyPair.getPublic();
+            signers[i] = new Signer.SignerImpl(keyPair.getPrivate(), ULong.MIN);
+        }
+        var msg = Proof.newBuilder()
+                       .setEncodedId(entropy.nextLong())
+                       .setHash(DigestAlgorithm.DEFAULT.random(entropy).toDigeste())
+                       .build();
+        message = msg.toByteString();
+
+        wtk = new MultiSigWeakThresholdKey(keys, signers[0], threshold);
+        shares = new ArrayList<>();
+        var signatures = new byte[members][];
+        for (short pid = 0; pid < members; pid++) {
+            var share = new MultiSigWeakThresholdKey(keys, signers[pid], threshold).createShare(msg, pid);
+            shares.add(share);
+            signatures[pid] = share.signature().getBytes()[0];
+        }
+        proof = EpochProof.newBuilder().setMsg(msg).setSignature(wtk.combineShares(shares).toSig()).build();
+        if (!wtk.verifySignature(proof)) {
+            throw new IllegalStateException("Invalid epoch proof");
+        }
+
+        committee = new JohnHancock(SignatureAlgorithm.ED_25519, signatures, ULong.MIN);
+        verifier = new Verifier.DefaultVerifier(keys);
+    }
+
+    @Benchmark
+    public boolean verifyCommittee() {
+        return verifier.verify(SigningThreshold.unweighted(members), committee, message);
+    }
+
+    @Benchmark
+    public boolean verifyMultiSignature() {
+        return wtk.verifySignature(proof);
+    }
+}
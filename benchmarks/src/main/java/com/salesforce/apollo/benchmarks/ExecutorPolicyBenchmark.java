@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.benchmarks;
+
+import com.google.protobuf.Empty;
+import com.salesforce.apollo.archipelago.*;
+import com.salesforce.apollo.bloomFilters.BloomFilter;
+import com.salesforce.apollo.cryptography.*;
+import com.salesforce.apollo.ethereal.proto.GossiperGrpc;
+import com.salesforce.apollo.ethereal.proto.Have;
+import com.salesforce.apollo.fireflies.proto.FirefliesGrpc;
+import com.salesforce.apollo.fireflies.proto.Gossip;
+import com.salesforce.apollo.fireflies.proto.Note;
+import com.salesforce.apollo.fireflies.proto.Ping;
+import com.salesforce.apollo.fireflies.proto.SayWhat;
+import com.salesforce.apollo.fireflies.proto.SignedNote;
+import com.salesforce.apollo.membership.Member;
+import com.salesforce.apollo.membership.stereotomy.ControlledIdentifierMember;
+import com.salesforce.apollo.stereotomy.StereotomyImpl;
+import com.salesforce.apollo.stereotomy.mem.MemKERL;
+import com.salesforce.apollo.stereotomy.mem.MemKeyStore;
+import io.grpc.stub.StreamObserver;
+import org.joou.ULong;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fireflies and Ethereal RPCs over the in process transport, with the server calls of the services executed directly,
+ * on a virtual thread per call, or on a dedicated pool. The Fireflies ping is a cheap handler; the Fireflies gossip
+ * verifies the signature of the note gossiped, and the Ethereal gossip digests the request, as their handlers do
+ *
+ * @author hal.hildebrand
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class ExecutorPolicyBenchmark {
+    @Param({ "direct", "virtual", "pooled" })
+    public String policy;
+
+    private Stubs                                       client;
+    private Router                                      clientRouter;
+    private ExecutorPolicy                              executorPolicy;
+    private SayWhat                                     gossip;
+    private com.salesforce.apollo.ethereal.proto.Gossip haves;
+    private Router                                      serverRouter;
+
+    @Benchmark
+    public com.salesforce.apollo.ethereal.proto.Update etherealGossip() {
+        return client.ethereal.gossip(haves);
+    }
+
+    @Benchmark
+    public Gossip firefliesGossip() {
+        return client.fireflies.gossip(gossip);
+    }
+
+    @Benchmark
+    public Empty firefliesPing() {
+        return client.fireflies.ping(Ping.getDefaultInstance());
+    }
+
+    @Setup
+    public void setup() {
+        executorPolicy = switch (policy) {
+            case "direct" -> ExecutorPolicy.direct();
+            case "virtual" -> ExecutorPolicy.virtual();
+            case "pooled" -> ExecutorPolicy.pooled("rpc", Runtime.getRuntime().availableProcessors());
+            default -> throw new IllegalArgumentException("Unknown policy: " + policy);
+        };
+        var entropy = new SecureRandom(new byte[] { 6, 6, 6 });
+        var stereotomy = new StereotomyImpl(new MemKeyStore(), new MemKERL(DigestAlgorithm.DEFAULT), entropy);
+        Member server = new ControlledIdentifierMember(stereotomy.newIdentifier());
+        Member from = new ControlledIdentifierMember(stereotomy.newIdentifier());
+        var context = DigestAlgorithm.DEFAULT.getOrigin();
+        var prefix = UUID.randomUUID().toString();
+        var executor = Executors.newVirtualThreadPerTaskExecutor();
+
+        var keyPair = SignatureAlgorithm.ED_25519.generateKeyPair();
+        var signer = new Signer.SignerImpl(keyPair.getPrivate(), ULong.MIN);
+        var verifier = new Verifier.DefaultVerifier(keyPair.getPublic());
+        var note = Note.newBuilder().setEpoch(1).setEndpoint("endpoint").setCurrentView(context.toDigeste()).build();
+        gossip = SayWhat.newBuilder()
+                        .setNote(SignedNote.newBuilder()
+                                           .setNote(note)
+                                           .setSignature(signer.sign(note.toByteString()).toSig()))
+                        .build();
+        var units = new BloomFilter.DigestBloomFilter(entropy.nextLong(), 1000, 0.000125);
+        for (int i = 0; i < 100; i++) {
+            units.add(DigestAlgorithm.DEFAULT.random(entropy));
+        }
+        haves = com.salesforce.apollo.ethereal.proto.Gossip.newBuilder()
+                                                            .addHaves(Have.newBuilder()
+                                                                          .setEpoch(1)
+                                                                          .setHaveUnits(units.toBff()))
+                                                            .build();
+
+        serverRouter = new LocalServer(prefix, server).router(ServerConnectionCache.newBuilder(), executor);
+        serverRouter.create(server, context, new Object(), "fireflies", r -> new FirefliesGrpc.FirefliesImplBase() {
+            @Override
+            public void gossip(SayWhat request, StreamObserver<Gossip> responseObserver) {
+                var signed = request.getNote();
+                if (!verifier.verify(JohnHancock.from(signed.getSignature()), signed.getNote().toByteString())) {
+                    throw new IllegalStateException("Invalid signature");
+                }
+                responseObserver.onNext(Gossip.getDefaultInstance());
+                responseObserver.onCompleted();
+            }
+
+            @Override
+            public void ping(Ping request, StreamObserver<Empty> responseObserver) {
+                responseObserver.onNext(Empty.getDefaultInstance());
+                responseObserver.onCompleted();
+            }
+        }, c -> null, null, null, executorPolicy);
+        serverRouter.create(server, context, new Object(), "ethereal", r -> new GossiperGrpc.GossiperImplBase() {
+            @Override
+            public void gossip(com.salesforce.apollo.ethereal.proto.Gossip request,
+                               StreamObserver<com.salesforce.apollo.ethereal.proto.Update> responseObserver) {
+                DigestAlgorithm.DEFAULT.digest(request.toByteString());
+                responseObserver.onNext(com.salesforce.apollo.ethereal.proto.Update.newBuilder()
+                                                                                   .setHave(request.getHaves(0)
+                                                                                                   .getHaveUnits())
+                                                                                   .build());
+                responseObserver.onCompleted();
+            }
+        }, c -> null, null, null, executorPolicy);
+
+        clientRouter = new LocalServer(prefix, from).router(ServerConnectionCache.newBuilder(), executor);
+        var comms = clientRouter.create(from, context, new Object(), "client",
+                                        r -> new GossiperGrpc.GossiperImplBase() {
+                                        }, Stubs::new, (Stubs) null);
+        serverRouter.start();
+        clientRouter.start();
+        client = comms.connect(server);
+    }
+
+    @TearDown
+    public void teardown() throws Exception {
+        client.close();
+        clientRouter.close(Duration.ZERO);
+        serverRouter.close(Duration.ZERO);
+        executorPolicy.shutdown();
+    }
+
+    private static class Stubs implements Link {
+        private final ManagedServerChannel                channel;
+        private final GossiperGrpc.GossiperBlockingStub   ethereal;
+        private final FirefliesGrpc.FirefliesBlockingStub fireflies;
+
+        private Stubs(ManagedServerChannel channel) {
+            this.channel = channel;
+            ethereal = GossiperGrpc.newBlockingStub(channel);
+            fireflies = FirefliesGrpc.newBlockingStub(channel);
+        }
+
+        @Override
+        public void close() {
+            channel.release();
+        }
+
+        @Override
+        public Member getMember() {
+            return channel.getMember();
+        }
+    }
+}
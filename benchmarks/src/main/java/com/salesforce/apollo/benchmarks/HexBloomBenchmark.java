@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.benchmarks;
+
+import com.salesforce.apollo.cryptography.Digest;
+import com.salesforce.apollo.cryptography.DigestAlgorithm;
+import com.salesforce.apollo.cryptography.HexBloom;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * HexBloom crown accumulation: the AtomicReference/Digest per element accumulation versus primitive lanes, sequential
+ * and fork/join parallel
+ *
+ * @author hal.hildebrand
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HexBloomBenchmark {
+    private static final int CROWNS = 3;
+
+    @Param({ "10000", "1000000" })
+    public int size;
+
+    private HexBloom                       hexBloom;
+    private List<Function<Digest, Digest>> hashes;
+    private List<Digest>                   members;
+
+    @Setup
+    public void setup() {
+        var entropy = new Random(0x666);
+        members = IntStream.range(0, size).mapToObj(i -> DigestAlgorithm.DEFAULT.random(entropy)).toList();
+        hashes = HexBloom.hashes(CROWNS);
+        hexBloom = HexBloom.construct(size, members.stream(), DigestAlgorithm.DEFAULT.getOrigin(), CROWNS);
+    }
+
+    @Benchmark
+    public List<Digest> atomicReference() {
+        var crowns = hashes.stream()
+                           .map(h -> h.apply(DigestAlgorithm.DEFAULT.getOrigin()))
+                           .map(AtomicReference::new)
+                           .toList();
+        members.forEach(d -> {
+            for (int i = 0; i < crowns.size(); i++) {
+                crowns.get(i).accumulateAndGet(hashes.get(i).apply(d), Digest::xor);
+            }
+        });
+        return crowns.stream().map(AtomicReference::get).toList();
+    }
+
+    @Benchmark
+    public List<Digest> lanes() {
+        var lanes = new HexBloom.Lanes(hashes, DigestAlgorithm.DEFAULT);
+        members.forEach(lanes::add);
+        return lanes.crowns();
+    }
+
+    @Benchmark
+    public List<Digest> parallelLanes() {
+        return members.parallelStream().collect(HexBloom.Lanes.collector(hashes, DigestAlgorithm.DEFAULT)).crowns();
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return hexBloom.validate(members);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.benchmarks;
+
+import com.salesforce.apollo.cryptography.DigestAlgorithm;
+import com.salesforce.apollo.cryptography.Signer.SignerImpl;
+import com.salesforce.apollo.stereotomy.KERL;
+import com.salesforce.apollo.stereotomy.db.UniKERLDirect;
+import com.salesforce.apollo.stereotomy.event.KeyEvent;
+import com.salesforce.apollo.stereotomy.event.protobuf.ProtobufEventFactory;
+import com.salesforce.apollo.stereotomy.identifier.Identifier;
+import com.salesforce.apollo.stereotomy.identifier.spec.IdentifierSpecification;
+import com.salesforce.apollo.stereotomy.identifier.spec.RotationSpecification;
+import com.salesforce.apollo.stereotomy.mem.MemKERL;
+import liquibase.Liquibase;
+import liquibase.database.core.H2Database;
+import liquibase.resource.ClassLoaderResourceAccessor;
+import org.h2.jdbc.JdbcConnection;
+import org.joou.ULong;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.security.SecureRandom;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static com.salesforce.apollo.cryptography.SigningThreshold.unweighted;
+
+/**
+ * Appending key events - an inception followed by a rotation for each identifier - to the in memory MemKERL and to the
+ * H2 backed UniKERL. Each iteration appends a fresh batch of previously unseen identifiers.
+ *
+ * @author hal.hildebrand
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class KerlBenchmark {
+    private static final int IDENTIFIERS = 500;
+
+    @Param({ "mem", "uni" })
+    public String kerlType;
+
+    private Connection           connection;
+    private SecureRandom         entropy;
+    private List<KeyEvent>       events;
+    private ProtobufEventFactory factory;
+    private KERL.AppendKERL      kerl;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        entropy = SecureRandom.getInstance("SHA1PRNG");
+        entropy.setSeed(new byte[] { 6, 6, 6 });
+        factory = new ProtobufEventFactory();
+        kerl = switch (kerlType) {
+            case "mem" -> new MemKERL(DigestAlgorithm.DEFAULT);
+            case "uni" -> uniKERL();
+            default -> throw new IllegalArgumentException("Invalid KERL type: " + kerlType);
+        };
+    }
+
+    @Setup(Level.Iteration)
+    public void events() {
+        events = new ArrayList<>(IDENTIFIERS * 2);
+        for (int i = 0; i < IDENTIFIERS; i++) {
+            var specification = IdentifierSpecification.newBuilder();
+            var initialKeyPair = specification.getSignatureAlgorithm().generateKeyPair(entropy);
+            var nextKeyPair = specification.getSignatureAlgorithm().generateKeyPair(entropy);
+            specification.addKey(initialKeyPair.getPublic())
+                         .setSigningThreshold(unweighted(1))
+                         .setNextKeys(List.of(nextKeyPair.getPublic()))
+                         .setWitnesses(Collections.emptyList())
+                         .setSigner(new SignerImpl(initialKeyPair.getPrivate(), ULong.MIN));
+            var inception = factory.inception(Identifier.NONE, specification.build());
+            events.add(inception);
+
+            var rotatedKeyPair = specification.getSignatureAlgorithm().generateKeyPair(entropy);
+            var rotation = RotationSpecification.newBuilder()
+                                                .setIdentifier(inception.getIdentifier())
+                                                .setCurrentCoords(inception.getCoordinates())
+                                                .setCurrentDigest(inception.hash(DigestAlgorithm.DEFAULT))
+                                                .setKey(nextKeyPair.getPublic())
+                                                .setSigningThreshold(unweighted(1))
+                                                .setNextKeys(List.of(rotatedKeyPair.getPublic()))
+                                                .setSigner(new SignerImpl(nextKeyPair.getPrivate(), ULong.MIN));
+            events.add(factory.rotation(rotation.build(), false));
+        }
+    }
+
+    @Benchmark
+    public void append(Blackhole blackhole) {
+        for (var event : events) {
+            blackhole.consume(kerl.append(event));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() throws Exception {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    private KERL.AppendKERL uniKERL() throws Exception {
+        final var url = "jdbc:h2:mem:kerl-bench-%s;DB_CLOSE_DELAY=-1".formatted(UUID.randomUUID());
+        var database = new H2Database();
+        database.setConnection(
+        new liquibase.database.jvm.JdbcConnection(new JdbcConnection(url, new Properties(), "", "", false)));
+        try (Liquibase liquibase = new Liquibase("/stereotomy/initialize.xml", new ClassLoaderResourceAccessor(),
+                                                 database)) {
+            liquibase.update((String) null);
+        }
+        connection = new JdbcConnection(url, new Properties(), "", "", false);
+        return new UniKERLDirect(connection, DigestAlgorithm.DEFAULT);
+    }
+}
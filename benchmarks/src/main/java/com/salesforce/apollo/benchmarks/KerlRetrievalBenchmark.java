@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.benchmarks;
+
+import com.salesforce.apollo.cryptography.DigestAlgorithm;
+import com.salesforce.apollo.stereotomy.EventCoordinates;
+import com.salesforce.apollo.stereotomy.KERL;
+import com.salesforce.apollo.stereotomy.KERL.EventWithAttachments;
+import com.salesforce.apollo.stereotomy.StereotomyImpl;
+import com.salesforce.apollo.stereotomy.db.UniKERLDirect;
+import com.salesforce.apollo.stereotomy.identifier.Identifier;
+import com.salesforce.apollo.stereotomy.identifier.spec.InteractionSpecification;
+import com.salesforce.apollo.stereotomy.mem.MemKERL;
+import com.salesforce.apollo.stereotomy.mem.MemKeyStore;
+import liquibase.Liquibase;
+import liquibase.database.core.H2Database;
+import liquibase.resource.ClassLoaderResourceAccessor;
+import org.h2.jdbc.JdbcConnection;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.SecureRandom;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Retrieving the full KERL of an identifier with an inception followed by interactions, from the in memory MemKERL
+ * and the H2 backed UniKERL. The bulk retrieval of KERL.kerl(Identifier) is compared with the iterative walk of the
+ * chain of previous coordinates, an event and attachment lookup per event, that it replaces.
+ *
+ * @author hal.hildebrand
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KerlRetrievalBenchmark {
+    @Param({ "mem", "uni" })
+    public String kerlType;
+    @Param({ "10", "1000", "100000" })
+    public int    length;
+
+    private Connection      connection;
+    private Identifier      identifier;
+    private KERL.AppendKERL kerl;
+
+    @Benchmark
+    public List<EventWithAttachments> bulk() {
+        return kerl.kerl(identifier);
+    }
+
+    @Benchmark
+    public List<EventWithAttachments> iterative() {
+        var result = new ArrayList<EventWithAttachments>();
+        var ks = kerl.getKeyState(identifier);
+        EventCoordinates c = ks == null ? null : ks.getCoordinates();
+        while (c != null) {
+            var event = kerl.getKeyEvent(c);
+            if (event == null) {
+                break;
+            }
+            result.add(new EventWithAttachments(event, kerl.getAttachment(c)));
+            c = event.getPrevious();
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        var entropy = SecureRandom.getInstance("SHA1PRNG");
+        entropy.setSeed(new byte[] { 6, 6, 6 });
+        kerl = switch (kerlType) {
+            case "mem" -> new MemKERL(DigestAlgorithm.DEFAULT);
+            case "uni" -> uniKERL();
+            default -> throw new IllegalArgumentException("Invalid KERL type: " + kerlType);
+        };
+        var controlled = new StereotomyImpl(new MemKeyStore(), kerl, entropy).newIdentifier();
+        for (int i = 1; i < length; i++) {
+            controlled.seal(InteractionSpecification.newBuilder());
+        }
+        identifier = controlled.getIdentifier();
+        var retrieved = kerl.kerl(identifier).size();
+        if (retrieved != length) {
+            throw new IllegalStateException("Expected KERL of: " + length + " events, retrieved: " + retrieved);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() throws Exception {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    private KERL.AppendKERL uniKERL() throws Exception {
+        final var url = "jdbc:h2:mem:kerl-retrieval-%s;DB_CLOSE_DELAY=-1".formatted(UUID.randomUUID());
+        var database = new H2Database();
+        database.setConnection(
+        new liquibase.database.jvm.JdbcConnection(new JdbcConnection(url, new Properties(), "", "", false)));
+        try (Liquibase liquibase = new Liquibase("/stereotomy/initialize.xml", new ClassLoaderResourceAccessor(),
+                                                 database)) {
+            liquibase.update((String) null);
+        }
+        connection = new JdbcConnection(url, new Properties(), "", "", false);
+        return new UniKERLDirect(connection, DigestAlgorithm.DEFAULT);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.benchmarks;
+
+import com.salesforce.apollo.cryptography.DigestAlgorithm;
+import com.salesforce.apollo.ethereal.Unit;
+import com.salesforce.apollo.ethereal.linear.Extender;
+import com.salesforce.apollo.ethereal.linear.Linearizer;
+import com.salesforce.apollo.ethereal.linear.TimingRound;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timing rounds of the regular DAG linearized per second: each operation orders the next of the successive timing
+ * rounds decided by the Extender. The memoized Linearizer resumes from the frontier of the previous round; the fresh
+ * ordering of TimingRound.orderedUnits determines the units already ordered from the previous timing unit
+ *
+ * @author hal.hildebrand
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LinearizerBenchmark {
+    private static final String LABEL = "bench";
+
+    @Param({ "16", "64" })
+    public short nProc;
+
+    @Param({ "30", "100" })
+    public int levels;
+
+    private int               index;
+    private Linearizer        linearizer;
+    private List<TimingRound> rounds;
+
+    @Benchmark
+    public List<Unit> fresh() {
+        return rounds.get(next()).orderedUnits(DigestAlgorithm.DEFAULT, LABEL);
+    }
+
+    @Benchmark
+    public List<Unit> memoized() {
+        return linearizer.order(rounds.get(next()));
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var dag = SyntheticDag.dag(nProc, SyntheticDag.units(nProc, levels));
+        var extender = new Extender(dag, SyntheticDag.config(nProc, (short) 0));
+        rounds = new ArrayList<>();
+        TimingRound current = null;
+        TimingRound next;
+        while ((next = extender.nextRound(current)) != null && !next.equals(current)) {
+            rounds.add(next);
+            current = next;
+        }
+        linearizer = new Linearizer(nProc, DigestAlgorithm.DEFAULT, LABEL);
+    }
+
+    private int next() {
+        var i = index;
+        index = i + 1 == rounds.size() ? 0 : i + 1;
+        return i;
+    }
+}
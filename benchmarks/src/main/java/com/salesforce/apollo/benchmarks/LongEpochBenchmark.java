@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.benchmarks;
+
+import com.salesforce.apollo.ethereal.Dag;
+import com.salesforce.apollo.ethereal.Unit;
+import com.salesforce.apollo.ethereal.linear.Extender;
+import com.salesforce.apollo.ethereal.linear.TimingRound;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A long running epoch: the units of the regular DAG are inserted one by one into an empty dag, with the Extender
+ * observing each insert and choosing the next timing rounds, as Ethereal hooks it. With votes decided incrementally and
+ * deciders pruned behind the last timing round, the time per unit remains constant as the number of levels grows
+ *
+ * @author hal.hildebrand
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LongEpochBenchmark {
+    @Param({ "16" })
+    public short nProc;
+
+    @Param({ "100", "400", "1000" })
+    public int levels;
+
+    private List<Unit> units;
+
+    @Benchmark
+    public int epoch() {
+        var config = SyntheticDag.config(nProc, (short) 0);
+        var dag = new Dag.DagImpl(config, 0);
+        var extender = new Extender(dag, config);
+        var lastTU = new AtomicReference<TimingRound>();
+        var ordered = new AtomicInteger();
+        dag.afterInsert(extender::observe);
+        dag.afterInsert(u -> lastTU.set(extender.chooseNextTimingUnits(lastTU.get(), round -> ordered.addAndGet(
+        round.size()))));
+        units.forEach(dag::insert);
+        return ordered.get();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        units = SyntheticDag.units(nProc, levels);
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.benchmarks;
+
+import com.salesforce.apollo.cryptography.DigestAlgorithm;
+import com.salesforce.apollo.cryptography.Signer.SignerImpl;
+import com.salesforce.apollo.stereotomy.EventCoordinates;
+import com.salesforce.apollo.stereotomy.KERL;
+import com.salesforce.apollo.stereotomy.KeyState;
+import com.salesforce.apollo.stereotomy.event.KeyEvent;
+import com.salesforce.apollo.stereotomy.event.protobuf.ProtobufEventFactory;
+import com.salesforce.apollo.stereotomy.identifier.Identifier;
+import com.salesforce.apollo.stereotomy.identifier.spec.IdentifierSpecification;
+import com.salesforce.apollo.stereotomy.identifier.spec.RotationSpecification;
+import com.salesforce.apollo.stereotomy.mem.CompactMemKERL;
+import com.salesforce.apollo.stereotomy.mem.MemKERL;
+import org.joou.ULong;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.salesforce.apollo.cryptography.SigningThreshold.unweighted;
+
+/**
+ * The string keyed MemKERL against the binary keyed CompactMemKERL: key state lookups, by identifier and by
+ * coordinates, over a populated KERL, and appends of fresh batches of previously unseen identifiers - an inception
+ * followed by a rotation for each. Appends include the validation of the events, common to both.
+ *
+ * @author hal.hildebrand
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MemKerlBenchmark {
+    private static final int IDENTIFIERS = 1000;
+
+    @Param({ "mem", "compact" })
+    public String kerlType;
+
+    private EventCoordinates[] coordinates;
+    private SecureRandom       entropy;
+    private Identifier[]       identifiers;
+    private int                index;
+    private KERL.AppendKERL    kerl;
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 10)
+    public void append(Appends appends, Blackhole blackhole) {
+        for (var event : appends.events) {
+            blackhole.consume(kerl.append(event));
+        }
+    }
+
+    @Benchmark
+    public KeyState getKeyState() {
+        return kerl.getKeyState(identifiers[next()]);
+    }
+
+    @Benchmark
+    public KeyState getKeyStateCoordinates() {
+        return kerl.getKeyState(coordinates[next()]);
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        entropy = SecureRandom.getInstance("SHA1PRNG");
+        entropy.setSeed(new byte[] { 6, 6, 6 });
+        kerl = switch (kerlType) {
+            case "mem" -> new MemKERL(DigestAlgorithm.DEFAULT);
+            case "compact" -> new CompactMemKERL(DigestAlgorithm.DEFAULT);
+            default -> throw new IllegalArgumentException("Invalid KERL type: " + kerlType);
+        };
+        var events = events(entropy, IDENTIFIERS);
+        identifiers = new Identifier[IDENTIFIERS];
+        coordinates = new EventCoordinates[IDENTIFIERS];
+        for (int i = 0; i < IDENTIFIERS; i++) {
+            kerl.append(events.get(i * 2));
+            var rotation = events.get(i * 2 + 1);
+            kerl.append(rotation);
+            identifiers[i] = rotation.getIdentifier();
+            coordinates[i] = rotation.getCoordinates();
+        }
+    }
+
+    private int next() {
+        var i = index + 1;
+        index = i == IDENTIFIERS ? 0 : i;
+        return index;
+    }
+
+    private static List<KeyEvent> events(SecureRandom entropy, int identifiers) {
+        var factory = new ProtobufEventFactory();
+        var events = new ArrayList<KeyEvent>(identifiers * 2);
+        for (int i = 0; i < identifiers; i++) {
+            var specification = IdentifierSpecification.newBuilder();
+            var initialKeyPair = specification.getSignatureAlgorithm().generateKeyPair(entropy);
+            var nextKeyPair = specification.getSignatureAlgorithm().generateKeyPair(entropy);
+            specification.addKey(initialKeyPair.getPublic())
+                         .setSigningThreshold(unweighted(1))
+                         .setNextKeys(List.of(nextKeyPair.getPublic()))
+                         .setWitnesses(Collections.emptyList())
+                         .setSigner(new SignerImpl(initialKeyPair.getPrivate(), ULong.MIN));
+            var inception = factory.inception(Identifier.NONE, specification.build());
+            events.add(inception);
+
+            var rotatedKeyPair = specification.getSignatureAlgorithm().generateKeyPair(entropy);
+            var rotation = RotationSpecification.newBuilder()
+                                                .setIdentifier(inception.getIdentifier())
+                                                .setCurrentCoords(inception.getCoordinates())
+                                                .setCurrentDigest(inception.hash(DigestAlgorithm.DEFAULT))
+                                                .setKey(nextKeyPair.getPublic())
+                                                .setSigningThreshold(unweighted(1))
+                                                .setNextKeys(List.of(rotatedKeyPair.getPublic()))
+                                                .setSigner(new SignerImpl(nextKeyPair.getPrivate(), ULong.MIN));
+            events.add(factory.rotation(rotation.build(), false));
+        }
+        return events;
+    }
+
+    @State(Scope.Benchmark)
+    public static class Appends {
+        private List<KeyEvent> events;
+
+        @Setup(Level.Iteration)
+        public void events(MemKerlBenchmark benchmark) {
+            events = MemKerlBenchmark.events(benchmark.entropy, 500);
+        }
+    }
+}
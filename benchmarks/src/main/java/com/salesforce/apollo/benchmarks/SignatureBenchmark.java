@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.benchmarks;
+
+import com.google.protobuf.ByteString;
+import com.salesforce.apollo.cryptography.JohnHancock;
+import com.salesforce.apollo.cryptography.SignatureAlgorithm;
+import com.salesforce.apollo.cryptography.Signer;
+import com.salesforce.apollo.cryptography.Verifier;
+import org.joou.ULong;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EdDSA signing and verification, through the Signer and Verifier abstractions used by the protocols
+ *
+ * @author hal.hildebrand
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SignatureBenchmark {
+    @Param({ "64", "1024", "65536" })
+    public int size;
+
+    private ByteString  message;
+    private JohnHancock signature;
+    private Signer      signer;
+    private Verifier    verifier;
+
+    @Setup
+    public void setup() {
+        var entropy = new Random(0x666);
+        var bytes = new byte[size];
+        entropy.nextBytes(bytes);
+        message = ByteString.copyFrom(bytes);
+        var keyPair = SignatureAlgorithm.ED_25519.generateKeyPair();
+        signer = new Signer.SignerImpl(keyPair.getPrivate(), ULong.MIN);
+        verifier = new Verifier.DefaultVerifier(keyPair.getPublic());
+        signature = signer.sign(message);
+    }
+
+    @Benchmark
+    public JohnHancock sign() {
+        return signer.sign(message);
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return verifier.verify(signature, message);
+    }
+}
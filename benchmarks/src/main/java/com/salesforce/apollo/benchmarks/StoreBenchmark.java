@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.benchmarks;
+
+import com.google.protobuf.ByteString;
+import com.salesforce.apollo.choam.proto.*;
+import com.salesforce.apollo.choam.support.HashedCertifiedBlock;
+import com.salesforce.apollo.choam.support.Store;
+import com.salesforce.apollo.context.StaticContext;
+import com.salesforce.apollo.cryptography.DigestAlgorithm;
+import com.salesforce.apollo.membership.SigningMember;
+import com.salesforce.apollo.membership.stereotomy.ControlledIdentifierMember;
+import com.salesforce.apollo.stereotomy.StereotomyImpl;
+import com.salesforce.apollo.stereotomy.mem.MemKERL;
+import com.salesforce.apollo.stereotomy.mem.MemKeyStore;
+import org.h2.mvstore.MVStore;
+import org.joou.ULong;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Storing and retrieving certified blocks in the CHOAM Store, backed by an in memory MVStore. The blocks are certified
+ * by the BFT subset of a static committee of MemKERL backed members.
+ *
+ * @author hal.hildebrand
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StoreBenchmark {
+    private static final int BLOCKS    = 1_000;
+    private static final int COMMITTEE = 7;
+
+    @Param({ "10", "100" })
+    public int transactions;
+
+    @Param({ "256" })
+    public int transactionSize;
+
+    private List<HashedCertifiedBlock> chain;
+    private int                        next;
+    private Store                      populated;
+    private Store                      store;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        var entropy = SecureRandom.getInstance("SHA1PRNG");
+        entropy.setSeed(new byte[] { 6, 6, 6 });
+        var stereotomy = new StereotomyImpl(new MemKeyStore(), new MemKERL(DigestAlgorithm.DEFAULT), entropy);
+        List<SigningMember> members = IntStream.range(0, COMMITTEE)
+                                               .mapToObj(i -> stereotomy.newIdentifier())
+                                               .map(ControlledIdentifierMember::new)
+                                               .map(m -> (SigningMember) m)
+                                               .toList();
+        var context = new StaticContext<>(DigestAlgorithm.DEFAULT.getOrigin(), 0.2, members, 3);
+
+        var random = new Random(0x666);
+        chain = new ArrayList<>(BLOCKS);
+        HashedCertifiedBlock previous = null;
+        for (int height = 0; height < BLOCKS; height++) {
+            var header = Header.newBuilder().setHeight(height).setLastCheckpoint(-1).setLastReconfig(-1);
+            if (previous != null) {
+                header.setPrevious(previous.hash.toDigeste());
+            }
+            var executions = Executions.newBuilder();
+            for (int i = 0; i < transactions; i++) {
+                var content = new byte[transactionSize];
+                random.nextBytes(content);
+                executions.addExecutions(Transaction.newBuilder()
+                                                    .setSource(members.get(i % COMMITTEE).getId().toDigeste())
+                                                    .setNonce(i)
+                                                    .setContent(ByteString.copyFrom(content)));
+            }
+            var block = Block.newBuilder().setHeader(header).setExecutions(executions).build();
+            var hash = DigestAlgorithm.DEFAULT.digest(block.toByteString());
+            var certified = CertifiedBlock.newBuilder().setBlock(block);
+            for (var m : context.bftSubset(hash)) {
+                certified.addCertifications(Certification.newBuilder()
+                                                         .setId(m.getId().toDigeste())
+                                                         .setSignature(m.sign(block.toByteString()).toSig()));
+            }
+            previous = new HashedCertifiedBlock(DigestAlgorithm.DEFAULT, certified.build());
+            chain.add(previous);
+        }
+        populated = new Store(DigestAlgorithm.DEFAULT, new MVStore.Builder().open());
+        chain.forEach(populated::put);
+    }
+
+    @Setup(Level.Iteration)
+    public void freshStore() {
+        store = new Store(DigestAlgorithm.DEFAULT, new MVStore.Builder().open());
+        next = 0;
+    }
+
+    @Benchmark
+    public CertifiedBlock getCertifiedBlock() {
+        next = (next + 1) % BLOCKS;
+        return populated.getCertifiedBlock(ULong.valueOf(next));
+    }
+
+    @Benchmark
+    public void put() {
+        store.put(chain.get(next));
+        next = (next + 1) % BLOCKS;
+    }
+}
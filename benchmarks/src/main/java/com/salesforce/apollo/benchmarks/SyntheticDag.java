@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.benchmarks;
+
+import com.google.protobuf.ByteString;
+import com.salesforce.apollo.cryptography.DigestAlgorithm;
+import com.salesforce.apollo.cryptography.SignatureAlgorithm;
+import com.salesforce.apollo.cryptography.Signer;
+import com.salesforce.apollo.ethereal.Config;
+import com.salesforce.apollo.ethereal.Dag;
+import com.salesforce.apollo.ethereal.PreUnit;
+import com.salesforce.apollo.ethereal.Unit;
+import org.joou.ULong;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates the regular Ethereal DAG: every process creates one unit on each level, each unit having all the units of
+ * the previous level as parents
+ *
+ * @author hal.hildebrand
+ */
+public final class SyntheticDag {
+    public static final Signer SIGNER = new Signer.SignerImpl(SignatureAlgorithm.DEFAULT.generateKeyPair().getPrivate(),
+                                                              ULong.MIN);
+
+    private SyntheticDag() {
+    }
+
+    public static Config config(short nProc, short pid) {
+        return Config.newBuilder().setnProc(nProc).setPid(pid).setSigner(SIGNER).build();
+    }
+
+    /**
+     * Answer a new dag containing the supplied units
+     */
+    public static Dag dag(short nProc, List<Unit> units) {
+        var dag = new Dag.DagImpl(config(nProc, (short) 0), 0);
+        units.forEach(dag::insert);
+        return dag;
+    }
+
+    /**
+     * Answer the units of the regular dag, in level order
+     */
+    public static List<Unit> units(short nProc, int levels) {
+        var units = new ArrayList<Unit>(nProc * levels);
+        var previous = new Unit[nProc];
+        for (int level = 0; level < levels; level++) {
+            var current = new Unit[nProc];
+            for (short creator = 0; creator < nProc; creator++) {
+                var data = ByteString.copyFromUtf8("%s:%s".formatted(creator, level));
+                current[creator] = PreUnit.newFreeUnit(creator, 0, previous.clone(), level, data,
+                                                       DigestAlgorithm.DEFAULT, SIGNER);
+                units.add(current[creator]);
+            }
+            previous = current;
+        }
+        return units;
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.benchmarks;
+
+import com.google.protobuf.ByteString;
+import com.salesforce.apollo.bloomFilters.BloomFilter;
+import com.salesforce.apollo.cryptography.Digest;
+import com.salesforce.apollo.cryptography.DigestAlgorithm;
+import com.salesforce.apollo.cryptography.SignatureAlgorithm;
+import com.salesforce.apollo.cryptography.Signer;
+import com.salesforce.apollo.fireflies.AccusationWrapper;
+import com.salesforce.apollo.fireflies.NoteWrapper;
+import com.salesforce.apollo.fireflies.UpdateIndex;
+import com.salesforce.apollo.fireflies.proto.*;
+import com.salesforce.apollo.stereotomy.identifier.SelfAddressingIdentifier;
+import com.salesforce.apollo.utils.Utils;
+import org.joou.ULong;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Assembly of the Fireflies gossip update for a peer missing a number of notes and accusations of a 10k member view:
+ * the per request walk of the members versus the view's update index
+ *
+ * @author hal.hildebrand
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UpdateIndexBenchmark {
+    private static final int    MAXIMUM_TXFR = 1024;
+    private static final double FPR          = 0.00125;
+
+    @Param({ "10000" })
+    public int members;
+    @Param({ "0", "16", "1024" })
+    public int missing;
+
+    private List<AccusationWrapper>       accusations;
+    private BloomFilter<Digest>           accusationsBff;
+    private Digest                        current;
+    private UpdateIndex                   index;
+    private List<NoteWrapper>             notes;
+    private BloomFilter<Digest>           notesBff;
+    private Map<Digest, SignedViewChange> observations;
+    private BloomFilter<Digest>           observationsBff;
+
+    @Benchmark
+    public Update indexed() {
+        var builder = Update.newBuilder();
+        index.notesMissing(notesBff, MAXIMUM_TXFR, builder::addNotes);
+        index.accusationsMissing(accusationsBff, builder::addAccusations);
+        index.observationsMissing(observationsBff, builder::addObservations);
+        return builder.build();
+    }
+
+    @Benchmark
+    public UpdateIndex rebuild() {
+        return new UpdateIndex(0, current, members, notes, accusations, observations);
+    }
+
+    @Benchmark
+    public Update scan() {
+        var builder = Update.newBuilder();
+        notes.stream()
+             .filter(n -> n != null)
+             .filter(n -> current.equals(n.currentView()))
+             .filter(n -> !notesBff.contains(n.getHash()))
+             .map(NoteWrapper::getWrapped)
+             .limit(MAXIMUM_TXFR)
+             .forEach(builder::addNotes);
+        accusations.stream()
+                   .filter(a -> a.currentView().equals(current))
+                   .filter(a -> !accusationsBff.contains(a.getHash()))
+                   .forEach(a -> builder.addAccusations(a.getWrapped()));
+        observations.entrySet()
+                    .stream()
+                    .collect(Utils.toShuffledList())
+                    .stream()
+                    .filter(e -> !observationsBff.contains(e.getKey()))
+                    .forEach(e -> builder.addObservations(e.getValue()));
+        return builder.build();
+    }
+
+    @Setup
+    public void setup() {
+        var entropy = new Random(0x666);
+        var algo = DigestAlgorithm.DEFAULT;
+        var signer = new Signer.SignerImpl(SignatureAlgorithm.ED_25519.generateKeyPair().getPrivate(), ULong.MIN);
+        current = algo.random(entropy);
+        var mask = new BitSet();
+        mask.set(0, 10);
+
+        notes = new ArrayList<>(members);
+        accusations = new ArrayList<>();
+        for (int i = 0; i < members; i++) {
+            var id = algo.random(entropy);
+            var note = Note.newBuilder()
+                           .setEpoch(1)
+                           .setCurrentView(current.toDigeste())
+                           .setIdentifier(new SelfAddressingIdentifier(id).toIdent())
+                           .setMask(ByteString.copyFrom(mask.toByteArray()))
+                           .setEndpoint("endpoint-" + i)
+                           .build();
+            notes.add(new NoteWrapper(SignedNote.newBuilder()
+                                                .setNote(note)
+                                                .setSignature(signer.sign(note.toByteString()).toSig())
+                                                .build(), algo));
+            if (i % 100 == 0) {
+                var accusation = Accusation.newBuilder()
+                                           .setEpoch(1)
+                                           .setRingNumber(i % 10)
+                                           .setAccuser(algo.random(entropy).toDigeste())
+                                           .setAccused(id.toDigeste())
+                                           .setCurrentView(current.toDigeste())
+                                           .build();
+                accusations.add(new AccusationWrapper(SignedAccusation.newBuilder()
+                                                                      .setAccusation(accusation)
+                                                                      .setSignature(signer.sign(
+                                                                      accusation.toByteString()).toSig())
+                                                                      .build(), algo));
+            }
+        }
+        observations = new HashMap<>();
+        for (int i = 0; i < members / 100; i++) {
+            var change = ViewChange.newBuilder()
+                                   .setObserver(algo.random(entropy).toDigeste())
+                                   .setCurrent(current.toDigeste())
+                                   .setAttempt(i)
+                                   .build();
+            var observation = SignedViewChange.newBuilder()
+                                              .setChange(change)
+                                              .setSignature(signer.sign(change.toByteString()).toSig())
+                                              .build();
+            observations.put(algo.digest(observation.toByteString()), observation);
+        }
+
+        // The peer has all but the missing notes, and all but the missing / 100 accusations and observations
+        notesBff = bff(notes.stream().map(NoteWrapper::getHash).toList(), missing, entropy);
+        accusationsBff = bff(accusations.stream().map(AccusationWrapper::getHash).toList(), missing / 100, entropy);
+        observationsBff = bff(new ArrayList<>(observations.keySet()), missing / 100, entropy);
+        index = new UpdateIndex(0, current, members, notes, accusations, observations);
+    }
+
+    private BloomFilter<Digest> bff(List<Digest> hashes, int missing, Random entropy) {
+        var present = new ArrayList<>(hashes);
+        Collections.shuffle(present, entropy);
+        present = new ArrayList<>(present.subList(Math.min(missing, present.size()), present.size()));
+        var n = Math.max(1025, present.size());
+        var bff = new BloomFilter.DigestBloomFilter(entropy.nextLong(), n, FPR);
+        present.forEach(bff::add);
+        return bff;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.benchmarks;
+
+import com.salesforce.apollo.ethereal.Dag;
+import com.salesforce.apollo.ethereal.linear.Extender;
+import com.salesforce.apollo.ethereal.linear.TimingRound;
+import com.salesforce.apollo.ethereal.linear.UnanimousVoter;
+import com.salesforce.apollo.ethereal.linear.UnanimousVoter.SuperMajorityDecider;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timing unit popularity decisions: the UnanimousVoter deciding every candidate on a level, and the Extender choosing
+ * the successive timing rounds of the regular DAG
+ *
+ * @author hal.hildebrand
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VoterBenchmark {
+    private static final String LABEL = "bench";
+
+    @Param({ "16", "64" })
+    public short nProc;
+
+    @Param({ "30" })
+    public int levels;
+
+    private Dag dag;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        dag = SyntheticDag.dag(nProc, SyntheticDag.units(nProc, levels));
+    }
+
+    @Benchmark
+    public void decide(Blackhole blackhole) {
+        var maxLevel = dag.maxLevel();
+        for (var uc : dag.unitsOnLevel(0)) {
+            var decider = new SuperMajorityDecider(new UnanimousVoter(dag, uc, new HashMap<>(), LABEL));
+            blackhole.consume(decider.decideUnitIsPopular(maxLevel));
+        }
+    }
+
+    @Benchmark
+    public TimingRound timingRounds() {
+        var extender = new Extender(dag, SyntheticDag.config(nProc, (short) 0));
+        TimingRound current = null;
+        TimingRound next;
+        while ((next = extender.nextRound(current)) != null && !next.equals(current)) {
+            current = next;
+        }
+        return current;
+    }
+}
@@ -30,7 +30,6 @@ import com.salesforce.apollo.cryptography.*;
 import com.salesforce.apollo.cryptography.Signer.SignerImpl;
 import com.salesforce.apollo.cryptography.proto.PubKey;
 import com.salesforce.apollo.ethereal.Dag;
-import com.salesforce.apollo.membership.GroupIterator;
 import com.salesforce.apollo.membership.Member;
 import com.salesforce.apollo.membership.RoundScheduler;
 import com.salesforce.apollo.membership.messaging.rbc.ReliableBroadcaster;
@@ -48,7 +47,10 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.security.KeyPair;
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -103,7 +105,7 @@ public class CHOAM {
     private volatile Thread                                                linear;
 
     public CHOAM(Parameters params) {
-        scheduler = Executors.newScheduledThreadPool(1, Thread.ofVirtual().factory());
+        scheduler = params.schedulers().newScheduler("CHOAM");
         this.store = new Store(params.digestAlgorithm(), params.mvBuilder().clone().build());
         this.params = params;
         pendingViews.add(params.context().getId(), params.context().delegate());
@@ -113,10 +115,13 @@ public class CHOAM {
         var adapter = new MessageAdapter(_ -> true, this::signatureHash, _ -> Collections.emptyList(), (_, any) -> any,
                                          AgedMessageOrBuilder::getContent);
 
-        combine = new ReliableBroadcaster(bContext, params.member(), params.combine(), params.communications(),
+        var c = params.combine();
+        var combineParams = new ReliableBroadcaster.Parameters(c.bufferSize(), c.maxMessages(), c.digestAlgorithm(),
+                                                               c.falsePositiveRate(), params.schedulers());
+        combine = new ReliableBroadcaster(bContext, params.member(), combineParams, params.communications(),
                                           params.metrics() == null ? null : params.metrics().getCombineMetrics(),
                                           adapter);
-        combine.registerHandler((_, messages) -> Thread.ofVirtual().start(() -> {
+        combine.registerHandler((_, messages) -> params.schedulers().start(() -> {
             if (!started.get()) {
                 return;
             }
@@ -148,7 +153,7 @@ public class CHOAM {
         roundScheduler = new RoundScheduler("CHOAM" + params.member().getId() + params.context().getId(),
                                             params.context().timeToLive());
         combine.register(_ -> roundScheduler.tick());
-        session = new Session(params, service(), scheduler);
+        session = new Session(params, service(), batchService(), scheduler);
     }
 
     public static Checkpoint checkpoint(DigestAlgorithm algo, File state, int segmentSize, Digest initial, int crowns,
@@ -426,9 +431,24 @@ public class CHOAM {
                                  .build();
 
         HashedBlock hb = new HashedBlock(params.digestAlgorithm(), block);
-        MVMap<Integer, byte[]> stored = store.putCheckpoint(height(block), state, cp);
-        state.delete();
-        cachedCheckpoints.put(hb.height(), new CheckpointState(cp, stored));
+        CheckpointState checkpointState;
+        var mappedDir = params.bootstrap().mappedCheckpoints();
+        if (mappedDir != null) {
+            var mappedFile = new File(mappedDir, "cp-%s.chk".formatted(hb.height()));
+            try {
+                Files.move(state.toPath(), mappedFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                checkpointState = new CheckpointState(cp, MappedCheckpoint.open(mappedFile, cp));
+            } catch (IOException e) {
+                log.error("Cannot map checkpoint: {} on: {}", hb.height(), params.member().getId(), e);
+                transitions.fail();
+                return null;
+            }
+        } else {
+            MVMap<Integer, byte[]> stored = store.putCheckpoint(height(block), state, cp);
+            state.delete();
+            checkpointState = new CheckpointState(cp, stored);
+        }
+        cachedCheckpoints.put(hb.height(), checkpointState);
         log.info("Created checkpoint: {} height: {} on: {}", hb.hash, hb.height(), params.member().getId());
         transitions.finishCheckpoint();
         return block;
@@ -615,7 +635,7 @@ public class CHOAM {
             }
             if (next == null) {
                 try {
-                    Thread.sleep(100);
+                    params.schedulers().sleep(Duration.ofMillis(100));
                 } catch (InterruptedException e) {
                     Thread.currentThread().interrupt();
                     return;
@@ -634,6 +654,9 @@ public class CHOAM {
             var exec = execs.get(i);
             Digest hash = hashOf(exec, params.digestAlgorithm());
             var stxn = session.complete(hash);
+            if (params.tracer() != null) {
+                params.tracer().record(exec, TransactionTracer.Stage.EXECUTED);
+            }
             try {
                 params.processor()
                       .execute(i, CHOAM.hashOf(exec, params.digestAlgorithm()), exec,
@@ -652,9 +675,11 @@ public class CHOAM {
             return CheckpointSegments.getDefaultInstance();
         }
 
+        var to = request.getTo() == 0 ? state.checkpoint.getCount() : request.getTo();
         return CheckpointSegments.newBuilder()
                                  .addAllSegments(state.fetchSegments(BloomFilter.from(request.getCheckpointSegments()),
-                                                                     params.maxCheckpointSegments()))
+                                                                     params.maxCheckpointSegments(),
+                                                                     request.getFrom(), to))
                                  .build();
     }
 
@@ -874,6 +899,24 @@ public class CHOAM {
                                         .build(), keyPair));
     }
 
+    private Function<List<SubmittedTransaction>, List<SubmitResult>> batchService() {
+        return stxs -> {
+            final var c = current.get();
+            if (c == null) {
+                return Collections.nCopies(stxs.size(),
+                                           SubmitResult.newBuilder().setResult(Result.NO_COMMITTEE).build());
+            }
+            try {
+                return c.submitTxns(stxs.stream().map(SubmittedTransaction::transaction).toList());
+            } catch (StatusRuntimeException e) {
+                return Collections.nCopies(stxs.size(), SubmitResult.newBuilder()
+                                                                    .setResult(Result.ERROR_SUBMITTING)
+                                                                    .setErrorMsg(e.getStatus().toString())
+                                                                    .build());
+            }
+        };
+    }
+
     private Function<SubmittedTransaction, SubmitResult> service() {
         return stx -> {
             //            log.trace("Submitting transaction: {} in service() on: {}", stx.hash(), params.member());
@@ -927,6 +970,34 @@ public class CHOAM {
         return c.submit(request);
     }
 
+    /**
+     * Submit coalesced transactions from a client
+     *
+     * @return the SubmitResults describing the outcome of each transaction
+     */
+    private SubmitResults submitAll(Transactions request, Digest from) {
+        if (from == null) {
+            return SubmitResults.getDefaultInstance();
+        }
+        Result result = null;
+        if (params.context().getMember(from) == null) {
+            log.debug("Invalid transactions submission from non member: {} on: {}", from, params.member().getId());
+            result = Result.INVALID_SUBMIT;
+        }
+        final var c = current.get();
+        if (result == null && c == null) {
+            log.debug("No committee to submit txns from: {} on: {}", from, params.member().getId());
+            result = Result.NO_COMMITTEE;
+        }
+        if (result != null) {
+            return SubmitResults.newBuilder()
+                                .addAllResults(Collections.nCopies(request.getTransactionsCount(),
+                                                                   SubmitResult.newBuilder().setResult(result).build()))
+                                .build();
+        }
+        return c.submitAll(request);
+    }
+
     private Initial sync(Synchronize request, Digest from) {
         final HashedCertifiedBlock g = genesis.get();
         if (g != null) {
@@ -983,7 +1054,7 @@ public class CHOAM {
         log.info("Synchronized, resuming view: {} deferred blocks: {} on: {}",
                  state.lastCheckpoint() != null ? state.lastCheckpoint().hash : state.genesis().hash, pending.size(),
                  params.member().getId());
-        Thread.ofVirtual().start(Utils.wrapped(() -> {
+        params.schedulers().start(Utils.wrapped(() -> {
             if (!started.get()) {
                 return;
             }
@@ -1243,9 +1314,10 @@ public class CHOAM {
             final var current = linear;
             if (current == null) {
                 log.trace("Combining Consumer for: {} on: {}", context().getId(), params.member().getId());
-                linear = Thread.ofVirtual()
-                               .name("Linear[%s on: %s]".formatted(context().getId(), params.member().getId()))
-                               .start(Utils.wrapped(CHOAM.this::consumer, log));
+                var consumer = params.schedulers().threadFactory().newThread(Utils.wrapped(CHOAM.this::consumer, log));
+                consumer.setName("Linear[%s on: %s]".formatted(context().getId(), params.member().getId()));
+                consumer.start();
+                linear = consumer;
             }
         }
 
@@ -1331,13 +1403,13 @@ public class CHOAM {
     /** abstract class to maintain the common state */
     private abstract class Administration implements Committee {
         protected final Digest                viewId;
-        private final   GroupIterator         servers;
+        private final   CommitteeSelector     servers;
         private final   Map<Member, Verifier> validators;
 
         public Administration(Map<Member, Verifier> validators, Digest viewId) {
             this.validators = validators;
             this.viewId = viewId;
-            servers = new GroupIterator(validators.keySet());
+            servers = new CommitteeSelector(validators.keySet(), params.schedulers());
         }
 
         @Override
@@ -1404,12 +1476,18 @@ public class CHOAM {
             try (var link = submissionComm.connect(target)) {
                 if (link == null) {
                     log.debug("No link for: {} for submitting txn on: {}", target.getId(), params.member().getId());
+                    servers.failed(target);
                     return SubmitResult.newBuilder().setResult(Result.UNAVAILABLE).build();
                 }
                 log.trace("Submitting txn: {} to: {} in view: {} on: {}", hashOf(transaction, params.digestAlgorithm()),
                           link.getMember().getId(), viewId, params.member().getId());
-                return link.submit(transaction);
+                var clock = params.schedulers().clock();
+                var start = clock.instant();
+                var result = link.submit(transaction);
+                servers.record(target, Duration.between(start, clock.instant()), result);
+                return result;
             } catch (StatusRuntimeException e) {
+                servers.failed(target);
                 log.trace("Failed submitting txn: {} status:{} to: {} in: {} on: {}",
                           hashOf(transaction, params.digestAlgorithm()), e.getStatus(), target.getId(), viewId,
                           params.member().getId());
@@ -1418,6 +1496,7 @@ public class CHOAM {
                                    .setErrorMsg(e.getStatus().toString())
                                    .build();
             } catch (Throwable e) {
+                servers.failed(target);
                 log.debug("Failed submitting txn: {} to: {} in: {} on: {}",
                           hashOf(transaction, params.digestAlgorithm()), target.getId(), viewId,
                           params.member().getId(), e);
@@ -1425,11 +1504,69 @@ public class CHOAM {
             }
         }
 
+        @Override
+        public List<SubmitResult> submitTxns(List<Transaction> transactions) {
+            if (!started.get()) {
+                log.trace("Failed submitting: {} txns, shutdown in: {} on: {}", transactions.size(), viewId,
+                          params.member().getId());
+                return failed(transactions.size(), "Shutdown");
+            }
+            if (!servers.hasNext()) {
+                log.trace("Failed submitting: {} txns, no servers available in: {} on: {}", transactions.size(),
+                          viewId, params.member().getId());
+                return failed(transactions.size(), "no servers available");
+            }
+            Member target = servers.next();
+            try (var link = submissionComm.connect(target)) {
+                if (link == null) {
+                    log.debug("No link for: {} for submitting txns on: {}", target.getId(), params.member().getId());
+                    servers.failed(target);
+                    return Collections.nCopies(transactions.size(),
+                                               SubmitResult.newBuilder().setResult(Result.UNAVAILABLE).build());
+                }
+                log.trace("Submitting: {} txns to: {} in view: {} on: {}", transactions.size(),
+                          link.getMember().getId(), viewId, params.member().getId());
+                var clock = params.schedulers().clock();
+                var start = clock.instant();
+                var results = link.submitAll(Transactions.newBuilder().addAllTransactions(transactions).build())
+                                  .getResultsList();
+                if (!results.isEmpty()) {
+                    servers.record(target, Duration.between(start, clock.instant()), results.getFirst());
+                }
+                if (results.size() != transactions.size()) {
+                    return Collections.nCopies(transactions.size(), SubmitResult.newBuilder()
+                                                                                .setResult(Result.INVALID_RESULT)
+                                                                                .setErrorMsg(
+                                                                                "Expected: %s results, received: %s".formatted(
+                                                                                transactions.size(), results.size()))
+                                                                                .build());
+                }
+                return results;
+            } catch (StatusRuntimeException e) {
+                servers.failed(target);
+                log.trace("Failed submitting: {} txns status:{} to: {} in: {} on: {}", transactions.size(),
+                          e.getStatus(), target.getId(), viewId, params.member().getId());
+                return failed(transactions.size(), e.getStatus().toString());
+            } catch (Throwable e) {
+                servers.failed(target);
+                log.debug("Failed submitting: {} txns to: {} in: {} on: {}", transactions.size(), target.getId(),
+                          viewId, params.member().getId(), e);
+                return failed(transactions.size(), e.toString());
+            }
+        }
+
         @Override
         public boolean validate(HashedCertifiedBlock hb) {
             return validate(hb, validators);
         }
 
+        private List<SubmitResult> failed(int count, String errorMsg) {
+            return Collections.nCopies(count, SubmitResult.newBuilder()
+                                                          .setResult(Result.ERROR_SUBMITTING)
+                                                          .setErrorMsg(errorMsg)
+                                                          .build());
+        }
+
         private void join(View view) {
             if (!ongoingJoin.compareAndSet(false, true)) {
                 throw new IllegalStateException("Ongoing join should have been cancelled");
@@ -1440,7 +1577,7 @@ public class CHOAM {
             var joined = new AtomicInteger();
             log.trace("Starting join of: {} diadem {} on: {}", nextViewId.get(), Digest.from(view.getDiadem()),
                       params.member().getId());
-            var scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().factory());
+            var scheduler = params.schedulers().newScheduler("Join");
             AtomicReference<Runnable> action = new AtomicReference<>();
             var attempts = new AtomicInteger();
             action.set(() -> {
@@ -1583,6 +1720,11 @@ public class CHOAM {
         public SubmitResult submit(Transaction request) {
             return producer.submit(request);
         }
+
+        @Override
+        public SubmitResults submitAll(Transactions request) {
+            return producer.submit(request);
+        }
     }
 
     /** a client of the current committee */
@@ -1734,5 +1876,10 @@ public class CHOAM {
         public SubmitResult submit(Transaction request, Digest from) {
             return CHOAM.this.submit(request, from);
         }
+
+        @Override
+        public SubmitResults submitAll(Transactions request, Digest from) {
+            return CHOAM.this.submitAll(request, from);
+        }
     }
 }
@@ -21,6 +21,8 @@ import com.salesforce.apollo.membership.MockMember;
 import io.grpc.StatusRuntimeException;
 import org.slf4j.Logger;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -102,12 +104,29 @@ public interface Committee {
         return SubmitResult.newBuilder().setResult(Result.INACTIVE).build();
     }
 
+    default SubmitResults submitAll(Transactions request) {
+        log().debug("Cannot submit txns, inactive committee: {} on: {}", getClass().getSimpleName(),
+                    params().member().getId());
+        return SubmitResults.newBuilder()
+                            .addAllResults(Collections.nCopies(request.getTransactionsCount(),
+                                                               SubmitResult.newBuilder()
+                                                                           .setResult(Result.INACTIVE)
+                                                                           .build()))
+                            .build();
+    }
+
     default SubmitResult submitTxn(Transaction transaction) {
         log().debug("Cannot process txn, inactive committee: {} on: {}", getClass().getSimpleName(),
                     params().member().getId());
         return SubmitResult.newBuilder().setResult(Result.UNAVAILABLE).build();
     }
 
+    default List<SubmitResult> submitTxns(List<Transaction> transactions) {
+        log().debug("Cannot process txns, inactive committee: {} on: {}", getClass().getSimpleName(),
+                    params().member().getId());
+        return Collections.nCopies(transactions.size(), SubmitResult.newBuilder().setResult(Result.UNAVAILABLE).build());
+    }
+
     boolean validate(HashedCertifiedBlock hb);
 
     default boolean validate(HashedCertifiedBlock hb, Certification c, Map<Member, Verifier> validators) {
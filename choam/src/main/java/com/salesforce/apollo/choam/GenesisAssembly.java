@@ -92,16 +92,16 @@ public class GenesisAssembly implements Genesis {
         if (pid == null) {
             config.setPid((short) 0).setnProc((short) 1);
         } else {
-            config.setPid(pid).setnProc((short) view.roster().size());
+            config.setPid(pid).setnProc((short) view.roster().size()).setWtk(view.weakThresholdKey(config.getBias()));
         }
-        config.setEpochLength(33).setNumberOfEpochs(-1);
+        config.setEpochLength(33).setNumberOfEpochs(-1).setSchedulers(params().schedulers());
         config.setLabel("Genesis Assembly" + view.context().getId() + " on: " + params().member().getId());
+        var genesisMetrics = params().metrics() == null ? null : params().metrics().getGensisMetrics();
         controller = new Ethereal(config.build(), params().producer().maxBatchByteSize(), dataSource(),
-                                  transitions::process, transitions::nextEpoch, label);
+                                  transitions::process, transitions::nextEpoch, label, genesisMetrics);
         coordinator = new ChRbcGossip(reContext.getId(), params().member(), nextAssembly.values(),
-                                      controller.processor(), params().communications(),
-                                      params().metrics() == null ? null : params().metrics().getGensisMetrics(),
-                                      scheduler);
+                                      controller.processor(), params().communications(), genesisMetrics, scheduler,
+                                      params().schedulers());
         log.debug("Genesis Assembly: {} recontext: {} next assembly: {} on: {}", view.context().getId(),
                   reContext.getId(), nextAssembly.keySet(), params().member().getId());
     }
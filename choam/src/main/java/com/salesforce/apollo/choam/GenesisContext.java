@@ -11,6 +11,7 @@ import com.salesforce.apollo.choam.proto.Validate;
 import com.salesforce.apollo.context.Context;
 import com.salesforce.apollo.cryptography.Signer;
 import com.salesforce.apollo.cryptography.Verifier;
+import com.salesforce.apollo.ethereal.WeakThresholdKey;
 import com.salesforce.apollo.membership.Member;
 
 import java.util.Collections;
@@ -30,4 +31,13 @@ public class GenesisContext extends ViewContext {
     protected Verifier verifierOf(Validate validate) {
         return new Verifier.MockVerifier();
     }
+
+    /**
+     * The consensus keys of the genesis committee are not known until they are assembled, so the epoch proofs of the
+     * genesis assembly use Ethereal's default key
+     */
+    @Override
+    public WeakThresholdKey weakThresholdKey(int bias) {
+        return null;
+    }
 }
@@ -20,6 +20,7 @@ import com.salesforce.apollo.choam.support.CheckpointState;
 import com.salesforce.apollo.choam.support.ChoamMetrics;
 import com.salesforce.apollo.choam.support.ExponentialBackoffPolicy;
 import com.salesforce.apollo.choam.support.HashedBlock;
+import com.salesforce.apollo.choam.support.TransactionTracer;
 import com.salesforce.apollo.context.Context;
 import com.salesforce.apollo.context.DelegatedContext;
 import com.salesforce.apollo.cryptography.Digest;
@@ -30,6 +31,7 @@ import com.salesforce.apollo.membership.Member;
 import com.salesforce.apollo.membership.SigningMember;
 import com.salesforce.apollo.membership.messaging.rbc.ReliableBroadcaster;
 import com.salesforce.apollo.stereotomy.event.proto.KERL_;
+import com.salesforce.apollo.utils.Schedulers;
 import org.h2.mvstore.MVStore;
 import org.h2.mvstore.OffHeapStore;
 import org.joou.ULong;
@@ -56,7 +58,7 @@ public record Parameters(Parameters.RuntimeParameters runtime, ReliableBroadcast
                          Parameters.BootstrapParameters bootstrap, Parameters.ProducerParameters producer,
                          Parameters.MvStoreBuilder mvBuilder, Parameters.LimiterBuilder txnLimiterBuilder,
                          ExponentialBackoffPolicy.Builder submitPolicy, int checkpointSegmentSize,
-                         boolean generateGenesis) {
+                         boolean generateGenesis, Duration submitLinger, int submitBatchBytes) {
 
     public static Builder newBuilder() {
         return new Builder();
@@ -106,6 +108,14 @@ public record Parameters(Parameters.RuntimeParameters runtime, ReliableBroadcast
         return runtime.restorer;
     }
 
+    public Schedulers.Runtime schedulers() {
+        return runtime.schedulers;
+    }
+
+    public TransactionTracer tracer() {
+        return runtime.tracer;
+    }
+
     public static class MvStoreBuilder implements Cloneable {
         private int     autoCommitBufferSize = -1;
         private int     autoCompactFillRate  = -1;
@@ -293,7 +303,8 @@ public record Parameters(Parameters.RuntimeParameters runtime, ReliableBroadcast
                                     Function<Map<Member, Join>, List<Transaction>> genesisData,
                                     TransactionExecutor processor, BiConsumer<HashedBlock, CheckpointState> restorer,
                                     Function<ULong, File> checkpointer, ChoamMetrics metrics, Supplier<KERL_> kerl,
-                                    FoundationSeal foundation, CompletableFuture<Void> onFailure) {
+                                    FoundationSeal foundation, CompletableFuture<Void> onFailure,
+                                    TransactionTracer tracer, Schedulers.Runtime schedulers) {
         public static Builder newBuilder() {
             return new Builder();
         }
@@ -330,11 +341,14 @@ public record Parameters(Parameters.RuntimeParameters runtime, ReliableBroadcast
             private BiConsumer<HashedBlock, CheckpointState>       restorer     = (height, checkpointState) -> {
             };
 
-            private CompletableFuture<Void> onFailure = new CompletableFuture<>();
+            private CompletableFuture<Void> onFailure  = new CompletableFuture<>();
+            private Schedulers.Runtime      schedulers = Schedulers.DEFAULT;
+            private TransactionTracer       tracer;
 
             public RuntimeParameters build() {
                 return new RuntimeParameters(new DelegatedContext<Member>(context), communications, member, genesisData,
-                                             processor, restorer, checkpointer, metrics, kerl, foundation, onFailure);
+                                             processor, restorer, checkpointer, metrics, kerl, foundation, onFailure,
+                                             tracer, schedulers);
             }
 
             @Override
@@ -447,22 +461,69 @@ public record Parameters(Parameters.RuntimeParameters runtime, ReliableBroadcast
                 this.restorer = biConsumer;
                 return this;
             }
+
+            public Schedulers.Runtime getSchedulers() {
+                return schedulers;
+            }
+
+            /**
+             * @param schedulers - the runtime providing the clocks, schedulers and threads of the node
+             */
+            public Builder setSchedulers(Schedulers.Runtime schedulers) {
+                this.schedulers = schedulers;
+                return this;
+            }
+
+            public TransactionTracer getTracer() {
+                return tracer;
+            }
+
+            /**
+             * The tracer records only the stages reached on this member. A transaction's stages span members - submitted
+             * by one, accepted and ordered by the committee, executed by all - so the latencies across members are only
+             * exported when the members share the tracer, as members within the same process may
+             *
+             * @param tracer - the sampled tracer of transactions through their stages, or null if not traced
+             */
+            public Builder setTracer(TransactionTracer tracer) {
+                this.tracer = tracer;
+                return this;
+            }
         }
     }
 
-    public record BootstrapParameters(Duration gossipDuration, int maxViewBlocks, int maxSyncBlocks) {
+    /**
+     * @param assemblyParallelism - the number of committee members concurrently supplying disjoint ranges of checkpoint
+     *                            segments during assembly
+     * @param mappedCheckpoints   - if not null, the directory checkpoints are assembled into and served from as memory
+     *                            mapped files, rather than the MVStore
+     */
+    public record BootstrapParameters(Duration gossipDuration, int maxViewBlocks, int maxSyncBlocks,
+                                      int assemblyParallelism, File mappedCheckpoints) {
 
         public static Builder newBuilder() {
             return new Builder();
         }
 
         public static class Builder {
-            private Duration gossipDuration = Duration.ofSeconds(1);
-            private int      maxSyncBlocks  = 100;
-            private int      maxViewBlocks  = 100;
+            private int      assemblyParallelism = 1;
+            private Duration gossipDuration      = Duration.ofSeconds(1);
+            private File     mappedCheckpoints;
+            private int      maxSyncBlocks       = 100;
+            private int      maxViewBlocks       = 100;
 
             public BootstrapParameters build() {
-                return new BootstrapParameters(gossipDuration, maxViewBlocks, maxSyncBlocks);
+                return new BootstrapParameters(gossipDuration, maxViewBlocks, maxSyncBlocks, assemblyParallelism,
+                                               mappedCheckpoints);
+            }
+
+            public int getAssemblyParallelism() {
+                return assemblyParallelism;
+            }
+
+            public Builder setAssemblyParallelism(int assemblyParallelism) {
+                this.assemblyParallelism = assemblyParallelism;
+                return this;
             }
 
             public Duration getGossipDuration() {
@@ -474,6 +535,15 @@ public record Parameters(Parameters.RuntimeParameters runtime, ReliableBroadcast
                 return this;
             }
 
+            public File getMappedCheckpoints() {
+                return mappedCheckpoints;
+            }
+
+            public Builder setMappedCheckpoints(File mappedCheckpoints) {
+                this.mappedCheckpoints = mappedCheckpoints;
+                return this;
+            }
+
             public int getMaxSyncBlocks() {
                 return maxSyncBlocks;
             }
@@ -696,12 +766,15 @@ public record Parameters(Parameters.RuntimeParameters runtime, ReliableBroadcast
         private SignatureAlgorithm               viewSigAlgorithm      = SignatureAlgorithm.DEFAULT;
         private int                              crowns                = 2;
         private boolean                          generateGenesis       = false;
+        private int                              submitBatchBytes      = 256 * 1024;
+        private Duration                         submitLinger          = Duration.ZERO;
 
         public Parameters build(RuntimeParameters runtime) {
             return new Parameters(runtime, combine, gossipDuration, maxCheckpointSegments, submitTimeout, genesisViewId,
                                   checkpointBlockDelta, crowns, digestAlgorithm, viewSigAlgorithm,
                                   synchronizationCycles, regenerationCycles, bootstrap, producer, mvBuilder,
-                                  txnLimiterBuilder, submitPolicy, checkpointSegmentSize, generateGenesis);
+                                  txnLimiterBuilder, submitPolicy, checkpointSegmentSize, generateGenesis, submitLinger,
+                                  submitBatchBytes);
         }
 
         @Override
@@ -837,6 +910,32 @@ public record Parameters(Parameters.RuntimeParameters runtime, ReliableBroadcast
             return this;
         }
 
+        public int getSubmitBatchBytes() {
+            return submitBatchBytes;
+        }
+
+        /**
+         * The byte budget of a coalesced client submission; a batch reaching the budget is submitted without waiting
+         * for the linger window to close
+         */
+        public Builder setSubmitBatchBytes(int submitBatchBytes) {
+            this.submitBatchBytes = submitBatchBytes;
+            return this;
+        }
+
+        public Duration getSubmitLinger() {
+            return submitLinger;
+        }
+
+        /**
+         * The linger window of client transaction coalescing. Transactions submitted within the window are sent to the
+         * committee in a single submission. Duration.ZERO, the default, disables coalescing
+         */
+        public Builder setSubmitLinger(Duration submitLinger) {
+            this.submitLinger = submitLinger;
+            return this;
+        }
+
         public Duration getSubmitTimeout() {
             return submitTimeout;
         }
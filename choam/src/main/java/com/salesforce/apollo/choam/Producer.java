@@ -16,6 +16,7 @@ import com.salesforce.apollo.choam.proto.*;
 import com.salesforce.apollo.choam.proto.SubmitResult.Result;
 import com.salesforce.apollo.choam.support.HashedBlock;
 import com.salesforce.apollo.choam.support.HashedCertifiedBlock;
+import com.salesforce.apollo.choam.support.TransactionTracer.Stage;
 import com.salesforce.apollo.choam.support.TxDataSource;
 import com.salesforce.apollo.cryptography.Digest;
 import com.salesforce.apollo.cryptography.DigestAlgorithm;
@@ -80,7 +81,8 @@ public class Producer {
         maxEpoch = ep.getNumberOfEpochs();
 
         ds = new TxDataSource(params.member(), blocks, params.metrics(), producerParams.maxBatchByteSize(),
-                              producerParams.batchInterval(), producerParams.maxBatchCount());
+                              producerParams.batchInterval(), producerParams.maxBatchCount(), params.tracer(),
+                              params.schedulers());
 
         log.debug("Producer max elements: {} reconfiguration epoch: {} on: {}", blocks, maxEpoch,
                   params.member().getId());
@@ -89,7 +91,7 @@ public class Producer {
         fsm.setName("Producer%s on: %s".formatted(getViewId(), params.member().getId()));
         transitions = fsm.getTransitions();
 
-        Config.Builder config = ep.setNumberOfEpochs(-1);
+        Config.Builder config = ep.setNumberOfEpochs(-1).setSchedulers(params.schedulers());
 
         // Canonical assignment of members -> pid for Ethereal
         Short pid = view.roster().get(params().member().getId());
@@ -97,15 +99,16 @@ public class Producer {
             config.setPid((short) 0).setnProc((short) 1);
         } else {
             log.trace("Pid: {} for: {} on: {}", pid, getViewId(), params().member().getId());
-            config.setPid(pid).setnProc((short) view.roster().size());
+            config.setPid(pid).setnProc((short) view.roster().size()).setWtk(view.weakThresholdKey(config.getBias()));
         }
-        serialize = Executors.newScheduledThreadPool(1, Thread.ofVirtual().factory());
+        serialize = params.schedulers().newScheduler("Producer");
         config.setLabel("Producer" + getViewId() + " on: " + params().member().getId());
         var producerMetrics = params().metrics() == null ? null : params().metrics().getProducerMetrics();
         controller = new Ethereal(config.build(), params().producer().maxBatchByteSize() + (8 * 1024), ds, this::serial,
-                                  this::newEpoch, label);
+                                  this::newEpoch, label, producerMetrics);
         coordinator = new ChRbcGossip(view.context().getId(), params().member(), view.membership(),
-                                      controller.processor(), params().communications(), producerMetrics, scheduler);
+                                      controller.processor(), params().communications(), producerMetrics, scheduler,
+                                      params().schedulers());
         log.debug("Roster for: {} is: {} on: {}", getViewId(), view.roster(), params().member().getId());
 
         var onConsensus = new CompletableFuture<ViewAssembly.Vue>();
@@ -139,7 +142,7 @@ public class Producer {
             return;
         }
         try {
-            Thread.ofVirtual().start(Utils.wrapped(() -> {
+            params().schedulers().start(Utils.wrapped(() -> {
                 final Block prev = previousBlock.get().block;
                 // genesis block won't ever be 0
                 if (prev.hasGenesis() || (prev.hasReconfigure() && prev.getReconfigure().getCheckpointTarget() == 0)) {
@@ -171,10 +174,39 @@ public class Producer {
             return SubmitResult.newBuilder().setResult(Result.NO_COMMITTEE).build();
         }
         if (ds.offer(transaction)) {
-            return SubmitResult.newBuilder().setResult(Result.PUBLISHED).build();
+            var tracer = params().tracer();
+            if (tracer != null) {
+                tracer.record(transaction, Stage.ACCEPTED);
+            }
+            return SubmitResult.newBuilder().setResult(Result.PUBLISHED).setFill((float) ds.fill()).build();
+        } else {
+            return SubmitResult.newBuilder().setResult(Result.BUFFER_FULL).setFill((float) ds.fill()).build();
+        }
+    }
+
+    /**
+     * Submit the coalesced transactions, which are accepted or rejected as a unit
+     */
+    public SubmitResults submit(Transactions transactions) {
+        Result result;
+        if (!started.get()) {
+            result = Result.NO_COMMITTEE;
+        } else if (ds.offer(transactions.getTransactionsList())) {
+            result = Result.PUBLISHED;
+            var tracer = params().tracer();
+            if (tracer != null) {
+                tracer.recordAll(transactions.getTransactionsList(), Stage.ACCEPTED);
+            }
         } else {
-            return SubmitResult.newBuilder().setResult(Result.BUFFER_FULL).build();
+            result = Result.BUFFER_FULL;
         }
+        return SubmitResults.newBuilder()
+                            .addAllResults(Collections.nCopies(transactions.getTransactionsCount(),
+                                                               SubmitResult.newBuilder()
+                                                                           .setResult(result)
+                                                                           .setFill((float) ds.fill())
+                                                                           .build()))
+                            .build();
     }
 
     private void addAssembly(Assemblies assemblies) {
@@ -279,12 +311,19 @@ public class Producer {
         log.trace("transactions: {} combined hash: {} height: {} on: {}", txns.size(),
                   txns.stream().map(t -> CHOAM.hashOf(t, params().digestAlgorithm())).reduce(Digest::xor).orElse(null),
                   lb.height().add(1), params().member().getId());
+        var tracer = params().tracer();
+        if (tracer != null) {
+            tracer.recordAll(txns, Stage.ORDERED);
+        }
         var builder = Executions.newBuilder();
         txns.forEach(builder::addExecutions);
 
         var next = new HashedBlock(params().digestAlgorithm(),
                                    view.produce(lb.height().add(1), lb.hash, builder.build(), checkpoint.get()));
         previousBlock.set(next);
+        if (tracer != null) {
+            tracer.recordAll(txns, Stage.PRODUCED);
+        }
 
         final var validation = view.generateValidation(next);
         ds.offer(validation);
@@ -338,6 +377,10 @@ public class Producer {
                                      .addAllCertifications(
                                      p.witnesses.values().stream().map(Validate::getWitness).toList())
                                      .build();
+        var tracer = params().tracer();
+        if (publish && tracer != null && p.block.block.hasExecutions()) {
+            tracer.recordAll(p.block.block.getExecutions().getExecutionsList(), Stage.CERTIFIED);
+        }
         view.publish(new HashedCertifiedBlock(params().digestAlgorithm(), cb), beacon);
     }
 
@@ -406,7 +449,7 @@ public class Producer {
 
         @Override
         public void checkpoint() {
-            Thread.ofVirtual().start(Utils.wrapped(() -> {
+            params().schedulers().start(Utils.wrapped(() -> {
                 log.info("Generating checkpoint block on: {}", params().member().getId());
                 Block ckpt = view.checkpoint();
                 if (ckpt == null) {
@@ -443,7 +486,7 @@ public class Producer {
 
         @Override
         public void reconfigure() {
-            Thread.ofVirtual().start(Utils.wrapped(Producer.this::reconfigure, log));
+            params().schedulers().start(Utils.wrapped(Producer.this::reconfigure, log));
         }
 
         @Override
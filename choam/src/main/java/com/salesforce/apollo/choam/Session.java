@@ -16,6 +16,7 @@ import com.salesforce.apollo.choam.support.HashedCertifiedBlock;
 import com.salesforce.apollo.choam.support.InvalidTransaction;
 import com.salesforce.apollo.choam.support.SubmittedTransaction;
 import com.salesforce.apollo.choam.support.TransactionFailed;
+import com.salesforce.apollo.choam.support.TransactionTracer;
 import com.salesforce.apollo.cryptography.Digest;
 import com.salesforce.apollo.cryptography.JohnHancock;
 import com.salesforce.apollo.cryptography.Signer;
@@ -26,12 +27,16 @@ import org.slf4j.LoggerFactory;
 
 import java.nio.ByteBuffer;
 import java.time.Duration;
-import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -42,18 +47,32 @@ public class Session {
 
     private final static Logger log = LoggerFactory.getLogger(Session.class);
 
-    private final Limiter<Void>                                limiter;
-    private final Parameters                                   params;
-    private final Function<SubmittedTransaction, SubmitResult> service;
-    private final Map<Digest, SubmittedTransaction>            submitted = new ConcurrentHashMap<>();
-    private final AtomicReference<HashedCertifiedBlock>        view      = new AtomicReference<>();
-    private final ScheduledExecutorService                     scheduler;
-    private final AtomicInteger                                nonce     = new AtomicInteger();
+    private final Limiter<Void>                                            limiter;
+    private final Parameters                                               params;
+    private final Function<SubmittedTransaction, SubmitResult>             service;
+    private final Function<List<SubmittedTransaction>, List<SubmitResult>> batchService;
+    private final Map<Digest, SubmittedTransaction>                        submitted  = new ConcurrentHashMap<>();
+    private final AtomicReference<HashedCertifiedBlock>                    view       = new AtomicReference<>();
+    private final ScheduledExecutorService                                 scheduler;
+    private final AtomicInteger                                            nonce      = new AtomicInteger();
+    private final ReentrantLock                                            coalescing = new ReentrantLock();
+    private       Coalesced                                                coalesced;
 
     public Session(Parameters params, Function<SubmittedTransaction, SubmitResult> service,
                    ScheduledExecutorService scheduler) {
+        this(params, service, null, scheduler);
+    }
+
+    /**
+     * @param batchService - the service for coalesced submissions, used when the parameters' submit linger is non
+     *                     zero. Answers the result of each transaction, in the order submitted
+     */
+    public Session(Parameters params, Function<SubmittedTransaction, SubmitResult> service,
+                   Function<List<SubmittedTransaction>, List<SubmitResult>> batchService,
+                   ScheduledExecutorService scheduler) {
         this.params = params;
         this.service = service;
+        this.batchService = batchService;
         final var metrics = params.metrics();
         this.limiter = params.txnLimiterBuilder()
                              .build(params.member().getId().shortString(),
@@ -136,10 +155,18 @@ public class Session {
         }
         final int n = nonce.getAndIncrement();
 
-        final var txn = transactionOf(params.member().getId(), n, transaction, params.member());
+        var txn = transactionOf(params.member().getId(), n, transaction, params.member());
         if (!txn.hasSource() || !txn.hasSignature()) {
             throw new InvalidTransaction();
         }
+        final var tracer = params.tracer();
+        if (tracer != null) {
+            var trace = tracer.sample();
+            if (trace != 0) {
+                txn = txn.toBuilder().setTrace(trace).build();
+                tracer.record(trace, TransactionTracer.Stage.SUBMITTED);
+            }
+        }
         var hash = CHOAM.hashOf(txn, params.digestAlgorithm());
         final var timer = params.metrics() == null ? null : params.metrics().transactionLatency().time();
 
@@ -158,17 +185,17 @@ public class Session {
         submitted.put(stxn.hash(), stxn);
 
         var backoff = params.submitPolicy().build();
-        var target = Instant.now().plus(timeout);
+        var target = params.schedulers().clock().instant().plus(timeout);
         int i = 0;
 
-        while (!result.isDone() && Instant.now().isBefore(target)) {
+        while (!result.isDone() && params.schedulers().clock().instant().isBefore(target)) {
             if (i > 0) {
                 if (params.metrics() != null) {
                     params.metrics().transactionSubmitRetry();
                 }
             }
             log.trace("Submitting: {} retry: {} on: {}", stxn.hash(), i, params.member().getId());
-            var submit = submit(stxn);
+            var submit = isCoalescing() ? coalesce(stxn) : submit(stxn);
             switch (submit.result.getResult()) {
             case PUBLISHED -> {
                 submit.limiter.get().onSuccess();
@@ -176,7 +203,7 @@ public class Session {
                 if (params.metrics() != null) {
                     params.metrics().transactionSubmittedSuccess();
                 }
-                var futureTimeout = scheduler.schedule(() -> Thread.ofVirtual().start(Utils.wrapped(() -> {
+                var futureTimeout = scheduler.schedule(() -> params.schedulers().start(Utils.wrapped(() -> {
                     if (result.isDone()) {
                         return;
                     }
@@ -246,7 +273,7 @@ public class Session {
                 final var delay = backoff.nextBackoff();
                 log.debug("Failed submitting: {} result: {} retry: {} delay: {}ms on: {}", stxn.hash(), submit.result,
                           i, delay.toMillis(), params.member().getId());
-                Thread.sleep(delay.toMillis());
+                params.schedulers().sleep(delay);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 return null;
@@ -305,6 +332,98 @@ public class Session {
         }
     }
 
+    /**
+     * Add the transaction to the current coalesced submission, opening a new linger window if there is none. The
+     * submission is sent when the window closes or the byte budget is reached, whichever comes first.
+     *
+     * @return the Submission of the transaction
+     */
+    private Submission coalesce(SubmittedTransaction stx) {
+        Coalesced full = null;
+        CompletableFuture<Submission> submission;
+        coalescing.lock();
+        try {
+            if (coalesced == null) {
+                final var batch = new Coalesced();
+                coalesced = batch;
+                scheduler.schedule(() -> params.schedulers().start(Utils.wrapped(() -> flush(batch), log)),
+                                   params.submitLinger().toNanos(), TimeUnit.NANOSECONDS);
+            }
+            submission = coalesced.add(stx);
+            if (coalesced.bytes >= params.submitBatchBytes()) {
+                full = coalesced;
+                coalesced = null;
+            }
+        } finally {
+            coalescing.unlock();
+        }
+        if (full != null) {
+            flush(full);
+        }
+        return submission.join();
+    }
+
+    /**
+     * Submit the coalesced transactions in a single submission, acquiring a single limiter listener for the batch
+     */
+    private void flush(Coalesced batch) {
+        coalescing.lock();
+        try {
+            if (coalesced == batch) {
+                coalesced = null;
+            }
+        } finally {
+            coalescing.unlock();
+        }
+        if (!batch.flushed.compareAndSet(false, true)) {
+            return;
+        }
+        var listener = limiter.acquire(null);
+        if (listener.isEmpty()) {
+            log.debug("Coalesced submission of: {} txns rejected on: {}", batch.transactions.size(),
+                      params.member().getId());
+            var rateLimited = new Submission(
+            SubmitResult.newBuilder().setResult(SubmitResult.Result.RATE_LIMITED).build(), listener);
+            for (int i = 0; i < batch.transactions.size(); i++) {
+                if (params.metrics() != null) {
+                    params.metrics().transactionSubmittedFail();
+                }
+                batch.transactions.get(i)
+                                  .onCompletion()
+                                  .completeExceptionally(new TransactionFailed("Transaction rate limited"));
+                batch.submissions.get(i).complete(rateLimited);
+            }
+            return;
+        }
+        log.debug("Submitting: {} coalesced txns, {} bytes on: {}", batch.transactions.size(), batch.bytes,
+                  params.member().getId());
+        var shared = Optional.<Limiter.Listener>of(new SharedListener(listener.get()));
+        List<SubmitResult> results;
+        try {
+            results = batchService.apply(batch.transactions);
+        } catch (Throwable t) {
+            log.debug("Error submitting: {} coalesced txns on: {}", batch.transactions.size(),
+                      params.member().getId(), t);
+            results = Collections.nCopies(batch.transactions.size(), SubmitResult.newBuilder()
+                                                                                 .setResult(
+                                                                                 SubmitResult.Result.ERROR_SUBMITTING)
+                                                                                 .setErrorMsg(t.toString())
+                                                                                 .build());
+        }
+        for (int i = 0; i < batch.submissions.size(); i++) {
+            var result = i < results.size() ? results.get(i) : SubmitResult.newBuilder()
+                                                                            .setResult(
+                                                                            SubmitResult.Result.INVALID_RESULT)
+                                                                            .setErrorMsg("Missing coalesced result")
+                                                                            .build();
+            batch.submissions.get(i).complete(new Submission(result, shared));
+        }
+    }
+
+    private boolean isCoalescing() {
+        return batchService != null && params.submitLinger() != null && params.submitLinger().isPositive();
+    }
+
     private Submission submit(SubmittedTransaction stx) {
         var listener = limiter.acquire(null);
         if (listener.isEmpty()) {
@@ -322,4 +441,56 @@ public class Session {
 
     private record Submission(SubmitResult result, Optional<Limiter.Listener> limiter) {
     }
+
+    /**
+     * The transactions of a coalesced submission, and the future Submission of each
+     */
+    private static class Coalesced {
+        private final AtomicBoolean                       flushed      = new AtomicBoolean();
+        private final List<CompletableFuture<Submission>> submissions  = new ArrayList<>();
+        private final List<SubmittedTransaction>          transactions = new ArrayList<>();
+        private       int                                 bytes;
+
+        private CompletableFuture<Submission> add(SubmittedTransaction stx) {
+            var submission = new CompletableFuture<Submission>();
+            transactions.add(stx);
+            submissions.add(submission);
+            bytes += stx.transaction().getSerializedSize();
+            return submission;
+        }
+    }
+
+    /**
+     * The limiter listener shared by the transactions of a coalesced submission. Only the first outcome is reported
+     * to the limiter, so that the batch counts as a single request
+     */
+    private static class SharedListener implements Limiter.Listener {
+        private final Limiter.Listener delegate;
+        private final AtomicBoolean    reported = new AtomicBoolean();
+
+        private SharedListener(Limiter.Listener delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void onDropped() {
+            if (reported.compareAndSet(false, true)) {
+                delegate.onDropped();
+            }
+        }
+
+        @Override
+        public void onIgnore() {
+            if (reported.compareAndSet(false, true)) {
+                delegate.onIgnore();
+            }
+        }
+
+        @Override
+        public void onSuccess() {
+            if (reported.compareAndSet(false, true)) {
+                delegate.onSuccess();
+            }
+        }
+    }
 }
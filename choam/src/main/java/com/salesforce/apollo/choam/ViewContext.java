@@ -12,6 +12,8 @@ import com.salesforce.apollo.choam.support.HashedBlock;
 import com.salesforce.apollo.choam.support.HashedCertifiedBlock;
 import com.salesforce.apollo.context.Context;
 import com.salesforce.apollo.cryptography.*;
+import com.salesforce.apollo.ethereal.WeakThresholdKey;
+import com.salesforce.apollo.ethereal.WeakThresholdKey.MultiSigWeakThresholdKey;
 import com.salesforce.apollo.membership.Member;
 import org.joou.ULong;
 import org.slf4j.Logger;
@@ -192,6 +194,22 @@ public class ViewContext {
         return signer.sign(views.toByteString());
     }
 
+    /**
+     * @return the weak threshold key of the committee's epoch proofs. Shares are signed with the member's consensus
+     * key and verified against the consensus keys of the committee, indexed by the roster's pids, with the threshold of
+     * Ethereal's default key for the committee's size and the bias
+     */
+    public WeakThresholdKey weakThresholdKey(int bias) {
+        var verifiers = new Verifier[roster.size()];
+        validators.forEach((member, verifier) -> {
+            var pid = roster.get(member.getId());
+            if (pid != null) {
+                verifiers[pid] = verifier;
+            }
+        });
+        return new MultiSigWeakThresholdKey(verifiers, signer, Context.minimalQuorum(roster.size(), bias) + 1);
+    }
+
     public boolean validate(HashedBlock block, Validate validate) {
         Verifier v = verifierOf(validate);
         if (v == null) {
@@ -7,7 +7,9 @@
 package com.salesforce.apollo.choam.comm;
 
 import com.salesforce.apollo.choam.proto.SubmitResult;
+import com.salesforce.apollo.choam.proto.SubmitResults;
 import com.salesforce.apollo.choam.proto.Transaction;
+import com.salesforce.apollo.choam.proto.Transactions;
 import com.salesforce.apollo.cryptography.Digest;
 
 /**
@@ -17,4 +19,11 @@ public interface Submitter {
 
     SubmitResult submit(Transaction request, Digest from);
 
+    /**
+     * Submit the coalesced transactions, which are accepted atomically
+     *
+     * @return the SubmitResult of each transaction, in the order submitted
+     */
+    SubmitResults submitAll(Transactions request, Digest from);
+
 }
@@ -8,7 +8,9 @@ package com.salesforce.apollo.choam.comm;
 
 import com.salesforce.apollo.archipelago.Link;
 import com.salesforce.apollo.choam.proto.SubmitResult;
+import com.salesforce.apollo.choam.proto.SubmitResults;
 import com.salesforce.apollo.choam.proto.Transaction;
+import com.salesforce.apollo.choam.proto.Transactions;
 import com.salesforce.apollo.membership.Member;
 import com.salesforce.apollo.membership.SigningMember;
 
@@ -35,8 +37,15 @@ public interface TxnSubmission extends Link {
             public SubmitResult submit(Transaction request) {
                 return service.submit(request, member.getId());
             }
+
+            @Override
+            public SubmitResults submitAll(Transactions request) {
+                return service.submitAll(request, member.getId());
+            }
         };
     }
 
     SubmitResult submit(Transaction request);
+
+    SubmitResults submitAll(Transactions request);
 }
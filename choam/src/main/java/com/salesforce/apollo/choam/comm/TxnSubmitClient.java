@@ -9,9 +9,11 @@ package com.salesforce.apollo.choam.comm;
 import com.salesforce.apollo.archipelago.ManagedServerChannel;
 import com.salesforce.apollo.archipelago.ServerConnectionCache.CreateClientCommunications;
 import com.salesforce.apollo.choam.proto.SubmitResult;
+import com.salesforce.apollo.choam.proto.SubmitResults;
 import com.salesforce.apollo.choam.proto.Transaction;
 import com.salesforce.apollo.choam.proto.TransactionSubmissionGrpc;
 import com.salesforce.apollo.choam.proto.TransactionSubmissionGrpc.TransactionSubmissionBlockingStub;
+import com.salesforce.apollo.choam.proto.Transactions;
 import com.salesforce.apollo.choam.support.ChoamMetrics;
 import com.salesforce.apollo.membership.Member;
 
@@ -51,4 +53,9 @@ public class TxnSubmitClient implements TxnSubmission {
     public SubmitResult submit(Transaction request) {
         return client.submit(request);
     }
+
+    @Override
+    public SubmitResults submitAll(Transactions request) {
+        return client.submitAll(request);
+    }
 }
@@ -8,8 +8,10 @@ package com.salesforce.apollo.choam.comm;
 
 import com.salesforce.apollo.archipelago.RoutableService;
 import com.salesforce.apollo.choam.proto.SubmitResult;
+import com.salesforce.apollo.choam.proto.SubmitResults;
 import com.salesforce.apollo.choam.proto.Transaction;
 import com.salesforce.apollo.choam.proto.TransactionSubmissionGrpc.TransactionSubmissionImplBase;
+import com.salesforce.apollo.choam.proto.Transactions;
 import com.salesforce.apollo.choam.support.ChoamMetrics;
 import com.salesforce.apollo.cryptography.Digest;
 import com.salesforce.apollo.protocols.ClientIdentity;
@@ -47,4 +49,21 @@ public class TxnSubmitServer extends TransactionSubmissionImplBase {
             }
         });
     }
+
+    @Override
+    public void submitAll(Transactions request, StreamObserver<SubmitResults> responseObserver) {
+        Digest from = identity.getFrom();
+        if (from == null) {
+            responseObserver.onError(new IllegalStateException("Member has been removed"));
+            return;
+        }
+        router.evaluate(responseObserver, s -> {
+            try {
+                responseObserver.onNext(s.submitAll(request, from));
+                responseObserver.onCompleted();
+            } catch (StatusRuntimeException e) {
+                responseObserver.onError(e);
+            }
+        });
+    }
 }
@@ -67,6 +67,37 @@ public class BatchingQueue<T> {
         }
     }
 
+    /**
+     * @return the fill level of the queue, from 0 to 1
+     */
+    public double fill() {
+        lock.lock();
+        try {
+            return Math.min(1.0, (double) size / ((long) limit * batchSize));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Offer the events atomically; either all the events are added, or none are
+     */
+    public boolean offerAll(List<T> events) {
+        lock.lock();
+        try {
+            if (!currentBatch.accepts(events)) {
+                log.trace("rejecting events: {} size: {} added: {} taken: {}", events.size(), size, added, taken);
+                return false;
+            }
+            for (var event : events) {
+                currentBatch.addEvent(event);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
     public int size() {
         lock.lock();
         try {
@@ -113,6 +144,22 @@ public class BatchingQueue<T> {
         }
     }
 
+    /**
+     * @return the fill level, from 0 to 1, of the next batch taken by the events immediately available
+     */
+    public double batchFill() {
+        lock.lock();
+        try {
+            if (!oldBatches.isEmpty() || taken == limit) {
+                return 1.0;
+            }
+            return Math.min(1.0, Math.max((double) currentBatch.events.size() / batchSize,
+                                          (double) currentBatch.byteSize / maxByteSize));
+        } finally {
+            lock.unlock();
+        }
+    }
+
     public int taken() {
         lock.lock();
         try {
@@ -158,6 +205,40 @@ public class BatchingQueue<T> {
             return events;
         }
 
+        /**
+         * Answer true if all the events would be added, following the same batching rules as addEvent
+         */
+        private boolean accepts(List<T> offered) {
+            if (taken == limit) {
+                return false;
+            }
+            int count = events.size();
+            int bytes = byteSize;
+            int reaped = added;
+            for (var event : offered) {
+                final var eventSize = sizer.apply(event);
+                if (count == batchSize) {
+                    if (reaped >= limit) {
+                        return false;
+                    }
+                    reaped++;
+                    count = 0;
+                    bytes = 0;
+                }
+                if (bytes + eventSize > maxByteSize) {
+                    if (reaped >= limit) {
+                        return false;
+                    }
+                    reaped++;
+                    count = 0;
+                    bytes = 0;
+                }
+                count++;
+                bytes += eventSize;
+            }
+            return true;
+        }
+
         private boolean addEvent(T event) {
             if (taken == limit) {
                 return false;
@@ -27,6 +27,7 @@ import org.joou.Unsigned;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
@@ -92,7 +93,7 @@ public class Bootstrapper {
         var sample = params.context().bftSubset(randomCut);
 
         var iterator = new SliceIterator<>("Anchor[%s->%s:%s]".formatted(params.member().getId(), end, start.get()),
-                                           params.member(), sample, comms, scheduler);
+                                           params.member(), sample, comms, scheduler, params.schedulers());
         iterator.iterate(link -> anchor(link, start, end),
                          (result, _, _, member) -> completeAnchor(result, end, start, member),
                          () -> scheduleAnchorCompletion(start, end), params.gossipDuration());
@@ -137,10 +138,14 @@ public class Bootstrapper {
                                                      .map(d -> params.context().getMember(d))
                                                      .filter(Objects::nonNull)
                                                      .toList();
+        var mappedDir = params.bootstrap().mappedCheckpoints();
+        var mappedFile = mappedDir == null ? null : new File(mappedDir, "cp-%s.chk".formatted(checkpoint.height()));
         CheckpointAssembler assembler = new CheckpointAssembler(committee, params.gossipDuration(), checkpoint.height(),
                                                                 checkpoint.block.getCheckpoint(), params.member(),
                                                                 store, comms, params.context(), threshold,
-                                                                params.digestAlgorithm());
+                                                                params.digestAlgorithm(),
+                                                                params.bootstrap().assemblyParallelism(), mappedFile,
+                                                                params.schedulers());
 
         // assemble the checkpoint
         checkpointAssembled = assembler.assemble(scheduler, params.gossipDuration()).whenComplete((cps, t) -> {
@@ -197,7 +202,7 @@ public class Bootstrapper {
         var sample = params.context().bftSubset(randomCut);
 
         var iterator = new SliceIterator<>("Sample[%s]".formatted(params.member().getId()), params.member(), sample,
-                                           comms, scheduler);
+                                           comms, scheduler, params.schedulers());
         iterator.iterate(link -> completeViewChain(link, start, end),
                          (result, _, _, m) -> completeViewChain(result, start, end, m),
                          () -> scheduleViewChainCompletion(start, end), params.gossipDuration());
@@ -379,7 +384,7 @@ public class Bootstrapper {
         var sample = params.context().bftSubset(randomCut);
 
         var iterator = new SliceIterator<>("Sample[%s]".formatted(params.member().getId()), params.member(), sample,
-                                           comms, scheduler);
+                                           comms, scheduler, params.schedulers());
         iterator.iterate(link -> synchronize(s, link), (result, _, _, m) -> synchronize(result, votes, m),
                          () -> computeGenesis(votes), params.gossipDuration());
     }
@@ -392,7 +397,7 @@ public class Bootstrapper {
         }
         log.info("Scheduling Anchor completion ({} to {}) duration: {} on: {}", start, anchorTo,
                  params.gossipDuration(), params.member().getId());
-        scheduler.schedule(() -> Thread.ofVirtual().start(Utils.wrapped(() -> {
+        scheduler.schedule(() -> params.schedulers().start(Utils.wrapped(() -> {
             try {
                 anchor(start, anchorTo);
             } catch (Throwable e) {
@@ -407,7 +412,7 @@ public class Bootstrapper {
             return;
         }
         log.info("Scheduling state sample on: {}", params.member().getId());
-        scheduler.schedule(() -> Thread.ofVirtual().start(Utils.wrapped(() -> {
+        scheduler.schedule(() -> params.schedulers().start(Utils.wrapped(() -> {
             final HashedCertifiedBlock established = genesis;
             if (sync.isDone() || established != null) {
                 log.trace("Synchronization isDone: {} genesis: {} on: {}", sync.isDone(),
@@ -432,7 +437,7 @@ public class Bootstrapper {
         }
         log.info("Scheduling view chain completion ({} to {}) duration: {} on: {}", start, to, params.gossipDuration(),
                  params.member().getId());
-        scheduler.schedule(() -> Thread.ofVirtual().start(Utils.wrapped(() -> {
+        scheduler.schedule(() -> params.schedulers().start(Utils.wrapped(() -> {
             try {
                 completeViewChain(start, to);
             } catch (Throwable e) {
@@ -13,6 +13,7 @@ import com.salesforce.apollo.choam.comm.Terminal;
 import com.salesforce.apollo.choam.proto.Checkpoint;
 import com.salesforce.apollo.choam.proto.CheckpointReplication;
 import com.salesforce.apollo.choam.proto.CheckpointSegments;
+import com.salesforce.apollo.choam.proto.Slice;
 import com.salesforce.apollo.context.Context;
 import com.salesforce.apollo.cryptography.Digest;
 import com.salesforce.apollo.cryptography.DigestAlgorithm;
@@ -21,12 +22,16 @@ import com.salesforce.apollo.membership.Member;
 import com.salesforce.apollo.membership.SigningMember;
 import com.salesforce.apollo.ring.SliceIterator;
 import com.salesforce.apollo.utils.Entropy;
+import com.salesforce.apollo.utils.Schedulers;
 import com.salesforce.apollo.utils.Utils;
+import io.grpc.StatusRuntimeException;
 import org.h2.mvstore.MVMap;
 import org.joou.ULong;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
+import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
@@ -37,6 +42,13 @@ import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
 
 /**
+ * Assembles the segments of a checkpoint from the committee.
+ * <p>
+ * By default, segments are gossiped from one committee member at a time and stored in the Store's MVMap for the
+ * checkpoint. When a parallelism greater than 1 is supplied, the missing segments are partitioned into disjoint,
+ * contiguous ranges, each fetched concurrently from a different committee member. When a mapped file is supplied, the
+ * verified segments are written directly into their position in the pre-sized, memory mapped file.
+ *
  * @author hal.hildebrand
  */
 public class CheckpointAssembler {
@@ -52,12 +64,39 @@ public class CheckpointAssembler {
     private final ULong                                     height;
     private final SigningMember                             member;
     private final MVMap<Integer, byte[]>                    state;
+    private final MappedCheckpoint                          mapped;
     private final HexBloom                                  diadem;
     private final List<Member>                              committee;
+    private final int                                       parallelism;
+    private final Schedulers.Runtime                        schedulers;
 
     public CheckpointAssembler(List<Member> committee, Duration frequency, ULong height, Checkpoint checkpoint,
                                SigningMember member, Store store, CommonCommunications<Terminal, Concierge> comms,
                                Context<Member> context, double falsePositiveRate, DigestAlgorithm digestAlgorithm) {
+        this(committee, frequency, height, checkpoint, member, store, comms, context, falsePositiveRate,
+             digestAlgorithm, 1, null);
+    }
+
+    /**
+     * @param parallelism - the number of committee members concurrently fetching disjoint segment ranges
+     * @param mappedFile  - if not null, the file the segments are assembled into, otherwise the Store is used
+     */
+    public CheckpointAssembler(List<Member> committee, Duration frequency, ULong height, Checkpoint checkpoint,
+                               SigningMember member, Store store, CommonCommunications<Terminal, Concierge> comms,
+                               Context<Member> context, double falsePositiveRate, DigestAlgorithm digestAlgorithm,
+                               int parallelism, File mappedFile) {
+        this(committee, frequency, height, checkpoint, member, store, comms, context, falsePositiveRate,
+             digestAlgorithm, parallelism, mappedFile, Schedulers.DEFAULT);
+    }
+
+    /**
+     * @param schedulers - the runtime the fetches are started from
+     */
+    public CheckpointAssembler(List<Member> committee, Duration frequency, ULong height, Checkpoint checkpoint,
+                               SigningMember member, Store store, CommonCommunications<Terminal, Concierge> comms,
+                               Context<Member> context, double falsePositiveRate, DigestAlgorithm digestAlgorithm,
+                               int parallelism, File mappedFile, Schedulers.Runtime schedulers) {
+        this.schedulers = schedulers;
         this.committee = new ArrayList<>(committee);
         this.height = height;
         this.member = member;
@@ -67,13 +106,26 @@ public class CheckpointAssembler {
         this.fpr = falsePositiveRate;
         this.digestAlgorithm = digestAlgorithm;
         this.frequency = frequency;
-        state = store.createCheckpoint(height);
+        this.parallelism = Math.max(1, parallelism);
+        if (mappedFile == null) {
+            state = store.createCheckpoint(height);
+            mapped = null;
+        } else {
+            state = null;
+            try {
+                mapped = MappedCheckpoint.create(mappedFile, checkpoint);
+            } catch (IOException e) {
+                throw new IllegalStateException("Unable to map checkpoint: " + height + " to: " + mappedFile, e);
+            }
+        }
         diadem = HexBloom.from(checkpoint.getCrown());
     }
 
     public CompletableFuture<CheckpointState> assemble(ScheduledExecutorService scheduler, Duration duration) {
         if (checkpoint.getCount() == 0) {
-            assembled(new CheckpointState(checkpoint, state));
+            assembled(checkpointState());
+        } else if (parallelism > 1) {
+            parallel(scheduler, duration);
         } else {
             gossip(scheduler, duration);
         }
@@ -87,15 +139,79 @@ public class CheckpointAssembler {
     }
 
     private CheckpointReplication buildRequest() {
+        return buildRequest(0, checkpoint.getCount());
+    }
+
+    private CheckpointReplication buildRequest(int from, int to) {
         long seed = Entropy.nextBitsStreamLong();
-        BloomFilter<Integer> segmentsBff = new BloomFilter.IntBloomFilter(seed, checkpoint.getCount(), fpr);
-        IntStream.range(0, checkpoint.getCount()).filter(i -> state.containsKey(i)).forEach(i -> {
-            segmentsBff.add(i);
-        });
-        return CheckpointReplication.newBuilder()
-                                    .setCheckpoint(height.longValue())
-                                    .setCheckpointSegments(segmentsBff.toBff())
-                                    .build();
+        BloomFilter<Integer> segmentsBff = new BloomFilter.IntBloomFilter(seed, Math.max(1, to - from), fpr);
+        IntStream.range(from, to).filter(this::contains).forEach(segmentsBff::add);
+        var builder = CheckpointReplication.newBuilder()
+                                           .setCheckpoint(height.longValue())
+                                           .setCheckpointSegments(segmentsBff.toBff());
+        if (from != 0 || to != checkpoint.getCount()) {
+            builder.setFrom(from).setTo(to);
+        }
+        return builder.build();
+    }
+
+    private CheckpointState checkpointState() {
+        if (mapped != null) {
+            mapped.force();
+            return new CheckpointState(checkpoint, mapped);
+        }
+        return new CheckpointState(checkpoint, state);
+    }
+
+    private boolean contains(int index) {
+        return mapped != null ? mapped.contains(index) : state.containsKey(index);
+    }
+
+    /**
+     * Fetch the segment range [from, to) from the link, until the range is complete or the member has nothing further
+     * to contribute
+     */
+    private void fetch(Terminal link, int from, int to) {
+        while (!assembled.isDone()) {
+            var request = buildRequest(from, to);
+            CheckpointSegments segments;
+            try {
+                segments = link.fetch(request);
+            } catch (StatusRuntimeException e) {
+                log.debug("Error fetching segments: [{}, {}) from: {} on: {}", from, to, link.getMember().getId(),
+                          member.getId(), e);
+                return;
+            }
+            if (segments == null || segments.getSegmentsCount() == 0) {
+                return;
+            }
+            int added = 0;
+            boolean bad = false;
+            for (var segment : segments.getSegmentsList()) {
+                if (segment.getIndex() < from || segment.getIndex() >= to) {
+                    continue;
+                }
+                if (!valid(segment)) {
+                    bad = true;
+                } else if (put(segment)) {
+                    added++;
+                }
+            }
+            log.trace("Fetched: {} segments: [{}, {}) from: {} on: {}", added, from, to, link.getMember().getId(),
+                      member.getId());
+            if (bad) {
+                log.debug("Invalid segments fetched: [{}, {}) from: {}, abandoning member on: {}", from, to,
+                          link.getMember().getId(), member.getId());
+                return;
+            }
+            if (added == 0 || IntStream.range(from, to).allMatch(this::contains)) {
+                return;
+            }
+        }
+    }
+
+    private int filled() {
+        return mapped != null ? mapped.filled() : state.size();
     }
 
     private boolean gossip(Optional<CheckpointSegments> futureSailor) {
@@ -103,8 +219,7 @@ public class CheckpointAssembler {
             return true;
         }
         if (process(futureSailor.get())) {
-            CheckpointState cs = new CheckpointState(checkpoint, state);
-            assembled(cs);
+            assembled(checkpointState());
             return false;
         }
         return true;
@@ -118,14 +233,14 @@ public class CheckpointAssembler {
                  diadem.compactWrapped(), member.getId());
 
         var ringer = new SliceIterator<>("Assembly[%s:%s]".formatted(diadem.compactWrapped(), member.getId()), member,
-                                         committee, comms, scheduler);
+                                         committee, comms, scheduler, schedulers);
         ringer.iterate((link) -> {
             log.debug("Requesting Seeding from: {} on: {}", link.getMember().getId(), member.getId());
             return gossip(link);
         }, (result, _, _, _) -> gossip(result), () -> {
             if (!assembled.isDone()) {
                 scheduler.schedule(
-                () -> Thread.ofVirtual().start(Utils.wrapped(() -> gossip(scheduler, duration), log)),
+                () -> schedulers.start(Utils.wrapped(() -> gossip(scheduler, duration), log)),
                 duration.toMillis(), TimeUnit.MILLISECONDS);
             }
         }, duration);
@@ -141,13 +256,98 @@ public class CheckpointAssembler {
         return link.fetch(buildRequest());
     }
 
-    private boolean process(CheckpointSegments segments) {
-        segments.getSegmentsList().forEach(segment -> {
-            Digest hash = digestAlgorithm.digest(segment.getBlock());
-            if (diadem.contains(hash)) {
-                state.computeIfAbsent(segment.getIndex(), i -> segment.getBlock().toByteArray());
+    /**
+     * Concurrently fetch disjoint ranges of the missing segments from multiple committee members
+     */
+    private void parallel(ScheduledExecutorService scheduler, Duration duration) {
+        if (assembled.isDone()) {
+            return;
+        }
+        var missing = IntStream.range(0, checkpoint.getCount()).filter(i -> !contains(i)).toArray();
+        if (missing.length == 0) {
+            assembled(checkpointState());
+            return;
+        }
+        var peers = new ArrayList<>(committee.stream().filter(m -> !member.equals(m)).toList());
+        Entropy.secureShuffle(peers);
+        var width = Math.min(Math.min(parallelism, peers.size()), missing.length);
+        log.info("Parallel assembly of checkpoint: {} missing: {} segments: {} peers: {} crown: {} on: {}", height,
+                 missing.length, checkpoint.getCount(), width, diadem.compactWrapped(), member.getId());
+
+        var fetches = new ArrayList<CompletableFuture<Void>>();
+        var chunk = (missing.length + width - 1) / width;
+        for (int p = 0; p < width && p * chunk < missing.length; p++) {
+            var peer = peers.get(p);
+            var from = missing[p * chunk];
+            var to = missing[Math.min(missing.length, (p + 1) * chunk) - 1] + 1;
+            var fetch = new CompletableFuture<Void>();
+            fetches.add(fetch);
+            schedulers.start(Utils.wrapped(() -> {
+                try (var link = comms.connect(peer)) {
+                    if (link != null) {
+                        fetch(link, from, to);
+                    }
+                } catch (Throwable t) {
+                    log.debug("Error fetching segments: [{}, {}) from: {} on: {}", from, to, peer.getId(),
+                              member.getId(), t);
+                } finally {
+                    fetch.complete(null);
+                }
+            }, log));
+        }
+        CompletableFuture.allOf(fetches.toArray(new CompletableFuture[0])).whenComplete((v, t) -> {
+            if (filled() == checkpoint.getCount()) {
+                assembled(checkpointState());
+            } else if (!assembled.isDone()) {
+                scheduler.schedule(
+                () -> schedulers.start(Utils.wrapped(() -> parallel(scheduler, duration), log)),
+                duration.toMillis(), TimeUnit.MILLISECONDS);
             }
         });
-        return state.size() == checkpoint.getCount();
+    }
+
+    private boolean process(CheckpointSegments segments) {
+        segments.getSegmentsList().forEach(this::store);
+        return filled() == checkpoint.getCount();
+    }
+
+    /**
+     * @return true if the segment was newly stored
+     */
+    private boolean put(Slice segment) {
+        if (mapped != null) {
+            return mapped.put(segment.getIndex(), segment.getBlock());
+        }
+        return state.putIfAbsent(segment.getIndex(), segment.getBlock().toByteArray()) == null;
+    }
+
+    /**
+     * Store the segment if valid. Invalid segments are dropped, and remain missing to be requested again
+     *
+     * @return true if the segment was newly stored
+     */
+    private boolean store(Slice segment) {
+        return valid(segment) && put(segment);
+    }
+
+    /**
+     * Verify the segment's index, its digest against the crown's membership and, when mapped, its size against its
+     * position in the checkpoint
+     */
+    private boolean valid(Slice segment) {
+        if (segment.getIndex() < 0 || segment.getIndex() >= checkpoint.getCount()) {
+            return false;
+        }
+        Digest hash = digestAlgorithm.digest(segment.getBlock());
+        if (!diadem.contains(hash)) {
+            log.debug("Invalid segment: {} for checkpoint: {} on: {}", segment.getIndex(), height, member.getId());
+            return false;
+        }
+        if (mapped != null && segment.getBlock().size() != mapped.segmentSize(segment.getIndex())) {
+            log.debug("Mislabeled segment: {} size: {} expected: {} for checkpoint: {} on: {}", segment.getIndex(),
+                      segment.getBlock().size(), mapped.segmentSize(segment.getIndex()), height, member.getId());
+            return false;
+        }
+        return true;
     }
 }
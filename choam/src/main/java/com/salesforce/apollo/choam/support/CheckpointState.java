@@ -24,15 +24,25 @@ import java.util.NoSuchElementException;
 import java.util.zip.GZIPInputStream;
 
 /**
+ * The segments of a checkpoint, stored either in an MVStore map or in a memory mapped file
+ *
  * @author hal.hildebrand
  */
 public class CheckpointState {
-    public final Checkpoint             checkpoint;
-    public final MVMap<Integer, byte[]> state;
+    public final  Checkpoint             checkpoint;
+    public final  MVMap<Integer, byte[]> state;
+    private final MappedCheckpoint       mapped;
 
     public CheckpointState(Checkpoint checkpoint, MVMap<Integer, byte[]> stored) {
         this.checkpoint = checkpoint;
         this.state = stored;
+        this.mapped = null;
+    }
+
+    public CheckpointState(Checkpoint checkpoint, MappedCheckpoint mapped) {
+        this.checkpoint = checkpoint;
+        this.state = null;
+        this.mapped = mapped;
     }
 
     public void assemble(File file) throws IOException {
@@ -43,6 +53,9 @@ public class CheckpointState {
     }
 
     public InputStream assembled() {
+        if (mapped != null) {
+            return mapped.assembled();
+        }
         return new SequenceInputStream(new Enumeration<InputStream>() {
             int current = 0;
 
@@ -65,14 +78,29 @@ public class CheckpointState {
     }
 
     public void close() {
-        state.clear();
+        if (mapped != null) {
+            mapped.close();
+            if (!mapped.getFile().delete()) {
+                LoggerFactory.getLogger(CheckpointState.class)
+                             .warn("Unable to delete mapped checkpoint: {}", mapped.getFile().getAbsolutePath());
+            }
+        } else {
+            state.clear();
+        }
     }
 
     public List<Slice> fetchSegments(BloomFilter<Integer> bff, int maxSegments) {
+        return fetchSegments(bff, maxSegments, 0, checkpoint.getCount());
+    }
+
+    /**
+     * Answer the segments in the range [from, to) that are not present in the supplied bloom filter
+     */
+    public List<Slice> fetchSegments(BloomFilter<Integer> bff, int maxSegments, int from, int to) {
         List<Slice> slices = new ArrayList<>();
-        for (int i = 0; i < checkpoint.getCount(); i++) {
+        for (int i = Math.max(0, from); i < Math.min(to, checkpoint.getCount()); i++) {
             if (!bff.contains(i)) {
-                slices.add(Slice.newBuilder().setIndex(i).setBlock(ByteString.copyFrom(state.get(i))).build());
+                slices.add(Slice.newBuilder().setIndex(i).setBlock(segment(i)).build());
                 if (slices.size() >= maxSegments) {
                     break;
                 }
@@ -81,14 +109,27 @@ public class CheckpointState {
         return slices;
     }
 
+    /**
+     * @return true if the receiver's segments are served from a memory mapped file
+     */
+    public boolean isMapped() {
+        return mapped != null;
+    }
+
     public boolean validate(HexBloom diadem, Digest initial) {
         var crowns = diadem.crowns();
         var algorithm = crowns.get(0).getAlgorithm();
         var accumulator = new HexBloom.Accumulator(diadem.getCardinality(), crowns.size(), initial);
-        state.keyIterator(0).forEachRemaining(i -> {
-            byte[] buf = state.get(i);
-            accumulator.add(algorithm.digest(buf));
-        });
+        if (mapped != null) {
+            for (int i = 0; i < checkpoint.getCount(); i++) {
+                accumulator.add(algorithm.digest(mapped.segment(i)));
+            }
+        } else {
+            state.keyIterator(0).forEachRemaining(i -> {
+                byte[] buf = state.get(i);
+                accumulator.add(algorithm.digest(buf));
+            });
+        }
         var candidates = accumulator.wrappedCrowns();
         for (int i = 0; i < crowns.size(); i++) {
             if (!crowns.get(i).equals(candidates.get(i))) {
@@ -99,4 +140,11 @@ public class CheckpointState {
         }
         return true;
     }
+
+    private ByteString segment(int i) {
+        if (mapped != null) {
+            return mapped.segment(i);
+        }
+        return ByteString.copyFrom(state.get(i));
+    }
 }
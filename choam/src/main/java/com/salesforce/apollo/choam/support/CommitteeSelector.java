@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.choam.support;
+
+import com.salesforce.apollo.choam.proto.SubmitResult;
+import com.salesforce.apollo.membership.Member;
+import com.salesforce.apollo.utils.Schedulers;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.random.RandomGenerator;
+import java.util.stream.Collectors;
+
+/**
+ * Selects the committee member that receives a transaction submission, using the power of two choices: two members
+ * are sampled at random and the member with the lower cost is chosen. The cost of a member is its smoothed submission
+ * round trip time, inflated by its recent rejection rate and the fill level of its transaction buffer reported in its
+ * SubmitResults. Members that have not yet been sampled have no cost, so that they are probed.
+ * <p>
+ * Members whose cost is an outlier relative to the rest of the committee, or which fail consecutively, are ejected
+ * from selection for a period that doubles with each successive ejection. No more than a third of the committee is
+ * ejected at any time. An ejected member's statistics are reset when it returns, so that it is probed afresh.
+ * <p>
+ * The statistics of a member age: a member that has not been sampled for the stale period is reset, so that a member
+ * starved of selection by a few early slow samples, or by an early bad period, is probed afresh rather than judged by
+ * its past indefinitely.
+ *
+ * @author hal.hildebrand
+ */
+public class CommitteeSelector {
+    private static final double ALPHA               = 0.2;
+    private static final int    MAX_EJECTION_DOUBLE = 5;
+    private static final int    MIN_SAMPLES         = 5;
+    private static final double REJECTION_WEIGHT    = 4.0;
+
+    private final Clock              clock;
+    private final Duration           ejection;
+    private final double             ejectionFactor;
+    private final int                maxConsecutiveFailures;
+    private final int                maxEjected;
+    private final List<Member>       members;
+    private final RandomGenerator    random;
+    private final Duration           stale;
+    private final Map<Member, Stats> stats;
+
+    public CommitteeSelector(Collection<? extends Member> members) {
+        this(members, Clock.systemUTC());
+    }
+
+    public CommitteeSelector(Collection<? extends Member> members, Clock clock) {
+        this(members, 3.0, 5, Duration.ofSeconds(5), Duration.ofSeconds(30), clock);
+    }
+
+    /**
+     * A selector with the clock and random choices of the runtime
+     */
+    public CommitteeSelector(Collection<? extends Member> members, Schedulers.Runtime runtime) {
+        this(members, 3.0, 5, Duration.ofSeconds(5), Duration.ofSeconds(30), runtime.clock(), runtime.random());
+    }
+
+    public CommitteeSelector(Collection<? extends Member> members, double ejectionFactor, int maxConsecutiveFailures,
+                             Duration ejection) {
+        this(members, ejectionFactor, maxConsecutiveFailures, ejection, ejection.multipliedBy(6), Clock.systemUTC());
+    }
+
+    /**
+     * @param members                - the committee
+     * @param ejectionFactor         - the multiple of the median cost of the committee at which a member is ejected
+     * @param maxConsecutiveFailures - the number of consecutive failed submissions at which a member is ejected
+     * @param ejection               - the base period of ejection
+     * @param stale                  - the period without samples after which a member's statistics are reset
+     * @param clock                  - the source of time
+     */
+    public CommitteeSelector(Collection<? extends Member> members, double ejectionFactor, int maxConsecutiveFailures,
+                             Duration ejection, Duration stale, Clock clock) {
+        this(members, ejectionFactor, maxConsecutiveFailures, ejection, stale, clock, Schedulers.DEFAULT.random());
+    }
+
+    /**
+     * @param members                - the committee
+     * @param ejectionFactor         - the multiple of the median cost of the committee at which a member is ejected
+     * @param maxConsecutiveFailures - the number of consecutive failed submissions at which a member is ejected
+     * @param ejection               - the base period of ejection
+     * @param stale                  - the period without samples after which a member's statistics are reset
+     * @param clock                  - the source of time
+     * @param random                 - the source of the random sampling of the members
+     */
+    public CommitteeSelector(Collection<? extends Member> members, double ejectionFactor, int maxConsecutiveFailures,
+                             Duration ejection, Duration stale, Clock clock, RandomGenerator random) {
+        this.members = List.copyOf(members);
+        this.random = random;
+        this.stale = stale;
+        this.clock = clock;
+        this.ejectionFactor = ejectionFactor;
+        this.maxConsecutiveFailures = maxConsecutiveFailures;
+        this.ejection = ejection;
+        this.maxEjected = (this.members.size() - 1) / 3;
+        this.stats = this.members.stream().collect(Collectors.toMap(m -> m, m -> new Stats()));
+    }
+
+    /**
+     * Record the failure of a submission to the member, where no SubmitResult was received
+     */
+    public void failed(Member member) {
+        var s = stats.get(member);
+        if (s == null) {
+            return;
+        }
+        boolean eject;
+        synchronized (s) {
+            s.expire(clock.instant(), stale);
+            s.rejection = s.samples == 0 ? 1.0 : ewma(s.rejection, 1.0);
+            s.sampled = clock.instant();
+            s.consecutiveFailures++;
+            eject = s.consecutiveFailures >= maxConsecutiveFailures;
+        }
+        if (eject) {
+            eject(s);
+        }
+    }
+
+    public boolean hasNext() {
+        return !members.isEmpty();
+    }
+
+    /**
+     * @return true if the member is currently ejected from selection
+     */
+    public boolean isEjected(Member member) {
+        var s = stats.get(member);
+        return s != null && s.ejected(clock.instant());
+    }
+
+    /**
+     * @return the member selected for the next submission
+     */
+    public Member next() {
+        var now = clock.instant();
+        var candidates = members.stream().filter(m -> !stats.get(m).ejected(now)).toList();
+        if (candidates.isEmpty()) {
+            candidates = members;
+        }
+        if (candidates.size() == 1) {
+            return candidates.getFirst();
+        }
+        var first = random.nextInt(candidates.size());
+        var second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        var a = candidates.get(first);
+        var b = candidates.get(second);
+        return stats.get(a).cost(now, stale) <= stats.get(b).cost(now, stale) ? a : b;
+    }
+
+    /**
+     * Record the SubmitResult received from the member
+     *
+     * @param member - the submission target
+     * @param rtt    - the round trip time of the submission
+     * @param result - the result of the submission
+     */
+    public void record(Member member, Duration rtt, SubmitResult result) {
+        var s = stats.get(member);
+        if (s == null) {
+            return;
+        }
+        var rejected = switch (result.getResult()) {
+            case BUFFER_FULL, RATE_LIMITED, UNAVAILABLE, INACTIVE, NO_COMMITTEE, ERROR_SUBMITTING -> true;
+            default -> false;
+        };
+        boolean failing;
+        boolean sampled;
+        var now = clock.instant();
+        synchronized (s) {
+            s.expire(now, stale);
+            var nanos = (double) rtt.toNanos();
+            s.rtt = s.samples == 0 ? nanos : ewma(s.rtt, nanos);
+            s.rejection = s.samples == 0 ? (rejected ? 1.0 : 0.0) : ewma(s.rejection, rejected ? 1.0 : 0.0);
+            s.fill = result.getFill();
+            s.samples++;
+            s.sampled = now;
+            s.consecutiveFailures = rejected ? s.consecutiveFailures + 1 : 0;
+            failing = s.consecutiveFailures >= maxConsecutiveFailures;
+            sampled = s.samples >= MIN_SAMPLES;
+        }
+        // The committee's costs are compared outside the member's lock, so that no two member locks are held at once
+        if (failing || (sampled && isOutlier(member, s.cost(now, stale), now))) {
+            eject(s);
+        } else if (sampled) {
+            synchronized (s) {
+                s.ejections = 0;
+            }
+        }
+    }
+
+    private double ewma(double average, double sample) {
+        return ALPHA * sample + (1.0 - ALPHA) * average;
+    }
+
+    private void eject(Stats s) {
+        var now = clock.instant();
+        synchronized (this) {
+            var ejected = members.stream().filter(m -> stats.get(m).ejected(now)).count();
+            if (ejected >= maxEjected) {
+                return;
+            }
+            synchronized (s) {
+                if (s.ejected(now)) {
+                    return;
+                }
+                var period = ejection.multipliedBy(1L << Math.min(s.ejections, MAX_EJECTION_DOUBLE));
+                s.ejectedUntil = now.plus(period);
+                s.ejections++;
+            }
+        }
+    }
+
+    private boolean isOutlier(Member member, double cost, Instant now) {
+        var costs = members.stream()
+                           .filter(m -> !m.equals(member))
+                           .map(stats::get)
+                           .filter(s -> s.sampled(now, stale) >= MIN_SAMPLES)
+                           .mapToDouble(s -> s.cost(now, stale))
+                           .sorted()
+                           .toArray();
+        if (costs.length == 0) {
+            return false;
+        }
+        var median = costs[costs.length / 2];
+        return median > 0 && cost > median * ejectionFactor;
+    }
+
+    private static class Stats {
+        private int     consecutiveFailures;
+        private Instant ejectedUntil;
+        private int     ejections;
+        private double  fill;
+        private double  rejection;
+        private double  rtt;
+        private Instant sampled;
+        private int     samples;
+
+        synchronized double cost(Instant now, Duration stale) {
+            expire(now, stale);
+            if (samples == 0) {
+                return 0.0;
+            }
+            return rtt * (1.0 + REJECTION_WEIGHT * rejection) * (1.0 + fill);
+        }
+
+        /**
+         * Answer true if ejected at the instant. A member returning from ejection is reset, so that it is probed
+         * afresh
+         */
+        synchronized boolean ejected(Instant now) {
+            if (ejectedUntil == null) {
+                return false;
+            }
+            if (now.isBefore(ejectedUntil)) {
+                return true;
+            }
+            ejectedUntil = null;
+            reset();
+            return false;
+        }
+
+        /**
+         * Reset the statistics if the member has not been sampled for the stale period
+         */
+        synchronized void expire(Instant now, Duration stale) {
+            if (sampled != null && !now.isBefore(sampled.plus(stale))) {
+                reset();
+            }
+        }
+
+        synchronized int sampled(Instant now, Duration stale) {
+            expire(now, stale);
+            return samples;
+        }
+
+        private void reset() {
+            samples = 0;
+            sampled = null;
+            consecutiveFailures = 0;
+            rtt = 0.0;
+            rejection = 0.0;
+            fill = 0.0;
+        }
+    }
+}
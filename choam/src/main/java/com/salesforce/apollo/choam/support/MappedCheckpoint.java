@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.choam.support;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import com.salesforce.apollo.choam.proto.Checkpoint;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Enumeration;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Checkpoint segments stored in a pre-sized, memory mapped file. Segment <i>i</i> lives at offset <i>i *
+ * segmentSize</i>, so segments may be written in any order, from any number of threads, directly into their final
+ * position. The file is mapped in regions of whole segments, allowing checkpoints larger than a single mapping.
+ *
+ * @author hal.hildebrand
+ */
+public class MappedCheckpoint implements Closeable {
+    private static final int MAX_REGION = Integer.MAX_VALUE;
+
+    private final Checkpoint         checkpoint;
+    private final File               file;
+    private final AtomicInteger      filled = new AtomicInteger();
+    private final AtomicLongArray    present;
+    private final MappedByteBuffer[] regions;
+    private final int                segmentsPerRegion;
+
+    private MappedCheckpoint(File file, Checkpoint checkpoint, boolean complete) throws IOException {
+        this.file = file;
+        this.checkpoint = checkpoint;
+        var segmentSize = checkpoint.getSegmentSize();
+        var count = checkpoint.getCount();
+        segmentsPerRegion = Math.max(1, MAX_REGION / segmentSize);
+        present = new AtomicLongArray((count + 63) / 64);
+        regions = new MappedByteBuffer[(count + segmentsPerRegion - 1) / segmentsPerRegion];
+        if (!complete) {
+            try (var raf = new RandomAccessFile(file, "rw")) {
+                raf.setLength(checkpoint.getByteSize());
+            }
+        }
+        var options = complete ? new StandardOpenOption[] { StandardOpenOption.READ }
+                               : new StandardOpenOption[] { StandardOpenOption.READ, StandardOpenOption.WRITE };
+        try (var channel = FileChannel.open(file.toPath(), options)) {
+            if (channel.size() != checkpoint.getByteSize()) {
+                throw new IOException(
+                "Checkpoint file: " + file + " size: " + channel.size() + " expected: " + checkpoint.getByteSize());
+            }
+            var mode = complete ? FileChannel.MapMode.READ_ONLY : FileChannel.MapMode.READ_WRITE;
+            for (int r = 0; r < regions.length; r++) {
+                long position = (long) r * segmentsPerRegion * segmentSize;
+                long size = Math.min((long) segmentsPerRegion * segmentSize, checkpoint.getByteSize() - position);
+                regions[r] = channel.map(mode, position, size);
+            }
+        }
+        if (complete) {
+            for (int i = 0; i < count; i++) {
+                mark(i);
+            }
+        }
+    }
+
+    /**
+     * Answer a new, empty mapped checkpoint, pre-sized to the checkpoint's byte size
+     */
+    public static MappedCheckpoint create(File file, Checkpoint checkpoint) throws IOException {
+        return new MappedCheckpoint(file, checkpoint, false);
+    }
+
+    /**
+     * Answer a read only mapping of the existing, complete checkpoint file
+     */
+    public static MappedCheckpoint open(File file, Checkpoint checkpoint) throws IOException {
+        return new MappedCheckpoint(file, checkpoint, true);
+    }
+
+    public InputStream assembled() {
+        if (!isComplete()) {
+            throw new IllegalStateException("Checkpoint is not complete: " + filled.get() + " of: " + size());
+        }
+        return new SequenceInputStream(new Enumeration<>() {
+            int current = 0;
+
+            @Override
+            public boolean hasMoreElements() {
+                return current < size();
+            }
+
+            @Override
+            public InputStream nextElement() {
+                if (current >= size()) {
+                    throw new NoSuchElementException();
+                }
+                return segment(current++).newInput();
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        force();
+    }
+
+    public boolean contains(int index) {
+        return (present.get(index >>> 6) & (1L << (index & 63))) != 0;
+    }
+
+    public int filled() {
+        return filled.get();
+    }
+
+    public void force() {
+        for (var region : regions) {
+            if (!region.isReadOnly()) {
+                region.force();
+            }
+        }
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    public boolean isComplete() {
+        return filled.get() == checkpoint.getCount();
+    }
+
+    /**
+     * Store the segment at its position in the mapped file.
+     *
+     * @return true if the segment was not previously present
+     */
+    public boolean put(int index, ByteString block) {
+        if (index < 0 || index >= checkpoint.getCount()) {
+            throw new IndexOutOfBoundsException("Invalid segment: " + index + " count: " + checkpoint.getCount());
+        }
+        if (contains(index)) {
+            return false;
+        }
+        var target = slice(index);
+        if (block.size() != target.remaining()) {
+            throw new IllegalArgumentException(
+            "Invalid segment: " + index + " size: " + block.size() + " expected: " + target.remaining());
+        }
+        block.copyTo(target);
+        return mark(index);
+    }
+
+    /**
+     * Answer the size of the segment at the index; all segments but the last are of the checkpoint's segment size
+     */
+    public int segmentSize(int index) {
+        var segmentSize = checkpoint.getSegmentSize();
+        return (int) Math.min(segmentSize, checkpoint.getByteSize() - ((long) index * segmentSize));
+    }
+
+    /**
+     * Answer the segment, wrapping the mapped region without copying
+     */
+    public ByteString segment(int index) {
+        if (!contains(index)) {
+            return null;
+        }
+        return UnsafeByteOperations.unsafeWrap(slice(index));
+    }
+
+    public int size() {
+        return checkpoint.getCount();
+    }
+
+    private boolean mark(int index) {
+        int word = index >>> 6;
+        long bit = 1L << (index & 63);
+        while (true) {
+            long current = present.get(word);
+            if ((current & bit) != 0) {
+                return false;
+            }
+            if (present.compareAndSet(word, current, current | bit)) {
+                filled.incrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    private ByteBuffer slice(int index) {
+        var segmentSize = checkpoint.getSegmentSize();
+        var region = regions[index / segmentsPerRegion];
+        int offset = (index % segmentsPerRegion) * segmentSize;
+        return region.slice(offset, segmentSize(index));
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.choam.support;
+
+import com.codahale.metrics.Histogram;
+import com.salesforce.apollo.choam.proto.Transaction;
+import com.salesforce.apollo.protocols.HdrHistogramReservoir;
+import com.salesforce.apollo.utils.Entropy;
+
+import java.lang.invoke.VarHandle;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Sampled tracing of transactions through the stages of CHOAM and Ethereal. A sampled transaction carries a non zero
+ * trace id in its Transaction, and each stage the transaction passes through records the trace id, the stage and a
+ * timestamp into a fixed size, lock free ring buffer. Recording is a handful of plain array writes, guarded by a per
+ * slot sequence in the manner of a seqlock: the writer marks the slot, fenced, before its writes and publishes the
+ * sequence after them; the reader fences its reads before re-checking the sequence. Transactions that are not sampled
+ * carry a zero trace id and are never recorded, so the cost of tracing when disabled, or for an unsampled transaction,
+ * is a single comparison.
+ * <p>
+ * The buffer may be exported as a histogram, per stage, of the latency from the previous stage of each trace. A tracer
+ * records only the stages reached by the members it is configured on; a tracer per node exports only the latencies
+ * between the stages reached on that node, and the latencies of stages reached on different members - submission to
+ * acceptance, or ordering to execution on another member - require a tracer shared by those members. When a stage is
+ * recorded by more than one member sharing the tracer, the earliest is used.
+ *
+ * @author hal.hildebrand
+ */
+public class TransactionTracer {
+    private final AtomicLong      cursor = new AtomicLong();
+    private final int             mask;
+    private final double          rate;
+    private final AtomicLongArray sequences;
+    private final byte[]          stages;
+    private final long[]          timestamps;
+    private final long[]          traces;
+
+    /**
+     * @param rate     - the fraction of transactions sampled, 0.0 to 1.0
+     * @param capacity - the number of events retained, rounded up to a power of 2
+     */
+    public TransactionTracer(double rate, int capacity) {
+        this.rate = rate;
+        var size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        mask = size - 1;
+        sequences = new AtomicLongArray(size);
+        stages = new byte[size];
+        timestamps = new long[size];
+        traces = new long[size];
+    }
+
+    /**
+     * Record the stage reached by the transaction, if traced
+     */
+    public void record(Transaction transaction, Stage stage) {
+        record(transaction.getTrace(), stage);
+    }
+
+    /**
+     * Record the stage reached by the trace, if non zero
+     */
+    public void record(long trace, Stage stage) {
+        if (trace == 0) {
+            return;
+        }
+        var sequence = cursor.getAndIncrement();
+        var index = (int) (sequence & mask);
+        sequences.set(index, -1);
+        VarHandle.storeStoreFence();
+        traces[index] = trace;
+        stages[index] = (byte) stage.ordinal();
+        timestamps[index] = System.nanoTime();
+        sequences.lazySet(index, sequence);
+    }
+
+    /**
+     * Record the stage reached by each traced transaction
+     */
+    public void recordAll(Collection<Transaction> transactions, Stage stage) {
+        for (var transaction : transactions) {
+            record(transaction.getTrace(), stage);
+        }
+    }
+
+    /**
+     * @return a new trace id if the next transaction is sampled, otherwise 0
+     */
+    public long sample() {
+        if (rate <= 0.0 || (rate < 1.0 && Entropy.nextBitsStreamDouble() >= rate)) {
+            return 0;
+        }
+        long trace;
+        do {
+            trace = Entropy.nextBitsStreamLong();
+        } while (trace == 0);
+        return trace;
+    }
+
+    /**
+     * @return the histogram, in nanoseconds, of the latency of each stage from the previous stage recorded for the
+     * retained traces
+     */
+    public Map<Stage, Histogram> stageLatencies() {
+        var traced = new HashMap<Long, long[]>();
+        var end = cursor.get();
+        for (long sequence = Math.max(0, end - mask - 1); sequence < end; sequence++) {
+            var index = (int) (sequence & mask);
+            if (sequences.get(index) != sequence) {
+                continue;
+            }
+            var trace = traces[index];
+            var stage = stages[index];
+            var timestamp = timestamps[index];
+            VarHandle.loadLoadFence();
+            if (trace == 0 || sequences.get(index) != sequence) {
+                continue; // not yet written, or overwritten while read
+            }
+            var times = traced.computeIfAbsent(trace, t -> {
+                var a = new long[Stage.values().length];
+                Arrays.fill(a, Long.MAX_VALUE);
+                return a;
+            });
+            times[stage] = Math.min(times[stage], timestamp);
+        }
+
+        var latencies = new EnumMap<Stage, Histogram>(Stage.class);
+        for (var stage : Stage.values()) {
+            latencies.put(stage, new Histogram(new HdrHistogramReservoir()));
+        }
+        for (var times : traced.values()) {
+            var previous = -1;
+            for (int stage = 0; stage < times.length; stage++) {
+                if (times[stage] == Long.MAX_VALUE) {
+                    continue;
+                }
+                if (previous >= 0) {
+                    latencies.get(Stage.values()[stage]).update(times[stage] - times[previous]);
+                }
+                previous = stage;
+            }
+        }
+        return latencies;
+    }
+
+    /**
+     * The stages of a transaction, in order
+     */
+    public enum Stage {
+        /** Submitted by the client's Session */
+        SUBMITTED,
+        /** Accepted into the transaction buffer of a committee member's Producer */
+        ACCEPTED,
+        /** Taken from the buffer as the data of an Ethereal unit created by the member */
+        UNIT_CREATED,
+        /** Ordered in an Ethereal preblock, after unit gossip, insertion and the timing unit decision */
+        ORDERED,
+        /** Included in a block produced from the preblock */
+        PRODUCED,
+        /** The block including the transaction certified by a majority of the committee */
+        CERTIFIED,
+        /** Executed by the member */
+        EXECUTED
+    }
+}
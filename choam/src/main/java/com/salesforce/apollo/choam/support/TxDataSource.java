@@ -13,11 +13,13 @@ import com.salesforce.apollo.choam.proto.UnitData;
 import com.salesforce.apollo.choam.proto.Validate;
 import com.salesforce.apollo.ethereal.DataSource;
 import com.salesforce.apollo.membership.Member;
+import com.salesforce.apollo.utils.Schedulers;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -42,10 +44,25 @@ public class TxDataSource implements DataSource {
     private final BatchingQueue<Transaction> processing;
     private final BlockingQueue<Assemblies>  assemblies  = new LinkedBlockingQueue<>();
     private final BlockingQueue<Validate>    validations = new LinkedBlockingQueue<>();
+    private final TransactionTracer          tracer;
+    private final Schedulers.Runtime         schedulers;
 
     public TxDataSource(Member member, int maxElements, ChoamMetrics metrics, int maxBatchByteSize,
                         Duration batchInterval, int maxBatchCount) {
+        this(member, maxElements, metrics, maxBatchByteSize, batchInterval, maxBatchCount, null);
+    }
+
+    public TxDataSource(Member member, int maxElements, ChoamMetrics metrics, int maxBatchByteSize,
+                        Duration batchInterval, int maxBatchCount, TransactionTracer tracer) {
+        this(member, maxElements, metrics, maxBatchByteSize, batchInterval, maxBatchCount, tracer, Schedulers.DEFAULT);
+    }
+
+    public TxDataSource(Member member, int maxElements, ChoamMetrics metrics, int maxBatchByteSize,
+                        Duration batchInterval, int maxBatchCount, TransactionTracer tracer,
+                        Schedulers.Runtime schedulers) {
         this.member = member;
+        this.tracer = tracer;
+        this.schedulers = schedulers;
         this.batchInterval = batchInterval;
         processing = new BatchingQueue<Transaction>(maxElements, maxBatchCount, tx -> tx.toByteString().size(),
                                                     maxBatchByteSize);
@@ -74,6 +91,9 @@ public class TxDataSource implements DataSource {
                 var batch = processing.take(batchInterval);
                 if (batch != null) {
                     builder.addAllTransactions(batch);
+                    if (tracer != null) {
+                        tracer.recordAll(batch, TransactionTracer.Stage.UNIT_CREATED);
+                    }
                 }
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
@@ -88,8 +108,8 @@ public class TxDataSource implements DataSource {
         validations.drainTo(v);
         builder.addAllValidations(v);
         if (draining.get() && r.isEmpty() && v.isEmpty()) {
-            var target = System.currentTimeMillis() + batchInterval.toMillis();
-            while (System.currentTimeMillis() < target) {
+            var target = schedulers.clock().millis() + batchInterval.toMillis();
+            while (schedulers.clock().millis() < target) {
                 assemblies.drainTo(r);
                 validations.drainTo(v);
                 builder.addAllAssemblies(r);
@@ -98,7 +118,7 @@ public class TxDataSource implements DataSource {
                     break;
                 }
                 try {
-                    Thread.sleep(1);
+                    schedulers.sleep(Duration.ofMillis(1));
                 } catch (InterruptedException e) {
                     Thread.currentThread().interrupt();
                 }
@@ -116,6 +136,13 @@ public class TxDataSource implements DataSource {
         return bs;
     }
 
+    /**
+     * @return the fill level of the transaction buffer, from 0 to 1
+     */
+    public double fill() {
+        return processing.fill();
+    }
+
     public int getRemainingReassemblies() {
         return assemblies.size();
     }
@@ -141,6 +168,18 @@ public class TxDataSource implements DataSource {
         }
     }
 
+    /**
+     * Offer the transactions atomically; either all the transactions are accepted, or none are
+     */
+    public boolean offer(List<Transaction> txns) {
+        if (!draining.get()) {
+            return processing.offerAll(txns);
+        } else {
+            log.trace("Rejecting: {} txns on: {}", txns.size(), member.getId());
+            return false;
+        }
+    }
+
     public boolean offer(Validate generateValidation) {
         return validations.offer(generateValidation);
     }
@@ -150,4 +189,16 @@ public class TxDataSource implements DataSource {
                   processing.added(), processing.taken(), validations.size(), assemblies.size(), member.getId());
         processing.clear();
     }
+
+    /**
+     * Validations and assemblies drive reconfiguration, and units are never delayed for more transactions when these
+     * are pending, nor while draining
+     */
+    @Override
+    public double unitFill() {
+        if (draining.get() || !validations.isEmpty() || !assemblies.isEmpty()) {
+            return 1.0;
+        }
+        return processing.batchFill();
+    }
 }
@@ -22,6 +22,7 @@ import com.salesforce.apollo.choam.proto.SubmitResult.Result;
 import com.salesforce.apollo.choam.support.HashedCertifiedBlock;
 import com.salesforce.apollo.choam.support.InvalidTransaction;
 import com.salesforce.apollo.choam.support.SubmittedTransaction;
+import com.salesforce.apollo.choam.support.TransactionFailed;
 import com.salesforce.apollo.context.StaticContext;
 import com.salesforce.apollo.cryptography.DigestAlgorithm;
 import com.salesforce.apollo.membership.Member;
@@ -35,13 +36,15 @@ import org.junit.jupiter.api.Test;
 import org.slf4j.LoggerFactory;
 
 import java.security.SecureRandom;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * @author hal.hildebrand
@@ -53,6 +56,82 @@ public class SessionTest {
         });
     }
 
+    @Test
+    public void coalescing() throws Exception {
+        var context = new StaticContext<Member>(DigestAlgorithm.DEFAULT.getOrigin(), 0.1, Collections.emptyList(), 2);
+        var entropy = SecureRandom.getInstance("SHA1PRNG");
+        entropy.setSeed(new byte[] { 6, 6, 6 });
+        var params = Parameters.newBuilder()
+                               .setSubmitLinger(Duration.ofMillis(50))
+                               .build(RuntimeParameters.newBuilder()
+                                                       .setContext(context)
+                                                       .setMember(new ControlledIdentifierMember(
+                                                       new StereotomyImpl(new MemKeyStore(),
+                                                                          new MemKERL(DigestAlgorithm.DEFAULT),
+                                                                          entropy).newIdentifier()))
+                                                       .build());
+        var submissions = new AtomicInteger();
+        java.util.function.Function<SubmittedTransaction, SubmitResult> service = stx -> {
+            submissions.incrementAndGet();
+            return SubmitResult.newBuilder().setResult(Result.PUBLISHED).build();
+        };
+        var batches = new CopyOnWriteArrayList<Integer>();
+        java.util.function.Function<List<SubmittedTransaction>, List<SubmitResult>> batchService = stxs -> {
+            batches.add(stxs.size());
+            return stxs.stream().map(stx -> {
+                String content;
+                try {
+                    content = ByteMessage.parseFrom(stx.transaction().getContent()).getContents().toStringUtf8();
+                } catch (InvalidProtocolBufferException e) {
+                    throw new IllegalStateException(e);
+                }
+                if (content.startsWith("invalid")) {
+                    return SubmitResult.newBuilder().setResult(Result.INVALID_SUBMIT).setErrorMsg(content).build();
+                }
+                stx.onCompletion().complete(content);
+                return SubmitResult.newBuilder().setResult(Result.PUBLISHED).build();
+            }).toList();
+        };
+        Session session = new Session(params, service, batchService,
+                                      Executors.newScheduledThreadPool(1, Thread.ofVirtual().factory()));
+        session.setView(new HashedCertifiedBlock(DigestAlgorithm.DEFAULT, CertifiedBlock.newBuilder()
+                                                                                        .setBlock(Block.newBuilder()
+                                                                                                       .setHeader(
+                                                                                                       Header.newBuilder()
+                                                                                                             .setHeight(
+                                                                                                             100)))
+                                                                                        .build()));
+        var count = 20;
+        var results = new ConcurrentHashMap<Integer, CompletableFuture<Object>>();
+        var submitters = Executors.newVirtualThreadPerTaskExecutor();
+        var submitted = new CountDownLatch(count);
+        IntStream.range(0, count).forEach(i -> submitters.execute(() -> {
+            var content = (i % 5 == 0 ? "invalid-" : "valid-") + i;
+            try {
+                results.put(i, session.submit(ByteMessage.newBuilder()
+                                                         .setContents(ByteString.copyFromUtf8(content))
+                                                         .build(), null));
+            } catch (InvalidTransaction e) {
+                throw new IllegalStateException(e);
+            } finally {
+                submitted.countDown();
+            }
+        }));
+        assertTrue(submitted.await(10, TimeUnit.SECONDS));
+        assertEquals(0, submissions.get());
+        assertEquals(count, batches.stream().mapToInt(Integer::intValue).sum());
+        assertTrue(batches.size() < count, "Transactions not coalesced: " + batches);
+        for (int i = 0; i < count; i++) {
+            var result = results.get(i);
+            if (i % 5 == 0) {
+                var ex = assertThrows(ExecutionException.class, () -> result.get(1, TimeUnit.SECONDS));
+                assertInstanceOf(TransactionFailed.class, ex.getCause());
+            } else {
+                assertEquals("valid-" + i, result.get(1, TimeUnit.SECONDS));
+            }
+        }
+    }
+
     @Test
     public void func() throws Exception {
         var context = new StaticContext<Member>(DigestAlgorithm.DEFAULT.getOrigin(), 0.1, Collections.emptyList(), 2);
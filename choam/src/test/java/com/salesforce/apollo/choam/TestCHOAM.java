@@ -14,6 +14,7 @@ import com.salesforce.apollo.choam.Parameters.ProducerParameters;
 import com.salesforce.apollo.choam.Parameters.RuntimeParameters;
 import com.salesforce.apollo.choam.proto.Transaction;
 import com.salesforce.apollo.choam.support.ChoamMetricsImpl;
+import com.salesforce.apollo.choam.support.TransactionTracer;
 import com.salesforce.apollo.context.StaticContext;
 import com.salesforce.apollo.cryptography.Digest;
 import com.salesforce.apollo.cryptography.DigestAlgorithm;
@@ -69,6 +70,7 @@ public class TestCHOAM {
     private   Map<Digest, Router>        routers;
     private   ScheduledExecutorService   scheduler;
     private   ExecutorService            executor;
+    private   TransactionTracer          tracer;
 
     @AfterEach
     public void after() throws Exception {
@@ -96,6 +98,7 @@ public class TestCHOAM {
         executor = UnsafeExecutors.newVirtualThreadPerTaskExecutor();
         var origin = DigestAlgorithm.DEFAULT.getOrigin();
         registry = new MetricRegistry();
+        tracer = new TransactionTracer(LARGE_TESTS ? 0.1 : 1.0, 1 << 16);
         var metrics = new ChoamMetricsImpl(origin, registry);
         blocks = new ConcurrentHashMap<>();
         var entropy = SecureRandom.getInstance("SHA1PRNG");
@@ -156,6 +159,7 @@ public class TestCHOAM {
             //            params.getMvBuilder().setFileName(fn);
             return new CHOAM(params.build(runtime.setMember(m)
                                                  .setMetrics(metrics)
+                                                 .setTracer(tracer)
                                                  .setCommunications(routers.get(m.getId()))
                                                  .setProcessor(processor)
                                                  .setCheckpointer(wrap(runtime.getCheckpointer()))
@@ -200,7 +204,6 @@ public class TestCHOAM {
             routers.values().forEach(e -> e.close(Duration.ofSeconds(0)));
             choams.values().forEach(CHOAM::stop);
 
-            System.out.println();
             if (Boolean.getBoolean("reportMetrics")) {
                 ConsoleReporter.forRegistry(registry)
                                .convertRatesTo(TimeUnit.SECONDS)
@@ -210,6 +213,14 @@ public class TestCHOAM {
             }
         }
         assertTrue(checkpointOccurred.get(5, TimeUnit.SECONDS));
+
+        // the tracer is shared by all members, so every stage after submission has the latency from its predecessor
+        var latencies = tracer.stageLatencies();
+        for (var stage : TransactionTracer.Stage.values()) {
+            if (stage != TransactionTracer.Stage.SUBMITTED) {
+                assertTrue(latencies.get(stage).getCount() > 0, "No traces reached stage: " + stage);
+            }
+        }
     }
 
     private Function<ULong, File> wrap(Function<ULong, File> checkpointer) {
@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.choam;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Snapshot;
+import com.codahale.metrics.Timer;
+import com.codahale.metrics.UniformReservoir;
+import com.google.protobuf.ByteString;
+import com.salesforce.apollo.archipelago.*;
+import com.salesforce.apollo.choam.CHOAM.TransactionExecutor;
+import com.salesforce.apollo.choam.Parameters.ProducerParameters;
+import com.salesforce.apollo.choam.Parameters.RuntimeParameters;
+import com.salesforce.apollo.choam.proto.Transaction;
+import com.salesforce.apollo.choam.support.ChoamMetricsImpl;
+import com.salesforce.apollo.choam.support.InvalidTransaction;
+import com.salesforce.apollo.context.StaticContext;
+import com.salesforce.apollo.cryptography.Digest;
+import com.salesforce.apollo.cryptography.DigestAlgorithm;
+import com.salesforce.apollo.ethereal.Config;
+import com.salesforce.apollo.membership.SigningMember;
+import com.salesforce.apollo.membership.stereotomy.ControlledIdentifierMember;
+import com.salesforce.apollo.stereotomy.StereotomyImpl;
+import com.salesforce.apollo.stereotomy.mem.MemKERL;
+import com.salesforce.apollo.stereotomy.mem.MemKeyStore;
+import com.salesforce.apollo.test.proto.ByteMessage;
+import com.salesforce.apollo.utils.Utils;
+import org.joou.ULong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Load generation harness for CHOAM. Starts an N node cluster over LocalServer/LocalRouter with in memory stores and
+ * drives transactions of a configured size, at a configured rate per client, through Session.submit for the configured
+ * duration. The resulting Report provides the submit to finalization latency distribution, the blocks and bytes per
+ * second finalized, and the per stage timings recorded in the ChoamMetrics and EtherealMetrics of the cluster.
+ *
+ * @author hal.hildebrand
+ */
+public class ThroughputHarness implements AutoCloseable {
+    private static final String STAGE_JSON = "    {\"name\": \"%s\", \"count\": %s, "
+    + "\"meanMillis\": %.3f, \"p99Millis\": %.3f}";
+    private static final Logger log        = LoggerFactory.getLogger(ThroughputHarness.class);
+
+    private final AtomicLong               blocks         = new AtomicLong();
+    private final Map<Digest, CHOAM>       choams;
+    private final AtomicLong               completed      = new AtomicLong();
+    private final AtomicLong               completedBytes = new AtomicLong();
+    private final ExecutorService          executor;
+    private final AtomicLong               failed         = new AtomicLong();
+    private final AtomicLong               lastCommit     = new AtomicLong();
+    private final Timer                    latency        = new Timer(new UniformReservoir(100_000));
+    private final Load                     load;
+    private final MetricRegistry           registry       = new MetricRegistry();
+    private final Map<Digest, Router>      routers;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicLong               submitted      = new AtomicLong();
+
+    public ThroughputHarness(Load load) throws Exception {
+        this.load = load;
+        scheduler = Executors.newScheduledThreadPool(10, Thread.ofVirtual().factory());
+        executor = UnsafeExecutors.newVirtualThreadPerTaskExecutor();
+        var origin = DigestAlgorithm.DEFAULT.getOrigin();
+        var metrics = new ChoamMetricsImpl(origin, registry);
+        var entropy = SecureRandom.getInstance("SHA1PRNG");
+        entropy.setSeed(new byte[] { 6, 6, 6 });
+
+        var params = Parameters.newBuilder()
+                               .setGenerateGenesis(true)
+                               .setGenesisViewId(origin.prefix(entropy.nextLong()))
+                               .setGossipDuration(Duration.ofMillis(10))
+                               .setProducer(ProducerParameters.newBuilder()
+                                                              .setMaxBatchCount(15_000)
+                                                              .setMaxBatchByteSize(200 * 1024 * 1024)
+                                                              .setGossipDuration(Duration.ofMillis(10))
+                                                              .setBatchInterval(Duration.ofMillis(50))
+                                                              .setEthereal(Config.newBuilder()
+                                                                                 .setNumberOfEpochs(12)
+                                                                                 .setEpochLength(33))
+                                                              .build())
+                               .setCheckpointBlockDelta(1_000);
+
+        var stereotomy = new StereotomyImpl(new MemKeyStore(), new MemKERL(DigestAlgorithm.DEFAULT), entropy);
+        List<SigningMember> members = IntStream.range(0, load.nodes())
+                                               .mapToObj(i -> stereotomy.newIdentifier())
+                                               .map(ControlledIdentifierMember::new)
+                                               .map(e -> (SigningMember) e)
+                                               .toList();
+        var context = new StaticContext<>(origin, 0.2, members, 3);
+        final var prefix = UUID.randomUUID().toString();
+        routers = members.stream()
+                         .collect(Collectors.toMap(m -> m.getId(), m -> new LocalServer(prefix, m).router(
+                         ServerConnectionCache.newBuilder()
+                                              .setMetrics(new ServerConnectionCacheMetricsImpl(registry))
+                                              .setTarget(load.nodes()), executor)));
+        var observer = members.getFirst().getId();
+        choams = members.stream().collect(Collectors.toMap(m -> m.getId(), m -> {
+            final TransactionExecutor processor = new TransactionExecutor() {
+                @Override
+                public void endBlock(ULong height, Digest hash) {
+                    if (m.getId().equals(observer)) {
+                        blocks.incrementAndGet();
+                        committed();
+                    }
+                }
+
+                @SuppressWarnings({ "unchecked", "rawtypes" })
+                @Override
+                public void execute(int index, Digest hash, Transaction t, CompletableFuture f) {
+                    if (f != null) {
+                        f.completeAsync(() -> new Object(), executor);
+                    }
+                }
+            };
+            params.getProducer().ethereal().setSigner(m);
+            var runtime = RuntimeParameters.newBuilder();
+            return new CHOAM(params.build(runtime.setMember(m)
+                                                 .setMetrics(metrics)
+                                                 .setCommunications(routers.get(m.getId()))
+                                                 .setProcessor(processor)
+                                                 .setContext(context)
+                                                 .build()));
+        }));
+    }
+
+    @Override
+    public void close() {
+        routers.values().forEach(e -> e.close(Duration.ofSeconds(0)));
+        choams.values().forEach(CHOAM::stop);
+        scheduler.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    /**
+     * Run the configured load against the cluster, answering the resulting Report
+     */
+    public Report run() throws InterruptedException {
+        routers.values().forEach(Router::start);
+        choams.values().forEach(CHOAM::start);
+
+        if (!Utils.waitForCondition((int) load.activation().toMillis(), 1_000,
+                                    () -> choams.values().stream().allMatch(CHOAM::active))) {
+            throw new IllegalStateException("System did not become active: " + choams.values()
+                                                                                      .stream()
+                                                                                      .filter(c -> !c.active())
+                                                                                      .map(CHOAM::logState)
+                                                                                      .toList());
+        }
+
+        var entropy = new Random(0x666);
+        var contents = new byte[load.transactionSize()];
+        entropy.nextBytes(contents);
+        var tx = ByteMessage.newBuilder().setContents(ByteString.copyFrom(contents)).build();
+        var txSize = tx.getSerializedSize();
+
+        var period = Math.max(1, TimeUnit.SECONDS.toNanos(1) / load.rate());
+        var clients = new ArrayList<ScheduledFuture<?>>();
+        var blocksAtStart = blocks.get();
+        var start = System.nanoTime();
+        choams.values().forEach(c -> {
+            for (int i = 0; i < load.clients(); i++) {
+                clients.add(scheduler.scheduleAtFixedRate(
+                () -> executor.execute(Utils.wrapped(() -> submit(c.getSession(), tx, txSize), log)), period, period,
+                TimeUnit.NANOSECONDS));
+            }
+        });
+
+        Thread.sleep(load.duration().toMillis());
+        clients.forEach(f -> f.cancel(false));
+        Utils.waitForCondition((int) load.timeout().toMillis(), 100,
+                               () -> completed.get() + failed.get() >= submitted.get());
+        // the throughput is measured to the last commit, excluding the remainder of the drain timeout
+        var end = lastCommit.get();
+        var elapsed = (end > start ? end - start : load.duration().toNanos()) / 1_000_000_000.0;
+        var finalized = blocks.get() - blocksAtStart;
+
+        var snapshot = latency.getSnapshot();
+        return new Report(load, submitted.get(), completed.get(), failed.get(), finalized, elapsed,
+                          finalized / elapsed, completedBytes.get() / elapsed, completed.get() / elapsed,
+                          millis(snapshot.getMedian()), millis(snapshot.get95thPercentile()),
+                          millis(snapshot.get99thPercentile()), millis(snapshot.getMax()), stages(registry));
+    }
+
+    private static double millis(double nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static List<Stage> stages(MetricRegistry registry) {
+        var stages = new ArrayList<Stage>();
+        registry.getTimers().forEach((name, timer) -> {
+            if (timer.getCount() > 0) {
+                Snapshot snapshot = timer.getSnapshot();
+                stages.add(new Stage(name, timer.getCount(), millis(snapshot.getMean()),
+                                     millis(snapshot.get99thPercentile())));
+            }
+        });
+        return stages;
+    }
+
+    private void committed() {
+        var now = System.nanoTime();
+        lastCommit.accumulateAndGet(now, Math::max);
+    }
+
+    private void submit(Session session, ByteMessage tx, int txSize) {
+        var begin = System.nanoTime();
+        submitted.incrementAndGet();
+        try {
+            session.submit(tx, load.timeout()).whenComplete((r, t) -> {
+                if (t != null) {
+                    failed.incrementAndGet();
+                    return;
+                }
+                latency.update(System.nanoTime() - begin, TimeUnit.NANOSECONDS);
+                committed();
+                completed.incrementAndGet();
+                completedBytes.addAndGet(txSize);
+            });
+        } catch (InvalidTransaction e) {
+            failed.incrementAndGet();
+        }
+    }
+
+    /**
+     * The load driven through the cluster. The rate is the number of transactions per second submitted by each client,
+     * and each node hosts the configured number of clients.
+     */
+    public record Load(int nodes, int clients, int transactionSize, int rate, Duration duration, Duration timeout,
+                       Duration activation) {
+        public static Load fromProperties() {
+            return new Load(Integer.getInteger("choam.load.nodes", 4), Integer.getInteger("choam.load.clients", 5),
+                            Integer.getInteger("choam.load.transactionSize", 256),
+                            Integer.getInteger("choam.load.rate", 20),
+                            Duration.ofSeconds(Integer.getInteger("choam.load.duration", 30)),
+                            Duration.ofSeconds(Integer.getInteger("choam.load.timeout", 10)),
+                            Duration.ofSeconds(Integer.getInteger("choam.load.activation", 60)));
+        }
+    }
+
+    /**
+     * The timing of a stage, in milliseconds, as recorded by the metrics of the cluster
+     */
+    public record Stage(String name, long count, double meanMillis, double p99Millis) {
+    }
+
+    /**
+     * Regression thresholds for a Report. Non positive thresholds are not checked.
+     */
+    public record Thresholds(double minBlocksPerSecond, double minBytesPerSecond, double maxP99Millis,
+                             double maxFailureRate) {
+        public static Thresholds fromProperties() {
+            return new Thresholds(Double.parseDouble(System.getProperty("choam.threshold.minBlocksPerSecond", "0")),
+                                  Double.parseDouble(System.getProperty("choam.threshold.minBytesPerSecond", "0")),
+                                  Double.parseDouble(System.getProperty("choam.threshold.maxP99Millis", "0")),
+                                  Double.parseDouble(System.getProperty("choam.threshold.maxFailureRate", "0")));
+        }
+    }
+
+    public record Report(Load load, long submitted, long completed, long failed, long blocks, double elapsedSeconds,
+                         double blocksPerSecond, double bytesPerSecond, double transactionsPerSecond,
+                         double p50Millis, double p95Millis, double p99Millis, double maxMillis, List<Stage> stages) {
+
+        public double failureRate() {
+            return submitted == 0 ? 0.0 : (double) failed / (double) submitted;
+        }
+
+        /**
+         * Answer the JSON representation of the receiver
+         */
+        public String toJson() {
+            var stageJson = stages.stream()
+                                  .map(s -> STAGE_JSON.formatted(s.name(), s.count(), s.meanMillis(), s.p99Millis()))
+                                  .collect(Collectors.joining(",\n"));
+            return """
+                   {
+                     "nodes": %s, "clients": %s, "transactionSize": %s, "rate": %s, "durationSeconds": %s,
+                     "submitted": %s, "completed": %s, "failed": %s, "blocks": %s, "elapsedSeconds": %.3f,
+                     "blocksPerSecond": %.3f, "bytesPerSecond": %.3f, "transactionsPerSecond": %.3f,
+                     "latency": {"p50Millis": %.3f, "p95Millis": %.3f, "p99Millis": %.3f, "maxMillis": %.3f},
+                     "stages": [
+                   %s
+                     ]
+                   }
+                   """.formatted(load.nodes(), load.clients(), load.transactionSize(), load.rate(),
+                                 load.duration().toSeconds(), submitted, completed, failed, blocks, elapsedSeconds,
+                                 blocksPerSecond, bytesPerSecond, transactionsPerSecond, p50Millis, p95Millis,
+                                 p99Millis, maxMillis, stageJson);
+        }
+
+        /**
+         * Answer the violations of the supplied thresholds, if any
+         */
+        public List<String> violations(Thresholds thresholds) {
+            var violations = new ArrayList<String>();
+            if (thresholds.minBlocksPerSecond() > 0 && blocksPerSecond < thresholds.minBlocksPerSecond()) {
+                violations.add("blocks/s: %.3f < %.3f".formatted(blocksPerSecond, thresholds.minBlocksPerSecond()));
+            }
+            if (thresholds.minBytesPerSecond() > 0 && bytesPerSecond < thresholds.minBytesPerSecond()) {
+                violations.add("bytes/s: %.3f < %.3f".formatted(bytesPerSecond, thresholds.minBytesPerSecond()));
+            }
+            if (thresholds.maxP99Millis() > 0 && p99Millis > thresholds.maxP99Millis()) {
+                violations.add("p99 latency ms: %.3f > %.3f".formatted(p99Millis, thresholds.maxP99Millis()));
+            }
+            if (thresholds.maxFailureRate() > 0 && failureRate() > thresholds.maxFailureRate()) {
+                violations.add("failure rate: %.4f > %.4f".formatted(failureRate(), thresholds.maxFailureRate()));
+            }
+            return violations;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.choam;
+
+import com.salesforce.apollo.choam.ThroughputHarness.Load;
+import com.salesforce.apollo.choam.ThroughputHarness.Thresholds;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Throughput regression check, run by the failsafe plugin in the <code>throughput</code> profile. The load and the
+ * thresholds are configured through system properties, and the report is written as JSON to
+ * <code>choam.throughput.report</code>.
+ *
+ * @author hal.hildebrand
+ */
+public class ThroughputIT {
+    private static final Logger log = LoggerFactory.getLogger(ThroughputIT.class);
+
+    @Test
+    public void throughput() throws Exception {
+        var load = Load.fromProperties();
+        ThroughputHarness.Report report;
+        try (var harness = new ThroughputHarness(load)) {
+            report = harness.run();
+        }
+        var json = report.toJson();
+        log.info("Throughput report: {}", json);
+        var output = Path.of(System.getProperty("choam.throughput.report", "target/choam-throughput.json"));
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        Files.writeString(output, json);
+
+        assertTrue(report.completed() > 0, "No transactions completed");
+        var violations = report.violations(Thresholds.fromProperties());
+        assertTrue(violations.isEmpty(), "Throughput regression: " + violations);
+    }
+}
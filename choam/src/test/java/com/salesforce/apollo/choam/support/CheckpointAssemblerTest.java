@@ -18,6 +18,7 @@ import com.salesforce.apollo.choam.proto.Slice;
 import com.salesforce.apollo.context.StaticContext;
 import com.salesforce.apollo.cryptography.Digest;
 import com.salesforce.apollo.cryptography.DigestAlgorithm;
+import com.salesforce.apollo.cryptography.HexBloom;
 import com.salesforce.apollo.membership.Member;
 import com.salesforce.apollo.membership.SigningMember;
 import com.salesforce.apollo.membership.stereotomy.ControlledIdentifierMember;
@@ -37,6 +38,7 @@ import java.security.SecureRandom;
 import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.IntStream;
 import java.util.zip.GZIPOutputStream;
 
@@ -157,4 +159,120 @@ public class CheckpointAssemblerTest {
         File assembledFile = File.createTempFile("assembled-", "chkpt", checkpointDir);
         assembledCs.assemble(assembledFile);
     }
+
+    @Test
+    public void mislabeledMapped() throws Exception {
+        assembleMapped(true);
+    }
+
+    @Test
+    public void parallelMapped() throws Exception {
+        assembleMapped(false);
+    }
+
+    /**
+     * @param mislabel - if true, the first response labels the final, short segment as the first segment
+     */
+    private void assembleMapped(boolean mislabel) throws Exception {
+        File checkpointDir = new File("target/checkpoint-mapped");
+        Utils.clean(checkpointDir);
+        checkpointDir.mkdirs();
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        File chkptFile = new File(checkpointDir, "chkpt.chk");
+        chkptFile.deleteOnExit();
+        byte[] line = "aaaabbbdddasff;lkasdfa;sdlfkjasdf;lasdjfalsdfjas;dfkasdflasdkjfasd;kfasdlfjasdl;fkja;sdflasdkjfasdklf;asjfa;sfasdf;lkasjdfsa;flasj\n".getBytes();
+        try (FileOutputStream os = new FileOutputStream(chkptFile); GZIPOutputStream gos = new GZIPOutputStream(os)) {
+            for (int i = 0; i < 4096; i++) {
+                gos.write(line);
+                baos.write(line);
+            }
+            gos.close();
+        }
+
+        var entropy = SecureRandom.getInstance("SHA1PRNG");
+        entropy.setSeed(new byte[] { 6, 6, 6 });
+        var stereotomy = new StereotomyImpl(new MemKeyStore(), new MemKERL(DigestAlgorithm.DEFAULT), entropy);
+
+        List<Member> members = IntStream.range(0, CARDINALITY)
+                                        .mapToObj(i -> stereotomy.newIdentifier())
+                                        .map(cpk -> new ControlledIdentifierMember(cpk))
+                                        .map(e -> (Member) e)
+                                        .toList();
+        var context = new StaticContext<>(DigestAlgorithm.DEFAULT.getOrigin(), 0.2, members, 3);
+
+        Checkpoint checkpoint = CHOAM.checkpoint(DigestAlgorithm.DEFAULT, chkptFile, SEGMENT_SIZE,
+                                                 DigestAlgorithm.DEFAULT.getOrigin(), 2,
+                                                 DigestAlgorithm.DEFAULT.getOrigin());
+
+        SigningMember bootstrapping = (SigningMember) members.get(0);
+
+        CheckpointState state = new CheckpointState(checkpoint, MappedCheckpoint.open(chkptFile, checkpoint));
+        assertTrue(state.isMapped());
+
+        var requested = new ConcurrentSkipListSet<Integer>();
+        var mislabeled = new AtomicBoolean(!mislabel);
+        Terminal client = mock(Terminal.class);
+        when(client.fetch(any())).then(new Answer<>() {
+            @Override
+            public CheckpointSegments answer(InvocationOnMock invocation) throws Throwable {
+                CheckpointReplication rep = invocation.getArgument(0, CheckpointReplication.class);
+                assertNotEquals(0, rep.getTo());
+                List<Slice> fetched = state.fetchSegments(BloomFilter.from(rep.getCheckpointSegments()), 2,
+                                                          rep.getFrom(), rep.getTo());
+                fetched.forEach(s -> requested.add(s.getIndex()));
+                var last = checkpoint.getCount() - 1;
+                if (fetched.stream().anyMatch(s -> s.getIndex() == last) && mislabeled.compareAndSet(false, true)) {
+                    fetched = fetched.stream()
+                                     .map(s -> s.getIndex() == last ? Slice.newBuilder(s).setIndex(0).build() : s)
+                                     .filter(s -> s.getIndex() != 0 || s.getBlock().size() != SEGMENT_SIZE)
+                                     .toList();
+                }
+                return CheckpointSegments.newBuilder().addAllSegments(fetched).build();
+            }
+        });
+        when(client.getMember()).then(new Answer<>() {
+            @Override
+            public Member answer(InvocationOnMock invocation) {
+                return members.get(1);
+            }
+        });
+        @SuppressWarnings("unchecked")
+        CommonCommunications<Terminal, Concierge> comm = mock(CommonCommunications.class);
+        when(comm.connect(any())).thenReturn(client);
+
+        Store store2 = new Store(DigestAlgorithm.DEFAULT, new MVStore.Builder().open());
+        File mappedFile = new File(checkpointDir, "assembling.chk");
+        CheckpointAssembler boot = new CheckpointAssembler(members, Duration.ofMillis(10), ULong.valueOf(0), checkpoint,
+                                                           bootstrapping, store2, comm, context, 0.00125,
+                                                           DigestAlgorithm.DEFAULT, 4, mappedFile);
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1, Thread.ofVirtual().factory());
+
+        assembled = boot.assemble(scheduler, Duration.ofMillis(10));
+        CheckpointState assembledCs;
+        try {
+            assembledCs = assembled.get(300, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            assembled.completeExceptionally(e);
+            fail("Timeout waiting for assembly");
+            return;
+        }
+
+        assertNotNull(assembledCs);
+        assertTrue(assembledCs.isMapped());
+        assertTrue(mislabeled.get());
+        assertEquals(checkpoint.getCount(), requested.size());
+        assertTrue(assembledCs.validate(HexBloom.from(checkpoint.getCrown()), DigestAlgorithm.DEFAULT.getOrigin()));
+
+        File assembledFile = File.createTempFile("assembled-", "chkpt", checkpointDir);
+        assembledCs.assemble(assembledFile);
+
+        ByteArrayInputStream bais = new ByteArrayInputStream(baos.toByteArray());
+        Digest originalHash = DigestAlgorithm.DEFAULT.digest(bais);
+        Digest assembledHash;
+        try (FileInputStream fis = new FileInputStream(assembledFile)) {
+            assembledHash = DigestAlgorithm.DEFAULT.digest(fis);
+        }
+        assertEquals(originalHash, assembledHash);
+    }
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.choam.support;
+
+import com.salesforce.apollo.choam.proto.SubmitResult;
+import com.salesforce.apollo.cryptography.DigestAlgorithm;
+import com.salesforce.apollo.membership.GroupIterator;
+import com.salesforce.apollo.membership.Member;
+import com.salesforce.apollo.membership.stereotomy.ControlledIdentifierMember;
+import com.salesforce.apollo.stereotomy.StereotomyImpl;
+import com.salesforce.apollo.stereotomy.mem.MemKERL;
+import com.salesforce.apollo.stereotomy.mem.MemKeyStore;
+import org.junit.jupiter.api.Test;
+
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Selection of the committee member receiving submissions, with one slow member: round robin selection versus the
+ * latency aware CommitteeSelector
+ *
+ * @author hal.hildebrand
+ */
+public class CommitteeSelectorTest {
+    private static final int      COMMITTEE   = 5;
+    private static final Duration FAST        = Duration.ofMillis(1);
+    private static final Duration SLOW        = Duration.ofMillis(20);
+    private static final int      SUBMISSIONS = 500;
+
+    @Test
+    public void ejection() {
+        var members = members(4);
+        var selector = new CommitteeSelector(members, 3.0, 3, Duration.ofMinutes(1));
+        var failing = members.getFirst();
+        IntStream.range(0, 3).forEach(i -> selector.failed(failing));
+        assertTrue(selector.isEjected(failing));
+        IntStream.range(0, 100).forEach(i -> assertNotEquals(failing, selector.next()));
+
+        // No more than a third of the committee is ejected
+        var second = members.get(1);
+        IntStream.range(0, 3).forEach(i -> selector.failed(second));
+        assertFalse(selector.isEjected(second));
+    }
+
+    @Test
+    public void staleMemberIsProbed() {
+        var members = members(4);
+        var clock = new ManualClock();
+        var stale = Duration.ofMinutes(1);
+        var selector = new CommitteeSelector(members, 3.0, 5, Duration.ofSeconds(5), stale, clock);
+        var starved = members.getFirst();
+        var published = SubmitResult.newBuilder().setResult(SubmitResult.Result.PUBLISHED).build();
+        selector.record(starved, Duration.ofMillis(100), published);
+        selector.record(starved, Duration.ofMillis(100), published);
+        var others = members.subList(1, members.size());
+        others.forEach(m -> IntStream.range(0, 5).forEach(i -> selector.record(m, Duration.ofMillis(1), published)));
+        IntStream.range(0, 100).forEach(i -> assertNotEquals(starved, selector.next()));
+
+        clock.advance(stale.minusSeconds(1));
+        others.forEach(m -> selector.record(m, Duration.ofMillis(1), published));
+        clock.advance(Duration.ofSeconds(1));
+        assertTrue(IntStream.range(0, 100).anyMatch(i -> starved.equals(selector.next())),
+                   "Stale member not probed");
+    }
+
+    @Test
+    public void slowMember() {
+        var committee = members(COMMITTEE);
+        var slow = committee.getLast();
+
+        var iterator = new GroupIterator(committee);
+        var roundRobin = submit(slow, new ManualClock(), iterator::next, (m, rtt) -> {
+        });
+        var clock = new ManualClock();
+        var selector = new CommitteeSelector(committee, clock);
+        var published = SubmitResult.newBuilder().setResult(SubmitResult.Result.PUBLISHED).build();
+        var latencyAware = submit(slow, clock, selector::next, (m, rtt) -> selector.record(m, rtt, published));
+
+        assertEquals(SUBMISSIONS / COMMITTEE, roundRobin);
+        assertTrue(latencyAware < roundRobin / 2,
+                   "Slow member chosen: %s times, round robin: %s".formatted(latencyAware, roundRobin));
+    }
+
+    private List<Member> members(int count) {
+        var entropy = new SecureRandom(new byte[] { 6, 6, 6 });
+        var stereotomy = new StereotomyImpl(new MemKeyStore(), new MemKERL(DigestAlgorithm.DEFAULT), entropy);
+        return IntStream.range(0, count)
+                        .mapToObj(i -> (Member) new ControlledIdentifierMember(stereotomy.newIdentifier()))
+                        .toList();
+    }
+
+    /**
+     * Submit to the targets, advancing the clock by the round trip time of each submission
+     *
+     * @return the number of submissions to the slow member
+     */
+    private int submit(Member slow, ManualClock clock, Supplier<Member> targets, Recorder recorder) {
+        var chosen = 0;
+        for (int i = 0; i < SUBMISSIONS; i++) {
+            var target = targets.get();
+            var rtt = FAST;
+            if (target.equals(slow)) {
+                rtt = SLOW;
+                chosen++;
+            }
+            clock.advance(rtt);
+            recorder.record(target, rtt);
+        }
+        return chosen;
+    }
+
+    private static class ManualClock extends Clock {
+        private Instant now = Instant.EPOCH;
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Recorder {
+        void record(Member member, Duration rtt);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.choam.support;
+
+import com.salesforce.apollo.choam.proto.Transaction;
+import com.salesforce.apollo.choam.support.TransactionTracer.Stage;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author hal.hildebrand
+ */
+public class TransactionTracerTest {
+
+    @Test
+    public void sampling() {
+        assertEquals(0, new TransactionTracer(0.0, 16).sample());
+        var all = new TransactionTracer(1.0, 16);
+        IntStream.range(0, 100).forEach(i -> assertNotEquals(0, all.sample()));
+    }
+
+    @Test
+    public void stageLatencies() {
+        var tracer = new TransactionTracer(1.0, 1024);
+        var traces = 10;
+        for (int i = 0; i < traces; i++) {
+            var txn = Transaction.newBuilder().setTrace(tracer.sample()).build();
+            tracer.record(txn, Stage.SUBMITTED);
+            tracer.record(txn, Stage.ACCEPTED);
+            tracer.record(txn, Stage.ACCEPTED);
+            tracer.record(txn, Stage.ORDERED);
+            tracer.record(txn, Stage.EXECUTED);
+        }
+        // Untraced transactions are not recorded
+        tracer.record(Transaction.getDefaultInstance(), Stage.SUBMITTED);
+
+        var latencies = tracer.stageLatencies();
+        assertEquals(0, latencies.get(Stage.SUBMITTED).getCount());
+        assertEquals(traces, latencies.get(Stage.ACCEPTED).getCount());
+        assertEquals(0, latencies.get(Stage.UNIT_CREATED).getCount());
+        assertEquals(traces, latencies.get(Stage.ORDERED).getCount());
+        assertEquals(traces, latencies.get(Stage.EXECUTED).getCount());
+    }
+
+    @Test
+    public void wrapping() {
+        var tracer = new TransactionTracer(1.0, 16);
+        for (int i = 0; i < 100; i++) {
+            var trace = tracer.sample();
+            tracer.record(trace, Stage.SUBMITTED);
+            tracer.record(trace, Stage.EXECUTED);
+        }
+        // Only the last 8 traces are retained
+        assertEquals(8, tracer.stageLatencies().get(Stage.EXECUTED).getCount());
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.kairos;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static com.salesforce.apollo.kairos.KairosScheduler.duration;
+
+/**
+ * A ScheduledExecutorService for a single component, evaluating its actions in Kairos time. Unlike the KairosScheduler,
+ * periodic actions are rescheduled and the scheduler may be shut down, cancelling its pending actions, as the
+ * components expect of their schedulers.
+ *
+ * @author hal.hildebrand
+ */
+public class SimulatedScheduler extends AbstractExecutorService implements ScheduledExecutorService {
+    private static final Logger log = LoggerFactory.getLogger(SimulatedScheduler.class);
+
+    private final String       label;
+    private final Set<Task<?>> pending = ConcurrentHashMap.newKeySet();
+    private final Simulation   simulation;
+    private volatile boolean   shutdown;
+
+    public SimulatedScheduler(String label, Simulation simulation) {
+        this.label = label;
+        this.simulation = simulation;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) {
+        return shutdown;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        schedule(command, 0, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return shutdown && pending.isEmpty();
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        return schedule(Executors.callable(command), delay, unit);
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        return start(new Task<>(callable, null), duration(delay, unit));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        return start(new Task<>(Executors.callable(command), duration(period, unit)), duration(initialDelay, unit));
+    }
+
+    /**
+     * Actions take no simulated time, so a fixed delay is equivalent to a fixed rate
+     */
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        return scheduleAtFixedRate(command, initialDelay, delay, unit);
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        pending.forEach(task -> task.cancel(false));
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown();
+        return List.of();
+    }
+
+    @Override
+    public String toString() {
+        return "SimulatedScheduler[" + label + "]";
+    }
+
+    private <V> Task<V> start(Task<V> task, Duration delay) {
+        if (shutdown) {
+            throw new RejectedExecutionException("Scheduler: " + label + " is shutdown");
+        }
+        pending.add(task);
+        task.event = simulation.schedule(delay, task, label);
+        return task;
+    }
+
+    private class Task<V> implements ScheduledFuture<V>, Runnable {
+        private final Callable<V>          callable;
+        private final Duration             period;
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+        private volatile Simulation.Event  event;
+
+        private Task(Callable<V> callable, Duration period) {
+            this.callable = callable;
+            this.period = period;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            pending.remove(this);
+            var current = event;
+            if (current != null) {
+                simulation.cancel(current);
+            }
+            return result.cancel(mayInterruptIfRunning);
+        }
+
+        @Override
+        public int compareTo(Delayed o) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), o.getDelay(TimeUnit.NANOSECONDS));
+        }
+
+        @Override
+        public V get() throws InterruptedException, ExecutionException {
+            return result.get();
+        }
+
+        @Override
+        public V get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            return result.get(timeout, unit);
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Duration.between(simulation.clock().instant(), event.scheduled()));
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return result.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return result.isDone();
+        }
+
+        @Override
+        public void run() {
+            if (result.isDone()) {
+                return;
+            }
+            try {
+                var value = callable.call();
+                if (period == null) {
+                    pending.remove(this);
+                    result.complete(value);
+                } else if (!shutdown) {
+                    event = simulation.schedule(period, this, label);
+                }
+            } catch (Throwable t) {
+                log.warn("Error in scheduled action on: {}", label, t);
+                pending.remove(this);
+                result.completeExceptionally(t);
+            }
+        }
+    }
+}
@@ -143,7 +143,7 @@ public class Simulation {
      * @param limit - if not null, the limit for advancing the clock
      * @return true if the clock was advanced, false if the limit has been reached
      */
-    private boolean advance(Instant limit) {
+    public boolean advance(Instant limit) {
         Event next;
         try {
             next = schedule.remove();
@@ -157,6 +157,7 @@ public class Simulation {
         }
 
         if (limit != null && next.scheduled.isAfter(limit)) {
+            schedule.add(next);
             return false;
         }
 
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.kairos;
+
+import com.salesforce.apollo.archipelago.LocalServer;
+import com.salesforce.apollo.kairos.network.Link;
+import com.salesforce.apollo.kairos.network.Network;
+import com.salesforce.apollo.membership.Member;
+import com.salesforce.apollo.utils.Schedulers;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.LockSupport;
+import java.util.random.RandomGenerator;
+
+/**
+ * A Schedulers.Runtime that runs the protocols - View, ReliableBroadcaster, Ethereal, CHOAM, KerlDHT - in the
+ * simulation's Kairos time, communicating over the simulated Network.
+ * <p>
+ * Supply the runtime to the parameters of the protocol components; each simulation has its own runtime, so that
+ * simulations and tests may run concurrently. The components' scheduled actions are evaluated by the thread driving the
+ * simulation via run(Duration). The components' threads, and the executors of the RPCs of the runtime's LocalServers,
+ * are created by the runtime, which tracks them. The simulation only advances to its next event when these threads are
+ * quiescent - none are new or runnable - so that the work initiated by an event has scheduled its subsequent events
+ * before time advances, regardless of the speed of the host. Threads blocked in sleep(Duration) wait on the simulation,
+ * and are quiescent. The random choices of the components are drawn from the runtime's seed.
+ *
+ * @author hal.hildebrand
+ */
+public class SimulationRuntime implements Schedulers.Runtime {
+    private static final int  SPINS = 100;
+    private static final long PARK  = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final    ThreadFactory factory = Thread.ofVirtual().name("Kairos-", 0).factory();
+    private final    Network       network;
+    private final    Random        random;
+    private final    Simulation    simulation;
+    private final    Set<Thread>   threads = ConcurrentHashMap.newKeySet();
+    private final    ThreadFactory tracked = this::track;
+    private volatile Thread        driver;
+
+    public SimulationRuntime(long seed, Link defaultLink) {
+        this(new Simulation(), seed, defaultLink);
+    }
+
+    public SimulationRuntime(Simulation simulation, long seed, Link defaultLink) {
+        this.simulation = simulation;
+        this.network = new Network(simulation, seed, defaultLink);
+        this.random = new Random(seed);
+    }
+
+    @Override
+    public Clock clock() {
+        return simulation.clock();
+    }
+
+    public Network getNetwork() {
+        return network;
+    }
+
+    public Simulation getSimulation() {
+        return simulation;
+    }
+
+    /**
+     * @return true if none of the runtime's threads are new or runnable
+     */
+    public boolean isQuiescent() {
+        for (var thread : threads) {
+            switch (thread.getState()) {
+            case NEW, RUNNABLE:
+                return false;
+            case TERMINATED:
+                threads.remove(thread);
+                break;
+            default:
+                break;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Answer the LocalServer for the member whose outbound calls traverse the simulated network, and whose RPCs are
+     * executed on the runtime's threads
+     */
+    public LocalServer localServer(String prefix, Member member) {
+        return new LocalServer(prefix, member, to -> network.interceptor(member.getId(), to.getId()), newExecutor());
+    }
+
+    @Override
+    public ScheduledExecutorService newScheduler(String label) {
+        return new SimulatedScheduler(label, simulation);
+    }
+
+    @Override
+    public RandomGenerator random() {
+        return random;
+    }
+
+    /**
+     * Drive the simulation for the duration of simulated time, evaluating the scheduled events in order. Before each
+     * event, wait until the runtime's threads are quiescent
+     */
+    public void run(Duration duration) throws InterruptedException {
+        var limit = simulation.clock().instant().plus(duration);
+        simulation.scheduleAt(limit, () -> {
+        }, "Run limit");
+        driver = Thread.currentThread();
+        try {
+            do {
+                awaitQuiescence();
+            } while (simulation.advance(limit));
+        } finally {
+            driver = null;
+        }
+    }
+
+    /**
+     * Suspend the calling thread until the simulation has advanced by the duration. Actions evaluated by the
+     * simulation's driver cannot sleep, as the driver would then never advance the simulation
+     */
+    @Override
+    public void sleep(Duration duration) throws InterruptedException {
+        if (Thread.currentThread() == driver) {
+            throw new IllegalStateException("Cannot sleep in an action evaluated by the simulation");
+        }
+        var wakeup = new CompletableFuture<Void>();
+        var event = simulation.schedule(duration, () -> wakeup.complete(null), "Sleep");
+        try {
+            wakeup.get();
+        } catch (InterruptedException e) {
+            simulation.cancel(event);
+            throw e;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public ThreadFactory threadFactory() {
+        return tracked;
+    }
+
+    private void awaitQuiescence() throws InterruptedException {
+        int spins = 0;
+        while (!isQuiescent()) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            if (spins++ < SPINS) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(PARK);
+            }
+        }
+    }
+
+    private Thread track(Runnable task) {
+        var thread = factory.newThread(() -> {
+            try {
+                task.run();
+            } finally {
+                threads.remove(Thread.currentThread());
+            }
+        });
+        threads.add(thread);
+        return thread;
+    }
+}
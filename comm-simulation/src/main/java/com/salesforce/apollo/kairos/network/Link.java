@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.kairos.network;
+
+import java.time.Duration;
+
+/**
+ * The simulated characteristics of a directed link between two members
+ *
+ * @param latency        - the one way propagation delay of the link
+ * @param bytesPerSecond - the bandwidth of the link, or <= 0 for unlimited bandwidth
+ * @param loss           - the probability [0, 1] that any given message on the link is lost
+ * @author hal.hildebrand
+ */
+public record Link(Duration latency, long bytesPerSecond, double loss) {
+    public static final Link PERFECT = new Link(Duration.ZERO, 0, 0.0);
+
+    public Link {
+        if (latency.isNegative()) {
+            throw new IllegalArgumentException("Latency must be >= 0: " + latency);
+        }
+        if (loss < 0.0 || loss > 1.0) {
+            throw new IllegalArgumentException("Loss must be in [0, 1]: " + loss);
+        }
+    }
+
+    /**
+     * Answer the time required to serialize the number of bytes onto the link
+     */
+    public Duration transmission(long bytes) {
+        if (bytesPerSecond <= 0 || bytes <= 0) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos(Math.ceilDiv(Math.multiplyExact(bytes, 1_000_000_000L), bytesPerSecond));
+    }
+}
@@ -0,0 +1,338 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.kairos.network;
+
+import com.salesforce.apollo.cryptography.Digest;
+import com.salesforce.apollo.kairos.Simulation;
+import com.salesforce.apollo.kairos.grpc.SimulatedClientCall;
+import io.grpc.*;
+import io.grpc.ForwardingClientCallListener.SimpleForwardingClientCallListener;
+import io.grpc.internal.SerializingExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A simulated network of directed links between members. Each message sent over a link is delayed by the queueing
+ * behind the link's previous messages, the transmission time of the message at the link's bandwidth and the link's
+ * latency, all in the simulation's time. Messages may be lost according to the link's loss probability, drawn from the
+ * link's own stream of entropy seeded from the network's seed and the link's route, or by partitioning the network. A
+ * lost message fails the call as UNAVAILABLE, as a real network failure would.
+ * <p>
+ * The calls on the links are made from threads other than the simulation's. So that the same seed produces the same
+ * run, the sends are not transmitted by the calling threads; they are queued and drained by the simulation, in the order
+ * of the simulation time at which they were sent, the sending member and the member's sequence of sends. The loss
+ * draws, the bandwidth slots and the delivery of the messages thus follow the simulation's order rather than the
+ * scheduling of the calling threads, and every delivery is scheduled at its arrival in the simulation's time.
+ *
+ * @author hal.hildebrand
+ */
+public class Network {
+    private static final Logger log = LoggerFactory.getLogger(Network.class);
+
+    private final Map<Route, Instant>     busyUntil   = new ConcurrentHashMap<>();
+    private final AtomicLong              delivered   = new AtomicLong();
+    private final AtomicLong              dropped     = new AtomicLong();
+    private final Map<Route, Random>      entropy     = new ConcurrentHashMap<>();
+    private final Map<Route, Link>        links       = new ConcurrentHashMap<>();
+    private final Set<Route>              partitioned = ConcurrentHashMap.newKeySet();
+    private final long                    seed;
+    private final PriorityQueue<Send>     sends       = new PriorityQueue<>();
+    private final Map<Digest, AtomicLong> sequences   = new ConcurrentHashMap<>();
+    private final Simulation              simulation;
+    private volatile Link                 defaultLink;
+    private boolean                       draining;
+
+    public Network(Simulation simulation, long seed, Link defaultLink) {
+        this.simulation = simulation;
+        this.seed = seed;
+        this.defaultLink = defaultLink;
+    }
+
+    /**
+     * Set the characteristics of the link from -> to
+     */
+    public void connect(Digest from, Digest to, Link link) {
+        links.put(new Route(from, to), link);
+    }
+
+    /**
+     * Set the characteristics of the links in both directions between a and b
+     */
+    public void connectBoth(Digest a, Digest b, Link link) {
+        connect(a, b, link);
+        connect(b, a, link);
+    }
+
+    public long delivered() {
+        return delivered.get();
+    }
+
+    public long dropped() {
+        return dropped.get();
+    }
+
+    /**
+     * Heal all partitions
+     */
+    public void heal() {
+        partitioned.clear();
+    }
+
+    /**
+     * Answer the client interceptor modeling the link between the from and to members
+     */
+    public ClientInterceptor interceptor(Digest from, Digest to) {
+        return new ClientInterceptor() {
+            @Override
+            public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+                                                                       CallOptions callOptions, Channel next) {
+                return new LinkCall<>(next.newCall(method, callOptions), method, callOptions.getExecutor(), from,
+                                      to);
+            }
+        };
+    }
+
+    public Link link(Digest from, Digest to) {
+        return links.getOrDefault(new Route(from, to), defaultLink);
+    }
+
+    /**
+     * Partition the network such that no messages flow between the two sides
+     */
+    public void partition(Collection<Digest> a, Collection<Digest> b) {
+        for (var x : a) {
+            for (var y : b) {
+                partitioned.add(new Route(x, y));
+                partitioned.add(new Route(y, x));
+            }
+        }
+    }
+
+    public void setDefaultLink(Link defaultLink) {
+        this.defaultLink = defaultLink;
+    }
+
+    /**
+     * Transmit the number of bytes from -> to, answering the instant the bytes arrive at the destination, or null if
+     * the transmission was lost
+     */
+    Instant transmit(Digest from, Digest to, long bytes) {
+        var route = new Route(from, to);
+        var link = link(from, to);
+        if (partitioned.contains(route) || lost(route, link)) {
+            dropped.incrementAndGet();
+            return null;
+        }
+        var now = simulation.clock().instant();
+        var transmitted = busyUntil.compute(route, (r, busy) -> (busy == null || busy.isBefore(now) ? now : busy).plus(
+        link.transmission(bytes)));
+        delivered.incrementAndGet();
+        return transmitted.plus(link.latency());
+    }
+
+    /**
+     * Schedule the action at the instant. Deliveries are scheduled by the transmission of the sends as the simulation
+     * drains them, so the instant is never before the simulation's current instant
+     */
+    private void deliver(Instant at, Runnable action, String description) {
+        simulation.scheduleAt(at, action, description);
+    }
+
+    /**
+     * Transmit the queued sends, in order
+     */
+    private void drain() {
+        var batch = new ArrayList<Send>();
+        synchronized (sends) {
+            draining = false;
+            Send send;
+            while ((send = sends.poll()) != null) {
+                batch.add(send);
+            }
+        }
+        for (var send : batch) {
+            send.transmission.run();
+        }
+    }
+
+    private boolean lost(Route route, Link link) {
+        if (link.loss() <= 0.0) {
+            return false;
+        }
+        var stream = entropy.computeIfAbsent(route, r -> new Random(seed ^ (31 * r.from.fold() + r.to.fold())));
+        return stream.nextDouble() < link.loss();
+    }
+
+    /**
+     * Queue the transmission of the sender, to be drained by the simulation in order
+     */
+    private void send(Digest sender, Runnable transmission) {
+        synchronized (sends) {
+            var sequence = sequences.computeIfAbsent(sender, s -> new AtomicLong()).getAndIncrement();
+            sends.add(new Send(simulation.clock().instant(), sender, sequence, transmission));
+            if (draining) {
+                return;
+            }
+            draining = true;
+        }
+        while (true) {
+            try {
+                simulation.scheduleNow(this::drain, "Network drain");
+                return;
+            } catch (IllegalArgumentException e) {
+                // clock advanced, retry
+            }
+        }
+    }
+
+    private long size(InputStream stream) {
+        try (var is = stream) {
+            return is.available();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private record Route(Digest from, Digest to) {
+    }
+
+    private record Send(Instant at, Digest from, long sequence, Runnable transmission) implements Comparable<Send> {
+        @Override
+        public int compareTo(Send o) {
+            var compare = at.compareTo(o.at);
+            if (compare == 0) {
+                compare = from.compareTo(o.from);
+            }
+            return compare == 0 ? Long.compare(sequence, o.sequence) : compare;
+        }
+    }
+
+    /**
+     * A client call whose operations are delivered, in order, across the simulated link
+     */
+    private class LinkCall<ReqT, RespT> extends SimulatedClientCall<ReqT, RespT> {
+        private final Executor                      executor;
+        private final Digest                        from;
+        private final MethodDescriptor<ReqT, RespT> method;
+        private final Digest                        to;
+        private Instant                             requests  = Instant.MIN;
+        private Instant                             responses = Instant.MIN;
+
+        private LinkCall(ClientCall<ReqT, RespT> delegate, MethodDescriptor<ReqT, RespT> method, Executor executor,
+                         Digest from, Digest to) {
+            super(delegate);
+            this.method = method;
+            this.executor = executor == null ? null : new SerializingExecutor(executor);
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public void cancel(String message, Throwable cause) {
+            send(from, () -> request(simulation.clock().instant(), () -> delegate.cancel(message, cause)));
+        }
+
+        @Override
+        public void halfClose() {
+            send(from, () -> request(simulation.clock().instant(), delegate::halfClose));
+        }
+
+        @Override
+        protected void scheduleMessage(ReqT message) {
+            var bytes = size(method.streamRequest(message));
+            send(from, () -> {
+                var arrival = transmit(from, to, bytes);
+                if (arrival == null) {
+                    log.trace("Lost: {} on link: {} -> {}", method.getFullMethodName(), from, to);
+                    request(simulation.clock().instant(),
+                            () -> delegate.cancel("Message lost on simulated link", null));
+                    return;
+                }
+                request(arrival, () -> delegate.sendMessage(message));
+            });
+        }
+
+        @Override
+        protected void scheduleRequest(int numMessages) {
+            send(from, () -> request(simulation.clock().instant(), () -> delegate.request(numMessages)));
+        }
+
+        @Override
+        protected void scheduleStart(Listener<RespT> responseListener, Metadata headers) {
+            send(from, () -> {
+                var arrival = transmit(from, to, 0);
+                if (arrival == null) {
+                    request(simulation.clock().instant(), () -> {
+                        delegate.start(responseListener, headers);
+                        delegate.cancel("Call lost on simulated link", null);
+                    });
+                    return;
+                }
+                request(arrival, () -> delegate.start(new LinkListener(responseListener), headers));
+            });
+        }
+
+        private synchronized void request(Instant at, Runnable action) {
+            requests = at.isBefore(requests) ? requests : at;
+            deliver(requests, action, method.getFullMethodName());
+        }
+
+        private synchronized void respond(Instant at, Runnable action) {
+            responses = at.isBefore(responses) ? responses : at;
+            deliver(responses, executor == null ? action : () -> executor.execute(action), method.getFullMethodName());
+        }
+
+        private class LinkListener extends SimpleForwardingClientCallListener<RespT> {
+            private LinkListener(Listener<RespT> delegate) {
+                super(delegate);
+            }
+
+            @Override
+            public void onClose(Status status, Metadata trailers) {
+                send(to, () -> {
+                    var arrival = transmit(to, from, 0);
+                    respond(arrival == null ? simulation.clock().instant() : arrival, () -> super.onClose(
+                    arrival == null ? Status.UNAVAILABLE.withDescription("Response lost on simulated link") : status,
+                    trailers));
+                });
+            }
+
+            @Override
+            public void onHeaders(Metadata headers) {
+                send(to, () -> respond(simulation.clock().instant(), () -> super.onHeaders(headers)));
+            }
+
+            @Override
+            public void onMessage(RespT message) {
+                var bytes = size(method.streamResponse(message));
+                send(to, () -> {
+                    var arrival = transmit(to, from, bytes);
+                    if (arrival == null) {
+                        log.trace("Lost response: {} on link: {} -> {}", method.getFullMethodName(), to, from);
+                        request(simulation.clock().instant(),
+                                () -> LinkCall.this.delegate.cancel("Response lost on simulated link", null));
+                        return;
+                    }
+                    respond(arrival, () -> super.onMessage(message));
+                });
+            }
+
+            @Override
+            public void onReady() {
+                send(to, () -> respond(simulation.clock().instant(), super::onReady));
+            }
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.kairos;
+
+import com.salesforce.apollo.archipelago.Router;
+import com.salesforce.apollo.archipelago.ServerConnectionCache;
+import com.salesforce.apollo.context.DynamicContext;
+import com.salesforce.apollo.cryptography.Digest;
+import com.salesforce.apollo.cryptography.DigestAlgorithm;
+import com.salesforce.apollo.fireflies.Parameters;
+import com.salesforce.apollo.fireflies.View;
+import com.salesforce.apollo.fireflies.View.Participant;
+import com.salesforce.apollo.fireflies.View.Seed;
+import com.salesforce.apollo.kairos.network.Link;
+import com.salesforce.apollo.membership.stereotomy.ControlledIdentifierMember;
+import com.salesforce.apollo.stereotomy.ControlledIdentifier;
+import com.salesforce.apollo.stereotomy.EventValidation;
+import com.salesforce.apollo.stereotomy.KERL;
+import com.salesforce.apollo.stereotomy.StereotomyImpl;
+import com.salesforce.apollo.stereotomy.Verifiers;
+import com.salesforce.apollo.stereotomy.identifier.SelfAddressingIdentifier;
+import com.salesforce.apollo.stereotomy.mem.MemKERL;
+import com.salesforce.apollo.stereotomy.mem.MemKeyStore;
+import org.junit.jupiter.api.Test;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author hal.hildebrand
+ */
+public class SimulationRuntimeTest {
+    private static final int      CARDINALITY = 8;
+    private static final Duration GOSSIP      = Duration.ofMillis(5);
+
+    /**
+     * Two runs of Fireflies on runtimes of the same seed produce the same view changes, at the same instants, in every
+     * member. The runs are only as reproducible as the quiescence of the runtime: work on pools outside the runtime,
+     * such as the executors of the gRPC in process transport or the ForkJoin pool of Caffeine's maintenance, is not
+     * awaited before the simulation advances, and may reorder the events of the runs.
+     */
+    @Test
+    public void fireflies() throws Exception {
+        var entropy = SecureRandom.getInstance("SHA1PRNG");
+        entropy.setSeed(new byte[] { 6, 6, 6 });
+        var kerl = new MemKERL(DigestAlgorithm.DEFAULT);
+        var stereotomy = new StereotomyImpl(new MemKeyStore(), kerl, entropy);
+        var identities = IntStream.range(0, CARDINALITY).mapToObj(i -> stereotomy.newIdentifier()).toList();
+
+        var first = fireflies(identities, kerl);
+        var second = fireflies(identities, kerl);
+
+        assertEquals(CARDINALITY, first.size());
+        first.forEach((id, changes) -> assertFalse(changes.isEmpty(), "No view changes in: " + id));
+        assertEquals(first, second);
+    }
+
+    @Test
+    public void quiescence() throws Exception {
+        var runtime = new SimulationRuntime(0x666, Link.PERFECT);
+        var scheduler = runtime.newScheduler("test");
+        var fired = new CompletableFuture<Instant>();
+        runtime.start(() -> {
+            // busy for a while in real time, before scheduling its event in simulated time
+            var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(50);
+            while (System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            scheduler.schedule(() -> fired.complete(runtime.clock().instant()), 10, TimeUnit.MILLISECONDS);
+        });
+        runtime.run(Duration.ofMinutes(1));
+        assertEquals(Instant.EPOCH.plusMillis(10), fired.getNow(null));
+        assertTrue(runtime.isQuiescent());
+    }
+
+    @Test
+    public void schedulers() throws Exception {
+        var runtime = new SimulationRuntime(0x666, Link.PERFECT);
+        var other = new SimulationRuntime(0x666, Link.PERFECT);
+        assertEquals(Instant.EPOCH, runtime.clock().instant());
+
+        var scheduler = runtime.newScheduler("test");
+        var ticks = new AtomicInteger();
+        scheduler.scheduleAtFixedRate(ticks::incrementAndGet, 10, 10, TimeUnit.MILLISECONDS);
+        var once = scheduler.schedule(() -> runtime.clock().instant(), 25, TimeUnit.MILLISECONDS);
+
+        runtime.run(Duration.ofMillis(100));
+        assertEquals(10, ticks.get());
+        assertEquals(Instant.EPOCH.plusMillis(25), once.get());
+        assertEquals(Instant.EPOCH.plusMillis(100), runtime.clock().instant());
+        assertEquals(Instant.EPOCH, other.clock().instant());
+
+        scheduler.shutdown();
+        runtime.run(Duration.ofMillis(100));
+        assertEquals(10, ticks.get());
+        assertTrue(scheduler.isTerminated());
+    }
+
+    @Test
+    public void sleep() throws Exception {
+        var runtime = new SimulationRuntime(0x666, Link.PERFECT);
+        var woke = new CompletableFuture<Instant>();
+        runtime.start(() -> {
+            runtime.pause(Duration.ofSeconds(30));
+            woke.complete(runtime.clock().instant());
+        });
+        runtime.run(Duration.ofMinutes(1));
+        assertEquals(Instant.EPOCH.plusSeconds(30), woke.get(1, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Run Fireflies on a new runtime, bootstrapping the first member and then joining the rest
+     *
+     * @return the view changes of each member, as the instant, diadem and size of the view
+     */
+    private Map<Digest, List<String>> fireflies(List<ControlledIdentifier<SelfAddressingIdentifier>> identities,
+                                                KERL.AppendKERL kerl) throws InterruptedException {
+        var runtime = new SimulationRuntime(0x666, new Link(Duration.ofMillis(2), 10_000_000, 0.0));
+        var parameters = Parameters.newBuilder().setMaxPending(20).setMaximumTxfr(5).setSchedulers(runtime).build();
+        var contextBuilder = DynamicContext.<Participant>newBuilder()
+                                           .setBias(2)
+                                           .setpByz(0.1)
+                                           .setCardinality(CARDINALITY);
+        var prefix = UUID.randomUUID().toString();
+        var changes = new TreeMap<Digest, List<String>>();
+        var routers = new ArrayList<Router>();
+        var views = new ArrayList<View>();
+        for (int i = 0; i < identities.size(); i++) {
+            var member = new ControlledIdentifierMember(identities.get(i));
+            var router = runtime.localServer(prefix, member)
+                                .router(ServerConnectionCache.newBuilder().setTarget(200).setClock(runtime.clock()));
+            router.start();
+            routers.add(router);
+            var view = new View(contextBuilder.build(), member, "node-" + i, EventValidation.NONE,
+                                Verifiers.from(kerl), router, parameters, DigestAlgorithm.DEFAULT, null);
+            var history = Collections.synchronizedList(new ArrayList<String>());
+            changes.put(member.getId(), history);
+            view.register("history", change -> history.add(
+            "%s %s %s".formatted(runtime.clock().instant(), change.diadem(), change.context().size())));
+            views.add(view);
+        }
+        try {
+            var seeds = List.of(new Seed(identities.getFirst().getIdentifier(), "node-0"));
+            views.getFirst().start(() -> {
+            }, GOSSIP, List.of());
+            runtime.run(Duration.ofSeconds(10));
+            views.subList(1, views.size()).forEach(view -> view.start(() -> {
+            }, GOSSIP, seeds));
+            runtime.run(Duration.ofMinutes(2));
+        } finally {
+            views.forEach(View::stop);
+            routers.forEach(router -> router.close(Duration.ZERO));
+        }
+        return changes;
+    }
+}
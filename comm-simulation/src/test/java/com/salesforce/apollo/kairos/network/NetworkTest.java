@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.kairos.network;
+
+import com.salesforce.apollo.cryptography.DigestAlgorithm;
+import com.salesforce.apollo.kairos.Simulation;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author hal.hildebrand
+ */
+public class NetworkTest {
+
+    @Test
+    public void links() {
+        var a = DigestAlgorithm.DEFAULT.getOrigin();
+        var b = DigestAlgorithm.DEFAULT.getLast();
+        var network = new Network(new Simulation(), 0x666, new Link(Duration.ofMillis(50), 1_000_000, 0.0));
+
+        // 1 MB/s: 1000 bytes takes 1 ms to transmit, followed by 50ms latency
+        assertEquals(Instant.EPOCH.plusMillis(51), network.transmit(a, b, 1_000));
+        // queued behind the first message
+        assertEquals(Instant.EPOCH.plusMillis(52), network.transmit(a, b, 1_000));
+        // the reverse link is independent
+        assertEquals(Instant.EPOCH.plusMillis(51), network.transmit(b, a, 1_000));
+
+        network.partition(List.of(a), List.of(b));
+        assertNull(network.transmit(a, b, 1_000));
+        assertNull(network.transmit(b, a, 1_000));
+        network.heal();
+        assertNotNull(network.transmit(a, b, 1_000));
+        assertEquals(2, network.dropped());
+    }
+
+    @Test
+    public void loss() {
+        var a = DigestAlgorithm.DEFAULT.getOrigin();
+        var b = DigestAlgorithm.DEFAULT.getLast();
+        var network = new Network(new Simulation(), 0x666, new Link(Duration.ZERO, 0, 0.25));
+        int lost = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (network.transmit(a, b, 100) == null) {
+                lost++;
+            }
+        }
+        assertEquals(2_500, lost, 250);
+        assertEquals(lost, network.dropped());
+    }
+}
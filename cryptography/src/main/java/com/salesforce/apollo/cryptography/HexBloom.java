@@ -13,9 +13,8 @@ import com.salesforce.apollo.cryptography.proto.HexBloome;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.stream.Collector;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -27,9 +26,10 @@ import java.util.stream.Stream;
  */
 public class HexBloom {
 
-    public static final  long                     DEFAULT_SEED     = Primes.PRIMES[666];
-    private static final Function<Digest, Digest> IDENTITY         = d -> d;
-    private static final int                      MINIMUM_BFF_CARD = 100;
+    public static final  long                     DEFAULT_SEED       = Primes.PRIMES[666];
+    private static final Function<Digest, Digest> IDENTITY           = d -> d;
+    private static final int                      MINIMUM_BFF_CARD   = 100;
+    private static final int                      PARALLEL_THRESHOLD = 8192;
 
     private final int                 cardinality;
     private final Digest[]            crowns;
@@ -144,20 +144,14 @@ public class HexBloom {
         var cardinality = currentCount + added.size() - removed.size();
         var n = Math.max(MINIMUM_BFF_CARD, cardinality);
         var membership = new BloomFilter.DigestBloomFilter(DEFAULT_SEED, n, 1.0 / (double) n);
-        var crwns = crowns.stream().map(AtomicReference::new).toList();
+        var lanes = Lanes.of(hashes, crowns);
         added.forEach(d -> {
-            for (int i = 0; i < crwns.size(); i++) {
-                crwns.get(i).accumulateAndGet(hashes.get(i).apply(d), Digest::xor);
-            }
+            lanes.add(d);
             membership.add(d);
         });
-        removed.forEach(d -> {
-            for (int i = 0; i < crwns.size(); i++) {
-                crwns.get(i).accumulateAndGet(hashes.get(i).apply(d), Digest::xor);
-            }
-        });
+        removed.forEach(lanes::remove);
         currentMembership.forEach(membership::add);
-        return new HexBloom(cardinality, crwns.stream().map(AtomicReference::get).toList(), membership);
+        return new HexBloom(cardinality, lanes.crowns(), membership);
     }
 
     /**
@@ -177,21 +171,18 @@ public class HexBloom {
         var n = Math.max(MINIMUM_BFF_CARD, cardinality);
         var membership = new BloomFilter.DigestBloomFilter(DEFAULT_SEED, n, 1.0 / (double) n);
 
-        var crwns = hashes.stream().map(hash -> hash.apply(initialCrown)).map(AtomicReference::new).toList();
+        var lanes = new Lanes(hashes, initialCrown.getAlgorithm());
+        lanes.xor(initialCrown);
 
         currentMembership.forEach(d -> {
-            for (int i = 0; i < crwns.size(); i++) {
-                crwns.get(i).accumulateAndGet(hashes.get(i).apply(d), Digest::xor);
-            }
+            lanes.add(d);
             membership.add(d);
         });
         added.forEach(d -> {
-            for (int i = 0; i < crwns.size(); i++) {
-                crwns.get(i).accumulateAndGet(hashes.get(i).apply(d), Digest::xor);
-            }
+            lanes.add(d);
             membership.add(d);
         });
-        return new HexBloom(cardinality, crwns.stream().map(ad -> ad.get()).toList(), membership);
+        return new HexBloom(cardinality, lanes.crowns(), membership);
     }
 
     public static HexBloom from(HexBloome hb) {
@@ -236,16 +227,14 @@ public class HexBloom {
     public HexBloom addAll(List<Digest> added, List<Function<Digest, Digest>> hashes) {
         var nextCard = cardinality + added.size();
         var nextMembership = membership.clone();
-        var crwns = Arrays.stream(crowns).map(AtomicReference::new).toList();
+        var lanes = Lanes.of(hashes, crowns());
 
         added.forEach(d -> {
-            for (int i = 0; i < crwns.size(); i++) {
-                crwns.get(i).accumulateAndGet(hashes.get(i).apply(d), Digest::xor);
-            }
+            lanes.add(d);
             nextMembership.add(d);
         });
 
-        return new HexBloom(nextCard, crwns.stream().map(AtomicReference::get).toList(), nextMembership);
+        return new HexBloom(nextCard, lanes.crowns(), nextMembership);
     }
 
     public Digest compact() {
@@ -355,7 +344,18 @@ public class HexBloom {
      * @return true if validated
      */
     public boolean validate(List<Digest> members, List<Function<Digest, Digest>> hashes) {
-        return validate(members.stream(), hashes);
+        if (members.size() < PARALLEL_THRESHOLD) {
+            return validate(members.stream(), hashes);
+        }
+        if (hashes.size() != crowns.length) {
+            throw new IllegalArgumentException(
+            "Size of supplied hash functions: " + hashes.size() + " must equal the # of crowns: " + crowns.length);
+        }
+        if (members.size() != cardinality) {
+            return false;
+        }
+        var calculated = members.parallelStream().collect(Lanes.collector(hashes, crowns[0].getAlgorithm()));
+        return calculated.matches(crowns);
     }
 
     /**
@@ -382,25 +382,12 @@ public class HexBloom {
             throw new IllegalArgumentException(
             "Size of supplied hash functions: " + hashes.size() + " must equal the # of crowns: " + crowns.length);
         }
-        var count = new AtomicInteger();
-        var calculated = Arrays.stream(crowns)
-                               .map(crown -> new AtomicReference<Digest>(crown.getAlgorithm().getOrigin()))
-                               .toList();
-        members.forEach(d -> {
-            for (int i = 0; i < crowns.length; i++) {
-                calculated.get(i).accumulateAndGet(hashes.get(i).apply(d), Digest::xor);
-            }
-            count.incrementAndGet();
-        });
-        if (count.get() != cardinality) {
+        var calculated = new Lanes(hashes, crowns[0].getAlgorithm());
+        members.forEach(calculated::add);
+        if (calculated.count() != cardinality) {
             return false;
         }
-        for (int i = 0; i < crowns.length; i++) {
-            if (!calculated.get(i).get().equals(crowns[i])) {
-                return false;
-            }
-        }
-        return true;
+        return calculated.matches(crowns);
     }
 
     public boolean validateCrown(Digest compact) {
@@ -456,10 +443,9 @@ public class HexBloom {
     }
 
     public static class Accumulator {
-        protected final List<AtomicReference<Digest>>  accumulators;
-        protected final int                            cardinality;
-        protected final List<Function<Digest, Digest>> hashes;
-        protected       int                            currentCount = 0;
+        protected final Lanes lanes;
+        protected final int   cardinality;
+        protected       int   currentCount = 0;
 
         public Accumulator(int cardinality, List<Function<Digest, Digest>> crownHashes, Digest initial) {
             if (cardinality < 0) {
@@ -469,8 +455,8 @@ public class HexBloom {
                 throw new IllegalArgumentException("Crown hashes must not be null or empty");
             }
             this.cardinality = cardinality;
-            this.hashes = crownHashes;
-            accumulators = hashes.stream().map(hash -> hash.apply(initial)).map(AtomicReference::new).toList();
+            lanes = new Lanes(crownHashes, initial.getAlgorithm());
+            lanes.xor(initial);
         }
 
         public Accumulator(int cardinality, int crowns, Digest initial) {
@@ -482,23 +468,22 @@ public class HexBloom {
                 throw new IllegalArgumentException("Current count already equal to cardinality: " + cardinality);
             }
             currentCount++;
-            for (int i = 0; i < accumulators.size(); i++) {
-                accumulators.get(i).accumulateAndGet(hashes.get(i).apply(digest), Digest::xor);
-            }
+            lanes.add(digest);
         }
 
         /**
          * @return the hash digest of the wrapped crowns
          */
         public Digest compactWrapped(List<Function<Digest, Digest>> hashes) {
-            if (hashes.size() != accumulators.size()) {
+            if (hashes.size() != lanes.width()) {
                 throw new IllegalArgumentException(
                 "Size of supplied hash functions: " + hashes.size() + " must equal the # of crowns: "
-                + accumulators.size());
+                + lanes.width());
             }
-            var algorithm = accumulators.getFirst().get().getAlgorithm();
-            return IntStream.range(0, accumulators.size())
-                            .mapToObj(i -> hashes.get(i).apply(accumulators.get(i).get()))
+            var crowns = lanes.crowns();
+            var algorithm = crowns.getFirst().getAlgorithm();
+            return IntStream.range(0, crowns.size())
+                            .mapToObj(i -> hashes.get(i).apply(crowns.get(i)))
                             .toList()
                             .stream()
                             .reduce(algorithm.getOrigin(), Digest::xor);
@@ -508,21 +493,20 @@ public class HexBloom {
          * @return the hash digest of the wrapped crowns
          */
         public Digest compactWrapped() {
-            return compactWrapped(hashWraps(accumulators.size()));
+            return compactWrapped(hashWraps(lanes.width()));
         }
 
         public List<Digest> crowns() {
-            return accumulators.stream().map(AtomicReference::get).toList();
+            return lanes.crowns();
         }
 
         public List<Digest> wrappedCrowns() {
-            return wrappedCrowns(hashWraps(accumulators.size()));
+            return wrappedCrowns(hashWraps(lanes.width()));
         }
 
         public List<Digest> wrappedCrowns(List<Function<Digest, Digest>> wrapingHash) {
-            return IntStream.range(0, accumulators.size())
-                            .mapToObj(i -> wrapingHash.get(i).apply(accumulators.get(i).get()))
-                            .toList();
+            var crowns = lanes.crowns();
+            return IntStream.range(0, crowns.size()).mapToObj(i -> wrapingHash.get(i).apply(crowns.get(i))).toList();
         }
     }
 
@@ -547,7 +531,157 @@ public class HexBloom {
 
         public HexBloom build() {
             assert currentCount == cardinality : "Did not add all members, missing: " + (cardinality - currentCount);
-            return new HexBloom(cardinality, accumulators.stream().map(AtomicReference::get).toList(), membership);
+            return new HexBloom(cardinality, lanes.crowns(), membership);
+        }
+    }
+
+    /**
+     * Crown accumulation over primitive lanes. Each crown occupies a contiguous run of longs in a single array, and
+     * the hashed members are XOR'd directly into the lanes, with no atomic operations. As XOR is commutative and self inverse, members may be added and removed in any order, and
+     * Lanes accumulated independently - e.g. by fork/join tasks of a parallel stream - may be merged.
+     * <p>
+     * Lanes are not thread safe; use {@link #collector(List, DigestAlgorithm)} for parallel accumulation.
+     */
+    public static class Lanes {
+        private final DigestAlgorithm                algorithm;
+        private final List<Function<Digest, Digest>> hashes;
+        private final long[]                         lanes;
+        private final int                            stride;
+        private       int                            count;
+
+        public Lanes(int crowns, DigestAlgorithm algorithm) {
+            this(hashes(crowns), algorithm);
+        }
+
+        public Lanes(List<Function<Digest, Digest>> hashes, DigestAlgorithm algorithm) {
+            if (hashes == null || hashes.isEmpty()) {
+                throw new IllegalArgumentException("Crown hashes must not be null or empty");
+            }
+            this.hashes = hashes;
+            this.algorithm = algorithm;
+            this.stride = algorithm.longLength();
+            this.lanes = new long[stride * hashes.size()];
+        }
+
+        /**
+         * Answer a collector accumulating member digests into Lanes, splitting and merging across fork/join tasks when
+         * applied to a parallel stream
+         */
+        public static Collector<Digest, Lanes, Lanes> collector(List<Function<Digest, Digest>> hashes,
+                                                                DigestAlgorithm algorithm) {
+            return Collector.of(() -> new Lanes(hashes, algorithm), Lanes::add, Lanes::merge,
+                                Collector.Characteristics.UNORDERED, Collector.Characteristics.IDENTITY_FINISH);
+        }
+
+        /**
+         * Answer the Lanes with the supplied crowns as the current state
+         */
+        public static Lanes of(List<Function<Digest, Digest>> hashes, List<Digest> crowns) {
+            if (hashes.size() != crowns.size()) {
+                throw new IllegalArgumentException(
+                "Size of supplied hash functions: " + hashes.size() + " must equal the # of crowns: " + crowns.size());
+            }
+            var lanes = new Lanes(hashes, crowns.getFirst().getAlgorithm());
+            for (int i = 0; i < crowns.size(); i++) {
+                lanes.xorLane(i, crowns.get(i).getLongs());
+            }
+            return lanes;
+        }
+
+        /**
+         * Add the member digest to all crowns
+         */
+        public Lanes add(Digest digest) {
+            accumulate(digest);
+            count++;
+            return this;
+        }
+
+        public int count() {
+            return count;
+        }
+
+        /**
+         * Answer the crown at the index
+         */
+        public Digest crown(int index) {
+            var hash = new long[stride];
+            System.arraycopy(lanes, index * stride, hash, 0, stride);
+            return new Digest(algorithm, hash);
+        }
+
+        public List<Digest> crowns() {
+            return IntStream.range(0, hashes.size()).mapToObj(this::crown).toList();
+        }
+
+        /**
+         * @return true if the receiver's lanes equal the supplied crowns
+         */
+        public boolean matches(Digest[] crowns) {
+            if (crowns.length != hashes.size()) {
+                return false;
+            }
+            for (int i = 0; i < crowns.length; i++) {
+                var hash = crowns[i].getLongs();
+                var offset = i * stride;
+                for (int j = 0; j < stride; j++) {
+                    if (lanes[offset + j] != hash[j]) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Merge the other Lanes into the receiver
+         */
+        public Lanes merge(Lanes other) {
+            if (other.lanes.length != lanes.length) {
+                throw new IllegalArgumentException("Cannot merge lanes of different widths");
+            }
+            for (int i = 0; i < lanes.length; i++) {
+                lanes[i] ^= other.lanes[i];
+            }
+            count += other.count;
+            return this;
+        }
+
+        /**
+         * Remove the member digest from all crowns
+         */
+        public Lanes remove(Digest digest) {
+            accumulate(digest);
+            count--;
+            return this;
+        }
+
+        /**
+         * @return the number of crowns
+         */
+        public int width() {
+            return hashes.size();
+        }
+
+        /**
+         * XOR the digest into all crowns, without affecting the count of members. Used to seed the initial crowns
+         */
+        public Lanes xor(Digest digest) {
+            accumulate(digest);
+            return this;
+        }
+
+        private void accumulate(Digest digest) {
+            for (int i = 0; i < hashes.size(); i++) {
+                xorLane(i, hashes.get(i).apply(digest).getLongs());
+            }
+        }
+
+        private void xorLane(int lane, long[] hash) {
+            var offset = lane * stride;
+            for (int j = 0; j < stride; j++) {
+                lanes[offset + j] ^= hash[j];
+            }
         }
     }
 }
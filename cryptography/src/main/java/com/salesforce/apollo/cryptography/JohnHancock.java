@@ -37,8 +37,9 @@ public class JohnHancock {
         this.algorithm = SignatureAlgorithm.fromSignatureCode(sig.getCode());
         bytes = new byte[sig.getSignaturesCount()][];
         sequenceNumber = ULong.valueOf(sig.getSequenceNumber());
-        int i = 0;
-        sig.getSignaturesList().forEach(bs -> bytes[i] = bs.toByteArray());
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = sig.getSignatures(i).toByteArray();
+        }
     }
 
     public JohnHancock(SignatureAlgorithm algorithm, byte[] bytes, ULong sequenceNumber) {
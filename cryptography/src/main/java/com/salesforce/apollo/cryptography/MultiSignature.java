@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.cryptography;
+
+import com.google.protobuf.ByteString;
+import com.salesforce.apollo.utils.BbBackedInputStream;
+
+import java.security.PublicKey;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.SortedMap;
+import java.util.function.BiPredicate;
+
+/**
+ * A compact multi-signature of a committee over a single message. The multi-signature is encoded as a JohnHancock
+ * whose first element is the bitmap of the signers, indexed by member, followed by the signatures of exactly the
+ * threshold number of signers, in the order of the bitmap. The size of the multi-signature, and the cost of its
+ * verification, is therefore that of the threshold of signatures and a bitmap, rather than that of the signatures of
+ * the entire committee.
+ *
+ * @author hal.hildebrand
+ */
+public final class MultiSignature {
+
+    private MultiSignature() {
+    }
+
+    /**
+     * Combine the signatures of the message, by member index, into a multi-signature of the threshold signers with the
+     * lowest indices
+     *
+     * @param members    - the size of the committee
+     * @param threshold  - the number of signatures required
+     * @param signatures - the single signatures of the message, by member index
+     * @return the multi-signature, or null if there are fewer than the threshold of signatures
+     */
+    public static JohnHancock combine(int members, int threshold, SortedMap<Integer, JohnHancock> signatures) {
+        if (threshold <= 0 || signatures.size() < threshold) {
+            return null;
+        }
+        var bitmap = new BitSet(members);
+        var bytes = new byte[threshold + 1][];
+        SignatureAlgorithm algorithm = null;
+        var i = 1;
+        for (var entry : signatures.entrySet()) {
+            var member = entry.getKey();
+            var signature = entry.getValue();
+            if (member < 0 || member >= members) {
+                throw new IllegalArgumentException("Invalid member index: " + member + " of: " + members);
+            }
+            if (signature.signatureCount() != 1) {
+                throw new IllegalArgumentException("Not a single signature: " + signature + " of: " + member);
+            }
+            if (algorithm == null) {
+                algorithm = signature.getAlgorithm();
+            } else if (algorithm != signature.getAlgorithm()) {
+                throw new IllegalArgumentException("Mixed signature algorithms: " + algorithm + " and: "
+                                                   + signature.getAlgorithm());
+            }
+            bitmap.set(member);
+            bytes[i++] = signature.getBytes()[0];
+            if (i > threshold) {
+                break;
+            }
+        }
+        bytes[0] = Arrays.copyOf(bitmap.toByteArray(), (members + 7) / 8);
+        return new JohnHancock(algorithm, bytes, signatures.get(signatures.firstKey()).getSequenceNumber());
+    }
+
+    /**
+     * @return the member indices of the signers of the multi-signature
+     */
+    public static BitSet signers(JohnHancock multiSignature) {
+        var bytes = multiSignature.getBytes();
+        return bytes.length == 0 ? new BitSet() : BitSet.valueOf(bytes[0]);
+    }
+
+    /**
+     * Verify the multi-signature of the message
+     *
+     * @param multiSignature - the multi-signature
+     * @param keys           - the public keys of the committee, by member index
+     * @param threshold      - the number of signatures required
+     * @param message        - the signed message
+     * @return true if the multi-signature has the threshold of signatures, by distinct members of the committee, that
+     * verify
+     */
+    public static boolean verify(JohnHancock multiSignature, PublicKey[] keys, int threshold, ByteString... message) {
+        var algorithm = multiSignature.getAlgorithm();
+        return verify(multiSignature, keys.length, threshold, (member, signature) -> {
+            var key = keys[member];
+            return key != null && algorithm.verify(key, signature, BbBackedInputStream.aggregate(message));
+        });
+    }
+
+    /**
+     * Verify the multi-signature of the message
+     *
+     * @param multiSignature - the multi-signature
+     * @param verifiers      - the verifiers of the committee, by member index
+     * @param threshold      - the number of signatures required
+     * @param message        - the signed message
+     * @return true if the multi-signature has the threshold of signatures, by distinct members of the committee, that
+     * verify
+     */
+    public static boolean verify(JohnHancock multiSignature, Verifier[] verifiers, int threshold,
+                                 ByteString... message) {
+        var algorithm = multiSignature.getAlgorithm();
+        var sequenceNumber = multiSignature.getSequenceNumber();
+        return verify(multiSignature, verifiers.length, threshold, (member, signature) -> {
+            var verifier = verifiers[member];
+            return verifier != null && verifier.verify(new JohnHancock(algorithm, signature, sequenceNumber), message);
+        });
+    }
+
+    private static boolean verify(JohnHancock multiSignature, int members, int threshold,
+                                  BiPredicate<Integer, byte[]> verify) {
+        var bytes = multiSignature.getBytes();
+        if (threshold <= 0 || bytes.length != threshold + 1 || bytes[0] == null
+        || bytes[0].length != (members + 7) / 8) {
+            return false;
+        }
+        var signers = BitSet.valueOf(bytes[0]);
+        if (signers.cardinality() != threshold || signers.length() > members) {
+            return false;
+        }
+        var i = 1;
+        for (var member = signers.nextSetBit(0); member >= 0; member = signers.nextSetBit(member + 1)) {
+            var signature = bytes[i++];
+            if (signature == null || !verify.test(member, signature)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
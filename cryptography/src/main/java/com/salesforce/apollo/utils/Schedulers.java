@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.utils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.random.RandomGenerator;
+
+/**
+ * The source of time, threads, scheduling and randomness for the protocols. Each component is given its Runtime,
+ * generally through its parameters, and obtains its clock, schedulers, threads and random choices from it; there is no
+ * global runtime, so that concurrent tests and simulations do not interfere. By default, this is wall clock time,
+ * virtual threads, a virtual thread scheduler per component and secure entropy. A simulation supplies its own Runtime
+ * so that the protocols run in simulated time, with random choices drawn from the simulation's seed.
+ *
+ * @author hal.hildebrand
+ */
+final public class Schedulers {
+    public static final Runtime DEFAULT = new Runtime() {
+        @Override
+        public Clock clock() {
+            return Clock.systemUTC();
+        }
+
+        @Override
+        public ScheduledExecutorService newScheduler(String label) {
+            return Executors.newScheduledThreadPool(1, threadFactory());
+        }
+
+        @Override
+        public void sleep(Duration duration) throws InterruptedException {
+            Thread.sleep(duration.toMillis());
+        }
+
+        @Override
+        public ThreadFactory threadFactory() {
+            return Thread.ofVirtual().factory();
+        }
+    };
+
+    private Schedulers() {
+    }
+
+    public interface Runtime {
+        Clock clock();
+
+        /**
+         * Answer a new executor, running each task on a new thread of the runtime
+         */
+        default ExecutorService newExecutor() {
+            return Executors.newThreadPerTaskExecutor(threadFactory());
+        }
+
+        /**
+         * Answer a new scheduler for the labeled component
+         */
+        ScheduledExecutorService newScheduler(String label);
+
+        /**
+         * Sleep for the duration in the time of the runtime, preserving the interrupt status of the calling thread
+         */
+        default void pause(Duration duration) {
+            try {
+                sleep(duration);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        /**
+         * Answer the source of the random choices of the components, such as the shuffling of seeds and the jitter of
+         * retries
+         */
+        default RandomGenerator random() {
+            return Entropy::nextSecureLong;
+        }
+
+        void sleep(Duration duration) throws InterruptedException;
+
+        /**
+         * Start a new thread of the runtime, running the task
+         */
+        default Thread start(Runnable task) {
+            var thread = threadFactory().newThread(task);
+            thread.start();
+            return thread;
+        }
+
+        /**
+         * Answer the factory of the threads of the components
+         */
+        ThreadFactory threadFactory();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.cryptography;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author hal.hildebrand
+ */
+public class HexBloomTest {
+    private static final int CROWNS = 3;
+
+    @Test
+    public void incremental() {
+        var members = members(100);
+        var lanes = new HexBloom.Lanes(CROWNS, DigestAlgorithm.DEFAULT);
+        members.forEach(lanes::add);
+        var extra = members(10);
+        extra.forEach(lanes::add);
+        extra.forEach(lanes::remove);
+
+        assertEquals(members.size(), lanes.count());
+        var hexBloom = HexBloom.construct(members.size(), members.stream(), DigestAlgorithm.DEFAULT.getOrigin(),
+                                          CROWNS);
+        assertEquals(hexBloom.crowns(), lanes.crowns());
+        assertTrue(hexBloom.validate(members));
+    }
+
+    @Test
+    public void parallelValidation() {
+        var members = members(20_000);
+        var initial = DigestAlgorithm.DEFAULT.getOrigin();
+        var hexBloom = HexBloom.construct(members.size(), members.stream(), initial, CROWNS);
+        assertTrue(hexBloom.validate(members));
+
+        var shuffled = new ArrayList<>(members);
+        Collections.shuffle(shuffled, new Random(0x666));
+        assertTrue(hexBloom.validate(shuffled));
+
+        var parallel = shuffled.parallelStream()
+                               .collect(HexBloom.Lanes.collector(HexBloom.hashes(CROWNS), DigestAlgorithm.DEFAULT));
+        assertEquals(members.size(), parallel.count());
+        assertEquals(hexBloom.crowns(), parallel.crowns());
+
+        shuffled.set(0, DigestAlgorithm.DEFAULT.random(new Random(0x1638)));
+        assertFalse(hexBloom.validate(shuffled));
+        assertFalse(hexBloom.validate(shuffled.subList(1, shuffled.size())));
+    }
+
+    @Test
+    public void accumulator() {
+        var members = members(1_000);
+        var initial = DigestAlgorithm.DEFAULT.getLast();
+        var accumulator = new HexBloom.HexAccumulator(members.size(), CROWNS, initial);
+        members.forEach(accumulator::add);
+        var accumulated = accumulator.build();
+        var constructed = HexBloom.construct(members.size(), members.stream(), initial, CROWNS);
+        assertEquals(constructed.crowns(), accumulated.crowns());
+        assertEquals(constructed.compactWrapped(), accumulated.compactWrapped());
+        assertEquals(constructed.compactWrapped(), accumulator.compactWrapped());
+
+        var added = members(10);
+        var removed = members.subList(0, 10);
+        var next = HexBloom.construct(members.size(), members.stream(), added, constructed.crowns(), removed);
+        var expected = new ArrayList<>(members.subList(10, members.size()));
+        expected.addAll(added);
+        assertEquals(HexBloom.construct(expected.size(), expected.stream(), initial, CROWNS).crowns(), next.crowns());
+    }
+
+    private List<Digest> members(int count) {
+        var entropy = new Random(count);
+        return IntStream.range(0, count).mapToObj(i -> DigestAlgorithm.DEFAULT.random(entropy)).toList();
+    }
+}
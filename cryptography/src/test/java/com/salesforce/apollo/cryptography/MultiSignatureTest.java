@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.cryptography;
+
+import com.google.protobuf.ByteString;
+import org.joou.ULong;
+import org.junit.jupiter.api.Test;
+
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author hal.hildebrand
+ */
+public class MultiSignatureTest {
+
+    @Test
+    public void smokin() throws Exception {
+        var entropy = SecureRandom.getInstance("SHA1PRNG");
+        entropy.setSeed(new byte[] { 6, 6, 6 });
+        var members = 10;
+        var threshold = 7;
+        var message = ByteString.copyFromUtf8("Give me food or give me slack or kill me");
+        var keys = new PublicKey[members];
+        var signatures = new TreeMap<Integer, JohnHancock>();
+        for (int i = 0; i < members; i++) {
+            var keyPair = SignatureAlgorithm.ED_25519.generateKeyPair(entropy);
+            keys[i] = keyPair.getPublic();
+            if (i % 5 != 0) {
+                signatures.put(i, new Signer.SignerImpl(keyPair.getPrivate(), ULong.MIN).sign(message));
+            }
+        }
+
+        var multiSignature = MultiSignature.combine(members, threshold, signatures);
+        assertNotNull(multiSignature);
+        assertEquals(threshold + 1, multiSignature.signatureCount());
+        assertEquals(threshold, MultiSignature.signers(multiSignature).cardinality());
+        assertFalse(MultiSignature.signers(multiSignature).get(0));
+
+        // round trip through the wire form
+        var decoded = JohnHancock.from(multiSignature.toSig());
+        assertTrue(MultiSignature.verify(decoded, keys, threshold, message));
+
+        assertFalse(MultiSignature.verify(decoded, keys, threshold, ByteString.copyFromUtf8("Hello world")));
+        assertFalse(MultiSignature.verify(decoded, keys, threshold + 1, message));
+
+        // a signer's bit swapped for that of a non signer
+        var tampered = multiSignature.getBytes().clone();
+        tampered[0] = tampered[0].clone();
+        tampered[0][0] = (byte) ((tampered[0][0] & ~0x02) | 0x01);
+        assertFalse(MultiSignature.verify(new JohnHancock(multiSignature.getAlgorithm(), tampered, ULong.MIN), keys,
+                                          threshold, message));
+
+        signatures.remove(1);
+        signatures.remove(2);
+        assertNull(MultiSignature.combine(members, threshold, signatures));
+    }
+}
@@ -22,7 +22,6 @@ import java.util.*;
 import java.util.concurrent.Callable;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantLock;
-import java.util.stream.Stream;
 
 import static com.salesforce.apollo.ethereal.Creator.parentsOnPreviousLevel;
 import static com.salesforce.apollo.ethereal.PreUnit.id;
@@ -40,6 +39,7 @@ public class Adder {
     private final        Map<Digest, Set<Short>>    commits         = new TreeMap<>();
     private final        Config                     conf;
     private final        Dag                        dag;
+    private final        Unit[]                     decoding;
     private final        int                        epoch;
     private final        Set<Digest>                failed;
     private final        ReentrantLock              lock            = new ReentrantLock(true);
@@ -61,6 +61,7 @@ public class Adder {
         this.failed = failed;
         this.threshold = Dag.threshold(conf.nProc());
         this.maxSize = maxSize;
+        this.decoding = new Unit[conf.nProc()];
     }
 
     public static Signed<SignedCommit> commit(final Long id, final Digest hash, final short pid, Signer signer,
@@ -554,7 +555,7 @@ public class Adder {
     }
 
     private boolean decodeParents(Waiting wp) {
-        var decoded = dag.decodeParents(wp.pu());
+        var decoded = dag.decodeParents(wp.pu(), decoding);
         if (decoded.inError()) {
             switch (decoded.classification()) {
             case CORRECT:
@@ -578,8 +579,7 @@ public class Adder {
             return false;
         }
         var parents = decoded.parents();
-        var digests = Stream.of(parents).map(e -> e == null ? null : e.hash()).map(e -> e).toList();
-        Digest calculated = Digest.combine(conf.digestAlgorithm(), digests.toArray(new Digest[digests.size()]));
+        Digest calculated = Crown.controlHash(parents, conf.digestAlgorithm());
         if (!calculated.equals(wp.pu().view().controlHash())) {
             removeFailed(wp);
             log.debug("Invalid control hash witness: {} parents: {} on: {}", wp, parents, conf.logLabel());
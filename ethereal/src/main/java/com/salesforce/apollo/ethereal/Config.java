@@ -12,18 +12,26 @@ import com.salesforce.apollo.cryptography.SignatureAlgorithm;
 import com.salesforce.apollo.cryptography.Signer;
 import com.salesforce.apollo.cryptography.Signer.MockSigner;
 import com.salesforce.apollo.ethereal.WeakThresholdKey.NoOpWeakThresholdKey;
+import com.salesforce.apollo.utils.Schedulers;
 import org.joou.ULong;
 
+import java.time.Duration;
 import java.util.Objects;
 
 /**
  * Configuration for an Ethereal instantiation.
+ * <p>
+ * The maximum linger and the linger fill configure the {@link Pacer} of the unit creation: a unit whose data fills less
+ * than the linger fill of its byte budget may linger for more data, for at most the maximum linger. A zero maximum
+ * linger or linger fill disables pacing, and units are created as soon as their parents are available.
+ * <p>
+ * The schedulers are the runtime from which the clock and threads of the instance are obtained.
  *
  * @author hal.hildebrand
  */
 public record Config(String label, short nProc, int epochLength, short pid, Signer signer,
                      DigestAlgorithm digestAlgorithm, int numberOfEpochs, WeakThresholdKey WTKey, double bias,
-                     double fpr) {
+                     double fpr, Duration maxLinger, double lingerFill, Schedulers.Runtime schedulers) {
 
     public static Builder newBuilder() {
         return new Builder();
@@ -37,19 +45,29 @@ public record Config(String label, short nProc, int epochLength, short pid, Sign
         return label + "(" + pid + ")";
     }
 
+    /**
+     * @return true if the creation of units is paced
+     */
+    public boolean paced() {
+        return !maxLinger.isZero() && lingerFill > 0;
+    }
+
     public static class Builder implements Cloneable {
 
-        private int              bias            = 3;
-        private DigestAlgorithm  digestAlgorithm = DigestAlgorithm.DEFAULT;
-        private int              epochLength     = 11;
-        private double           fpr             = 0.00125;
-        private String           label           = "";
-        private short            nProc;
-        private int              numberOfEpochs  = 3;  // < 0 for unbounded
-        private double           pByz            = -1;
-        private short            pid;
-        private Signer           signer          = new MockSigner(SignatureAlgorithm.DEFAULT, ULong.MIN);
-        private WeakThresholdKey wtk;
+        private int                bias            = 3;
+        private DigestAlgorithm    digestAlgorithm = DigestAlgorithm.DEFAULT;
+        private int                epochLength     = 11;
+        private double             fpr             = 0.00125;
+        private String             label           = "";
+        private double             lingerFill      = Pacer.DEFAULT_FULL;
+        private Duration           maxLinger       = Pacer.DEFAULT_MAX_LINGER;
+        private short              nProc;
+        private int                numberOfEpochs  = 3;  // < 0 for unbounded
+        private double             pByz            = -1;
+        private short              pid;
+        private Schedulers.Runtime schedulers      = Schedulers.DEFAULT;
+        private Signer             signer          = new MockSigner(SignatureAlgorithm.DEFAULT, ULong.MIN);
+        private WeakThresholdKey   wtk;
 
         public Builder() {
         }
@@ -64,10 +82,19 @@ public record Config(String label, short nProc, int epochLength, short pid, Sign
             }
             Objects.requireNonNull(signer, "Signer cannot be null");
             Objects.requireNonNull(digestAlgorithm, "Digest Algorithm cannot be null");
+            Objects.requireNonNull(maxLinger, "Max linger cannot be null");
+            Objects.requireNonNull(schedulers, "Schedulers cannot be null");
             if (epochLength <= 10) {
                 throw new IllegalArgumentException("Epoch length must be at least 11: " + epochLength);
             }
-            return new Config(label, nProc, epochLength, pid, signer, digestAlgorithm, numberOfEpochs, wtk, bias, fpr);
+            if (maxLinger.isNegative()) {
+                throw new IllegalArgumentException("Max linger cannot be negative: " + maxLinger);
+            }
+            if (lingerFill < 0 || lingerFill > 1) {
+                throw new IllegalArgumentException("Linger fill must be between 0 and 1: " + lingerFill);
+            }
+            return new Config(label, nProc, epochLength, pid, signer, digestAlgorithm, numberOfEpochs, wtk, bias, fpr,
+                              maxLinger, lingerFill, schedulers);
         }
 
         @Override
@@ -124,6 +151,24 @@ public record Config(String label, short nProc, int epochLength, short pid, Sign
             return this;
         }
 
+        public double getLingerFill() {
+            return lingerFill;
+        }
+
+        public Builder setLingerFill(double lingerFill) {
+            this.lingerFill = lingerFill;
+            return this;
+        }
+
+        public Duration getMaxLinger() {
+            return maxLinger;
+        }
+
+        public Builder setMaxLinger(Duration maxLinger) {
+            this.maxLinger = maxLinger;
+            return this;
+        }
+
         public int getNumberOfEpochs() {
             return numberOfEpochs;
         }
@@ -142,6 +187,15 @@ public record Config(String label, short nProc, int epochLength, short pid, Sign
             return this;
         }
 
+        public Schedulers.Runtime getSchedulers() {
+            return schedulers;
+        }
+
+        public Builder setSchedulers(Schedulers.Runtime schedulers) {
+            this.schedulers = schedulers;
+            return this;
+        }
+
         public Signer getSigner() {
             return signer;
         }
@@ -8,6 +8,7 @@ package com.salesforce.apollo.ethereal;
 
 import com.google.protobuf.ByteString;
 import com.salesforce.apollo.context.Context;
+import com.salesforce.apollo.ethereal.memberships.comm.EtherealMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -15,9 +16,12 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -26,6 +30,11 @@ import java.util.function.Function;
  * and stores the ones with the highest level as possible parents (candidates). Whenever there are enough parents to
  * produce a unit on a new level, the creator creates a new Unit from the available DataSource, signs and sends (using a
  * function given to the constructor) this new unit.
+ * <p>
+ * When given a Pacer, the creation of a regular unit whose data would not fill its byte budget may linger briefly for
+ * more data to arrive, unless the unit is on the critical path of the level. Lingering does not block the processing of
+ * units of other members; the unit is created by the first of the units consumed, or the scheduled wake up, after the
+ * Pacer allows it.
  *
  * @author hal.hildebrand
  */
@@ -40,12 +49,24 @@ public class Creator {
     private final        AtomicReference<EpochProofBuilder>   epochProof = new AtomicReference<>();
     private final        Function<Integer, EpochProofBuilder> epochProofBuilder;
     private final        Queue<Unit>                          lastTiming;
+    private final        ReentrantLock                        lock       = new ReentrantLock();
+    private final        EtherealMetrics                      metrics;
+    private final        Pacer                                pacer;
     private final        int                                  quorum;
     private final        Consumer<Unit>                       send;
+    private              int                                  lingering  = -1;
+    private              ScheduledExecutorService             scheduler;
 
     public Creator(Config config, DataSource ds, Queue<Unit> lastTiming, Consumer<Unit> send,
                    Function<Integer, EpochProofBuilder> epochProofBuilder) {
+        this(config, ds, lastTiming, send, epochProofBuilder, null, null);
+    }
+
+    public Creator(Config config, DataSource ds, Queue<Unit> lastTiming, Consumer<Unit> send,
+                   Function<Integer, EpochProofBuilder> epochProofBuilder, Pacer pacer, EtherealMetrics metrics) {
         this.conf = config;
+        this.pacer = pacer;
+        this.metrics = metrics;
         this.ds = ds;
         this.epochProofBuilder = epochProofBuilder;
         this.send = send;
@@ -95,20 +116,45 @@ public class Creator {
      */
     public void consume(Unit u) {
         log.trace("Processing next unit: {} on: {}", u, conf.logLabel());
-        update(u);
-        var built = ready();
-        while (built != null) {
-            log.trace("Ready, creating unit on: {}", conf.logLabel());
-            createUnit(built.parents, built.level, getData(built.level));
-            built = ready();
+        lock.lock();
+        try {
+            update(u);
+            create();
+        } finally {
+            lock.unlock();
         }
     }
 
     public void start() {
-        newEpoch(epoch.get(), ByteString.EMPTY, -1);
+        lock.lock();
+        try {
+            newEpoch(epoch.get(), ByteString.EMPTY, -1);
+        } finally {
+            lock.unlock();
+        }
     }
 
     public void stop() {
+        lock.lock();
+        try {
+            if (scheduler != null) {
+                scheduler.shutdownNow();
+                scheduler = null;
+            }
+            lingering = -1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int ahead(int level) {
+        var ahead = 0;
+        for (var candidate : candidates) {
+            if (candidate != null && candidate.level() >= level) {
+                ahead++;
+            }
+        }
+        return ahead;
     }
 
     private built buildParents() {
@@ -124,7 +170,7 @@ public class Creator {
         if (count >= quorum) {
             log.trace("Parents ready: {} level: {} on: {}", quorum, l, conf.logLabel());
             makeConsistent(parents);
-            return new built(parents, l);
+            return new built(parents, l, count);
         } else {
             log.trace("Parents not ready level: {} current: {} required: {}  on: {}", l, count, quorum,
                       conf.logLabel());
@@ -150,6 +196,18 @@ public class Creator {
         return count;
     }
 
+    private void create() {
+        var built = ready();
+        while (built != null) {
+            if (linger(built)) {
+                return;
+            }
+            log.trace("Ready, creating unit on: {}", conf.logLabel());
+            createUnit(built.parents, built.level, getData(built.level));
+            built = ready();
+        }
+    }
+
     private void createUnit(Unit[] parents, int level, ByteString data) {
         assert parents.length == conf.nProc();
         final int e = epoch.get();
@@ -161,6 +219,13 @@ public class Creator {
         } else {
             log.debug("Created unit: {} on: {}", u, conf.logLabel());
         }
+        if (pacer != null) {
+            pacer.created(level, conf.schedulers().clock().millis());
+        }
+        if (metrics != null) {
+            metrics.unitsPerSecond().mark();
+            metrics.bytesPerUnit().update(data.size());
+        }
         update(u);
         send.accept(u);
     }
@@ -199,6 +264,30 @@ public class Creator {
         return ByteString.EMPTY;
     }
 
+    /**
+     * Answer true if the creation of the regular unit lingers for more data, scheduling the wake up of the receiver for
+     * the time the Pacer allows. Dealing and finishing units never linger
+     */
+    private boolean linger(built built) {
+        if (pacer == null || ds == null || built.level == 0 || built.level >= conf.lastLevel()) {
+            return false;
+        }
+        var delay = pacer.linger(built.level, ds.unitFill(), built.arrived, ahead(built.level),
+                                 conf.schedulers().clock().millis());
+        if (delay <= 0) {
+            return false;
+        }
+        if (lingering != built.level) {
+            lingering = built.level;
+            log.trace("Lingering: {} ms for level: {} on: {}", delay, built.level, conf.logLabel());
+            if (scheduler == null) {
+                scheduler = conf.schedulers().newScheduler("Creator[" + conf.logLabel() + "]");
+            }
+            scheduler.schedule(this::wake, delay, TimeUnit.MILLISECONDS);
+        }
+        return true;
+    }
+
     /**
      * switches the creator to a chosen epoch, resets candidates and shares and creates a dealing with the provided
      * data.
@@ -207,6 +296,10 @@ public class Creator {
         this.epoch.set(epoch);
 
         resetEpoch(epoch);
+        lingering = -1;
+        if (pacer != null) {
+            pacer.reset();
+        }
         epochProof.set(epochProofBuilder.apply(epoch));
         createUnit(new Unit[conf.nProc()], 0, data);
     }
@@ -282,6 +375,21 @@ public class Creator {
         updateCandidates(unit);
     }
 
+    /**
+     * the linger of the unit has expired; create the units ready
+     */
+    private void wake() {
+        lock.lock();
+        try {
+            lingering = -1;
+            create();
+        } catch (Throwable t) {
+            log.error("Error creating unit on: {}", conf.logLabel(), t);
+        } finally {
+            lock.unlock();
+        }
+    }
+
     /**
      * updateCandidates puts the provided unit in parent candidates provided that the level is higher than the level of
      * the previous candidate for that creator.
@@ -306,7 +414,7 @@ public class Creator {
         byte[] rsData(int level, Unit[] parents, int epoch);
     }
 
-    private record built(Unit[] parents, int level) {
+    private record built(Unit[] parents, int level, int arrived) {
     }
 
 }
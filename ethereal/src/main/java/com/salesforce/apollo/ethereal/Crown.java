@@ -6,8 +6,6 @@
  */
 package com.salesforce.apollo.ethereal;
 
-import static com.salesforce.apollo.cryptography.Digest.combine;
-
 import com.salesforce.apollo.ethereal.proto.Crown_s;
 import com.salesforce.apollo.ethereal.proto.Crown_s.Builder;
 import com.salesforce.apollo.cryptography.Digest;
@@ -22,22 +20,34 @@ import com.salesforce.apollo.cryptography.DigestAlgorithm;
  */
 public record Crown(int[] heights, Digest controlHash) {
 
-    public static Crown crownFromParents(Unit[] parents, DigestAlgorithm algo) {
-        var nProc = parents.length;
-        var heights = new int[nProc];
-        var hashes = new Digest[nProc];
-        int i = 0;
-        for (Unit u : parents) {
+    /**
+     * Answer the control hash of the parents: the digest of their crown fragments, in order, with the origin for a
+     * missing parent. Equivalent to Digest.combine of the parents' digests, without re-deriving the bytes of the digests
+     * of parents embedded in the dag
+     */
+    public static Digest controlHash(Unit[] parents, DigestAlgorithm algo) {
+        var fragments = new byte[parents.length][];
+        byte[] origin = null;
+        for (int i = 0; i < parents.length; i++) {
+            var u = parents[i];
             if (u == null) {
-                heights[i] = -1;
-                hashes[i] = algo.getOrigin();
+                if (origin == null) {
+                    origin = algo.getOrigin().getBytes();
+                }
+                fragments[i] = origin;
             } else {
-                heights[i] = u.height();
-                hashes[i] = u.hash();
+                fragments[i] = u.crownFragment();
             }
-            i++;
         }
-        return new Crown(heights, combine(algo, hashes));
+        return algo.digest(fragments);
+    }
+
+    public static Crown crownFromParents(Unit[] parents, DigestAlgorithm algo) {
+        var heights = new int[parents.length];
+        for (int i = 0; i < parents.length; i++) {
+            heights[i] = parents[i] == null ? -1 : parents[i].height();
+        }
+        return new Crown(heights, controlHash(parents, algo));
     }
 
     public static Crown from(Crown_s crown) {
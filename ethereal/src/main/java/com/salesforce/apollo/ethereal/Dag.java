@@ -17,14 +17,12 @@ import org.slf4j.LoggerFactory;
 
 import java.util.*;
 import java.util.concurrent.Callable;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.function.Supplier;
 
 import static com.salesforce.apollo.ethereal.PreUnit.decode;
 
@@ -65,7 +63,15 @@ public interface Dag {
     boolean contains(long parentID);
 
     /** return a slce of parents of the specified unit if control hash matches */
-    Decoded decodeParents(PreUnit unit);
+    default Decoded decodeParents(PreUnit unit) {
+        return decodeParents(unit, new Unit[nProc()]);
+    }
+
+    /**
+     * Decode the parents of the unit into the supplied array of nProc units, which the caller may reuse across units.
+     * The parents of a successful decoding are a copy of the array
+     */
+    Decoded decodeParents(PreUnit unit, Unit[] parents);
 
     int epoch();
 
@@ -126,18 +132,33 @@ public interface Dag {
         }
     }
 
+    /**
+     * The units of an epoch. Units are indexed by digest, and by creator and height, and level, in primitive fiber maps.
+     * The units and their digests are also held in append only arrays, in order of insertion, so that populating a
+     * bloom filter of the units, or answering the units missing from one, is a scan of an array rather than of a map.
+     * <p>
+     * Readers first attempt an optimistic read of the StampedLock, falling back to the read lock only if an insert
+     * intervened. The entries of the insertion arrays below a validated count never change, so gossip responders scan
+     * them without holding the lock. Callbacks supplied to the iteration methods are invoked on a snapshot, outside of
+     * the lock; reads made by the hooks run within an insert are made directly by the writing thread.
+     */
     class DagImpl implements Dag {
-
-        private final List<BiFunction<Unit, Dag, Correctness>> checks     = new ArrayList<>();
-        private final Config                                   config;
-        private final int                                      epoch;
-        private final fiberMap                                 heightUnits;
-        private final fiberMap                                 levelUnits;
-        private final Unit[]                                   maxUnits;
-        private final List<Consumer<Unit>>                     postInsert = new ArrayList<>();
-        private final List<Consumer<Unit>>                     preInsert  = new ArrayList<>();
-        private final ReadWriteLock                            rwLock     = new ReentrantReadWriteLock(true);
-        private final Map<Digest, Unit>                        units      = new HashMap<>();
+        private static final int INITIAL_CAPACITY = 64;
+
+        private final    List<BiFunction<Unit, Dag, Correctness>> checks          = new ArrayList<>();
+        private final    Config                                   config;
+        private final    int                                      epoch;
+        private final    fiberMap                                 heightUnits;
+        private final    fiberMap                                 levelUnits;
+        private final    StampedLock                              lock            = new StampedLock();
+        private final    Unit[]                                   maxUnits;
+        private final    List<Consumer<Unit>>                     postInsert      = new ArrayList<>();
+        private final    List<Consumer<Unit>>                     preInsert       = new ArrayList<>();
+        private final    Map<Digest, Unit>                        units           = new ConcurrentHashMap<>();
+        private          int                                      count;
+        private          Digest[]                                 insertedDigests = new Digest[INITIAL_CAPACITY];
+        private          Unit[]                                   insertedUnits   = new Unit[INITIAL_CAPACITY];
+        private volatile Thread                                   writer;
 
         /**
          * @param config
@@ -185,45 +206,31 @@ public interface Dag {
 
         @Override
         public boolean contains(Digest digest) {
-            return read(() -> units.containsKey(digest));
+            return units.containsKey(digest);
         }
 
         @Override
         public boolean contains(long id) {
-            return read(() -> {
-                var decoded = decode(id);
-                if (decoded.epoch() != epoch) {
-                    log.trace("Does not contain: {} wrong epoch: {} on: {}", decoded, epoch, config.logLabel());
-                    return false;
-                }
-                return heightUnits.contains(decoded);
-            });
+            var decoded = decode(id);
+            if (decoded.epoch() != epoch) {
+                log.trace("Does not contain: {} wrong epoch: {} on: {}", decoded, epoch, config.logLabel());
+                return false;
+            }
+            return optimistic(() -> heightUnits.contains(decoded));
         }
 
         @Override
-        public Decoded decodeParents(PreUnit pu) {
-            return read(() -> {
-                var u = get(pu.hash());
-                if (u != null) {
-                    return new DuplicateUnit(u);
-                }
-                var heights = pu.view().heights();
-                var possibleParents = heightUnits.get(heights);
-                if (possibleParents.unknown() > 0) {
-                    return new UnknownParents(possibleParents.unknown());
-                }
-                Unit[] parents = new Unit[config.nProc()];
-
-                int i = -1;
-                for (Unit unit : possibleParents.result()) {
-                    i++;
-                    if (heights[i] == -1) {
-                        continue;
-                    }
-                    parents[i] = unit;
-                }
-                return new DecodedR(parents);
-            });
+        public Decoded decodeParents(PreUnit pu, Unit[] parents) {
+            var u = get(pu.hash());
+            if (u != null) {
+                return new DuplicateUnit(u);
+            }
+            var heights = pu.view().heights();
+            var unknown = optimistic(() -> heightUnits.get(heights, parents));
+            if (unknown > 0) {
+                return new UnknownParents(unknown);
+            }
+            return new DecodedR(parents.clone());
         }
 
         @Override
@@ -233,34 +240,30 @@ public interface Dag {
 
         @Override
         public Unit get(Digest digest) {
-            return read(() -> units.get(digest));
+            return units.get(digest);
         }
 
         @Override
         public List<Unit> get(List<Digest> digests) {
-            return read(() -> digests.stream().map(e -> units.get(e)).toList());
+            return digests.stream().map(e -> units.get(e)).toList();
         }
 
         @Override
         public Unit get(long id) {
-            return read(() -> {
-                var decoded = decode(id);
-                if (decoded.epoch() != epoch) {
-                    return null;
-                }
-                return heightUnits.get(decoded);
-            });
+            var decoded = decode(id);
+            if (decoded.epoch() != epoch) {
+                return null;
+            }
+            return optimistic(() -> heightUnits.get(decoded));
         }
 
         @Override
         public void have(DigestBloomFilter biff) {
-            read(() -> {
-                units.entrySet()
-                     .stream()
-                     .filter(e -> e.getValue().epoch() == epoch)
-                     .map(e -> e.getKey())
-                     .forEach(d -> biff.add(d));
-            });
+            var snapshot = snapshot();
+            var digests = snapshot.digests();
+            for (int i = 0; i < snapshot.count(); i++) {
+                biff.add(digests[i]);
+            }
         }
 
         @Override
@@ -276,7 +279,9 @@ public interface Dag {
                 }
                 heightUnits.updateHeight(unit);
                 levelUnits.updateLevel(unit);
-                units.put(unit.hash(), unit);
+                if (units.put(unit.hash(), unit) == null) {
+                    append(unit);
+                }
                 updateMaximal(unit);
                 log.trace("Inserted: {}:{} on: {}", v.hash(), v, config.logLabel());
                 for (var hook : postInsert) {
@@ -292,34 +297,34 @@ public interface Dag {
 
         @Override
         public void iterateMaxUnitsPerProcess(Consumer<Unit> work) {
-            read(() -> maximalUnitsPerProcess().forEach(work));
+            for (var u : optimistic(() -> maxUnits.clone())) {
+                work.accept(u);
+            }
         }
 
         @Override
         public void iterateUnits(Function<Unit, Boolean> consumer) {
-            read(() -> {
-                for (Unit u : units.values()) {
-                    if (!consumer.apply(u)) {
-                        break;
-                    }
+            var snapshot = snapshot();
+            var inserted = snapshot.units();
+            for (int i = 0; i < snapshot.count(); i++) {
+                if (!consumer.apply(inserted[i])) {
+                    break;
                 }
-            });
+            }
         }
 
         @Override
         public void iterateUnitsOnLevel(int level, Function<Unit, Boolean> work) {
-            read(() -> {
-                for (var u : unitsOnLevel(level)) {
-                    if (u != null && !work.apply(u)) {
-                        return;
-                    }
+            for (var u : unitsOnLevel(level)) {
+                if (u != null && !work.apply(u)) {
+                    return;
                 }
-            });
+            }
         }
 
         @Override
         public int maxLevel() {
-            return read(() -> {
+            return optimistic(() -> {
                 int maxLevel = -1;
                 for (Unit unit : maxUnits) {
                     if (unit != null && unit.level() > maxLevel) {
@@ -333,7 +338,7 @@ public interface Dag {
 
         @Override
         public DagInfo maxView() {
-            return read(() -> {
+            return optimistic(() -> {
                 var heights = new int[config.nProc()];
                 int i = 0;
                 for (var u : maxUnits) {
@@ -349,29 +354,32 @@ public interface Dag {
 
         @Override
         public List<Unit> maximalUnitsPerProcess() {
-            return read(() -> Arrays.asList(maxUnits));
+            return Arrays.asList(maxUnits);
         }
 
         @Override
         public void missing(BloomFilter<Digest> have, List<PreUnit_s> missing) {
-            read(() -> {
-                units.entrySet().forEach(e -> {
-                    if (!have.contains(e.getKey())) {
-                        missing.add(e.getValue().toPreUnit_s());
-                    }
-                });
-            });
+            var snapshot = snapshot();
+            var inserted = snapshot.units();
+            var digests = snapshot.digests();
+            for (int i = 0; i < snapshot.count(); i++) {
+                if (!have.contains(digests[i])) {
+                    missing.add(inserted[i].toPreUnit_s());
+                }
+            }
         }
 
         @Override
         public void missing(BloomFilter<Digest> have, Map<Digest, PreUnit_s> missing) {
-            read(() -> {
-                units.entrySet().forEach(e -> {
-                    if (e.getValue().epoch() == epoch && !have.contains(e.getKey())) {
-                        missing.computeIfAbsent(e.getKey(), h -> e.getValue().toPreUnit_s());
-                    }
-                });
-            });
+            var snapshot = snapshot();
+            var inserted = snapshot.units();
+            var digests = snapshot.digests();
+            for (int i = 0; i < snapshot.count(); i++) {
+                if (!have.contains(digests[i])) {
+                    final var u = inserted[i];
+                    missing.computeIfAbsent(digests[i], h -> u.toPreUnit_s());
+                }
+            }
         }
 
         @Override
@@ -386,56 +394,111 @@ public interface Dag {
 
         @Override
         public <T> T read(Callable<T> call) {
-            final Lock lock = rwLock.readLock();
-            lock.lock();
+            if (writer == Thread.currentThread()) {
+                try {
+                    return call.call();
+                } catch (Exception e) {
+                    throw new IllegalStateException("Error during read locked call on: " + config.logLabel(), e);
+                }
+            }
+            final var stamp = lock.readLock();
             try {
                 return call.call();
             } catch (Exception e) {
                 throw new IllegalStateException("Error during read locked call on: " + config.logLabel(), e);
             } finally {
-                lock.unlock();
+                lock.unlockRead(stamp);
             }
         }
 
         @Override
         public void read(Runnable r) {
-            final Lock lock = rwLock.readLock();
-            lock.lock();
-            try {
+            read(() -> {
                 r.run();
-            } catch (Exception e) {
-                throw new IllegalStateException("Error during read locked call on: " + config.logLabel(), e);
-            } finally {
-                lock.unlock();
-            }
+                return null;
+            });
         }
 
         @Override
         public List<Unit> unitsAbove(int[] heights) {
-            return read(() -> {
-                if (heights == null) {
-                    return units.values().stream().toList();
-                }
-                return heightUnits.above(heights);
-            });
+            if (heights == null) {
+                var snapshot = snapshot();
+                return Arrays.asList(Arrays.copyOf(snapshot.units(), snapshot.count()));
+            }
+            return optimistic(() -> heightUnits.above(heights));
         }
 
         @Override
         public List<Unit> unitsOnLevel(int level) {
-            return read(() -> levelUnits.on(level));
+            return optimistic(() -> levelUnits.on(level));
         }
 
         @Override
         public void write(Runnable r) {
-            final Lock lock = rwLock.writeLock();
-            lock.lock();
+            if (writer == Thread.currentThread()) {
+                r.run();
+                return;
+            }
+            final var stamp = lock.writeLock();
+            writer = Thread.currentThread();
             try {
                 r.run();
             } catch (Exception e) {
                 throw new IllegalStateException("Error during write locked call on: " + config.logLabel(), e);
             } finally {
-                lock.unlock();
+                writer = null;
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        /**
+         * Append the unit to the insertion arrays. The arrays are replaced, never modified below the count, when
+         * grown
+         */
+        private void append(Unit unit) {
+            if (count == insertedUnits.length) {
+                insertedUnits = Arrays.copyOf(insertedUnits, count * 2);
+                insertedDigests = Arrays.copyOf(insertedDigests, count * 2);
             }
+            insertedUnits[count] = unit;
+            insertedDigests[count] = unit.hash();
+            count++;
+        }
+
+        /**
+         * Answer the result of the read, validated by an optimistic read of the lock, or made under the read lock if
+         * an insert intervened. The read must tolerate inconsistent state, as its result is discarded if invalid
+         */
+        private <T> T optimistic(Supplier<T> read) {
+            if (writer == Thread.currentThread()) {
+                return read.get();
+            }
+            var stamp = lock.tryOptimisticRead();
+            if (stamp != 0) {
+                try {
+                    var result = read.get();
+                    if (lock.validate(stamp)) {
+                        return result;
+                    }
+                } catch (RuntimeException e) {
+                    if (lock.validate(stamp)) {
+                        throw e;
+                    }
+                }
+            }
+            stamp = lock.readLock();
+            try {
+                return read.get();
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        /**
+         * @return the insertion arrays and the count of their entries, which never change once inserted
+         */
+        private Snapshot snapshot() {
+            return optimistic(() -> new Snapshot(insertedUnits, insertedDigests, count));
         }
 
         private void updateMaximal(Unit u) {
@@ -446,6 +509,9 @@ public interface Dag {
             }
 
         }
+
+        private record Snapshot(Unit[] units, Digest[] digests, int count) {
+        }
     }
 
     record DecodedR(Unit[] parents) implements Decoded {
@@ -458,12 +524,21 @@ public interface Dag {
     record DagInfo(int epoch, int[] heights) {
     }
 
+    /**
+     * A primitive index of units by creator and height, or level: a single array of the fibers of each height, width
+     * units wide, grown geometrically. Reads bound their indices by the array they read, so that they are safe when
+     * made optimistically
+     */
     class fiberMap {
-        private final List<Unit[]> content = new ArrayList<>();
-        private final short        width;
+        private static final int INITIAL_HEIGHTS = 16;
+
+        private final short  width;
+        private       Unit[] content;
+        private       int    length;
 
         fiberMap(short width) {
             this.width = width;
+            this.content = new Unit[width * INITIAL_HEIGHTS];
         }
 
         public List<Unit> above(int[] heights) {
@@ -476,12 +551,14 @@ public interface Dag {
                     min = heights[i];
                 }
             }
+            final var fibers = content;
+            final var l = Math.min(length, fibers.length / width);
             var result = new ArrayList<Unit>();
-            for (int height = min + 1; height < length(); height++) {
-                final var su = content.get(height);
+            for (int height = min + 1; height < l; height++) {
+                final var base = height * width;
                 for (short i = 0; i < width; i++) {
                     if (height > heights[i]) {
-                        result.add(su[i]);
+                        result.add(fibers[base + i]);
                     }
                 }
             }
@@ -489,88 +566,82 @@ public interface Dag {
         }
 
         public boolean contains(DecodedId decoded) {
-            if (decoded.height() >= content.size()) {
-                return false;
-            }
-            final var fiber = content.get(decoded.height());
-            return fiber[decoded.creator()] != null;
+            return get(decoded) != null;
         }
 
         public Unit get(DecodedId decoded) {
-            if (decoded.height() >= content.size()) {
-                return null;
-            }
-            final var fiber = content.get(decoded.height());
-            return fiber[decoded.creator()];
+            return get(content, decoded.height(), decoded.creator());
         }
 
         /**
-         * get takes a list of heights (of length nProc) and returns a slice (of length nProc) of slices of
-         * corresponding units. The second returned value is the number of unknown units (no units for that
+         * get takes a list of heights (of length nProc) and resolves the corresponding units into the supplied array
+         * (of length nProc), with null for a height of -1. Answer the number of unknown units (no units for that
          * creator-height pair).
          */
-        public getResult get(int[] heights) {
-            if (heights.length != width) {
+        public int get(int[] heights, Unit[] result) {
+            if (heights.length != width || result.length != width) {
                 throw new IllegalStateException(
                 "Wrong number of heights passed to fiber map: " + heights.length + " expected: " + width);
             }
-            List<Unit> result = IntStream.range(0, width).mapToObj(e -> (Unit) null).collect(Collectors.toList());
+            final var fibers = content;
             var unknown = 0;
             for (short pid = 0; pid < heights.length; pid++) {
                 var h = heights[pid];
                 if (h == -1) {
+                    result[pid] = null;
                     continue;
                 }
-                final var su = (h < content.size()) ? content.get(h) : null;
-                if (su != null) {
-                    result.set(pid, su[pid]);
-                }
-                if (result.get(pid) == null) {
+                result[pid] = get(fibers, h, pid);
+                if (result[pid] == null) {
                     unknown++;
                 }
-
             }
-            return new getResult(result, unknown);
+            return unknown;
         }
 
         public int length() {
-            return content.size();
+            return length;
         }
 
         public List<Unit> on(int level) {
-            if (level >= content.size()) {
+            final var fibers = content;
+            final var base = level * width;
+            if (level < 0 || level >= length || base + width > fibers.length) {
                 return Collections.emptyList();
             }
-            final var fiber = content.get(level);
-            return Arrays.asList(fiber);
+            return Arrays.asList(Arrays.copyOfRange(fibers, base, base + width));
         }
 
         public void updateHeight(Unit u) {
             assert u != null : "Cannot insert null unit";
-            final var fiber = getFiber(u.height());
-            if (fiber[u.creator()] == null) {
-                fiber[u.creator()] = u;
-            }
+            update(u.height(), u);
         }
 
         public void updateLevel(Unit u) {
             assert u != null : "Cannot insert null unit";
-            final var fiber = getFiber(u.level());
-            if (fiber[u.creator()] == null) {
-                fiber[u.creator()] = u;
-            }
+            update(u.level(), u);
         }
 
-        private Unit[] getFiber(int height) {
-            if (content.size() < height + 1) {
-                for (var i = content.size() - 1; i < height + 1; i++) {
-                    content.add(new Unit[width]);
-                }
+        private Unit get(Unit[] fibers, int height, short creator) {
+            if (height < 0 || height >= length || creator < 0 || creator >= width) {
+                return null;
             }
-            return content.get(height);
+            final var index = height * width + creator;
+            return index < fibers.length ? fibers[index] : null;
         }
 
-        public record getResult(List<Unit> result, int unknown) {
+        private void update(int height, Unit u) {
+            if (height >= length) {
+                var required = (height + 1) * width;
+                if (required > content.length) {
+                    content = Arrays.copyOf(content, Math.max(required, content.length * 2));
+                }
+                length = height + 1;
+            }
+            final var index = height * width + u.creator();
+            if (content[index] == null) {
+                content[index] = u;
+            }
         }
     }
 
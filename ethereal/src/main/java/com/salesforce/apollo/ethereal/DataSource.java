@@ -15,4 +15,12 @@ import com.google.protobuf.ByteString;
 public interface DataSource {
 
     ByteString getData();
+
+    /**
+     * @return the fill level, from 0 to 1, of a unit's byte budget by the data immediately available. Sources that
+     * cannot tell answer 1, and the creation of units is then never delayed for their data
+     */
+    default double unitFill() {
+        return 1.0;
+    }
 }
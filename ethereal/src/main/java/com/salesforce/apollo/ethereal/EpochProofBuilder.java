@@ -183,7 +183,7 @@ public interface EpochProofBuilder {
         }
 
         private ByteString encodeSignature(JohnHancock sig, EpochProof proof) {
-            return proof.toByteString();
+            return proof.toBuilder().clearOwner().setSignature(sig.toSig()).build().toByteString();
         }
 
     }
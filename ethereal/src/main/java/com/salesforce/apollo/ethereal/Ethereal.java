@@ -13,6 +13,7 @@ import com.salesforce.apollo.ethereal.EpochProofBuilder.epochProofImpl;
 import com.salesforce.apollo.ethereal.EpochProofBuilder.sharesDB;
 import com.salesforce.apollo.ethereal.linear.Extender;
 import com.salesforce.apollo.ethereal.linear.TimingRound;
+import com.salesforce.apollo.ethereal.memberships.comm.EtherealMetrics;
 import com.salesforce.apollo.ethereal.proto.Gossip;
 import com.salesforce.apollo.ethereal.proto.Missing;
 import com.salesforce.apollo.ethereal.proto.Update;
@@ -48,11 +49,17 @@ public class Ethereal {
 
     public Ethereal(Config config, int maxSerializedSize, DataSource ds, BiConsumer<List<ByteString>, Boolean> blocker,
                     Consumer<Integer> newEpochAction, String label) {
-        this(label, config, maxSerializedSize, ds, blocker(blocker, config), newEpochAction);
+        this(config, maxSerializedSize, ds, blocker, newEpochAction, label, null);
+    }
+
+    public Ethereal(Config config, int maxSerializedSize, DataSource ds, BiConsumer<List<ByteString>, Boolean> blocker,
+                    Consumer<Integer> newEpochAction, String label, EtherealMetrics metrics) {
+        this(label, config, maxSerializedSize, ds, blocker(blocker, config), newEpochAction, metrics);
     }
 
     private Ethereal(String label, Config conf, int maxSerializedSize, DataSource ds,
-                     BiConsumer<Boolean, List<Unit>> toPreblock, Consumer<Integer> newEpochAction) {
+                     BiConsumer<Boolean, List<Unit>> toPreblock, Consumer<Integer> newEpochAction,
+                     EtherealMetrics metrics) {
         if (!Dag.validate(conf.nProc())) {
             throw new IllegalArgumentException("Invalid # of processes, unable to build quorum: " + conf.nProc());
         }
@@ -61,21 +68,25 @@ public class Ethereal {
         this.toPreblock = toPreblock;
         this.newEpochAction = newEpochAction;
         this.maxSerializedSize = maxSerializedSize;
-        this.consumer = consumer(label);
+        this.consumer = consumer(label, conf.schedulers().threadFactory());
 
         creator = new Creator(config, ds, lastTiming, u -> {
             assert u.creator() == config.pid();
             log.trace("Sending: {} on: {}", u, config.logLabel());
             insert(u);
-        }, epoch -> new epochProofImpl(config, epoch, new sharesDB(config, new ConcurrentHashMap<>())));
+        }, epoch -> new epochProofImpl(config, epoch, new sharesDB(config, new ConcurrentHashMap<>())),
+                              config.paced() ? new Pacer(config.nProc(), config.maxLinger(), config.lingerFill())
+                                             : null, metrics);
 
         log.trace("Configured {} processes {}", config.nProc(), config.logLabel());
     }
 
-    private static ThreadPoolExecutor consumer(String label) {
-        return new ThreadPoolExecutor(1, 1, 10, TimeUnit.MINUTES, new PriorityBlockingQueue<>(),
-                                      Thread.ofVirtual().name("Ethereal Consumer[" + label + "]").factory(),
-                                      (r, t) -> log.trace("Shutdown, cannot consume unit"));
+    private static ThreadPoolExecutor consumer(String label, ThreadFactory threads) {
+        return new ThreadPoolExecutor(1, 1, 10, TimeUnit.MINUTES, new PriorityBlockingQueue<>(), r -> {
+            var thread = threads.newThread(r);
+            thread.setName("Ethereal Consumer[" + label + "]");
+            return thread;
+        }, (r, t) -> log.trace("Shutdown, cannot consume unit"));
     }
 
     /**
@@ -233,6 +244,7 @@ public class Ethereal {
         final var handleTimingRounds = handleTimingRounds();
         Extender ext = new Extender(dg, config);
         final var lastTU = new AtomicReference<TimingRound>();
+        dg.afterInsert(ext::observe);
         dg.afterInsert(u -> {
             if (!started.get()) {
                 return;
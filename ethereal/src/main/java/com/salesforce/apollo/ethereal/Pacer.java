@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.ethereal;
+
+import java.time.Duration;
+
+/**
+ * Adaptive pacing of unit creation. When the Creator has enough parents for a unit on the next level, but the data
+ * immediately available would fill only part of the unit's byte budget, the Pacer determines how long the creation of
+ * the unit may linger for more data to arrive. Lingering is bounded by a fraction of the recent unit round trip - the
+ * time from the creation of the previous unit to the quorum of parents on its level - and by the maximum linger of the
+ * receiver. Units on the critical path are never delayed: when every process has produced a unit on the previous
+ * level, or any process has already produced a unit on the next level, the receiver is the one being waited on and the
+ * unit is created immediately.
+ *
+ * @author hal.hildebrand
+ */
+public class Pacer {
+    public static final Duration DEFAULT_MAX_LINGER = Duration.ofMillis(50);
+    public static final double   DEFAULT_FULL       = 0.75;
+
+    private static final double RTT_FRACTION = 0.25;
+    private static final double SMOOTHING    = 0.125;
+
+    private final double full;
+    private final long   maxLinger;
+    private final short  nProc;
+    private       int    createdLevel = -1;
+    private       long   createdAt;
+    private       int    readyLevel   = -1;
+    private       long   readyAt;
+    private       double rtt          = -1;
+
+    public Pacer(short nProc) {
+        this(nProc, DEFAULT_MAX_LINGER, DEFAULT_FULL);
+    }
+
+    /**
+     * @param nProc     - the number of processes
+     * @param maxLinger - the maximum time the creation of a unit may linger
+     * @param full      - the fill level, from 0 to 1, of the unit's byte budget at which units are created immediately
+     */
+    public Pacer(short nProc, Duration maxLinger, double full) {
+        if (full < 0 || full > 1) {
+            throw new IllegalArgumentException("Full must be between 0 and 1: " + full);
+        }
+        this.nProc = nProc;
+        this.maxLinger = maxLinger.toMillis();
+        this.full = full;
+    }
+
+    /**
+     * Record the creation of a unit of the receiver's process
+     *
+     * @param level - the level of the created unit
+     * @param now   - the time of creation, in milliseconds
+     */
+    public void created(int level, long now) {
+        createdLevel = level;
+        createdAt = now;
+    }
+
+    /**
+     * Answer the time the creation of the unit on the level may linger for more data
+     *
+     * @param level   - the level of the unit to create
+     * @param fill    - the fill level of the unit's byte budget by the data available, from 0 to 1
+     * @param arrived - the number of parents on the previous level
+     * @param ahead   - the number of processes with a unit on the level or above
+     * @param now     - the current time, in milliseconds
+     * @return the remaining time, in milliseconds, the unit may linger; 0 if the unit should be created now
+     */
+    public long linger(int level, double fill, int arrived, int ahead, long now) {
+        if (readyLevel != level) {
+            readyLevel = level;
+            readyAt = now;
+            if (createdLevel == level - 1) {
+                var sample = (double) (now - createdAt);
+                rtt = rtt < 0 ? sample : rtt + SMOOTHING * (sample - rtt);
+            }
+        }
+        if (fill >= full || arrived >= nProc || ahead > 0 || rtt < 0) {
+            return 0;
+        }
+        var budget = Math.min(maxLinger, (long) (rtt * RTT_FRACTION * (1.0 - fill / full)));
+        return Math.max(0, readyAt + budget - now);
+    }
+
+    /**
+     * Forget the levels of the created and ready units, retaining the round trip estimate. Levels restart with each
+     * epoch, so the levels of the previous epoch must neither suppress the linger deadline nor be sampled
+     */
+    public void reset() {
+        createdLevel = -1;
+        readyLevel = -1;
+    }
+
+    /**
+     * @return the smoothed unit round trip time, in milliseconds, or -1 if not yet sampled
+     */
+    public double rtt() {
+        return rtt;
+    }
+}
@@ -13,8 +13,9 @@ import com.salesforce.apollo.cryptography.JohnHancock;
 import com.salesforce.apollo.cryptography.Verifier;
 import com.salesforce.apollo.ethereal.proto.PreUnit_s;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 
 /**
@@ -87,28 +88,39 @@ public interface Unit extends PreUnit {
         return maximal.toArray(new Unit[maximal.size()]);
     }
 
+    /**
+     * Answer the supplied units, each preceded by those of its ancestors that are supplied. The depth first traversal
+     * of the parents is iterative, over an explicit stack
+     */
     static List<Unit> topologicalSort(List<Unit> units) {
-        List<Unit> result = new ArrayList<>();
-        return buildReverseDfsOrder(units, result);
-    }
-
-    private static List<Unit> buildReverseDfsOrder(List<Unit> units, List<Unit> result) {
-        var notVisited = new HashMap<Digest, Boolean>();
+        var notVisited = new HashSet<Digest>(units.size() * 2);
         for (var unit : units) {
-            notVisited.put(unit.hash(), true);
+            notVisited.add(unit.hash());
         }
+        var result = new ArrayList<Unit>(units.size());
+        var stack = new ArrayDeque<Unit>();
+        var next = new ArrayDeque<int[]>();
         for (var unit : units) {
-            result = reverseDfsOrder(unit, notVisited, result);
-        }
-        return result;
-    }
-
-    private static List<Unit> reverseDfsOrder(Unit unit, HashMap<Digest, Boolean> notVisited, List<Unit> result) {
-        if (notVisited.put(unit.hash(), false)) {
-            for (var parent : unit.parents()) {
-                result = reverseDfsOrder(parent, notVisited, result);
+            if (!notVisited.remove(unit.hash())) {
+                continue;
+            }
+            stack.push(unit);
+            next.push(new int[1]);
+            while (!stack.isEmpty()) {
+                var parents = stack.peek().parents();
+                var i = next.peek();
+                while (i[0] < parents.length && (parents[i[0]] == null || !notVisited.remove(
+                parents[i[0]].hash()))) {
+                    i[0]++;
+                }
+                if (i[0] < parents.length) {
+                    stack.push(parents[i[0]++]);
+                    next.push(new int[1]);
+                } else {
+                    result.add(stack.pop());
+                    next.pop();
+                }
             }
-            result.add(unit);
         }
         return result;
     }
@@ -176,9 +188,16 @@ public interface Unit extends PreUnit {
         return 0;
     }
 
+    /**
+     * @return the fragment of the crowns of the receiver's children: the bytes of the receiver's digest
+     */
+    default byte[] crownFragment() {
+        return hash().getBytes();
+    }
+
     default Unit embed(Dag dag) {
         assert this.parents().length == dag.nProc();
-        return new unitInDag(this, computeForkingHeight(dag));
+        return new unitInDag(this, computeForkingHeight(dag), hash().getBytes());
     }
 
     Unit[] floor(short slice);
@@ -192,7 +211,10 @@ public interface Unit extends PreUnit {
         return parents()[creator()];
     }
 
-    record unitInDag(Unit unit, int forkingHeight) implements Unit {
+    /**
+     * A unit embedded in the dag, with its forking height and its cached crown fragment
+     */
+    record unitInDag(Unit unit, int forkingHeight, byte[] crownFragment) implements Unit {
 
         @Override
         public boolean aboveWithinProc(Unit v) {
@@ -9,14 +9,21 @@ package com.salesforce.apollo.ethereal;
 import com.salesforce.apollo.ethereal.proto.EpochProof;
 import com.salesforce.apollo.ethereal.proto.Proof;
 import com.salesforce.apollo.cryptography.JohnHancock;
+import com.salesforce.apollo.cryptography.MultiSignature;
 import com.salesforce.apollo.cryptography.SignatureAlgorithm;
+import com.salesforce.apollo.cryptography.Signer;
+import com.salesforce.apollo.cryptography.Verifier;
+import com.salesforce.apollo.cryptography.Verifier.DefaultVerifier;
 import com.salesforce.apollo.ethereal.EpochProofBuilder.DecodedShare;
 import com.salesforce.apollo.ethereal.EpochProofBuilder.Share;
 import org.joou.ULong;
 
+import java.security.PublicKey;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * @author hal.hildebrand
@@ -39,6 +46,91 @@ public interface WeakThresholdKey {
 
     boolean verifySignature(EpochProof decoded);
 
+    /**
+     * A weak threshold key of compact multi-signatures over the members' individual signing keys. A share is the
+     * member's signature of the proof; the combined signature is the MultiSignature of the threshold of shares with
+     * the lowest member indices, verified against the keys of the committee
+     */
+    class MultiSigWeakThresholdKey implements WeakThresholdKey {
+        private final Map<Short, Boolean> shareProviders = new HashMap<>();
+        private final Signer              signer;
+        private final int                 threshold;
+        private final Verifier[]          verifiers;
+
+        /**
+         * @param keys      - the public keys of the committee, indexed by pid
+         * @param signer    - the signer of the member's shares
+         * @param threshold - the number of shares required for a signature
+         */
+        public MultiSigWeakThresholdKey(PublicKey[] keys, Signer signer, int threshold) {
+            this(Arrays.stream(keys).map(k -> k == null ? null : new DefaultVerifier(k)).toArray(Verifier[]::new),
+                 signer, threshold);
+        }
+
+        /**
+         * @param verifiers - the verifiers of the committee's keys, indexed by pid
+         * @param signer    - the signer of the member's shares
+         * @param threshold - the number of shares required for a signature
+         */
+        public MultiSigWeakThresholdKey(Verifier[] verifiers, Signer signer, int threshold) {
+            this.verifiers = verifiers;
+            this.signer = signer;
+            this.threshold = threshold;
+            for (short pid = 0; pid < verifiers.length; pid++) {
+                shareProviders.put(pid, verifiers[pid] != null);
+            }
+        }
+
+        @Override
+        public JohnHancock combineShares(Collection<Share> shareSlice) {
+            var signatures = new TreeMap<Integer, JohnHancock>();
+            for (var share : shareSlice) {
+                if (share != null && share.owner() >= 0 && share.owner() < verifiers.length) {
+                    signatures.put((int) share.owner(), share.signature());
+                }
+            }
+            return MultiSignature.combine(verifiers.length, threshold, signatures);
+        }
+
+        @Override
+        public Share createShare(Proof proof, short pid) {
+            return new Share(pid, signer.sign(proof.toByteString()));
+        }
+
+        @Override
+        public Map<Short, Boolean> shareProviders() {
+            return shareProviders;
+        }
+
+        @Override
+        public int threshold() {
+            return threshold;
+        }
+
+        @Override
+        public boolean verifyShare(DecodedShare share) {
+            if (share.share() == null) {
+                return false;
+            }
+            var owner = share.share().owner();
+            if (owner < 0 || owner >= verifiers.length || verifiers[owner] == null) {
+                return false;
+            }
+            var signature = share.share().signature();
+            return signature.signatureCount() == 1 && verifiers[owner].verify(signature,
+                                                                               share.proof().getMsg().toByteString());
+        }
+
+        @Override
+        public boolean verifySignature(EpochProof decoded) {
+            if (!decoded.hasSignature()) {
+                return false;
+            }
+            return MultiSignature.verify(JohnHancock.from(decoded.getSignature()), verifiers, threshold,
+                                         decoded.getMsg().toByteString());
+        }
+    }
+
     class NoOpWeakThresholdKey implements WeakThresholdKey {
         private final Map<Short, Boolean> shareProviders = new HashMap<>();
         private final int                 threshold;
@@ -30,12 +30,14 @@ public class Extender {
     private final Config                                conf;
     private final Dag                                   dag;
     private final HashMap<Digest, SuperMajorityDecider> deciders = new HashMap<>();
+    private final Linearizer                            linearizer;
     private final String                                logLabel;
 
     public Extender(Dag dag, Config conf) {
         this.dag = dag;
         this.conf = conf;
         logLabel = conf.logLabel();
+        linearizer = new Linearizer(conf.nProc(), conf.digestAlgorithm(), logLabel);
     }
 
     /**
@@ -50,7 +52,7 @@ public class Extender {
             log.trace("Choose TR, last: {} on: {}", lastTU, conf.logLabel());
             next = nextRound(last);
             if (next != null && !next.equals(last)) {
-                var units = next.orderedUnits(conf.digestAlgorithm(), conf.logLabel());
+                var units = linearizer.order(next);
                 log.trace("Output of: {} preBlock: {} on: {}", next, units, conf.logLabel());
                 output.accept(units);
                 last = next;
@@ -63,6 +65,21 @@ public class Extender {
         return next;
     }
 
+    /**
+     * Record the vote of the newly inserted unit on the candidate timing units being decided. Registered as an after
+     * insert hook of the dag, so that votes are decided incrementally as units are inserted. Only prime units vote; a
+     * unit that is not its creator's unit on its level - a fork, or a unit that did not raise its creator's level - is
+     * ignored, as it is by the scan of the levels
+     */
+    public void observe(Unit u) {
+        if (!UnanimousVoter.isPrime(dag, u)) {
+            return;
+        }
+        for (var decider : deciders.values()) {
+            decider.observe(u);
+        }
+    }
+
     public TimingRound nextRound(TimingRound lastTU) {
         var dagMaxLevel = dag.maxLevel();
         log.trace("Begin round, {} dag mxLvl: {} on: {}", lastTU, dagMaxLevel, FIRST_DECIDED_ROUND, logLabel);
@@ -77,6 +94,10 @@ public class Extender {
             return lastTU;
         }
 
+        // deciders of candidates behind the round are no longer consulted
+        final var round = level;
+        deciders.values().removeIf(decider -> decider.candidateLevel() < round);
+
         var units = dag.unitsOnLevel(level);
 
         var decided = false;
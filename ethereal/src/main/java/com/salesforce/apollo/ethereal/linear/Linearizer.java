@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.ethereal.linear;
+
+import com.salesforce.apollo.cryptography.Digest;
+import com.salesforce.apollo.cryptography.DigestAlgorithm;
+import com.salesforce.apollo.ethereal.Unit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+/**
+ * Establishes the linear order of the units of successive timing rounds. The units of a round are those below its
+ * timing unit that have not been ordered in a previous round, divided into antichain layers: the 0th layer is formed by
+ * the minimal units of the round, the 1st by the minimal units when the 0th layer is removed, etc. Units are ordered by
+ * layer, and within a layer by the xor of their digest with the xor of all the digests of the round.
+ * <p>
+ * The traversal is iterative, over an explicit stack, so that deep rounds do not overflow the stack of the (virtual)
+ * thread. The round in which a unit was visited, and its layer, are memoized in primitive arrays indexed by the
+ * unit's creator and height; the units of forks colliding with an indexed unit are memoized by digest. As in the
+ * recursive ordering this replaces, a unit has been ordered if it is below the previous timing unit of the round. When
+ * the receiver orders successive rounds, the units visited by the previous round are below the previous timing unit by
+ * construction, so the traversal stops at them without testing; only units visited before then, or never, are tested
+ * against the previous timing unit. A round that does not succeed the last round ordered resets the receiver.
+ *
+ * @author hal.hildebrand
+ */
+public class Linearizer {
+    private static final int    INITIAL_HEIGHTS = 16;
+    private static final Logger log             = LoggerFactory.getLogger(Linearizer.class);
+
+    private final DigestAlgorithm   digestAlgorithm;
+    private final Map<Digest, Long> forks = new HashMap<>();
+    private final String            logLabel;
+    private final short             nProc;
+    private       Unit              base;
+    private       Unit              lastOrdered;
+    private       int[]             layers;
+    private       int[]             next;
+    private       Unit[]            owners;
+    private       int               round;
+    private       int[]             rounds;
+    private       Unit[]            stack;
+
+    public Linearizer(short nProc, DigestAlgorithm digestAlgorithm, String logLabel) {
+        this.nProc = nProc;
+        this.digestAlgorithm = digestAlgorithm;
+        this.logLabel = logLabel;
+        layers = new int[nProc * INITIAL_HEIGHTS];
+        owners = new Unit[nProc * INITIAL_HEIGHTS];
+        rounds = new int[nProc * INITIAL_HEIGHTS];
+        stack = new Unit[INITIAL_HEIGHTS];
+        next = new int[INITIAL_HEIGHTS];
+    }
+
+    /**
+     * Answer the units of the timing round, in linear order
+     */
+    public List<Unit> order(TimingRound timingRound) {
+        if (round == 0 || !Objects.equals(lastOrdered, timingRound.lastTU())) {
+            reset();
+        }
+        round++;
+        base = timingRound.lastTU();
+        var result = layers(timingRound.currentTU());
+        lastOrdered = timingRound.currentTU();
+        return merge(result);
+    }
+
+    private int index(Unit u) {
+        return u.height() * nProc + u.creator();
+    }
+
+    /**
+     * Answer the antichain layers of the units below the timing unit that have not been ordered
+     */
+    private List<List<Unit>> layers(Unit tu) {
+        var result = new ArrayList<List<Unit>>();
+        var depth = 0;
+        push(tu, depth++);
+        while (depth > 0) {
+            var u = stack[depth - 1];
+            var parents = u.parents();
+            var pushed = false;
+            for (int i = next[depth - 1]; i < parents.length; i++) {
+                var parent = parents[i];
+                if (parent == null) {
+                    continue;
+                }
+                var visited = visited(parent);
+                if (visited == round || ordered(parent, visited)) {
+                    continue;
+                }
+                next[depth - 1] = i + 1;
+                push(parent, depth++);
+                pushed = true;
+                break;
+            }
+            if (pushed) {
+                continue;
+            }
+            var minLayerBelow = -1;
+            for (var parent : parents) {
+                if (parent == null) {
+                    continue;
+                }
+                var state = state(parent);
+                if ((int) (state >>> 32) != round) {
+                    continue; // ordered in a previous round
+                }
+                minLayerBelow = Math.max(minLayerBelow, (int) state);
+            }
+            var layer = minLayerBelow + 1;
+            set(u, round, layer);
+            if (result.size() <= layer) {
+                result.add(new ArrayList<>());
+            }
+            result.get(layer).add(u);
+            log.trace("Traversed: {} layer: {} on: {}", u.shortString(), layer, logLabel);
+            stack[--depth] = null;
+        }
+        return result;
+    }
+
+    private List<Unit> merge(List<List<Unit>> layers) {
+        Digest totalXOR = digestAlgorithm.getOrigin();
+        var count = 0;
+        for (var layer : layers) {
+            for (var u : layer) {
+                totalXOR = totalXOR.xor(u.hash());
+                count++;
+            }
+        }
+        var sortedUnits = new ArrayList<Unit>(count);
+        for (var layer : layers) {
+            var tiebreakers = new ArrayList<Tiebreaker>(layer.size());
+            for (var u : layer) {
+                tiebreakers.add(new Tiebreaker(totalXOR.xor(u.hash()), u));
+            }
+            tiebreakers.sort(Comparator.comparing(Tiebreaker::key));
+            for (var t : tiebreakers) {
+                sortedUnits.add(t.unit());
+            }
+        }
+        return sortedUnits;
+    }
+
+    /**
+     * NOTE we can prove that comparing with last k timing units, where k is the first round for which the deterministic
+     * common vote is zero, is enough to verify if a unit was already ordered. Since the common vote for round k is 0,
+     * every unit on level tu.Level()+k must be above a timing unit tu, otherwise some unit would decide 0 for it.
+     */
+    private boolean ordered(Unit u, int visited) {
+        if (visited != 0 && visited == round - 1) {
+            return true; // visited from the previous timing unit
+        }
+        return base != null && u.level() <= base.level() && base.above(u);
+    }
+
+    private void push(Unit u, int depth) {
+        if (depth == stack.length) {
+            stack = Arrays.copyOf(stack, depth * 2);
+            next = Arrays.copyOf(next, depth * 2);
+        }
+        stack[depth] = u;
+        next[depth] = 0;
+        set(u, round, -1);
+    }
+
+    private void reset() {
+        Arrays.fill(owners, null);
+        Arrays.fill(rounds, 0);
+        forks.clear();
+        round = 0;
+    }
+
+    private void set(Unit u, int visited, int layer) {
+        var index = index(u);
+        if (index >= owners.length) {
+            var length = Math.max(index + nProc, owners.length * 2);
+            layers = Arrays.copyOf(layers, length);
+            owners = Arrays.copyOf(owners, length);
+            rounds = Arrays.copyOf(rounds, length);
+        }
+        var owner = owners[index];
+        if (owner == null || owner == u || owner.hash().equals(u.hash())) {
+            owners[index] = u;
+            rounds[index] = visited;
+            layers[index] = layer;
+        } else {
+            forks.put(u.hash(), ((long) visited << 32) | (layer & 0xFFFFFFFFL));
+        }
+    }
+
+    /**
+     * @return the round the unit was visited in, in the high word, and its layer in the low word; 0 if unvisited
+     */
+    private long state(Unit u) {
+        var index = index(u);
+        if (index >= owners.length) {
+            return 0;
+        }
+        var owner = owners[index];
+        if (owner == null) {
+            return 0;
+        }
+        if (owner == u || owner.hash().equals(u.hash())) {
+            return ((long) rounds[index] << 32) | (layers[index] & 0xFFFFFFFFL);
+        }
+        return forks.getOrDefault(u.hash(), 0L);
+    }
+
+    private int visited(Unit u) {
+        return (int) (state(u) >>> 32);
+    }
+
+    private record Tiebreaker(Digest key, Unit unit) {
+    }
+}
@@ -6,6 +6,7 @@
  */
 package com.salesforce.apollo.ethereal.linear;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
@@ -35,13 +36,32 @@ public record UnanimousVoter(Dag dag, Unit uc, Map<Digest, Vote> votingMemo, Str
 
     private record votingResult(short popular, short unpopular) {}
 
+    /**
+     * Decides the popularity of the candidate unit of the voter. The decisions of the prime units voting on the
+     * candidate are held in a vote table, and the lowest level on which a prime unit decides the common vote of its
+     * level is tracked, so that each prime unit is decided once. Prime units are observed as they are inserted into
+     * the dag, by {@link #observe(Unit)}, and the levels of prime units inserted before the decider was created are
+     * scanned once, as the maximal level of the decision grows.
+     */
     public static class SuperMajorityDecider {
-        private Vote                 decision = Vote.UNDECIDED;
-        private int                  decisionLevel;
-        private final UnanimousVoter voter;
+        private final UnanimousVoter    voter;
+        private final Map<Digest, Vote> votes         = new HashMap<>();
+        private       Vote              decision      = Vote.UNDECIDED;
+        private       int               decisionLevel;
+        private       int               decisiveLevel = Integer.MAX_VALUE;
+        private       Vote              decisiveVote  = Vote.UNDECIDED;
+        private       int               scanned;
 
         public SuperMajorityDecider(UnanimousVoter v) {
             this.voter = v;
+            scanned = v.uc.level() + firstVotingRound;
+        }
+
+        /**
+         * @return the level of the candidate unit
+         */
+        public int candidateLevel() {
+            return voter.uc.level();
         }
 
         /**
@@ -57,30 +77,48 @@ public record UnanimousVoter(Dag dag, Unit uc, Map<Digest, Vote> votingMemo, Str
             log.trace("Max decision relative: {} for: {} on: {}", maxDecisionLevel - voter.uc.level(), voter.uc,
                       voter.logLabel);
 
-            for (int level = voter.uc.level() + firstVotingRound + 1; level <= maxDecisionLevel; level++) {
-                AtomicReference<Vote> decision = new AtomicReference<>(Vote.UNDECIDED);
-
-                var commonVote = voter.lazyCommonVote(level);
+            for (int level = scanned + 1; level <= maxDecisionLevel && level < decisiveLevel; level++) {
+                final var current = level;
                 voter.dag.iterateUnitsOnLevel(level, prime -> {
-                    Vote vDecision = decide(prime);
-                    if (vDecision != Vote.UNDECIDED && vDecision == commonVote.get()) {
-                        decision.set(vDecision);
-                        return false;
-                    }
-                    return true;
+                    observe(prime);
+                    return decisiveLevel > current;
                 });
+                scanned = level;
+            }
 
-                if (decision.get() != Vote.UNDECIDED) {
-                    this.decision = decision.get();
-                    this.decisionLevel = level;
-                    voter.dispose();
-                    return new Decision(decision.get(), level);
-                }
+            if (decisiveLevel <= maxDecisionLevel) {
+                this.decision = decisiveVote;
+                this.decisionLevel = decisiveLevel;
+                votes.clear();
+                voter.dispose();
+                return new Decision(decision, decisionLevel);
             }
 
             return new Decision(Vote.UNDECIDED, -1);
         }
 
+        /**
+         * Record the vote of the prime unit on the candidate, noting the level if the vote decides the common vote of
+         * the unit's level. Units that are not the prime unit of their creator on their level do not vote
+         */
+        public void observe(Unit prime) {
+            if (decision != Vote.UNDECIDED) {
+                return;
+            }
+            var level = prime.level();
+            if (level <= voter.uc.level() + firstVotingRound || level >= decisiveLevel) {
+                return;
+            }
+            if (!isPrime(voter.dag, prime)) {
+                return;
+            }
+            var vote = votes.computeIfAbsent(prime.hash(), h -> decide(prime));
+            if (vote != Vote.UNDECIDED && vote == voter.commonVote(level)) {
+                decisiveLevel = level;
+                decisiveVote = vote;
+            }
+        }
+
         private Vote decide(Unit u) {
             AtomicReference<Vote> commonVote = new AtomicReference<>();
             var r = voter.voteUsingPrimeAncestors(voter.uc, u, voter.dag, (uc, uPrA) -> {
@@ -162,6 +200,14 @@ public record UnanimousVoter(Dag dag, Unit uc, Map<Digest, Vote> votingMemo, Str
 
     static final int firstVotingRound = 1;
 
+    /**
+     * @return true if the unit is the unit of its creator on its level in the dag
+     */
+    static boolean isPrime(Dag dag, Unit u) {
+        var units = dag.unitsOnLevel(u.level());
+        return u.creator() < units.size() && units.get(u.creator()) == u;
+    }
+
     public Vote voteUsing(Unit u) {
         var roundDiff = u.level() - uc.level();
         if (roundDiff < firstVotingRound) {
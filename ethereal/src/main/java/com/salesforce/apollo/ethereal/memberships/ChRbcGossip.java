@@ -22,6 +22,7 @@ import com.salesforce.apollo.membership.Member;
 import com.salesforce.apollo.membership.SigningMember;
 import com.salesforce.apollo.ring.SliceIterator;
 import com.salesforce.apollo.utils.Entropy;
+import com.salesforce.apollo.utils.Schedulers;
 import com.salesforce.apollo.utils.Utils;
 import io.grpc.StatusRuntimeException;
 import org.slf4j.Logger;
@@ -57,11 +58,19 @@ public class ChRbcGossip {
     private final    AtomicBoolean                                   started  = new AtomicBoolean();
     private final    Terminal                                        terminal = new Terminal();
     private final    ScheduledExecutorService                        scheduler;
+    private final    Schedulers.Runtime                              schedulers;
     private volatile ScheduledFuture<?>                              scheduled;
 
     public ChRbcGossip(Digest id, SigningMember member, Collection<Member> membership, Processor processor,
                        Router communications, EtherealMetrics m, ScheduledExecutorService scheduler) {
+        this(id, member, membership, processor, communications, m, scheduler, Schedulers.DEFAULT);
+    }
+
+    public ChRbcGossip(Digest id, SigningMember member, Collection<Member> membership, Processor processor,
+                       Router communications, EtherealMetrics m, ScheduledExecutorService scheduler,
+                       Schedulers.Runtime schedulers) {
         this.processor = processor;
+        this.schedulers = schedulers;
         this.member = member;
         this.metrics = m;
         this.id = id;
@@ -70,7 +79,7 @@ public class ChRbcGossip {
                                      r -> new GossiperServer(communications.getClientIdentityProvider(), metrics, r),
                                      getCreate(metrics), Gossiper.getLocalLoopback(member));
         ring = new SliceIterator<>("ChRbcGossip[%s on: %s]".formatted(id, member.getId()), member, membership, comm,
-                                   scheduler);
+                                   scheduler, schedulers);
     }
 
     /**
@@ -91,7 +100,7 @@ public class ChRbcGossip {
         log.trace("Starting GossipService[{}] on: {}", id, member.getId());
         comm.register(id, terminal, validator);
         try {
-            scheduler.schedule(() -> Thread.ofVirtual().start(Utils.wrapped(() -> {
+            scheduler.schedule(() -> schedulers.start(Utils.wrapped(() -> {
                 try {
                     gossip(duration, scheduler);
                 } catch (Throwable e) {
@@ -136,7 +145,7 @@ public class ChRbcGossip {
             if (started.get()) {
                 try {
                     scheduled = scheduler.schedule(
-                    () -> Thread.ofVirtual().start(Utils.wrapped(() -> gossip(frequency, scheduler), log)),
+                    () -> schedulers.start(Utils.wrapped(() -> gossip(frequency, scheduler), log)),
                     frequency.toNanos(), TimeUnit.NANOSECONDS);
                 } catch (RejectedExecutionException e) {
                     log.trace("Reject scheduling on: {}", member.getId());
@@ -7,6 +7,7 @@
 package com.salesforce.apollo.ethereal.memberships.comm;
 
 import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
 import com.codahale.metrics.Timer;
 import com.salesforce.apollo.protocols.EndpointMetrics;
 
@@ -16,6 +17,11 @@ import com.salesforce.apollo.protocols.EndpointMetrics;
  */
 public interface EtherealMetrics extends EndpointMetrics {
 
+    /**
+     * @return the size of the data of the units created
+     */
+    Histogram bytesPerUnit();
+
     Histogram gossipReply();
 
     Histogram gossipResponse();
@@ -37,4 +43,9 @@ public interface EtherealMetrics extends EndpointMetrics {
     Histogram outboundUpdate();
 
     Timer outboundUpdateTimer();
+
+    /**
+     * @return the rate of the units created
+     */
+    Meter unitsPerSecond();
 }
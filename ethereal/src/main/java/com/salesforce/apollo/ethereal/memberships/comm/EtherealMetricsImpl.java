@@ -9,6 +9,7 @@ package com.salesforce.apollo.ethereal.memberships.comm;
 import static com.codahale.metrics.MetricRegistry.name;
 
 import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
 import com.salesforce.apollo.cryptography.Digest;
@@ -20,6 +21,7 @@ import com.salesforce.apollo.protocols.EndpointMetricsImpl;
  *
  */
 public class EtherealMetricsImpl extends EndpointMetricsImpl implements EtherealMetrics, EndpointMetrics {
+    private final Histogram bytesPerUnit;
     private final Histogram gossipReply;
     private final Histogram gossipResponse;
     private final Timer     gossipRoundDuration;
@@ -31,6 +33,7 @@ public class EtherealMetricsImpl extends EndpointMetricsImpl implements Ethereal
     private final Timer     outboundGossipTimer;
     private final Histogram outboundUpdate;
     private final Timer     outboundUpdateTimer;
+    private final Meter     unitsPerSecond;
 
     public EtherealMetricsImpl(Digest context, String system, MetricRegistry registry) {
         super(registry);
@@ -50,6 +53,13 @@ public class EtherealMetricsImpl extends EndpointMetricsImpl implements Ethereal
 
         gossipRoundDuration = registry.timer(name(context.shortString(), system, "ethereal.gossip.round.duration"));
 
+        unitsPerSecond = registry.meter(name(context.shortString(), system, "ethereal.units.created"));
+        bytesPerUnit = registry.histogram(name(context.shortString(), system, "ethereal.units.bytes"));
+    }
+
+    @Override
+    public Histogram bytesPerUnit() {
+        return bytesPerUnit;
     }
 
     @Override
@@ -106,4 +116,9 @@ public class EtherealMetricsImpl extends EndpointMetricsImpl implements Ethereal
     public Timer outboundUpdateTimer() {
         return outboundUpdateTimer;
     }
+
+    @Override
+    public Meter unitsPerSecond() {
+        return unitsPerSecond;
+    }
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.ethereal;
+
+import com.google.protobuf.ByteString;
+import com.salesforce.apollo.cryptography.DigestAlgorithm;
+import com.salesforce.apollo.ethereal.EpochProofBuilder.epochProofImpl;
+import com.salesforce.apollo.ethereal.EpochProofBuilder.sharesDB;
+import com.salesforce.apollo.utils.Schedulers;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author hal.hildebrand
+ */
+public class CreatorTest {
+
+    @Test
+    public void lingeringUnitCreatedOnWakeUp() throws Exception {
+        var runtime = new ManualRuntime(1000);
+        var config = Config.newBuilder().setnProc((short) 4).setPid((short) 0).setSchedulers(runtime).build();
+        var sent = new LinkedBlockingQueue<Unit>();
+        var ds = new DataSource() {
+            @Override
+            public ByteString getData() {
+                return ByteString.EMPTY;
+            }
+
+            @Override
+            public double unitFill() {
+                return 0.0;
+            }
+        };
+        var creator = new Creator(config, ds, new LinkedBlockingDeque<>(), sent::add,
+                                  epoch -> new epochProofImpl(config, epoch,
+                                                              new sharesDB(config, new ConcurrentHashMap<>())),
+                                  new Pacer(config.nProc()), null);
+        try {
+            creator.start();
+            var dealing = sent.poll(1, TimeUnit.SECONDS);
+            assertNotNull(dealing);
+            assertEquals(0, dealing.level());
+
+            // a quorum of parents arrives 100ms after the dealing unit was created, one short of all processes
+            runtime.millis.set(1100);
+            creator.consume(dealing(1, config));
+            creator.consume(dealing(2, config));
+            assertNull(sent.poll(), "unit should linger for more data");
+
+            // no further units arrive; the unit is created by the scheduled wake up once its linger expires
+            runtime.millis.set(1125);
+            var lingered = sent.poll(5, TimeUnit.SECONDS);
+            assertNotNull(lingered, "lingering unit was not created by the wake up");
+            assertEquals(1, lingered.level());
+            assertEquals(config.pid(), lingered.creator());
+        } finally {
+            creator.stop();
+            runtime.close();
+        }
+    }
+
+    private Unit dealing(int creator, Config config) {
+        return PreUnit.newFreeUnit((short) creator, 0, new Unit[config.nProc()], 0, ByteString.EMPTY,
+                                   DigestAlgorithm.DEFAULT, config.signer());
+    }
+
+    /**
+     * Wall clock scheduling, with a manually set clock
+     */
+    private static class ManualRuntime implements Schedulers.Runtime, AutoCloseable {
+        private final AtomicLong                     millis;
+        private final ScheduledExecutorService       scheduler = Executors.newScheduledThreadPool(1,
+                                                                                                  Thread.ofVirtual()
+                                                                                                        .factory());
+        private final Clock                          clock     = new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Instant instant() {
+                return Instant.ofEpochMilli(millis.get());
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+        };
+
+        private ManualRuntime(long millis) {
+            this.millis = new AtomicLong(millis);
+        }
+
+        @Override
+        public Clock clock() {
+            return clock;
+        }
+
+        @Override
+        public void close() {
+            scheduler.shutdownNow();
+        }
+
+        @Override
+        public ScheduledExecutorService newScheduler(String label) {
+            return scheduler;
+        }
+
+        @Override
+        public void sleep(Duration duration) throws InterruptedException {
+            Thread.sleep(duration);
+        }
+
+        @Override
+        public ThreadFactory threadFactory() {
+            return Thread.ofVirtual().factory();
+        }
+    }
+}
@@ -77,6 +77,29 @@ public class DagTest {
         assertTrue(u2.above(u1));
     }
 
+    @Test
+    public void controlHashFromCrownFragments() throws Exception {
+        Dag d = null;
+        try (FileInputStream fis = new FileInputStream(new File("src/test/resources/dags/10/random_100u.txt"))) {
+            d = DagReader.readDag(fis, new DagFactory.TestDagFactory());
+        }
+        var checked = new int[1];
+        d.iterateUnits(u -> {
+            var parents = u.parents();
+            var algo = u.hash().getAlgorithm();
+            var digests = new Digest[parents.length];
+            for (int i = 0; i < parents.length; i++) {
+                digests[i] = parents[i] == null ? null : parents[i].hash();
+            }
+            var controlHash = Crown.controlHash(parents, algo);
+            assertEquals(Digest.combine(algo, digests), controlHash);
+            assertEquals(u.view().controlHash(), controlHash);
+            checked[0]++;
+            return true;
+        });
+        assertTrue(checked[0] > 0);
+    }
+
     // @Test // TODO, resolution of forking (with alerts or RBAC)
     public void correctForkedDealingUnits() throws Exception {
         Dag d = null;
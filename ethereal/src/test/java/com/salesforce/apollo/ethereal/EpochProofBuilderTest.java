@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.ethereal;
+
+import com.google.protobuf.ByteString;
+import com.salesforce.apollo.cryptography.DigestAlgorithm;
+import com.salesforce.apollo.cryptography.JohnHancock;
+import com.salesforce.apollo.cryptography.MultiSignature;
+import com.salesforce.apollo.cryptography.SignatureAlgorithm;
+import com.salesforce.apollo.cryptography.Signer;
+import com.salesforce.apollo.cryptography.Signer.SignerImpl;
+import com.salesforce.apollo.ethereal.EpochProofBuilder.DecodedShare;
+import com.salesforce.apollo.ethereal.EpochProofBuilder.Share;
+import com.salesforce.apollo.ethereal.EpochProofBuilder.epochProofImpl;
+import com.salesforce.apollo.ethereal.EpochProofBuilder.sharesDB;
+import com.salesforce.apollo.ethereal.WeakThresholdKey.MultiSigWeakThresholdKey;
+import com.salesforce.apollo.ethereal.proto.EpochProof;
+import org.joou.ULong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Epoch proofs of the multi-signature weak threshold key
+ *
+ * @author hal.hildebrand
+ */
+public class EpochProofBuilderTest {
+    private static final short NPROC     = 4;
+    private static final int   THRESHOLD = 3;
+
+    private Config[]    configs;
+    private PublicKey[] keys;
+    private Signer      outsider;
+    private Unit        timingUnit;
+
+    @BeforeEach
+    public void before() throws Exception {
+        var entropy = SecureRandom.getInstance("SHA1PRNG");
+        entropy.setSeed(new byte[] { 6, 6, 6 });
+        keys = new PublicKey[NPROC];
+        var signers = new Signer[NPROC];
+        for (int i = 0; i < NPROC; i++) {
+            var keyPair = SignatureAlgorithm.DEFAULT.generateKeyPair(entropy);
+            keys[i] = keyPair.getPublic();
+            signers[i] = new SignerImpl(keyPair.getPrivate(), ULong.MIN);
+        }
+        outsider = new SignerImpl(SignatureAlgorithm.DEFAULT.generateKeyPair(entropy).getPrivate(), ULong.MIN);
+        configs = new Config[NPROC];
+        for (short pid = 0; pid < NPROC; pid++) {
+            configs[pid] = Config.newBuilder()
+                                 .setnProc(NPROC)
+                                 .setPid(pid)
+                                 .setWtk(new MultiSigWeakThresholdKey(keys, signers[pid], THRESHOLD))
+                                 .build();
+        }
+        timingUnit = PreUnit.newFreeUnit((short) 0, 0, new Unit[NPROC], 0, ByteString.EMPTY, DigestAlgorithm.DEFAULT,
+                                         configs[0].signer());
+    }
+
+    @Test
+    public void forgedShare() {
+        var shares = shares();
+        var forged = new Share((short) 2, outsider.sign(shares.get(2).proof().getMsg().toByteString()));
+        var decoded = new DecodedShare(forged, shares.get(2).proof());
+        assertFalse(configs[0].WTKey().verifyShare(decoded));
+
+        var signatures = new TreeMap<Integer, JohnHancock>();
+        signatures.put(0, shares.get(0).share().signature());
+        signatures.put(1, shares.get(1).share().signature());
+        signatures.put(2, forged.signature());
+        var signature = MultiSignature.combine(NPROC, THRESHOLD, signatures);
+        assertFalse(builder(0).verify(proofUnit(signature, shares.get(0).proof())));
+    }
+
+    @Test
+    public void shortShares() {
+        var shares = shares();
+        var db = new sharesDB(configs[0], new ConcurrentHashMap<>());
+        assertNull(db.add(shares.get(0)));
+        assertNull(db.add(shares.get(1)));
+
+        var signatures = new TreeMap<Integer, JohnHancock>();
+        signatures.put(0, shares.get(0).share().signature());
+        signatures.put(1, shares.get(1).share().signature());
+        assertNull(configs[0].WTKey().combineShares(List.of(shares.get(0).share(), shares.get(1).share())));
+        var signature = MultiSignature.combine(NPROC, THRESHOLD - 1, signatures);
+        assertFalse(builder(0).verify(proofUnit(signature, shares.get(0).proof())));
+    }
+
+    @Test
+    public void thresholdOfShares() {
+        var shares = shares();
+        var db = new sharesDB(configs[0], new ConcurrentHashMap<>());
+        for (var share : shares) {
+            assertTrue(configs[0].WTKey().verifyShare(share));
+        }
+        assertNull(db.add(shares.get(0)));
+        assertNull(db.add(shares.get(1)));
+        var signature = db.add(shares.get(2));
+        assertNotNull(signature);
+        var proof = shares.get(0).proof();
+        for (short pid = 0; pid < NPROC; pid++) {
+            assertTrue(builder(pid).verify(proofUnit(signature, proof)));
+        }
+        var other = PreUnit.newFreeUnit((short) 1, 0, new Unit[NPROC], 0, ByteString.EMPTY, DigestAlgorithm.DEFAULT,
+                                        configs[0].signer());
+        var misdirected = proof.toBuilder()
+                               .setMsg(proof.getMsg().toBuilder().setHash(other.hash().toDigeste()))
+                               .build();
+        assertFalse(builder(0).verify(proofUnit(signature, misdirected)));
+    }
+
+    private epochProofImpl builder(int pid) {
+        return new epochProofImpl(configs[pid], 0, new sharesDB(configs[pid], new ConcurrentHashMap<>()));
+    }
+
+    private Unit proofUnit(JohnHancock signature, EpochProof proof) {
+        var data = proof.toBuilder().clearOwner().setSignature(signature.toSig()).build().toByteString();
+        return PreUnit.newFreeUnit((short) 1, 1, new Unit[NPROC], 0, data, DigestAlgorithm.DEFAULT,
+                                   configs[1].signer());
+    }
+
+    private List<DecodedShare> shares() {
+        var shares = new ArrayList<DecodedShare>();
+        for (int pid = 0; pid < NPROC; pid++) {
+            shares.add(EpochProofBuilder.decodeShare(builder(pid).buildShare(timingUnit)));
+        }
+        return shares;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.ethereal;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author hal.hildebrand
+ */
+public class PacerTest {
+
+    @Test
+    public void configuredPacing() {
+        var config = Config.newBuilder().setnProc((short) 4).build();
+        assertTrue(config.paced());
+        assertEquals(Pacer.DEFAULT_MAX_LINGER, config.maxLinger());
+        assertEquals(Pacer.DEFAULT_FULL, config.lingerFill());
+        assertFalse(Config.newBuilder().setnProc((short) 4).setMaxLinger(Duration.ZERO).build().paced());
+        assertFalse(Config.newBuilder().setnProc((short) 4).setLingerFill(0).build().paced());
+        assertThrows(IllegalArgumentException.class,
+                     () -> Config.newBuilder().setnProc((short) 4).setLingerFill(1.5).build());
+    }
+
+    @Test
+    public void criticalPath() {
+        var pacer = sampled();
+        assertEquals(0, pacer.linger(2, 0.0, 4, 0, 1100), "all parents arrived");
+        pacer = sampled();
+        assertEquals(0, pacer.linger(2, 0.0, 3, 1, 1100), "process ahead on the level");
+    }
+
+    @Test
+    public void fullUnitsAreNotDelayed() {
+        var pacer = sampled();
+        assertEquals(0, pacer.linger(2, 0.75, 3, 0, 1100));
+        assertEquals(0, pacer.linger(2, 1.0, 3, 0, 1100));
+    }
+
+    @Test
+    public void lingerIsBoundedByRtt() {
+        var pacer = sampled();
+        assertEquals(100.0, pacer.rtt());
+        var linger = pacer.linger(2, 0.0, 3, 0, 1100);
+        assertEquals(25, linger);
+        assertEquals(15, pacer.linger(2, 0.0, 3, 0, 1110), "deadline is fixed when the parents are ready");
+        assertEquals(0, pacer.linger(2, 0.0, 3, 0, 1125));
+        pacer = sampled();
+        assertTrue(pacer.linger(2, 0.5, 3, 0, 1100) < linger, "fuller units linger less");
+    }
+
+    @Test
+    public void lingerIsBoundedByMax() {
+        var pacer = new Pacer((short) 4, Duration.ofMillis(10), Pacer.DEFAULT_FULL);
+        pacer.created(0, 1000);
+        pacer.linger(1, 0.0, 3, 0, 2000);
+        pacer.created(1, 2000);
+        assertEquals(10, pacer.linger(2, 0.0, 3, 0, 3000));
+    }
+
+    @Test
+    public void noLingerWithoutRtt() {
+        var pacer = new Pacer((short) 4);
+        assertEquals(0, pacer.linger(1, 0.0, 3, 0, 1000));
+    }
+
+    @Test
+    public void resetForgetsLevels() {
+        var pacer = sampled();
+        assertEquals(0, pacer.linger(1, 0.0, 3, 0, 5000), "deadline of the previous level 1 has passed");
+        pacer = sampled();
+        pacer.reset();
+        assertEquals(25, pacer.linger(1, 0.0, 3, 0, 5000), "level 1 of the new epoch has a fresh deadline");
+        assertEquals(100.0, pacer.rtt(), "no sample from the previous epoch's creation");
+    }
+
+    private Pacer sampled() {
+        var pacer = new Pacer((short) 4);
+        pacer.created(0, 900);
+        pacer.linger(1, 1.0, 3, 0, 1000);
+        pacer.created(1, 1000);
+        return pacer;
+    }
+}
@@ -16,6 +16,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.Test;
 
@@ -120,4 +121,78 @@ public class ExtenderTest {
             timingUnits.add(tu);
         }
     }
+
+    @Test
+    public void memoizedLinearizationMatchesRecursiveOrdering() throws Exception {
+        for (var dag : new String[] { "4/regular.txt", "10/random_100u.txt" }) {
+            Dag d = null;
+            try (FileInputStream fis = new FileInputStream(new File("src/test/resources/dags/" + dag))) {
+                d = DagReader.readDag(fis, new DagFactory.TestDagFactory());
+            }
+            var cnf = Config.newBuilder().setnProc(d.nProc()).build();
+            var ordering = new Extender(d, cnf);
+            var linearizer = new Linearizer(d.nProc(), DigestAlgorithm.DEFAULT, "");
+
+            TimingRound current = null;
+            TimingRound next;
+            var rounds = 0;
+            while ((next = ordering.nextRound(current)) != null && !next.equals(current)) {
+                current = next;
+                var expected = new RecursiveOrdering(current).orderedUnits(DigestAlgorithm.DEFAULT);
+                assertEquals(expected, linearizer.order(current), "failed at round: " + rounds + " of: " + dag);
+                assertEquals(expected, current.orderedUnits(DigestAlgorithm.DEFAULT, ""),
+                             "failed at round: " + rounds + " of: " + dag);
+                rounds++;
+            }
+            if (dag.startsWith("4/")) {
+                assertEquals(8, rounds);
+            }
+        }
+    }
+
+    @Test
+    public void incrementalVotingMatchesTimingRounds() throws Exception {
+        for (var dag : new String[] { "4/regular.txt", "10/random_100u.txt" }) {
+            Dag d = null;
+            try (FileInputStream fis = new FileInputStream(new File("src/test/resources/dags/" + dag))) {
+                d = DagReader.readDag(fis, new DagFactory.TestDagFactory());
+            }
+            var cnf = Config.newBuilder().setnProc(d.nProc()).build();
+
+            // the original decider, scanning the levels of the complete dag
+            var oracle = new LevelScanExtender(d);
+            var expected = new ArrayList<Unit>();
+            TimingRound current = null;
+            TimingRound next;
+            while ((next = oracle.nextRound(current)) != null && !next.equals(current)) {
+                expected.add(next.currentTU());
+                current = next;
+            }
+            assertFalse(expected.isEmpty(), "no timing rounds decided in: " + dag);
+
+            var ordering = new Extender(d, cnf);
+            var scanned = new ArrayList<Unit>();
+            current = null;
+            while ((next = ordering.nextRound(current)) != null && !next.equals(current)) {
+                scanned.add(next.currentTU());
+                current = next;
+            }
+            assertEquals(expected.stream().map(Unit::hash).toList(), scanned.stream().map(Unit::hash).toList(),
+                         "scanned timing units differ in: " + dag);
+
+            // the incremental decider, voting as the units are inserted
+            var incremental = new DagFactory.TestDagFactory().createDag(d.nProc());
+            var extender = new Extender(incremental, cnf);
+            var timingUnits = new ArrayList<Unit>();
+            var lastTU = new AtomicReference<TimingRound>();
+            incremental.afterInsert(extender::observe);
+            incremental.afterInsert(u -> lastTU.set(extender.chooseNextTimingUnits(lastTU.get(),
+                                                                                    round -> timingUnits.add(
+                                                                                    round.get(round.size() - 1)))));
+            d.unitsAbove(null).forEach(incremental::insert);
+
+            assertEquals(expected.stream().map(Unit::hash).toList(), timingUnits.stream().map(Unit::hash).toList(),
+                         "incremental timing units differ in: " + dag);
+        }
+    }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.ethereal.linear;
+
+import com.salesforce.apollo.cryptography.Digest;
+import com.salesforce.apollo.ethereal.Dag;
+import com.salesforce.apollo.ethereal.Unit;
+import com.salesforce.apollo.ethereal.linear.LevelScanVoter.SuperMajorityDecider;
+
+import java.util.*;
+
+/**
+ * The original choice of the timing rounds of the dag, deciding the popularity of candidates by scanning the levels of
+ * the dag when the next round is requested. Retained as the oracle the incrementally voting Extender is tested against
+ *
+ * @author hal.hildebrand
+ */
+class LevelScanExtender {
+    private static final int FIRST_DECIDED_ROUND = 3;
+
+    private final Dag                                   dag;
+    private final HashMap<Digest, SuperMajorityDecider> deciders = new HashMap<>();
+
+    LevelScanExtender(Dag dag) {
+        this.dag = dag;
+    }
+
+    TimingRound nextRound(TimingRound lastTU) {
+        var dagMaxLevel = dag.maxLevel();
+        var level = 0;
+        final Unit previousTU = lastTU == null ? null : lastTU.currentTU();
+        if (previousTU != null) {
+            level = lastTU.level() + 1;
+        }
+        if (dagMaxLevel < level + FIRST_DECIDED_ROUND) {
+            return lastTU;
+        }
+
+        var units = dag.unitsOnLevel(level);
+        Unit currentTU = null;
+        for (Unit uc : permutation(units, previousTU)) {
+            if (uc == null) {
+                continue;
+            }
+            var decision = deciders.computeIfAbsent(uc.hash(), h -> new SuperMajorityDecider(
+            new LevelScanVoter(dag, uc, new HashMap<>(), ""))).decideUnitIsPopular(dagMaxLevel);
+            if (decision.decision() == Vote.POPULAR) {
+                currentTU = uc;
+                deciders.clear();
+                break;
+            }
+            if (decision.decision() == Vote.UNDECIDED) {
+                break;
+            }
+        }
+        if (currentTU == null) {
+            return lastTU;
+        }
+        return new TimingRound(currentTU, level, previousTU);
+    }
+
+    private List<Unit> permutation(List<Unit> unitsOnLevel, Unit previousTU) {
+        var pids = new ArrayList<Short>();
+        for (int pid = 0; pid < dag.nProc(); pid++) {
+            pids.add((short) pid);
+        }
+        if (previousTU != null) {
+            Collections.shuffle(pids, new Random(previousTU.hash().fold()));
+        }
+        return pids.stream().map(unitsOnLevel::get).toList();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.ethereal.linear;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import com.salesforce.apollo.cryptography.Digest;
+import com.salesforce.apollo.cryptography.DigestAlgorithm;
+import com.salesforce.apollo.ethereal.Unit;
+
+/**
+ * The original, recursive ordering of the units of a timing round, retained as the oracle the Linearizer is tested
+ * against
+ *
+ * @author hal.hildebrand
+ */
+class RecursiveOrdering {
+    private final TimingRound round;
+
+    RecursiveOrdering(TimingRound round) {
+        this.round = round;
+    }
+
+    /**
+     * returns all units ordered in this timing round.
+     **/
+    List<Unit> orderedUnits(DigestAlgorithm digestAlgorithm) {
+        var layers = getAntichainLayers();
+        return mergeLayers(layers, digestAlgorithm);
+    }
+
+    private boolean checkIfAlreadyOrdered(Unit u) {
+        var lastTU = round.lastTU();
+        if (lastTU == null || u.level() > lastTU.level()) {
+            return false;
+        }
+        return lastTU.above(u);
+    }
+
+    private List<List<Unit>> getAntichainLayers() {
+        var unitToLayer = new HashMap<Digest, Integer>();
+        var seenUnits = new HashMap<Digest, Boolean>();
+        var result = new ArrayList<List<Unit>>();
+        traverse(round.currentTU(), unitToLayer, seenUnits, result);
+        return result;
+    }
+
+    private List<Unit> mergeLayers(List<List<Unit>> layers, DigestAlgorithm digestAlgorithm) {
+        Digest totalXOR = digestAlgorithm.getOrigin();
+        for (int i = 0; i < layers.size(); i++) {
+            for (var u : layers.get(i)) {
+                totalXOR = totalXOR.xor(u.hash());
+            }
+        }
+        // tiebreaker is a map from units to its tiebreaker value
+        var tiebreaker = new HashMap<Digest, Digest>();
+        for (int l = 0; l < layers.size(); l++) {
+            for (var u : layers.get(l)) {
+                tiebreaker.put(u.hash(), totalXOR.xor(u.hash()));
+            }
+        }
+
+        List<Unit> sortedUnits = new ArrayList<Unit>();
+
+        for (int l = 0; l < layers.size(); l++) {
+            layers.get(l).sort((a, b) -> tiebreaker.get(a.hash()).compareTo(tiebreaker.get(b.hash())));
+            sortedUnits.addAll(layers.get(l));
+        }
+        return sortedUnits;
+    }
+
+    private void traverse(Unit u, HashMap<Digest, Integer> unitToLayer, HashMap<Digest, Boolean> seenUnits,
+                          ArrayList<List<Unit>> result) {
+        seenUnits.put(u.hash(), true);
+        var minLayerBelow = -1;
+        for (var uParent : u.parents()) {
+            if ((uParent == null) || checkIfAlreadyOrdered(uParent)) {
+                continue;
+            }
+            if (!seenUnits.getOrDefault(uParent.hash(), false)) {
+                traverse(uParent, unitToLayer, seenUnits, result);
+            }
+            if (unitToLayer.get(uParent.hash()) > minLayerBelow) {
+                minLayerBelow = unitToLayer.get(uParent.hash());
+            }
+        }
+        var uLayer = minLayerBelow + 1;
+        unitToLayer.put(u.hash(), uLayer);
+        if (result.size() <= uLayer) {
+            var l = new ArrayList<Unit>();
+            l.add(u);
+            result.add(l);
+        } else {
+            result.get(uLayer).add(u);
+        }
+    }
+}
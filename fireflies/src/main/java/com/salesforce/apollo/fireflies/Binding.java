@@ -27,7 +27,6 @@ import com.salesforce.apollo.fireflies.comm.entrance.Entrance;
 import com.salesforce.apollo.fireflies.proto.*;
 import com.salesforce.apollo.membership.Member;
 import com.salesforce.apollo.ring.SliceIterator;
-import com.salesforce.apollo.utils.Entropy;
 import com.salesforce.apollo.utils.Utils;
 import io.grpc.StatusRuntimeException;
 import org.joou.ULong;
@@ -87,7 +86,7 @@ class Binding {
             bootstrap();
             return;
         }
-        Entropy.secureShuffle(seeds);
+        Collections.shuffle(seeds, params.schedulers().random());
         log.info("Seeding view: {} context: {} with seeds: {} started on: {}", view.currentView(), this.context.getId(),
                  seeds.size(), node.getId());
 
@@ -100,9 +99,10 @@ class Binding {
                                  .map(nw -> view.new Participant(nw))
                                  .filter(p -> !node.getId().equals(p.getId()))
                                  .collect(Collectors.toList());
-        var seedlings = new SliceIterator<>("Seedlings", node, bootstrappers, approaches, scheduler);
+        var seedlings = new SliceIterator<>("Seedlings", node, bootstrappers, approaches, scheduler,
+                                            params.schedulers());
         AtomicReference<Runnable> reseed = new AtomicReference<>();
-        var scheduler = Executors.newScheduledThreadPool(1, Thread.ofVirtual().factory());
+        var scheduler = params.schedulers().newScheduler("Binding");
         reseed.set(() -> {
             final var registration = registration();
             seedlings.iterate((link) -> {
@@ -110,7 +110,7 @@ class Binding {
                 return link.seed(registration);
             }, (futureSailor, _, _, member) -> complete(redirect, futureSailor, member), () -> {
                 if (!redirect.isDone()) {
-                    scheduler.schedule(() -> Thread.ofVirtual().start(Utils.wrapped(reseed.get(), log)),
+                    scheduler.schedule(() -> params.schedulers().start(Utils.wrapped(reseed.get(), log)),
                                        params.retryDelay().toNanos(), TimeUnit.NANOSECONDS);
                 } else {
                     scheduler.shutdown();
@@ -266,7 +266,7 @@ class Binding {
         var futureSailor = fs.get();
         futureSailor.addListener(
         () -> complete(member, gateway, trusts, initialSeedSet, v, majority, complete, remaining, futureSailor),
-        r -> Thread.ofVirtual().start(r));
+        r -> params.schedulers().start(r));
 
         return true;
     }
@@ -286,7 +286,7 @@ class Binding {
                 return;
             }
 
-            Thread.ofVirtual().start(Utils.wrapped(() -> {
+            params.schedulers().start(Utils.wrapped(() -> {
                 var view = Digest.from(r.getView());
                 log.debug("Rebalancing to cardinality: {} (validate) for: {} context: {} on: {}", r.getCardinality(),
                           view, context.getId(), node.getId());
@@ -328,10 +328,11 @@ class Binding {
         this.context.rebalance(cardinality);
         node.nextNote(v);
 
-        final var redirecting = new SliceIterator<>("Gateways", node, sample, approaches, scheduler);
+        final var redirecting = new SliceIterator<>("Gateways", node, sample, approaches, scheduler,
+                                                    params.schedulers());
         var majority = redirect.getBootstrap() ? 1 : Context.minimalQuorum(redirect.getRings(), this.context.getBias());
         final var join = join(v);
-        var scheduler = Executors.newScheduledThreadPool(1, Thread.ofVirtual().factory());
+        var scheduler = params.schedulers().newScheduler("Binding");
         regate.set(() -> {
             log.info("Round: {} formally joining view: {} on: {}", retries.get(), v, node.getId());
             if (!view.started.get()) {
@@ -364,8 +365,9 @@ class Binding {
                              params.joinRetries(), node.getId());
                     trusts.clear();
                     initialSeedSet.clear();
-                    scheduler.schedule(() -> Thread.ofVirtual().start(Utils.wrapped(regate.get(), log)),
-                                       Entropy.nextBitsStreamLong(params.retryDelay().toNanos()), TimeUnit.NANOSECONDS);
+                    scheduler.schedule(() -> params.schedulers().start(Utils.wrapped(regate.get(), log)),
+                                       params.schedulers().random().nextLong(params.retryDelay().toNanos()),
+                                       TimeUnit.NANOSECONDS);
                 } else {
                     scheduler.shutdown();
                     log.error("Failed to join view: {} cannot obtain majority Gateway on: {}", view, node.getId());
@@ -425,13 +427,13 @@ class Binding {
     }
 
     private NoteWrapper seedFor(Seed seed) {
+        var mask = Node.createInitialMask(context, params.schedulers().random());
         SignedNote seedNote = SignedNote.newBuilder()
                                         .setNote(Note.newBuilder()
                                                      .setEndpoint(seed.endpoint())
                                                      .setIdentifier(seed.identifier().toIdent())
                                                      .setEpoch(-1)
-                                                     .setMask(ByteString.copyFrom(
-                                                     Node.createInitialMask(context).toByteArray())))
+                                                     .setMask(ByteString.copyFrom(mask.toByteArray())))
                                         .setSignature(
                                         SignatureAlgorithm.NULL_SIGNATURE.sign(ULong.MIN, null, new byte[0]).toSig())
                                         .build();
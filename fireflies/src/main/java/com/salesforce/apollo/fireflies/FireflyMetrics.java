@@ -22,6 +22,8 @@ public interface FireflyMetrics extends EndpointMetrics {
 
     Histogram gossipReply();
 
+    Timer gossipRound();
+
     Histogram gossipResponse();
 
     Timer inboundEnjoinDuration();
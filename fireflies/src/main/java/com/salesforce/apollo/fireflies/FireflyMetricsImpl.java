@@ -23,6 +23,7 @@ public class FireflyMetricsImpl extends EndpointMetricsImpl implements FireflyMe
     private final Meter     filteredNotes;
     private final Histogram gossipReply;
     private final Histogram gossipResponse;
+    private final Timer     gossipRound;
     private final Histogram inboundGateway;
     private final Histogram inboundGossip;
     private final Timer     inboundGossipTimer;
@@ -69,6 +70,7 @@ public class FireflyMetricsImpl extends EndpointMetricsImpl implements FireflyMe
         gossipResponse = registry.histogram(name(context.shortString(), "ff.gossip.reply.inbound.bytes"));
         inboundGossip = registry.histogram(name(context.shortString(), "ff.gossip.inbound.bytes"));
         gossipReply = registry.histogram(name(context.shortString(), "ff.gossip.reply.outbound.bytes"));
+        gossipRound = registry.timer(name(context.shortString(), "ff.gossip.round.duration"));
         accusations = registry.meter(name(context.shortString(), "ff.gossip.accusations"));
         notes = registry.meter(name(context.shortString(), "ff.gossip.notes"));
         joining = registry.meter(name(context.shortString(), "ff.joining"));
@@ -98,6 +100,11 @@ public class FireflyMetricsImpl extends EndpointMetricsImpl implements FireflyMe
         return gossipReply;
     }
 
+    @Override
+    public Timer gossipRound() {
+        return gossipRound;
+    }
+
     @Override
     public Histogram gossipResponse() {
         return gossipResponse;
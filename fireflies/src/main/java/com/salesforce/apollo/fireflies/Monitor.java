@@ -41,7 +41,7 @@ public class Monitor {
         try {
             resynchronize();
             monitorOnce();
-            var now = System.currentTimeMillis();
+            var now = view.schedulers().clock().millis();
             for (var e : monitored.entrySet()) {
                 if (!e.getValue().fd.isAvailable(now)) {
                     view.accuse(e.getKey(), e.getValue().ring, new Phailure(e.getKey().getId()));
@@ -124,7 +124,7 @@ public class Monitor {
         }
         // Add newly monitored members
         for (var m : Sets.difference(successors.keySet(), monitored.keySet())) {
-            monitored.put(m, new State(successors.get(m), factory.build()));
+            monitored.put(m, new State(successors.get(m), factory.build(view.schedulers().clock())));
         }
     }
 
@@ -6,6 +6,8 @@
  */
 package com.salesforce.apollo.fireflies;
 
+import com.salesforce.apollo.utils.Schedulers;
+
 import java.time.Duration;
 
 /**
@@ -13,67 +15,85 @@ import java.time.Duration;
  */
 public record Parameters(int joinRetries, int minimumBiffCardinality, int rebuttalTimeout, int viewChangeRounds,
                          int finalizeViewRounds, double fpr, int maximumTxfr, Duration retryDelay, int maxPending,
-                         Duration seedingTimeout, int validationRetries, int crowns, Duration populateDuration) {
+                         Duration seedingTimeout, int validationRetries, int crowns, Duration populateDuration,
+                         boolean concurrentGossip, Schedulers.Runtime schedulers) {
 
     public static Builder newBuilder() {
         return new Builder();
     }
 
     public static class Builder {
+        /**
+         * Gossip with the successors on all rings concurrently, rather than one ring at a time
+         */
+        private boolean            concurrentGossip       = false;
         /**
          * Number of crowns for the view's hexbloom
          */
-        private int      crowns                 = 2;
+        private int                crowns                 = 2;
         /**
          * Number of TTL rounds to wait before finalizing a view change
          */
-        private int      finalizeViewRounds     = 3;
+        private int                finalizeViewRounds     = 3;
         /**
          * False positive rate for bloom filter state replication (high fpr is good)
          */
-        private double   fpr                    = 0.00125;
+        private double             fpr                    = 0.00125;
         /**
          * Number of retries when joining until giving up
          */
-        private int      joinRetries            = 500;
+        private int                joinRetries            = 500;
         /**
          * Maximum number of elements to transfer per type per update
          */
-        private int      maximumTxfr            = 1024;
+        private int                maximumTxfr            = 1024;
         /**
          * Maximum pending joins
          */
-        private int      maxPending             = 200;
+        private int                maxPending             = 200;
         /**
          * Minimum cardinality for bloom filters
          */
-        private int      minimumBiffCardinality = 1025;
+        private int                minimumBiffCardinality = 1025;
         /**
          * Number of TTL rounds an accused has to rebut the accusation
          */
-        private int      rebuttalTimeout        = 2;
+        private int                rebuttalTimeout        = 2;
         /**
          * Max duration to delay retrying join operations
          */
-        private Duration retryDelay             = Duration.ofMillis(200);
+        private Duration           retryDelay             = Duration.ofMillis(200);
+        /**
+         * The source of time, threads and scheduling
+         */
+        private Schedulers.Runtime schedulers             = Schedulers.DEFAULT;
         /**
          * Timeout for contacting seed gateways during seeding and join operations
          */
-        private Duration seedingTimout          = Duration.ofSeconds(15);
+        private Duration           seedingTimout          = Duration.ofSeconds(15);
         /**
          * Max number of times to attempt validation when joining a view
          */
-        private int      validationRetries      = 3;
+        private int                validationRetries      = 3;
         /**
          * Minimum number of rounds to check for view change
          */
-        private int      viewChangeRounds       = 7;
-        private Duration populateDuration       = Duration.ofMillis(20);
+        private int                viewChangeRounds       = 7;
+        private Duration           populateDuration       = Duration.ofMillis(20);
 
         public Parameters build() {
             return new Parameters(joinRetries, minimumBiffCardinality, rebuttalTimeout, viewChangeRounds,
                                   finalizeViewRounds, fpr, maximumTxfr, retryDelay, maxPending, seedingTimout,
-                                  validationRetries, crowns, populateDuration);
+                                  validationRetries, crowns, populateDuration, concurrentGossip, schedulers);
+        }
+
+        public boolean isConcurrentGossip() {
+            return concurrentGossip;
+        }
+
+        public Builder setConcurrentGossip(boolean concurrentGossip) {
+            this.concurrentGossip = concurrentGossip;
+            return this;
         }
 
         public int getCrowns() {
@@ -166,6 +186,15 @@ public record Parameters(int joinRetries, int minimumBiffCardinality, int rebutt
             return this;
         }
 
+        public Schedulers.Runtime getSchedulers() {
+            return schedulers;
+        }
+
+        public Builder setSchedulers(Schedulers.Runtime schedulers) {
+            this.schedulers = schedulers;
+            return this;
+        }
+
         public Duration getSeedingTimout() {
             return seedingTimout;
         }
@@ -16,6 +16,7 @@
 
 package com.salesforce.apollo.fireflies;
 
+import java.time.Clock;
 import java.util.LinkedList;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -44,6 +45,7 @@ public class PhiAccrualFailureDetector {
     private final long                  acceptableHeartbeatPauseMillis;
     private final HeartbeatHistory      heartbeatHistory;
     private final AtomicReference<Long> lastTimestampMillis = new AtomicReference<Long>();
+    private final Clock                 clock;
 
     /**
      * @param threshold                      A low threshold is prone to generate many wrong suspicions but ensures a
@@ -62,9 +64,11 @@ public class PhiAccrualFailureDetector {
      * @param firstHeartbeatEstimateMillis   Bootstrap the stats with heartbeats that correspond to this duration, with
      *                                       a with rather high standard deviation (since the environment is unknown in
      *                                       the beginning)
+     * @param clock                          The source of time of the heartbeats
      */
     private PhiAccrualFailureDetector(double threshold, int maxSampleSize, double minStdDeviationMillis,
-                                      long acceptableHeartbeatPauseMillis, long firstHeartbeatEstimateMillis) {
+                                      long acceptableHeartbeatPauseMillis, long firstHeartbeatEstimateMillis,
+                                      Clock clock) {
         if (threshold <= 0) {
             throw new IllegalArgumentException("Threshold must be > 0: " + threshold);
         }
@@ -85,6 +89,7 @@ public class PhiAccrualFailureDetector {
         this.threshold = threshold;
         this.minStdDeviationMillis = minStdDeviationMillis;
         this.acceptableHeartbeatPauseMillis = acceptableHeartbeatPauseMillis;
+        this.clock = clock;
 
         long stdDeviationMillis = firstHeartbeatEstimateMillis / 4;
         heartbeatHistory = new HeartbeatHistory(maxSampleSize);
@@ -109,7 +114,7 @@ public class PhiAccrualFailureDetector {
     }
 
     public void heartbeat() {
-        heartbeat(System.currentTimeMillis());
+        heartbeat(clock.millis());
     }
 
     public boolean isAvailable(long timestampMillis) {
@@ -117,7 +122,7 @@ public class PhiAccrualFailureDetector {
     }
 
     public boolean isAvailable() {
-        return phi(System.currentTimeMillis()) < threshold;
+        return phi(clock.millis()) < threshold;
     }
 
     public double phi(long timestampMillis) {
@@ -149,7 +154,7 @@ public class PhiAccrualFailureDetector {
         var lock = this.lock.readLock();
         lock.lock();
         try {
-            return phi(System.currentTimeMillis());
+            return phi(clock.millis());
         } finally {
             lock.unlock();
         }
@@ -165,10 +170,18 @@ public class PhiAccrualFailureDetector {
         private double minStdDeviationMillis          = 500;
         private long   acceptableHeartbeatPauseMillis = 0;
         private long   firstHeartbeatEstimateMillis   = 500;
+        private Clock  clock                          = Clock.systemUTC();
 
         public PhiAccrualFailureDetector build() {
+            return build(clock);
+        }
+
+        /**
+         * Build a detector with the clock, leaving the clock of the builder unchanged so that it may be shared
+         */
+        public PhiAccrualFailureDetector build(Clock clock) {
             return new PhiAccrualFailureDetector(threshold, maxSampleSize, minStdDeviationMillis,
-                                                 acceptableHeartbeatPauseMillis, firstHeartbeatEstimateMillis);
+                                                 acceptableHeartbeatPauseMillis, firstHeartbeatEstimateMillis, clock);
         }
 
         public Builder setAcceptableHeartbeatPauseMillis(long acceptableHeartbeatPauseMillis) {
@@ -176,6 +189,11 @@ public class PhiAccrualFailureDetector {
             return this;
         }
 
+        public Builder setClock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
         public Builder setFirstHeartbeatEstimateMillis(long firstHeartbeatEstimateMillis) {
             this.firstHeartbeatEstimateMillis = firstHeartbeatEstimateMillis;
             return this;
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.fireflies;
+
+import com.salesforce.apollo.bloomFilters.BloomFilter;
+import com.salesforce.apollo.cryptography.Digest;
+import com.salesforce.apollo.fireflies.View.Participant;
+import com.salesforce.apollo.fireflies.proto.SignedAccusation;
+import com.salesforce.apollo.fireflies.proto.SignedNote;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.random.RandomGenerator;
+
+/**
+ * An index of the notes and accusations a view offers in response to gossip, each with its cached hash, keyed by
+ * member. The view updates the entry of a member as the member's note or accusations change, rather than walking its
+ * members for every gossip request, so the assembly of a response is a single pass over the entries probing the peer's
+ * bloom filter. The view and activity of the members are checked as the entries are offered, so that a view change or
+ * a change of a member's activity does not require the index to be updated.
+ *
+ * @author hal.hildebrand
+ */
+public final class UpdateIndex {
+    private static final AccusationWrapper[] NO_ACCUSATIONS = new AccusationWrapper[0];
+
+    private final Map<Digest, Entry> members = new ConcurrentHashMap<>();
+
+    public void accusationsMissing(Digest view, BloomFilter<Digest> bff, Consumer<SignedAccusation> consumer) {
+        for (var entry : members.values()) {
+            for (var accusation : entry.accusations) {
+                if (accusation.currentView().equals(view) && !bff.contains(accusation.getHash())) {
+                    consumer.accept(accusation.getWrapped());
+                }
+            }
+        }
+    }
+
+    /**
+     * Remove all members from the index
+     */
+    public void clear() {
+        members.clear();
+    }
+
+    /**
+     * Offer the notes of the active members in the view that are missing from the bloom filter, up to the limit,
+     * starting from an offset drawn from the random generator
+     */
+    public void notesMissing(Digest view, Predicate<Digest> active, BloomFilter<Digest> bff, int limit,
+                             RandomGenerator random, Consumer<SignedNote> consumer) {
+        var size = members.size();
+        if (size == 0 || limit <= 0) {
+            return;
+        }
+        // Start at a random offset so that a limited transfer does not always favor the same notes
+        var offset = random.nextInt(size);
+        var found = 0;
+        var i = 0;
+        for (var e : members.entrySet()) {
+            if (i++ >= offset && (found = offer(e, view, active, bff, consumer, found)) >= limit) {
+                return;
+            }
+        }
+        i = 0;
+        for (var e : members.entrySet()) {
+            if (i++ >= offset || (found = offer(e, view, active, bff, consumer, found)) >= limit) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Remove the member from the index
+     */
+    public void remove(Digest member) {
+        members.remove(member);
+    }
+
+    /**
+     * Update the member's entry from its current note and accusations. The member's state is read within the update
+     * of its entry, so that concurrent updates of the member converge on its latest state
+     */
+    public void update(Participant member) {
+        members.compute(member.getId(), (id, previous) -> {
+            var note = member.getNote();
+            var accusations = member.getAccusations().toArray(AccusationWrapper[]::new);
+            return note == null && accusations.length == 0 ? null : new Entry(note, accusations.length == 0
+                                                                                    ? NO_ACCUSATIONS : accusations);
+        });
+    }
+
+    private int offer(Map.Entry<Digest, Entry> e, Digest view, Predicate<Digest> active, BloomFilter<Digest> bff,
+                      Consumer<SignedNote> consumer, int found) {
+        var note = e.getValue().note;
+        if (note != null && note.currentView().equals(view) && active.test(e.getKey()) && !bff.contains(
+        note.getHash())) {
+            consumer.accept(note.getWrapped());
+            return found + 1;
+        }
+        return found;
+    }
+
+    private record Entry(NoteWrapper note, AccusationWrapper[] accusations) {
+    }
+}
@@ -16,6 +16,7 @@ import com.salesforce.apollo.archipelago.Router;
 import com.salesforce.apollo.archipelago.Router.ServiceRouting;
 import com.salesforce.apollo.archipelago.RouterImpl.CommonCommunications;
 import com.salesforce.apollo.bloomFilters.BloomFilter;
+import com.salesforce.apollo.context.Context;
 import com.salesforce.apollo.context.DynamicContext;
 import com.salesforce.apollo.context.DynamicContextImpl;
 import com.salesforce.apollo.context.ViewChange;
@@ -41,7 +42,7 @@ import com.salesforce.apollo.stereotomy.Verifiers;
 import com.salesforce.apollo.stereotomy.event.proto.KeyState_;
 import com.salesforce.apollo.stereotomy.identifier.SelfAddressingIdentifier;
 import com.salesforce.apollo.utils.BbBackedInputStream;
-import com.salesforce.apollo.utils.Entropy;
+import com.salesforce.apollo.utils.Schedulers;
 import com.salesforce.apollo.utils.Utils;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
@@ -58,6 +59,7 @@ import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -108,6 +110,7 @@ public class View {
     private final    EventValidation                             validation;
     private final    Verifiers                                   verifiers;
     private final    ScheduledExecutorService                    scheduler;
+    private final    UpdateIndex                                 updateIndex         = new UpdateIndex();
     private volatile ScheduledFuture<?>                          futureGossip;
 
     public View(DynamicContext<Participant> context, ControlledIdentifierMember member, String endpoint,
@@ -120,7 +123,7 @@ public class View {
     public View(DynamicContext<Participant> context, ControlledIdentifierMember member, String endpoint,
                 EventValidation validation, Verifiers verifiers, Router communications, Parameters params,
                 Router gateway, DigestAlgorithm digestAlgo, FireflyMetrics metrics) {
-        scheduler = Executors.newScheduledThreadPool(1, Thread.ofVirtual().factory());
+        scheduler = params.schedulers().newScheduler("View");
         this.metrics = metrics;
         this.params = params;
         this.digestAlgo = digestAlgo;
@@ -186,6 +189,13 @@ public class View {
         return node.getId();
     }
 
+    /**
+     * @return the runtime of the view's clock, schedulers and threads
+     */
+    Schedulers.Runtime schedulers() {
+        return params.schedulers();
+    }
+
     /**
      * Register the listener to receive view changes
      */
@@ -202,7 +212,7 @@ public class View {
             return;
         }
         var seeds = new ArrayList<>(seedpods);
-        Entropy.secureShuffle(seeds);
+        Collections.shuffle(seeds, params.schedulers().random());
         viewManagement.start(onJoin, seeds.isEmpty());
 
         log.info("Starting: {} cardinality: {} tolerance: {} seeds: {} on: {}", context.getId(),
@@ -210,9 +220,10 @@ public class View {
         viewManagement.clear();
         roundTimers.reset();
         context.clear();
+        updateIndex.clear();
         node.reset();
 
-        Thread.ofVirtual()
+        params.schedulers()
               .start(Utils.wrapped(
               () -> new Binding(this, seeds, d, context, approaches, node, params, metrics, digestAlgo,
                                 scheduler).seeding(), log));
@@ -247,7 +258,7 @@ public class View {
         if (current != null) {
             current.cancel(true);
         }
-        observations.clear();
+        clearObservations();
         timers.values().forEach(RoundScheduler.Timer::cancel);
         timers.clear();
         viewManagement.clear();
@@ -291,6 +302,7 @@ public class View {
             }
             m = new Participant(note);
             context.add(m);
+            updateIndex.update(m);
         } else {
             current = m.getNote();
             if (!newMember && current != null) {
@@ -390,7 +402,7 @@ public class View {
                 log.info("View consensus failed: {}, required: {} cardinality: {} ballots: {} for: {} on: {}",
                          max == null ? 0 : max.getCount(), majority, viewManagement.cardinality(),
                          ballots.entrySet().stream().sorted(reversed).toList(), currentView(), node.getId());
-                observations.clear();
+                clearObservations();
                 scheduleViewChange();
             }
         });
@@ -430,7 +442,7 @@ public class View {
                                               joining.stream().map(SelfAddressingIdentifier::getDigest).toList(),
                                               Collections.unmodifiableList(leaving));
         viewChangeListeners.forEach((key, value) -> {
-            Thread.ofVirtual().start(Utils.wrapped(() -> {
+            params.schedulers().start(Utils.wrapped(() -> {
                 try {
                     viewSerialization.acquire();
                 } catch (InterruptedException e) {
@@ -498,6 +510,7 @@ public class View {
                  context.isActive(digest) ? "active" : "failed", digest, context.getId(), currentView(), node.getId());
         context.remove(digest);
         shunned.remove(digest);
+        updateIndex.remove(digest);
         if (metrics != null) {
             metrics.leaves().mark();
         }
@@ -515,14 +528,14 @@ public class View {
     }
 
     void schedule(final Duration duration) {
-        Thread.ofVirtual().start(Utils.wrapped(() -> gossip(duration), log));
+        params.schedulers().start(Utils.wrapped(() -> gossip(duration), log));
     }
 
     void scheduleClearObservations() {
         if (!started.get()) {
             return;
         }
-        timers.put(CLEAR_OBSERVATIONS, roundTimers.schedule(CLEAR_OBSERVATIONS, () -> observations.clear(), 1));
+        timers.put(CLEAR_OBSERVATIONS, roundTimers.schedule(CLEAR_OBSERVATIONS, this::clearObservations, 1));
     }
 
     void scheduleFinalizeViewChange() {
@@ -624,62 +637,12 @@ public class View {
      * @param link - the outbound communications to the paired member
      */
     protected Gossip gossip(Fireflies link, int ring) {
-        tick();
-        if (shunned.contains(link.getMember().getId())) {
-            if (metrics != null) {
-                metrics.shunnedGossip().mark();
-            }
-            return null;
-        }
-
-        final var p = (Participant) link.getMember();
-        final SayWhat gossip = stable(() -> SayWhat.newBuilder()
-                                                   .setView(currentView().toDigeste())
-                                                   .setNote(node.getNote().getWrapped())
-                                                   .setRing(ring)
-                                                   .setGossip(commonDigests())
-                                                   .build());
         try {
-            return link.gossip(gossip);
-        } catch (StatusRuntimeException sre) {
-            switch (sre.getStatus().getCode()) {
-            case PERMISSION_DENIED:
-                log.trace("Rejected gossip: {} view: {} from: {} on: {}", sre.getStatus(), currentView(), p.getId(),
-                          node.getId());
-                accuse(p, ring, sre);
-                break;
-            case FAILED_PRECONDITION:
-                log.trace("Failed gossip: {} view: {} from: {} on: {}", sre.getStatus(), currentView(), p.getId(),
-                          node.getId());
-                break;
-            case RESOURCE_EXHAUSTED:
-                log.trace("Resource exhausted for gossip: {} view: {} from: {} on: {}", sre.getStatus(), currentView(),
-                          p.getId(), node.getId());
-                break;
-            case CANCELLED:
-                log.trace("Communication cancelled for gossip view: {} from: {} on: {}", currentView(), p.getId(),
-                          node.getId());
-                break;
-            case UNAVAILABLE:
-                log.trace("Communication unavailable for gossip view: {} from: {} on: {}", currentView(), p.getId(),
-                          node.getId());
-                accuse(p, ring, sre);
-                break;
-            default:
-                log.debug("Error gossiping: {} view: {} from: {} on: {}", sre.getStatus(), currentView(), p.getId(),
-                          node.getId());
-                accuse(p, ring, sre);
-                break;
-
-            }
-            return null;
+            return exchange(link, ring);
         } catch (Throwable e) {
-            log.debug("Exception gossiping joined: {} with: {} view: {} on: {}", viewManagement.joined(), p.getId(),
-                      currentView(), node.getId(), e);
-            accuse(p, ring, e);
+            failed("gossip", ring, (Participant) link.getMember(), e);
             return null;
         }
-
     }
 
     /**
@@ -855,7 +818,7 @@ public class View {
         if (!member.verify(signature, observation.getChange().toByteString())) {
             return false;
         }
-        return observations.compute(svu.observer, (d, cur) -> {
+        var observed = observations.compute(svu.observer, (d, cur) -> {
             if (cur != null) {
                 if (svu.attempt < cur.attempt) {
                     log.trace("Stale observation: {} current: {} view change: {} current: {} offline: {} on: {}",
@@ -869,6 +832,7 @@ public class View {
                       svu.observer, node.getId());
             return svu;
         }) == svu;
+        return observed;
     }
 
     private boolean addJoin(SignedNote sn) {
@@ -966,15 +930,20 @@ public class View {
         }
     }
 
+    private void clearObservations() {
+        observations.clear();
+    }
+
     /**
      * @return the digests common for gossip with all neighbors
      */
     private Digests commonDigests() {
+        var random = params.schedulers().random();
         return Digests.newBuilder()
-                      .setAccusationBff(getAccusationsBff(Entropy.nextSecureLong(), params.fpr()).toBff())
-                      .setNoteBff(getNotesBff(Entropy.nextSecureLong(), params.fpr()).toBff())
-                      .setJoinBiff(viewManagement.getJoinsBff(Entropy.nextSecureLong(), params.fpr()).toBff())
-                      .setObservationBff(getObservationsBff(Entropy.nextSecureLong(), params.fpr()).toBff())
+                      .setAccusationBff(getAccusationsBff(random.nextLong(), params.fpr()).toBff())
+                      .setNoteBff(getNotesBff(random.nextLong(), params.fpr()).toBff())
+                      .setJoinBiff(viewManagement.getJoinsBff(random.nextLong(), params.fpr()).toBff())
+                      .setObservationBff(getObservationsBff(random.nextLong(), params.fpr()).toBff())
                       .build();
     }
 
@@ -1046,28 +1015,135 @@ public class View {
         if (!started.get()) {
             return;
         }
+        var timer = metrics == null ? null : metrics.gossipRound().time();
         try {
             var successors = context.successors(getNodeId(), context::isActive, getNode());
             Collections.shuffle(successors);
-            successors.forEach(i -> {
-                var link = comm.connect(i.m());
-                if (link != null) {
-                    gossip(gossip(link, i.ring()), i.m(), link, i.ring());
-                }
-                try {
-                    Thread.sleep(duration.toMillis());
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-            });
+            if (params.concurrentGossip()) {
+                tick();
+                gossip(successors);
+            } else {
+                successors.forEach(i -> {
+                    var link = comm.connect(i.m());
+                    if (link != null) {
+                        tick();
+                        gossip(gossip(link, i.ring()), i.m(), link, i.ring());
+                    }
+                    params.schedulers().pause(duration);
+                });
+            }
             if (context.activeCount() == 1) {
                 tick();
             }
         } finally {
+            if (timer != null) {
+                timer.stop();
+            }
             schedule(duration);
         }
     }
 
+    /**
+     * Gossip with the successors on all rings concurrently. The updates of the responses overlap heavily, so they are
+     * deduplicated and processed in a single pass before the updates requested by each successor are sent, again
+     * concurrently. The exchanges only communicate; their failures are handled after the exchanges complete, on the
+     * gossiping thread, as in sequential gossip. Should the deduplicated updates fail to process, each response is
+     * processed as in sequential gossip, so that the failure is attributed to its member.
+     *
+     * @param successors
+     */
+    private void gossip(List<Context.iteration<Participant>> successors) {
+        record Exchange(Gossip gossip, Participant member, Fireflies link, int ring, Throwable failure) {
+        }
+        var exchanges = new ConcurrentLinkedQueue<Exchange>();
+        try (var exec = params.schedulers().newExecutor()) {
+            successors.forEach(i -> exec.execute(Utils.wrapped(() -> {
+                var link = comm.connect(i.m());
+                if (link == null) {
+                    return;
+                }
+                try {
+                    var gossip = exchange(link, i.ring());
+                    if (gossip != null) {
+                        exchanges.add(new Exchange(gossip, i.m(), link, i.ring(), null));
+                    }
+                } catch (Throwable e) {
+                    exchanges.add(new Exchange(null, i.m(), link, i.ring(), e));
+                }
+            }, log)));
+        }
+
+        var replies = new ArrayList<Exchange>();
+        for (var exchange : exchanges) {
+            if (exchange.failure != null) {
+                failed("gossip", exchange.ring, exchange.member, exchange.failure);
+            } else if (exchange.gossip.getRedirect().equals(SignedNote.getDefaultInstance())) {
+                replies.add(exchange);
+            } else {
+                gossip(exchange.gossip, exchange.member, exchange.link, exchange.ring);
+            }
+        }
+        if (replies.isEmpty()) {
+            return;
+        }
+
+        var notes = new LinkedHashSet<SignedNote>();
+        var accusations = new LinkedHashSet<SignedAccusation>();
+        var observations = new LinkedHashSet<SignedViewChange>();
+        var joins = new LinkedHashSet<SignedNote>();
+        int total = 0;
+        for (var reply : replies) {
+            var gossip = reply.gossip;
+            total += gossip.getNotes().getUpdatesCount() + gossip.getAccusations().getUpdatesCount()
+            + gossip.getObservations().getUpdatesCount() + gossip.getJoins().getUpdatesCount();
+            notes.addAll(gossip.getNotes().getUpdatesList());
+            accusations.addAll(gossip.getAccusations().getUpdatesList());
+            observations.addAll(gossip.getObservations().getUpdatesList());
+            joins.addAll(gossip.getJoins().getUpdatesList());
+        }
+        log.trace("Concurrent gossip replies: {} updates: {} unique: {} on: {}", replies.size(), total,
+                  notes.size() + accusations.size() + observations.size() + joins.size(), node.getId());
+        try {
+            stable(() -> processUpdates(List.copyOf(notes), List.copyOf(accusations), List.copyOf(observations),
+                                        List.copyOf(joins)));
+        } catch (NoSuchElementException e) {
+            log.debug("Exception processing concurrent gossip view: {} on: {}", currentView(), node.getId(), e);
+            replies.forEach(reply -> gossip(reply.gossip, reply.member, reply.link, reply.ring));
+            return;
+        }
+        if (!viewManagement.joined()) {
+            return;
+        }
+
+        var failures = new ConcurrentLinkedQueue<Exchange>();
+        try (var exec = params.schedulers().newExecutor()) {
+            for (var reply : replies) {
+                Update update;
+                try {
+                    update = stable(() -> updatesForDigests(reply.gossip));
+                } catch (NoSuchElementException e) {
+                    failed("update", reply.ring, reply.member, e);
+                    continue;
+                }
+                if (update == null || update.equals(Update.getDefaultInstance())) {
+                    continue;
+                }
+                exec.execute(Utils.wrapped(() -> {
+                    try {
+                        reply.link.update(State.newBuilder()
+                                               .setView(currentView().toDigeste())
+                                               .setRing(reply.ring)
+                                               .setUpdate(update)
+                                               .build());
+                    } catch (StatusRuntimeException e) {
+                        failures.add(new Exchange(null, reply.member, reply.link, reply.ring, e));
+                    }
+                }, log));
+            }
+        }
+        failures.forEach(f -> failed("update", f.ring, f.member, f.failure));
+    }
+
     private void gossip(Gossip gossip, Participant member, Fireflies link, int ring) {
         if (gossip == null) {
             return;
@@ -1086,25 +1162,56 @@ public class View {
                         State.newBuilder().setView(currentView().toDigeste()).setRing(ring).setUpdate(update).build());
                     }
                 } catch (StatusRuntimeException e) {
-                    handleSRE("update", ring, member, e);
+                    failed("update", ring, member, e);
                 }
             } else {
                 stable(() -> processUpdates(gossip));
             }
         } catch (NoSuchElementException e) {
-            if (!viewManagement.joined()) {
-                log.debug("Null bootstrap gossiping with: {} view: {} on: {}", member.getId(), currentView(),
-                          node.getId());
-            } else {
-                if (e.getCause() instanceof StatusRuntimeException sre) {
-                    handleSRE("gossip", ring, member, sre);
-                } else {
-                    log.debug("Exception gossiping with: {} view: {} on: {}", member.getId(), currentView(),
-                              node.getId(), e);
-                    accuse(member, ring, e);
-                }
+            failed("gossip", ring, member, e);
+        }
+    }
+
+    /**
+     * Exchange gossip with the member
+     *
+     * @return the member's reply, or null if the member is shunned
+     */
+    private Gossip exchange(Fireflies link, int ring) {
+        if (shunned.contains(link.getMember().getId())) {
+            if (metrics != null) {
+                metrics.shunnedGossip().mark();
             }
+            return null;
+        }
+        final SayWhat gossip = stable(() -> SayWhat.newBuilder()
+                                                   .setView(currentView().toDigeste())
+                                                   .setNote(node.getNote().getWrapped())
+                                                   .setRing(ring)
+                                                   .setGossip(commonDigests())
+                                                   .build());
+        return link.gossip(gossip);
+    }
+
+    /**
+     * Handle the failure of gossip with the member, sequential or concurrent. A status returned by the member, directly
+     * or as the cause of the failure, is handled by its code. Otherwise the member is accused, unless this node has yet
+     * to join the view, in which case the failure of the bootstrap is expected
+     */
+    private void failed(String type, int ring, Participant member, Throwable e) {
+        var sre = e instanceof StatusRuntimeException s ? s
+                                                         : e.getCause() instanceof StatusRuntimeException c ? c : null;
+        if (sre != null) {
+            handleSRE(type, ring, member, sre);
+            return;
+        }
+        if (e instanceof NoSuchElementException && !viewManagement.joined()) {
+            log.debug("Null bootstrap {} with: {} view: {} on: {}", type, member.getId(), currentView(), node.getId());
+            return;
         }
+        log.debug("Exception {} joined: {} with: {} view: {} on: {}", type, viewManagement.joined(), member.getId(),
+                  currentView(), node.getId(), e);
+        accuse(member, ring, e);
     }
 
     private void handleSRE(String type, int ring, final Participant member, StatusRuntimeException sre) {
@@ -1192,7 +1299,7 @@ public class View {
      */
     private AccusationGossip processAccusations(BloomFilter<Digest> bff, double p) {
         AccusationGossip.Builder builder = processAccusations(bff);
-        builder.setBff(getAccusationsBff(Entropy.nextSecureLong(), p).toBff());
+        builder.setBff(getAccusationsBff(params.schedulers().random().nextLong(), p).toBff());
         if (builder.getUpdatesCount() != 0) {
             log.trace("process accusations produced updates: {} on: {}", builder.getUpdatesCount(), node.getId());
         }
@@ -1225,7 +1332,7 @@ public class View {
      */
     private NoteGossip processNotes(Digest from, BloomFilter<Digest> bff, double p) {
         NoteGossip.Builder builder = processNotes(bff);
-        builder.setBff(getNotesBff(Entropy.nextSecureLong(), p).toBff());
+        builder.setBff(getNotesBff(params.schedulers().random().nextLong(), p).toBff());
         if (builder.getUpdatesCount() != 0) {
             log.trace("process notes produced updates: {} on: {}", builder.getUpdatesCount(), node.getId());
         }
@@ -1257,7 +1364,7 @@ public class View {
      */
     private ViewChangeGossip processObservations(BloomFilter<Digest> bff, double p) {
         ViewChangeGossip.Builder builder = processObservations(bff);
-        builder.setBff(getObservationsBff(Entropy.nextSecureLong(), p).toBff());
+        builder.setBff(getObservationsBff(params.schedulers().random().nextLong(), p).toBff());
         if (builder.getUpdatesCount() != 0) {
             log.trace("process view change produced updates: {} on: {}", builder.getUpdatesCount(), node.getId());
         }
@@ -1348,36 +1455,23 @@ public class View {
         final var current = currentView();
         var biff = gossip.getNotes().getBff();
         if (!biff.equals(Biff.getDefaultInstance())) {
-            BloomFilter<Digest> notesBff = BloomFilter.from(biff);
-            context.activeMembers()
-                   .stream()
-                   .filter(m -> m.getNote() != null)
-                   .filter(m -> current.equals(m.getNote().currentView()))
-                   .filter(m -> !notesBff.contains(m.getNote().getHash()))
-                   .map(m -> m.getNote().getWrapped())
-                   .limit(params.maximumTxfr())
-                   .forEach(builder::addNotes);
+            updateIndex.notesMissing(current, context::isActive, BloomFilter.from(biff), params.maximumTxfr(),
+                                     params.schedulers().random(), builder::addNotes);
         }
 
         biff = gossip.getAccusations().getBff();
         if (!biff.equals(Biff.getDefaultInstance())) {
-            BloomFilter<Digest> accBff = BloomFilter.from(biff);
-            context.allMembers()
-                   .flatMap(Participant::getAccusations)
-                   .filter(a -> a.currentView().equals(current))
-                   .filter(a -> !accBff.contains(a.getHash()))
-                   .forEach(a -> builder.addAccusations(a.getWrapped()));
+            updateIndex.accusationsMissing(current, BloomFilter.from(biff), builder::addAccusations);
         }
 
         biff = gossip.getObservations().getBff();
         if (!biff.equals(Biff.getDefaultInstance())) {
             BloomFilter<Digest> obsvBff = BloomFilter.from(biff);
-            observations.values()
-                        .stream()
-                        .collect(Utils.toShuffledList())
-                        .stream()
-                        .filter(svu -> !obsvBff.contains(svu.hash))
-                        .forEach(svu -> builder.addObservations(svu.viewChange));
+            for (var svu : observations.values()) {
+                if (!obsvBff.contains(svu.hash)) {
+                    builder.addObservations(svu.viewChange);
+                }
+            }
         }
 
         biff = gossip.getJoins().getBff();
@@ -1495,7 +1589,7 @@ public class View {
          *
          * @return the mask
          */
-        public static BitSet createInitialMask(DynamicContext<?> context) {
+        public static BitSet createInitialMask(DynamicContext<?> context, RandomGenerator entropy) {
             int nbits = context.getRingCount();
             BitSet mask = new BitSet(nbits);
             List<Boolean> random = new ArrayList<>();
@@ -1505,7 +1599,7 @@ public class View {
             for (int i = 0; i < context.toleranceLevel(); i++) {
                 random.add(false);
             }
-            Entropy.secureShuffle(random);
+            Collections.shuffle(random, entropy);
             for (int i = 0; i < nbits; i++) {
                 if (random.get(i)) {
                     mask.set(i);
@@ -1553,7 +1647,7 @@ public class View {
         BitSet nextMask() {
             final var current = note;
             if (current == null) {
-                BitSet mask = createInitialMask(context);
+                BitSet mask = createInitialMask(context, params.schedulers().random());
                 assert isValidMask(mask, context) : "Invalid mask: " + mask + " majority: " + context.majority()
                 + " for node: " + getId();
                 return mask;
@@ -1580,7 +1674,7 @@ public class View {
             // Fill the rest of the mask with randomly-set index
 
             while (mask.cardinality() != ((context.getBias() - 1) * context.toleranceLevel()) + 1) {
-                int index = Entropy.nextBitsStreamInt(context.getRingCount());
+                int index = params.schedulers().random().nextInt(context.getRingCount());
                 if (index < accusations.length) {
                     if (accusations[index] != null) {
                         continue;
@@ -1767,6 +1861,7 @@ public class View {
             NoteWrapper n = getNote();
             if (n == null) {
                 validAccusations[ringNumber] = accusation;
+                updateIndex.update(this);
                 return;
             }
             if (n.getEpoch() != accusation.getEpoch()) {
@@ -1776,6 +1871,7 @@ public class View {
             }
             if (n.getMask().get(ringNumber)) {
                 validAccusations[ringNumber] = accusation;
+                updateIndex.update(this);
                 if (log.isDebugEnabled()) {
                     log.debug("Member: {} is accusing: {} context: {} ring: {} on: {}", accusation.getAccuser(),
                               accusation.getAccused(), getId(), ringNumber, node.getId());
@@ -1795,6 +1891,7 @@ public class View {
                 }
             }
             Arrays.fill(validAccusations, null);
+            updateIndex.update(this);
         }
 
         AccusationWrapper getAccusation(int ring) {
@@ -1820,6 +1917,7 @@ public class View {
 
         void invalidateAccusationOnRing(int index) {
             validAccusations[index] = null;
+            updateIndex.update(this);
             log.trace("Invalidating accusations context: {} ring: {} on: {}", getId(), index, node.getId());
         }
 
@@ -1842,10 +1940,12 @@ public class View {
         void reset() {
             note = null;
             validAccusations = new AccusationWrapper[context.getRingCount()];
+            updateIndex.update(this);
         }
 
         boolean setNote(NoteWrapper next) {
             note = next;
+            updateIndex.update(this);
             if (!shunned.contains(id)) {
                 clearAccusations();
             }
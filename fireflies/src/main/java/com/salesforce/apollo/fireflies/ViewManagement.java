@@ -20,11 +20,11 @@ import com.salesforce.apollo.fireflies.proto.Update.Builder;
 import com.salesforce.apollo.membership.Member;
 import com.salesforce.apollo.ring.SliceIterator;
 import com.salesforce.apollo.stereotomy.identifier.SelfAddressingIdentifier;
-import com.salesforce.apollo.utils.Entropy;
 import com.salesforce.apollo.utils.Utils;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import io.grpc.stub.StreamObserver;
+import org.apache.commons.math3.random.MersenneTwister;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -251,7 +251,7 @@ public class ViewManagement {
 
         ballot.leaving.stream().filter(d -> !node.getId().equals(d)).forEach(view::remove);
 
-        final var seedSet = context.sample(params.maximumTxfr(), Entropy.bitsStream(), node.getId())
+        final var seedSet = context.sample(params.maximumTxfr(), entropy(), node.getId())
                                    .stream()
                                    .filter(sn -> sn != null)
                                    .map(p -> p.note.getWrapped())
@@ -370,7 +370,7 @@ public class ViewManagement {
             if (contains(from)) {
                 log.debug("Already a member: {} view: {}  context: {} cardinality: {} on: {}", from, thisView,
                           context.getId(), cardinality(), node.getId());
-                joined(context.sample(params.maximumTxfr(), Entropy.bitsStream(), node.getId())
+                joined(context.sample(params.maximumTxfr(), entropy(), node.getId())
                               .stream()
                               .map(p -> p.note.getWrapped())
                               .toList(), from, responseObserver, timer);
@@ -406,7 +406,7 @@ public class ViewManagement {
                       node.getId());
             var enjoining = new SliceIterator<>("Enjoining[%s:%s]".formatted(currentView(), from), node,
                                                 observers.keySet().stream().map(context::getActiveMember).toList(),
-                                                view.comm, scheduler);
+                                                view.comm, scheduler, params.schedulers());
             enjoining.iterate(t -> t.enjoin(join), (_, _, _, _) -> true, () -> {
             }, Duration.ofMillis(1));
         });
@@ -419,7 +419,7 @@ public class ViewManagement {
                 view.stop();
                 return;
             }
-            Thread.ofVirtual().start(Utils.wrapped(() -> {
+            params.schedulers().start(Utils.wrapped(() -> {
                 view.viewChange(() -> {
                     final var hex = bound.view();
 
@@ -527,7 +527,7 @@ public class ViewManagement {
      */
     JoinGossip processJoins(BloomFilter<Digest> bff, double p) {
         JoinGossip.Builder builder = processJoins(bff);
-        builder.setBff(getJoinsBff(Entropy.nextSecureLong(), p).toBff());
+        builder.setBff(getJoinsBff(params.schedulers().random().nextLong(), p).toBff());
         JoinGossip gossip = builder.build();
         if (builder.getUpdatesCount() != 0) {
             log.trace("process joins produced updates: {} on: {}", builder.getUpdatesCount(), node.getId());
@@ -599,6 +599,13 @@ public class ViewManagement {
     /**
      * @return true if the receiver is part of the BFT Observers of this group
      */
+    /**
+     * @return a generator for sampling the context, seeded from the runtime's random choices
+     */
+    private MersenneTwister entropy() {
+        return new MersenneTwister(params.schedulers().random().nextLong());
+    }
+
     private boolean isObserver() {
         return observers.containsKey(node.getId());
     }
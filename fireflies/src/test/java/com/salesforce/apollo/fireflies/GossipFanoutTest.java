@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.fireflies;
+
+import com.codahale.metrics.MetricRegistry;
+import com.salesforce.apollo.archipelago.*;
+import com.salesforce.apollo.context.DynamicContext;
+import com.salesforce.apollo.cryptography.Digest;
+import com.salesforce.apollo.cryptography.DigestAlgorithm;
+import com.salesforce.apollo.fireflies.View.Participant;
+import com.salesforce.apollo.fireflies.View.Seed;
+import com.salesforce.apollo.membership.stereotomy.ControlledIdentifierMember;
+import com.salesforce.apollo.stereotomy.*;
+import com.salesforce.apollo.stereotomy.identifier.SelfAddressingIdentifier;
+import com.salesforce.apollo.stereotomy.mem.MemKERL;
+import com.salesforce.apollo.stereotomy.mem.MemKeyStore;
+import com.salesforce.apollo.utils.Utils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures the gossip rounds per second and the convergence time of the view, gossiping with the ring successors one
+ * ring at a time versus concurrently. 100 members by default, 1000 members with large_tests.
+ *
+ * @author hal.hildebrand
+ */
+public class GossipFanoutTest {
+    private static final int                                                         BIAS       = 3;
+    private static final int                                                         CARDINALITY;
+    private static final double                                                      P_BYZ      = 0.1;
+    private static final boolean                                                     largeTests = Boolean.getBoolean(
+    "large_tests");
+    private static       Map<Digest, ControlledIdentifier<SelfAddressingIdentifier>> identities;
+    private static       KERL.AppendKERL                                             kerl;
+
+    static {
+        CARDINALITY = largeTests ? 1000 : 100;
+    }
+
+    private final List<Router>    communications = new ArrayList<>();
+    private final List<Router>    gateways       = new ArrayList<>();
+    private       ExecutorService executor;
+    private       MetricRegistry  registry;
+    private       List<View>      views;
+
+    @BeforeAll
+    public static void beforeClass() throws Exception {
+        var entropy = SecureRandom.getInstance("SHA1PRNG");
+        entropy.setSeed(new byte[] { 6, 6, 6 });
+        kerl = new MemKERL(DigestAlgorithm.DEFAULT);
+        var stereotomy = new StereotomyImpl(new MemKeyStore(), kerl, entropy);
+        identities = IntStream.range(0, CARDINALITY)
+                              .mapToObj(i -> stereotomy.newIdentifier())
+                              .collect(Collectors.toMap(controlled -> controlled.getIdentifier().getDigest(),
+                                                        controlled -> controlled, (a, b) -> a, TreeMap::new));
+    }
+
+    @AfterEach
+    public void after() {
+        if (views != null) {
+            views.forEach(View::stop);
+            views = null;
+        }
+        communications.forEach(e -> e.close(Duration.ofSeconds(1)));
+        communications.clear();
+        gateways.forEach(e -> e.close(Duration.ofSeconds(1)));
+        gateways.clear();
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void fanout() throws Exception {
+        var sequential = measure(false);
+        after();
+        var concurrent = measure(true);
+        System.out.printf("Members: %s sequential: %s%n", CARDINALITY, sequential);
+        System.out.printf("Members: %s concurrent: %s%n", CARDINALITY, concurrent);
+    }
+
+    private Measurement measure(boolean concurrentGossip) throws Exception {
+        initialize(concurrentGossip);
+        final var gossipDuration = Duration.ofMillis(largeTests ? 150 : 5);
+        final var seeds = views.stream()
+                               .map(v -> new Seed(v.getNode().getIdentifier(), EndpointProvider.allocatePort()))
+                               .limit(largeTests ? 100 : 10)
+                               .toList();
+        long then = System.currentTimeMillis();
+
+        var countdown = new CountDownLatch(1);
+        views.get(0).start(countdown::countDown, gossipDuration, Collections.emptyList());
+        assertTrue(countdown.await(60, TimeUnit.SECONDS), "Kernel did not bootstrap");
+
+        var bootstrappers = views.subList(1, seeds.size());
+        var bootstrapped = new CountDownLatch(bootstrappers.size());
+        bootstrappers.forEach(v -> v.start(bootstrapped::countDown, gossipDuration, seeds.subList(0, 1)));
+        assertTrue(bootstrapped.await(largeTests ? 2400 : 60, TimeUnit.SECONDS), "Seeds did not bootstrap");
+
+        var remaining = views.subList(seeds.size(), views.size());
+        var started = new CountDownLatch(remaining.size());
+        remaining.forEach(v -> v.start(started::countDown, gossipDuration, seeds));
+        assertTrue(started.await(largeTests ? 2400 : 120, TimeUnit.SECONDS), "Views did not start");
+
+        var success = Utils.waitForCondition(largeTests ? 2400_000 : 120_000, 100,
+                                             () -> views.stream().allMatch(
+                                             v -> v.getContext().activeCount() == CARDINALITY));
+        assertTrue(success, "Views did not converge, concurrent gossip: " + concurrentGossip);
+        var convergence = Duration.ofMillis(System.currentTimeMillis() - then);
+
+        var rounds = registry.getTimers().get(gossipRoundName());
+        var window = Duration.ofSeconds(largeTests ? 30 : 5);
+        var start = rounds.getCount();
+        Thread.sleep(window.toMillis());
+        var roundsPerSecond = (double) (rounds.getCount() - start) / window.toSeconds() / CARDINALITY;
+        var snapshot = rounds.getSnapshot();
+        return new Measurement(convergence, roundsPerSecond, snapshot.getMean() / 1_000_000.0,
+                               snapshot.get99thPercentile() / 1_000_000.0);
+    }
+
+    private String gossipRoundName() {
+        return registry.getTimers()
+                       .keySet()
+                       .stream()
+                       .filter(name -> name.endsWith("ff.gossip.round.duration"))
+                       .findFirst()
+                       .orElseThrow();
+    }
+
+    private void initialize(boolean concurrentGossip) {
+        executor = UnsafeExecutors.newVirtualThreadPerTaskExecutor();
+        var parameters = Parameters.newBuilder()
+                                   .setMaxPending(50)
+                                   .setMaximumTxfr(20)
+                                   .setJoinRetries(30)
+                                   .setSeedingTimout(Duration.ofSeconds(10))
+                                   .setRetryDelay(Duration.ofMillis(largeTests ? 1000 : 200))
+                                   .setConcurrentGossip(concurrentGossip)
+                                   .build();
+        registry = new MetricRegistry();
+        var ctxBuilder = DynamicContext.<Participant>newBuilder()
+                                       .setBias(BIAS)
+                                       .setpByz(P_BYZ)
+                                       .setCardinality(CARDINALITY);
+        final var prefix = UUID.randomUUID().toString();
+        final var gatewayPrefix = UUID.randomUUID().toString();
+        views = identities.values().stream().map(ControlledIdentifierMember::new).map(node -> {
+            DynamicContext<Participant> context = ctxBuilder.build();
+            var metrics = new FireflyMetricsImpl(context.getId(), registry);
+            var comms = new LocalServer(prefix, node).router(ServerConnectionCache.newBuilder().setTarget(200),
+                                                             executor);
+            var gateway = new LocalServer(gatewayPrefix, node).router(
+            ServerConnectionCache.newBuilder().setTarget(200), executor);
+            comms.start();
+            communications.add(comms);
+            gateway.start();
+            gateways.add(gateway);
+            return new View(context, node, EndpointProvider.allocatePort(), EventValidation.NONE, Verifiers.from(kerl),
+                            comms, parameters, gateway, DigestAlgorithm.DEFAULT, metrics);
+        }).collect(Collectors.toList());
+    }
+
+    private record Measurement(Duration convergence, double roundsPerSecond, double meanRoundMillis,
+                               double p99RoundMillis) {
+    }
+}
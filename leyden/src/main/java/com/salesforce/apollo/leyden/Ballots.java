@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.leyden;
+
+import com.salesforce.apollo.context.Context;
+import com.salesforce.apollo.cryptography.Digest;
+import com.salesforce.apollo.cryptography.DigestAlgorithm;
+import com.salesforce.apollo.leyden.proto.Bound;
+import com.salesforce.apollo.membership.Member;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiPredicate;
+
+/**
+ * The votes of the members of the current view for the replicated bindings. A member of the view is assigned an
+ * ordinal on its first vote, and its votes are recorded in the bitset of each binding at that ordinal. The ordinals and
+ * the pending votes are scoped to the view: votes from members outside the view are ignored, and both are discarded on
+ * a view change, so they are bounded by the membership of the view rather than growing with every member ever heard
+ * from.
+ *
+ * @author hal.hildebrand
+ */
+class Ballots {
+    private final    DigestAlgorithm algorithm;
+    private volatile Electorate      electorate;
+
+    Ballots(DigestAlgorithm algorithm, Context<Member> context) {
+        this.algorithm = algorithm;
+        this.electorate = new Electorate(context);
+    }
+
+    /**
+     * Discard the ordinals and the pending votes of the previous view, scoping the votes to the members of the next
+     */
+    void nextView(Context<Member> context) {
+        electorate = new Electorate(context);
+    }
+
+    /**
+     * @return the number of bindings with pending votes in the current view
+     */
+    int pending() {
+        return electorate.pending.size();
+    }
+
+    /**
+     * Record the member's votes for the bindings
+     *
+     * @param applied - answers true if the binding with the key hash and binding digest is already applied
+     * @return the bindings brought to a majority by the member's votes, or the empty list if the member is not in the
+     * current view
+     */
+    List<Votes> vote(List<Bound> bindings, Digest from, BiPredicate<Digest, Digest> applied) {
+        var current = electorate;
+        if (!current.context.isMember(from)) {
+            return List.of();
+        }
+        var voter = current.ordinals.computeIfAbsent(from, k -> current.ordinal.getAndIncrement());
+        var majority = current.context.majority();
+        var agreed = new ArrayList<Votes>();
+        for (var bound : bindings) {
+            var hash = algorithm.digest(bound.getKey());
+            var digest = algorithm.digest(bound.toByteString());
+            if (applied.test(hash, digest)) {
+                continue;
+            }
+            var votes = current.pending.computeIfAbsent(digest, k -> new Votes(hash, digest, bound));
+            if (votes.vote(voter, majority)) {
+                current.pending.remove(digest, votes);
+                agreed.add(votes);
+            }
+        }
+        return agreed;
+    }
+
+    /**
+     * The votes of the members for a replicated binding, indexed by the member ordinal
+     */
+    static class Votes {
+        final         Bound   binding;
+        final         Digest  digest;
+        final         Digest  hash;
+        private final BitSet  voters = new BitSet();
+        private       boolean applied;
+
+        Votes(Digest hash, Digest digest, Bound binding) {
+            this.hash = hash;
+            this.digest = digest;
+            this.binding = binding;
+        }
+
+        /**
+         * Record the member's vote
+         *
+         * @return true if this vote is the one that brings the binding to the majority
+         */
+        synchronized boolean vote(int ordinal, int majority) {
+            if (applied) {
+                return false;
+            }
+            voters.set(ordinal);
+            if (voters.cardinality() >= majority) {
+                applied = true;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private record Electorate(Context<Member> context, Map<Digest, Integer> ordinals, AtomicInteger ordinal,
+                              Map<Digest, Votes> pending) {
+        private Electorate(Context<Member> context) {
+            this(context, new ConcurrentHashMap<>(), new AtomicInteger(), new ConcurrentHashMap<>());
+        }
+    }
+}
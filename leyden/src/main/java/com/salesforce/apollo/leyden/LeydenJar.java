@@ -1,5 +1,7 @@
 package com.salesforce.apollo.leyden;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.collect.HashMultiset;
 import com.google.common.collect.Multiset;
 import com.google.common.collect.Ordering;
@@ -8,6 +10,7 @@ import com.salesforce.apollo.archipelago.RouterImpl;
 import com.salesforce.apollo.archipelago.server.FernetServerInterceptor;
 import com.salesforce.apollo.bloomFilters.BloomFilter;
 import com.salesforce.apollo.context.Context;
+import com.salesforce.apollo.context.ViewChange;
 import com.salesforce.apollo.cryptography.Digest;
 import com.salesforce.apollo.cryptography.DigestAlgorithm;
 import com.salesforce.apollo.cryptography.proto.Biff;
@@ -27,6 +30,7 @@ import org.h2.mvstore.MVStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.TemporalAmount;
@@ -34,6 +38,7 @@ import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -56,7 +61,8 @@ public class LeydenJar {
     private final MVMap<Digest, Bound>                                                         bottled;
     private final MVMap<Digest, Digest>                                                        digests;
     private final AtomicBoolean                                                                started   = new AtomicBoolean();
-    private final NavigableMap<Digest, List<ConsensusState>>                                   pending   = new ConcurrentSkipListMap<>();
+    private final Ballots                                                                      ballots;
+    private final MVStore                                                                      store;
     private final Borders                                                                      borders;
     private final Reconciled                                                                   recon;
     private final TemporalAmount                                                               operationTimeout;
@@ -64,15 +70,33 @@ public class LeydenJar {
     private final ScheduledExecutorService                                                     scheduler = Executors.newScheduledThreadPool(
     1, Thread.ofVirtual().factory());
     private final OpValidator                                                                  validator;
+    private final Cache<Digest, Bound>                                                         cache;
+    private final int                                                                          cacheSize;
+    private final ExecutorService                                                              executor  = Executors.newVirtualThreadPerTaskExecutor();
 
     public LeydenJar(OpValidator validator, TemporalAmount operationTimeout, SigningMember member,
                      Context<Member> context, Duration operationsFrequency, Router communications, double fpr,
                      DigestAlgorithm algorithm, MVStore store, ReconciliationMetrics metrics,
                      BinderMetrics binderMetrics) {
+        this(validator, operationTimeout, member, context, operationsFrequency, communications, fpr, algorithm, store,
+             metrics, binderMetrics, 0, Duration.ZERO);
+    }
+
+    /**
+     * @param cacheSize - the maximum number of quorum validated reads cached locally, 0 to disable the read cache
+     * @param cacheTtl  - the time a cached read remains valid
+     */
+    public LeydenJar(OpValidator validator, TemporalAmount operationTimeout, SigningMember member,
+                     Context<Member> context, Duration operationsFrequency, Router communications, double fpr,
+                     DigestAlgorithm algorithm, MVStore store, ReconciliationMetrics metrics,
+                     BinderMetrics binderMetrics, int cacheSize, Duration cacheTtl) {
+        this.cacheSize = cacheSize;
+        this.cache = Caffeine.newBuilder().maximumSize(Math.max(0, cacheSize)).expireAfterWrite(cacheTtl).build();
         this.validator = validator;
         this.context = context;
         this.member = member;
         this.algorithm = algorithm;
+        ballots = new Ballots(algorithm, context);
         recon = new Reconciled();
         this.operationTimeout = operationTimeout;
         this.operationsFrequency = operationsFrequency;
@@ -88,6 +112,7 @@ public class LeydenJar {
                                                                   binderMetrics), c -> Bind.getCreate(c, binderMetrics),
                                             Bind.getLocalLoopback(borders, member));
         this.fpr = fpr;
+        this.store = store;
         bottled = store.openMap(LEYDEN_JAR, new MVMap.Builder<Digest, Bound>().keyType(new DigestDatatype(algorithm))
                                                                               .valueType(new BoundDatatype()));
         digests = store.openMap(DIGESTS, new MVMap.Builder<Digest, Digest>().keyType(new DigestDatatype(algorithm))
@@ -95,17 +120,40 @@ public class LeydenJar {
     }
 
     public void bind(Binding bound) {
+        join(bindAsync(bound));
+    }
+
+    /**
+     * Bind all the keys. The keys are grouped by the members of their replica slices, and each member is sent a single
+     * batch of its keys.
+     *
+     * @return the future completed when a majority of each key's slice has bound the key
+     */
+    public CompletableFuture<Void> bindAll(List<Binding> bindings) {
+        var hashes = bindings.stream().map(b -> algorithm.digest(b.getBound().getKey())).toList();
+        log.debug("Bind all: {} on: {}", hashes.size(), member.getId());
+        cache.invalidateAll(hashes);
+        return this.<String>batch("BindAll", hashes, (link, indexes) -> {
+            link.bindAll(Bindings.newBuilder().addAllBindings(indexes.stream().map(bindings::get).toList()).build());
+            return Collections.nCopies(indexes.size(), "");
+        }).thenApply(bound -> null);
+    }
+
+    /**
+     * @return the future completed when a majority of the key's slice has bound the key
+     */
+    public CompletableFuture<Void> bindAsync(Binding bound) {
         var key = bound.getBound().getKey();
-        var hex = Hex.hex(key.toByteArray());
-        log.info("Bind: {} on: {}", hex, member.getId());
         var hash = algorithm.digest(key);
+        log.debug("Bind: {} on: {}", hash, member.getId());
+        cache.invalidate(hash);
         Instant timedOut = Instant.now().plus(operationTimeout);
         Supplier<Boolean> isTimedOut = () -> Instant.now().isAfter(timedOut);
         var result = new CompletableFuture<String>();
         var gathered = HashMultiset.<String>create();
         var sample = context.bftSubset(hash);
 
-        var iterator = new SliceIterator<>("Bind[%s on: %s]".formatted(hex, member.getId()), member, sample,
+        var iterator = new SliceIterator<>("Bind[%s on: %s]".formatted(hash, member.getId()), member, sample,
                                            binderComms, scheduler);
         iterator.iterate(null, link -> {
                              link.bind(bound);
@@ -113,22 +161,62 @@ public class LeydenJar {
                          }, (r, tally, comm, m) -> write(result, gathered, tally, r, hash, isTimedOut, m),
                          () -> failedMajority(result, maxCount(gathered)), operationsFrequency,
                          () -> failedMajority(result, maxCount(gathered)));
+        return result.thenApply(s -> null);
+    }
 
-        try {
-            result.get();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        } catch (ExecutionException e) {
-            if (e.getCause() instanceof RuntimeException re) {
-                throw re;
+    public Bound get(Key keyAndToken) {
+        return join(getAsync(keyAndToken));
+    }
+
+    /**
+     * Get the bindings of all the keys. Keys with valid cached reads are answered locally, the remaining keys are
+     * grouped by the members of their replica slices, and each member is sent a single batch of its keys.
+     *
+     * @return the future of the bindings, in the order of the supplied keys
+     */
+    public CompletableFuture<List<Bound>> getAll(List<Key> keys) {
+        var results = new Bound[keys.size()];
+        var missing = new ArrayList<Integer>();
+        var hashes = new ArrayList<Digest>();
+        for (int i = 0; i < keys.size(); i++) {
+            var hash = algorithm.digest(keys.get(i).getKey());
+            results[i] = cached(hash);
+            if (results[i] == null) {
+                missing.add(i);
+                hashes.add(hash);
             }
-            throw new IllegalStateException(e.getCause());
         }
+        log.debug("Get all: {} cached: {} on: {}", keys.size(), keys.size() - missing.size(), member.getId());
+        if (missing.isEmpty()) {
+            return CompletableFuture.completedFuture(Arrays.asList(results));
+        }
+        return this.<Bound>batch("GetAll", hashes, (link, indexes) -> link.getAll(Keys.newBuilder()
+                                                                                     .addAllKeys(indexes.stream()
+                                                                                                        .map(
+                                                                                                        i -> keys.get(
+                                                                                                        missing.get(i)))
+                                                                                                        .toList())
+                                                                                     .build()).getBoundsList())
+                   .thenApply(bounds -> {
+                       for (int i = 0; i < bounds.size(); i++) {
+                           results[missing.get(i)] = bounds.get(i);
+                           cache(hashes.get(i), bounds.get(i));
+                       }
+                       return Arrays.asList(results);
+                   });
     }
 
-    public Bound get(Key keyAndToken) {
+    /**
+     * @return the future of the binding agreed upon by a majority of the key's slice
+     */
+    public CompletableFuture<Bound> getAsync(Key keyAndToken) {
         var hash = algorithm.digest(keyAndToken.getKey());
-        log.info("Get: {} on: {}", hash, member.getId());
+        var cached = cached(hash);
+        if (cached != null) {
+            log.trace("Get: {} cached on: {}", hash, member.getId());
+            return CompletableFuture.completedFuture(cached);
+        }
+        log.debug("Get: {} on: {}", hash, member.getId());
         Instant timedOut = Instant.now().plus(operationTimeout);
         Supplier<Boolean> isTimedOut = () -> Instant.now().isAfter(timedOut);
         var result = new CompletableFuture<Bound>();
@@ -146,17 +234,20 @@ public class LeydenJar {
                          }, (r, tally, comm, m) -> read(result, gathered, tally, r, hash, isTimedOut, m, "Get"),
                          () -> failedMajority(result, maxCount(gathered)), operationsFrequency,
                          () -> failedMajority(result, maxCount(gathered)));
-        try {
-            return result.get();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            return null;
-        } catch (ExecutionException e) {
-            if (e.getCause() instanceof RuntimeException re) {
-                throw re;
+        return result.whenComplete((bound, t) -> {
+            if (t == null) {
+                cache(hash, bound);
             }
-            throw new IllegalStateException(e.getCause());
-        }
+        });
+    }
+
+    /**
+     * Scope the replica votes to the members of the next view, discarding the votes pending from the previous view.
+     * Bindings not yet agreed are voted on again by the next rounds of reconciliation
+     */
+    public void nextView(ViewChange viewChange) {
+        log.info("Next view: {} context: {} on: {}", viewChange.diadem(), viewChange.context().getId(), member.getId());
+        ballots.nextView(viewChange.context());
     }
 
     public void start(Duration gossip) {
@@ -180,12 +271,14 @@ public class LeydenJar {
         log.info("Stopping: {}", member.getId());
         binderComms.deregister(context.getId());
         reconComms.deregister(context.getId());
+        executor.shutdownNow();
     }
 
     public void unbind(Key keyAndToken) {
         var key = keyAndToken.toByteArray();
         var hash = algorithm.digest(key);
-        log.info("Unbind: {} on: {}", hash, member.getId());
+        log.debug("Unbind: {} on: {}", hash, member.getId());
+        cache.invalidate(algorithm.digest(keyAndToken.getKey()));
         Instant timedOut = Instant.now().plus(operationTimeout);
         Supplier<Boolean> isTimedOut = () -> Instant.now().isAfter(timedOut);
         var result = new CompletableFuture<String>();
@@ -201,16 +294,7 @@ public class LeydenJar {
                          }, (r, tally, comm, m) -> read(result, gathered, tally, r, hash, isTimedOut, m, "Unbind"),
                          () -> failedMajority(result, maxCount(gathered)), operationsFrequency,
                          () -> failedMajority(result, maxCount(gathered)));
-        try {
-            result.get();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        } catch (ExecutionException e) {
-            if (e.getCause() instanceof RuntimeException re) {
-                throw re;
-            }
-            throw new IllegalStateException(e.getCause());
-        }
+        join(result);
     }
 
     private void add(Digest hash, Bound bound, Digest digest) {
@@ -218,10 +302,56 @@ public class LeydenJar {
         if (existing == null || !existing.equals(digest)) {
             bottled.put(hash, bound);
             digests.put(hash, digest);
-            log.info("Add: <{}> on: {}", bound.getKey().toStringUtf8(), member.getId());
+            cache.invalidate(hash);
+            log.debug("Add: <{}> on: {}", bound.getKey().toStringUtf8(), member.getId());
         }
     }
 
+    /**
+     * Evaluate the operation on the keys' replica slices. The keys are grouped by the members of their slices and each
+     * member is sent a single batch of its keys, concurrently. The result for each key is the result agreed upon by a
+     * majority of its slice.
+     *
+     * @param call - evaluate the batch of key indexes on the link, answering the results in the order of the indexes
+     */
+    private <T> CompletableFuture<List<T>> batch(String op, List<Digest> hashes,
+                                                 BiFunction<BinderClient, List<Integer>, List<T>> call) {
+        var quorums = new ArrayList<Quorum<T>>(hashes.size());
+        var batches = new HashMap<Member, List<Integer>>();
+        for (int i = 0; i < hashes.size(); i++) {
+            quorums.add(new Quorum<>());
+            for (var m : context.bftSubset(hashes.get(i))) {
+                batches.computeIfAbsent(m, k -> new ArrayList<>()).add(i);
+            }
+        }
+        var timeout = Duration.from(operationTimeout);
+        CompletableFuture<?>[] sent;
+        try {
+            sent = batches.entrySet().stream().map(e -> CompletableFuture.runAsync(() -> {
+                try (var link = binderComms.connect(e.getKey())) {
+                    if (link == null) {
+                        return;
+                    }
+                    var indexes = e.getValue();
+                    var results = call.apply(link, indexes);
+                    for (int j = 0; j < results.size() && j < indexes.size(); j++) {
+                        quorums.get(indexes.get(j)).add(results.get(j));
+                    }
+                } catch (StatusRuntimeException | IOException ex) {
+                    log.debug("{}: {} keys failed: {} to: {} on: {}", op, e.getValue().size(), ex.getMessage(),
+                              e.getKey().getId(), member.getId());
+                }
+            }, executor).orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS)).toArray(CompletableFuture[]::new);
+        } catch (RejectedExecutionException ex) {
+            log.debug("{}: {} keys failed, stopped on: {}", op, hashes.size(), member.getId());
+            sent = new CompletableFuture[0];
+        }
+        CompletableFuture.allOf(sent).whenComplete((v, t) -> quorums.forEach(Quorum::failed));
+
+        var results = quorums.stream().map(q -> q.result).toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(results).thenApply(v -> quorums.stream().map(q -> q.result.join()).toList());
+    }
+
     private Stream<Digest> bindingsIn(KeyInterval i) {
         Iterator<Digest> it = new Iterator<Digest>() {
             private final Iterator<Digest> iterate = bottled.keyIterator(i.getBegin());
@@ -261,6 +391,17 @@ public class LeydenJar {
         return StreamSupport.stream(iterable.spliterator(), false);
     }
 
+    private void cache(Digest hash, Bound bound) {
+        if (cacheSize <= 0 || bound == null || bound.equals(Bound.getDefaultInstance())) {
+            return;
+        }
+        cache.put(hash, bound);
+    }
+
+    private Bound cached(Digest hash) {
+        return cacheSize <= 0 ? null : cache.getIfPresent(hash);
+    }
+
     private void failedMajority(CompletableFuture<?> result, int maxAgree) {
         result.completeExceptionally(new NoSuchElementException(
         "Unable to achieve majority read, max: %s required: %s on: %s".formatted(maxAgree, context.majority(),
@@ -303,6 +444,20 @@ public class LeydenJar {
         return new CombinedIntervals(intervals);
     }
 
+    private <T> T join(CompletableFuture<T> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
     private <T> Multiset.Entry<T> max(HashMultiset<T> gathered) {
         return gathered.entrySet().stream().max(Ordering.natural().onResultOf(Multiset.Entry::getCount)).orElse(null);
     }
@@ -431,6 +586,10 @@ public class LeydenJar {
                            TimeUnit.NANOSECONDS);
     }
 
+    /**
+     * Record the member's votes for the replicated bindings. Bindings that reach a majority of votes are applied to the
+     * store together, in a single commit
+     */
     private void update(List<Bound> bindings, Digest from) {
         if (bindings.isEmpty()) {
             log.trace("No bindings to update: {} on: {}", from, member.getId());
@@ -438,29 +597,15 @@ public class LeydenJar {
         }
 
         log.trace("Events to update: {} on: {}", bindings.size(), member.getId());
-        for (var bound : bindings) {
-            var hash = algorithm.digest(bound.getKey());
-            var existing = digests.get(hash);
-            var digest = algorithm.digest(bound.toByteString());
-            if (existing != null && existing.equals(digest)) {
-                continue;
-            }
-            var states = pending.computeIfAbsent(digest, k -> new CopyOnWriteArrayList<>());
-            var found = false;
-            for (var cs : states) {
-                if (cs.test(bound, from)) {
-                    found = true;
-                    if (cs.count() >= context.majority()) {
-                        add(hash, bound, digest);
-                        pending.remove(digest);
-                    }
-                    break;
-                }
-            }
-            if (!found) {
-                states.add(new ConsensusState(bound, from));
-            }
+        var agreed = ballots.vote(bindings, from, (hash, digest) -> digest.equals(digests.get(hash)));
+        if (agreed.isEmpty()) {
+            return;
+        }
+        for (var votes : agreed) {
+            add(votes.hash, votes.binding, votes.digest);
         }
+        store.tryCommit();
+        log.trace("Applied: {} bindings from: {} on: {}", agreed.size(), from, member.getId());
     }
 
     private boolean write(CompletableFuture<String> result, HashMultiset<String> gathered, AtomicInteger tally,
@@ -496,37 +641,27 @@ public class LeydenJar {
         boolean validateUnbind(byte[] key);
     }
 
-    private static class ConsensusState {
-        private final Bound        binding;
-        private final List<Digest> members = new ArrayList<>();
-
-        ConsensusState(Bound binding, Digest from) {
-            this.binding = binding;
-            members.add(from);
-        }
+    /**
+     * The results gathered for a key in a batch, completed when a majority of the key's slice agree
+     */
+    private class Quorum<T> {
+        private final HashMultiset<T>      gathered = HashMultiset.create();
+        private final CompletableFuture<T> result   = new CompletableFuture<>();
 
-        int count() {
-            return members.size();
+        synchronized void add(T value) {
+            if (result.isDone()) {
+                return;
+            }
+            gathered.add(value);
+            if (gathered.count(value) > context.toleranceLevel()) {
+                result.complete(value);
+            }
         }
 
-        /**
-         * Test the binding against the receiver's.  If the from id is not already in the members set, add it
-         *
-         * @param binding - the replicated Bound
-         * @param from    - the Digest id of the originating member
-         * @return true if the binding equals the receiver's binding, false if not
-         */
-        boolean test(Bound binding, Digest from) {
-            if (!this.binding.equals(binding)) {
-                return false;
+        synchronized void failed() {
+            if (!result.isDone()) {
+                failedMajority(result, maxCount(gathered));
             }
-            for (var m : members) {
-                if (m.equals(from)) {
-                    return true;
-                }
-            }
-            members.add(from);
-            return true;
         }
     }
 
@@ -574,6 +709,25 @@ public class LeydenJar {
             bottled.put(hash, bound);
             var digest = algorithm.digest(bound.toByteString());
             digests.put(hash, digest);
+            cache.invalidate(hash);
+        }
+
+        @Override
+        public void bindAll(Bindings request, Digest from) {
+            for (var binding : request.getBindingsList()) {
+                if (!validator.validateBind(binding.getBound())) {
+                    log.warn("Invalid Bind Token on: {}", member.getId());
+                    throw new StatusRuntimeException(Status.INVALID_ARGUMENT);
+                }
+            }
+            log.debug("Bind all: {} on: {}", request.getBindingsCount(), member.getId());
+            for (var binding : request.getBindingsList()) {
+                var bound = binding.getBound();
+                var hash = algorithm.digest(bound.getKey());
+                bottled.put(hash, bound);
+                digests.put(hash, algorithm.digest(bound.toByteString()));
+                cache.invalidate(hash);
+            }
         }
 
         @Override
@@ -588,6 +742,20 @@ public class LeydenJar {
             return bound;
         }
 
+        @Override
+        public Bounds getAll(Keys request, Digest from) {
+            var bounds = Bounds.newBuilder();
+            for (var key : request.getKeysList()) {
+                if (!validator.validateGet(key.getKey().toByteArray())) {
+                    log.warn("Invalid Get Token on: {}", member.getId());
+                    throw new StatusRuntimeException(Status.INVALID_ARGUMENT);
+                }
+                bounds.addBounds(bottled.getOrDefault(algorithm.digest(key.getKey()), Bound.getDefaultInstance()));
+            }
+            log.debug("Get all: {} on: {}", request.getKeysCount(), member.getId());
+            return bounds.build();
+        }
+
         @Override
         public void unbind(Key request, Digest from) {
             if (!validator.validateUnbind(request.getKey().toByteArray())) {
@@ -598,6 +766,7 @@ public class LeydenJar {
             log.debug("Remove: {} on: {}", hash, member.getId());
             bottled.remove(hash);
             digests.remove(hash);
+            cache.invalidate(hash);
         }
     }
 }
@@ -1,10 +1,7 @@
 package com.salesforce.apollo.leyden.comm.binding;
 
 import com.salesforce.apollo.archipelago.ManagedServerChannel;
-import com.salesforce.apollo.leyden.proto.BinderGrpc;
-import com.salesforce.apollo.leyden.proto.Binding;
-import com.salesforce.apollo.leyden.proto.Bound;
-import com.salesforce.apollo.leyden.proto.Key;
+import com.salesforce.apollo.leyden.proto.*;
 import com.salesforce.apollo.membership.Member;
 import com.salesforce.apollo.membership.SigningMember;
 
@@ -35,6 +32,11 @@ public class Bind implements BinderClient {
                 service.bind(binding, member.getId());
             }
 
+            @Override
+            public void bindAll(Bindings bindings) {
+                service.bindAll(bindings, member.getId());
+            }
+
             @Override
             public void close() throws IOException {
                 // no op
@@ -45,6 +47,11 @@ public class Bind implements BinderClient {
                 return service.get(key, member.getId());
             }
 
+            @Override
+            public Bounds getAll(Keys keys) {
+                return service.getAll(keys, member.getId());
+            }
+
             @Override
             public Member getMember() {
                 return member;
@@ -62,6 +69,11 @@ public class Bind implements BinderClient {
         client.bind(binding);
     }
 
+    @Override
+    public void bindAll(Bindings bindings) {
+        client.bindAll(bindings);
+    }
+
     @Override
     public void close() throws IOException {
         channel.release();
@@ -72,6 +84,11 @@ public class Bind implements BinderClient {
         return client.get(key);
     }
 
+    @Override
+    public Bounds getAll(Keys keys) {
+        return client.getAll(keys);
+    }
+
     @Override
     public Member getMember() {
         return channel.getMember();
@@ -1,9 +1,7 @@
 package com.salesforce.apollo.leyden.comm.binding;
 
 import com.salesforce.apollo.archipelago.Link;
-import com.salesforce.apollo.leyden.proto.Binding;
-import com.salesforce.apollo.leyden.proto.Bound;
-import com.salesforce.apollo.leyden.proto.Key;
+import com.salesforce.apollo.leyden.proto.*;
 
 /**
  * @author hal.hildebrand
@@ -12,7 +10,11 @@ public interface BinderClient extends Link {
 
     void bind(Binding binding);
 
+    void bindAll(Bindings bindings);
+
     Bound get(Key key);
 
+    Bounds getAll(Keys keys);
+
     void unbind(Key key);
 }
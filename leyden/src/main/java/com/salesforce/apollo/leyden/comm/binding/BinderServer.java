@@ -4,10 +4,7 @@ import com.codahale.metrics.Timer;
 import com.google.protobuf.Empty;
 import com.salesforce.apollo.archipelago.RoutableService;
 import com.salesforce.apollo.cryptography.Digest;
-import com.salesforce.apollo.leyden.proto.BinderGrpc;
-import com.salesforce.apollo.leyden.proto.Binding;
-import com.salesforce.apollo.leyden.proto.Bound;
-import com.salesforce.apollo.leyden.proto.Key;
+import com.salesforce.apollo.leyden.proto.*;
 import com.salesforce.apollo.protocols.ClientIdentity;
 import io.grpc.stub.StreamObserver;
 
@@ -53,6 +50,32 @@ public class BinderServer extends BinderGrpc.BinderImplBase {
         });
     }
 
+    @Override
+    public void bindAll(Bindings request, StreamObserver<Empty> responseObserver) {
+        Timer.Context timer = metrics == null ? null : metrics.inboundBindTimer().time();
+        if (metrics != null) {
+            var serializedSize = request.getSerializedSize();
+            metrics.inboundBandwidth().mark(serializedSize);
+            metrics.inboundBind().update(serializedSize);
+        }
+        Digest from = identity.getFrom();
+        if (from == null) {
+            responseObserver.onError(new IllegalStateException("Member has been removed"));
+            return;
+        }
+        routing.evaluate(responseObserver, s -> {
+            try {
+                s.bindAll(request, from);
+                responseObserver.onNext(Empty.getDefaultInstance());
+                responseObserver.onCompleted();
+            } finally {
+                if (timer != null) {
+                    timer.stop();
+                }
+            }
+        });
+    }
+
     @Override
     public void get(Key request, StreamObserver<Bound> responseObserver) {
         Timer.Context timer = metrics == null ? null : metrics.inboundGetTimer().time();
@@ -79,6 +102,32 @@ public class BinderServer extends BinderGrpc.BinderImplBase {
         });
     }
 
+    @Override
+    public void getAll(Keys request, StreamObserver<Bounds> responseObserver) {
+        Timer.Context timer = metrics == null ? null : metrics.inboundGetTimer().time();
+        if (metrics != null) {
+            var serializedSize = request.getSerializedSize();
+            metrics.inboundBandwidth().mark(serializedSize);
+            metrics.inboundGet().update(serializedSize);
+        }
+        Digest from = identity.getFrom();
+        if (from == null) {
+            responseObserver.onError(new IllegalStateException("Member has been removed"));
+            return;
+        }
+        routing.evaluate(responseObserver, s -> {
+            try {
+                var bounds = s.getAll(request, from);
+                responseObserver.onNext(bounds);
+                responseObserver.onCompleted();
+            } finally {
+                if (timer != null) {
+                    timer.stop();
+                }
+            }
+        });
+    }
+
     @Override
     public void unbind(Key request, StreamObserver<Empty> responseObserver) {
         Timer.Context timer = metrics == null ? null : metrics.inboundUnbindTimer().time();
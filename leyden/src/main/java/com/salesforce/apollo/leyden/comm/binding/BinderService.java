@@ -1,9 +1,7 @@
 package com.salesforce.apollo.leyden.comm.binding;
 
 import com.salesforce.apollo.cryptography.Digest;
-import com.salesforce.apollo.leyden.proto.Binding;
-import com.salesforce.apollo.leyden.proto.Bound;
-import com.salesforce.apollo.leyden.proto.Key;
+import com.salesforce.apollo.leyden.proto.*;
 
 /**
  * @author hal.hildebrand
@@ -11,7 +9,11 @@ import com.salesforce.apollo.leyden.proto.Key;
 public interface BinderService {
     void bind(Binding request, Digest from);
 
+    void bindAll(Bindings request, Digest from);
+
     Bound get(Key request, Digest from);
 
+    Bounds getAll(Keys request, Digest from);
+
     void unbind(Key request, Digest from);
 }
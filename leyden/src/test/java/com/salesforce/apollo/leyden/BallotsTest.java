@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.leyden;
+
+import com.google.protobuf.ByteString;
+import com.salesforce.apollo.context.Context;
+import com.salesforce.apollo.cryptography.Digest;
+import com.salesforce.apollo.cryptography.DigestAlgorithm;
+import com.salesforce.apollo.leyden.proto.Bound;
+import com.salesforce.apollo.membership.Member;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author hal.hildebrand
+ */
+public class BallotsTest {
+
+    @Test
+    public void majorityOfView() {
+        var voters = IntStream.range(0, 7).mapToObj(i -> DigestAlgorithm.DEFAULT.digest("voter-" + i)).toList();
+        var ballots = new Ballots(DigestAlgorithm.DEFAULT, context(voters.subList(0, 5)));
+        var bindings = bindings("first", 10);
+        var applied = new HashSet<Digest>();
+
+        assertTrue(vote(ballots, bindings, voters.get(0), applied).isEmpty());
+        assertTrue(vote(ballots, bindings, voters.get(1), applied).isEmpty());
+        assertTrue(vote(ballots, bindings, voters.get(5), applied).isEmpty(), "vote from outside the view counted");
+        assertEquals(bindings.size(), ballots.pending());
+
+        var agreed = vote(ballots, bindings, voters.get(2), applied);
+        assertEquals(bindings, agreed.stream().map(votes -> votes.binding).toList());
+        assertEquals(0, ballots.pending());
+        assertTrue(vote(ballots, bindings, voters.get(3), applied).isEmpty(), "applied binding voted again");
+        assertEquals(0, ballots.pending());
+    }
+
+    @Test
+    public void viewChangePrunes() {
+        var voters = IntStream.range(0, 7).mapToObj(i -> DigestAlgorithm.DEFAULT.digest("voter-" + i)).toList();
+        var ballots = new Ballots(DigestAlgorithm.DEFAULT, context(voters.subList(0, 5)));
+        var bindings = bindings("pending", 10);
+        var applied = new HashSet<Digest>();
+
+        vote(ballots, bindings, voters.get(0), applied);
+        vote(ballots, bindings, voters.get(1), applied);
+        assertEquals(bindings.size(), ballots.pending());
+
+        ballots.nextView(context(voters.subList(2, 7)));
+        assertEquals(0, ballots.pending());
+
+        assertTrue(vote(ballots, bindings, voters.get(0), applied).isEmpty(), "vote from the previous view counted");
+        assertEquals(0, ballots.pending());
+        assertTrue(vote(ballots, bindings, voters.get(5), applied).isEmpty());
+        assertTrue(vote(ballots, bindings, voters.get(6), applied).isEmpty());
+        assertEquals(bindings.size(), vote(ballots, bindings, voters.get(2), applied).size());
+        assertEquals(0, ballots.pending());
+    }
+
+    private List<Bound> bindings(String prefix, int count) {
+        return IntStream.range(0, count)
+                        .mapToObj(i -> Bound.newBuilder()
+                                            .setKey(ByteString.copyFromUtf8(prefix + "-key-" + i))
+                                            .setValue(ByteString.copyFromUtf8(prefix + "-value-" + i))
+                                            .build())
+                        .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Context<Member> context(List<Digest> members) {
+        Context<Member> context = mock(Context.class);
+        when(context.isMember(any(Digest.class))).thenAnswer(invoke -> members.contains(invoke.getArgument(0)));
+        when(context.majority()).thenReturn(3);
+        return context;
+    }
+
+    private List<Ballots.Votes> vote(Ballots ballots, List<Bound> bindings, Digest from, Set<Digest> applied) {
+        var agreed = ballots.vote(bindings, from, (hash, digest) -> applied.contains(digest));
+        agreed.forEach(votes -> applied.add(votes.digest));
+        return agreed;
+    }
+}
@@ -27,9 +27,11 @@ import java.security.SecureRandom;
 import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -124,6 +126,44 @@ public class LeydenJarTest {
         }
     }
 
+    @Test
+    public void lookups() throws Exception {
+        routers.values().forEach(r -> r.start());
+        dhts.values().forEach(lj -> lj.start(Duration.ofMillis(10)));
+
+        var jars = new ArrayList<>(dhts.values());
+        var count = 100;
+        var keys = IntStream.range(0, count)
+                            .mapToObj(i -> Key.newBuilder().setKey(ByteString.copyFromUtf8("key-" + i)).build())
+                            .toList();
+        var bindings = keys.stream()
+                           .map(k -> Binding.newBuilder()
+                                            .setBound(Bound.newBuilder()
+                                                           .setKey(k.getKey())
+                                                           .setValue(ByteString.copyFromUtf8(
+                                                           "value-" + k.getKey().toStringUtf8()))
+                                                           .build())
+                                            .build())
+                           .toList();
+        jars.get(0).bindAll(bindings).get(10, TimeUnit.SECONDS);
+
+        var batched = jars.get(1).getAll(keys).get(10, TimeUnit.SECONDS);
+        assertEquals(count, batched.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(bindings.get(i).getBound(), batched.get(i));
+        }
+
+        for (int i = 0; i < count; i += 10) {
+            var found = jars.get(3).getAll(keys.subList(i, i + 10)).get(10, TimeUnit.SECONDS);
+            for (int j = 0; j < 10; j++) {
+                assertEquals(bindings.get(i + j).getBound(), found.get(j));
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            assertEquals(bindings.get(i).getBound(), jars.get(2).get(keys.get(i)));
+        }
+    }
+
     protected void instantiate(SigningMember member, Context<Member> context) {
         final var url = String.format("jdbc:h2:mem:%s-%s;DB_CLOSE_ON_EXIT=FALSE", member.getId(), prefix);
         JdbcConnectionPool connectionPool = JdbcConnectionPool.create(url, "", "");
@@ -32,7 +32,8 @@ import io.grpc.StatusRuntimeException;
 /**
  * GRPC demultiplexer. Maps from one inbound endpoint to multiple outbound
  * servers via a routing function. Supplied Metadata key provides the routing
- * key.
+ * key. By default, calls are forwarded as raw message frames, without parsing
+ * or copying the messages.
  *
  * @author hal.hildebrand
  *
@@ -46,6 +47,14 @@ public class Demultiplexer {
 
     public Demultiplexer(ServerBuilder<?> serverBuilder, Metadata.Key<String> routing,
                          Function<String, ManagedChannel> dmux) {
+        this(serverBuilder, routing, dmux, true);
+    }
+
+    /**
+     * @param passthrough - if true, forward the raw message frames, otherwise copy each message
+     */
+    public Demultiplexer(ServerBuilder<?> serverBuilder, Metadata.Key<String> routing,
+                         Function<String, ManagedChannel> dmux, boolean passthrough) {
         var serverInterceptor = new ServerInterceptor() {
             @Override
             public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call,
@@ -61,12 +70,16 @@ public class Demultiplexer {
                                               requestHeaders, next);
             }
         };
-        server = serverBuilder.intercept(serverInterceptor).fallbackHandlerRegistry(new GrpcProxy() {
+        var proxy = new GrpcProxy() {
             @Override
             protected ManagedChannel getChannel() {
                 return dmux.apply(ROUTE_TARGET_KEY.get());
             }
-        }.newRegistry()).build();
+        };
+        server = serverBuilder.intercept(serverInterceptor)
+                              .fallbackHandlerRegistry(passthrough ? proxy.newPassthroughRegistry()
+                                                                   : proxy.newRegistry())
+                              .build();
     }
 
     public void close(Duration await) {
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.archipelago;
+
+import io.grpc.netty.NettyChannelBuilder;
+import io.grpc.netty.NettyServerBuilder;
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+
+/**
+ * The Netty event loops and channel types of the MtlsServer and its MtlsClients. The native transports, epoll on
+ * Linux and kqueue on macOS, are resolved reflectively, as their dependencies are platform specific. The event loop
+ * groups are owned by the caller, who must shut them down after the servers and clients using them are closed.
+ *
+ * @author hal.hildebrand
+ */
+public record EventLoops(EventLoopGroup boss, EventLoopGroup workers, Class<? extends ServerChannel> serverChannelType,
+                         Class<? extends Channel> channelType) {
+
+    /**
+     * @param workers - the number of worker event loops, or 0 for Netty's default of twice the available processors
+     * @return the event loops of the native transport of the platform if available, otherwise NIO
+     */
+    public static EventLoops best(int workers) {
+        for (var transport : new String[] { "epoll.Epoll", "kqueue.KQueue" }) {
+            var loops = loadNative(transport, workers);
+            if (loops != null) {
+                return loops;
+            }
+        }
+        return nio(workers);
+    }
+
+    /**
+     * @param workers - the number of worker event loops, or 0 for Netty's default of twice the available processors
+     */
+    public static EventLoops nio(int workers) {
+        return new EventLoops(new NioEventLoopGroup(1), new NioEventLoopGroup(workers), NioServerSocketChannel.class,
+                              NioSocketChannel.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static EventLoops loadNative(String transport, int workers) {
+        var prefix = "io.netty.channel." + transport;
+        try {
+            var available = (Boolean) Class.forName(prefix).getMethod("isAvailable").invoke(null);
+            if (!available) {
+                return null;
+            }
+            var group = Class.forName(prefix + "EventLoopGroup").getConstructor(int.class);
+            return new EventLoops((EventLoopGroup) group.newInstance(1), (EventLoopGroup) group.newInstance(workers),
+                                  (Class<? extends ServerChannel>) Class.forName(prefix + "ServerSocketChannel"),
+                                  (Class<? extends Channel>) Class.forName(prefix + "SocketChannel"));
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    public NettyServerBuilder configure(NettyServerBuilder builder) {
+        return builder.bossEventLoopGroup(boss).workerEventLoopGroup(workers).channelType(serverChannelType);
+    }
+
+    public NettyChannelBuilder configure(NettyChannelBuilder builder) {
+        return builder.eventLoopGroup(workers).channelType(channelType);
+    }
+
+    public void shutdown() {
+        boss.shutdownGracefully();
+        workers.shutdownGracefully();
+    }
+}
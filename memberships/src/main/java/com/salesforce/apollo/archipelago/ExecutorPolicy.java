@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.archipelago;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * The execution policy of the calls of a gRPC service registered with a Router. The policy selects the executor the
+ * server's call callbacks of the service run on, overriding the server's executor for that service:
+ * <ul>
+ *     <li>{@link #serverDefault()} - the executor of the server</li>
+ *     <li>{@link #direct()} - the transport thread delivering the call, for cheap, non blocking handlers</li>
+ *     <li>{@link #virtual()} - a new virtual thread per task, for handlers that block</li>
+ *     <li>{@link #pooled(String, int)} - a dedicated pool of platform threads, for CPU heavy handlers such as
+ *     signature verification or KERL appends, so that they neither starve nor are starved by other services</li>
+ * </ul>
+ *
+ * @author hal.hildebrand
+ */
+public final class ExecutorPolicy {
+    private static final ExecutorPolicy DEFAULT = new ExecutorPolicy("default", null);
+    private static final ExecutorPolicy DIRECT  = new ExecutorPolicy("direct", Runnable::run);
+
+    private final Executor executor;
+    private final String   name;
+
+    private ExecutorPolicy(String name, Executor executor) {
+        this.name = name;
+        this.executor = executor;
+    }
+
+    /**
+     * Execute calls directly on the transport thread. Handlers must not block
+     */
+    public static ExecutorPolicy direct() {
+        return DIRECT;
+    }
+
+    /**
+     * Execute calls on the supplied executor
+     */
+    public static ExecutorPolicy of(String name, Executor executor) {
+        return new ExecutorPolicy(name, executor);
+    }
+
+    /**
+     * Execute calls on a dedicated pool of platform threads
+     *
+     * @param name    - the name prefix of the pool's threads
+     * @param threads - the number of threads in the pool
+     */
+    public static ExecutorPolicy pooled(String name, int threads) {
+        var factory = Thread.ofPlatform().name(name, 0).daemon().factory();
+        return new ExecutorPolicy("pooled", Executors.newFixedThreadPool(threads, factory));
+    }
+
+    /**
+     * Execute calls on the executor of the server
+     */
+    public static ExecutorPolicy serverDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Execute calls on a new virtual thread per task
+     */
+    public static ExecutorPolicy virtual() {
+        return new ExecutorPolicy("virtual", Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    /**
+     * @return the executor of the policy, or null if the server's executor is used
+     */
+    public Executor executor() {
+        return executor;
+    }
+
+    /**
+     * Shut down the executor of the policy, if owned by the policy
+     */
+    public void shutdown() {
+        if (executor instanceof ExecutorService es) {
+            es.shutdown();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ExecutorPolicy[" + name + "]";
+    }
+}
@@ -7,8 +7,12 @@
 package com.salesforce.apollo.archipelago;
 
 import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -16,7 +20,9 @@ import com.google.common.io.ByteStreams;
 
 import io.grpc.CallOptions;
 import io.grpc.ClientCall;
+import io.grpc.Detachable;
 import io.grpc.HandlerRegistry;
+import io.grpc.KnownLength;
 import io.grpc.ManagedChannel;
 import io.grpc.Metadata;
 import io.grpc.MethodDescriptor;
@@ -26,12 +32,111 @@ import io.grpc.ServerMethodDefinition;
 import io.grpc.Status;
 
 /**
- * Proxy from one GRPC server to another GRPC server
+ * Proxy from one GRPC server to another GRPC server.
+ * <p>
+ * The registry of {@link #newRegistry()} copies each message into a byte array. The registry of
+ * {@link #newPassthroughRegistry()} forwards each message as the raw frame received: the transport's buffers are
+ * detached from the inbound call without copying, and written directly by the outbound call's framer into its pooled
+ * buffers, so no protobuf parse and no intermediate copy occurs in the proxy. Request frames are retained until the
+ * outbound call commits, on its response headers, first response message or close, so that they may be replayed should
+ * the outbound channel retry the call before then.
  *
  * @author hal.hildebrand
  *
  */
 abstract public class GrpcProxy implements ServerCallHandler<byte[], byte[]> {
+    /**
+     * A message frame in flight through the proxy. The frame retains its buffers until it is closed, and may be
+     * streamed more than once, as the outbound call replays its messages on a transparent retry
+     */
+    public static final class Frame implements Closeable {
+        private final InputStream stream;
+
+        private Frame(InputStream stream) {
+            this.stream = stream;
+            stream.mark(Integer.MAX_VALUE);
+        }
+
+        /**
+         * Release the buffers of the frame
+         */
+        @Override
+        public void close() {
+            try {
+                stream.close();
+            } catch (IOException e) {
+                // eat
+            }
+        }
+
+        /**
+         * @return a stream of the frame from its start, which does not release the frame's buffers when closed
+         */
+        private InputStream replay() {
+            try {
+                stream.reset();
+            } catch (IOException e) {
+                throw new IllegalStateException("Unable to replay frame", e);
+            }
+            return new Replay(stream);
+        }
+    }
+
+    /**
+     * Marshals message frames without parsing or copying. Frames backed by the transport's buffers are detached from
+     * the inbound stream, retaining the buffers until the outbound call commits, which closes the frame. Transports
+     * whose messages are not detachable, or whose detached buffers cannot be replayed, fall back to a copy
+     */
+    static class PassthroughMarshaller implements MethodDescriptor.Marshaller<Frame> {
+        @Override
+        public Frame parse(InputStream stream) {
+            if (stream instanceof Detachable detachable) {
+                var detached = detachable.detach();
+                if (detached.markSupported()) {
+                    return new Frame(detached);
+                }
+                stream = detached;
+            }
+            try (var s = stream) {
+                return new Frame(new ByteArrayInputStream(ByteStreams.toByteArray(s)));
+            } catch (IOException ex) {
+                throw new RuntimeException(ex);
+            }
+        }
+
+        @Override
+        public InputStream stream(Frame value) {
+            return value.replay();
+        }
+    }
+
+    /**
+     * A view of a frame's stream that is closed by the outbound call's framer without releasing the frame's buffers
+     */
+    private static class Replay extends FilterInputStream implements KnownLength {
+        private Replay(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void mark(int readlimit) {
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public void reset() throws IOException {
+            throw new IOException("Mark not supported");
+        }
+    }
+
     private static class ByteMarshaller implements MethodDescriptor.Marshaller<byte[]> {
         @Override
         public byte[] parse(InputStream stream) {
@@ -70,7 +175,8 @@ abstract public class GrpcProxy implements ServerCallHandler<byte[], byte[]> {
 
             @Override
             public void onMessage(ReqT message) {
-                clientCall.sendMessage(message);
+                send(message, () -> clientCall.sendMessage(message));
+                retain(message);
                 lock.lock();
                 try {
                     if (clientCall.isReady()) {
@@ -112,17 +218,26 @@ abstract public class GrpcProxy implements ServerCallHandler<byte[], byte[]> {
 
             @Override
             public void onClose(Status status, Metadata trailers) {
-                serverCall.close(status, trailers);
+                try {
+                    serverCall.close(status, trailers);
+                } finally {
+                    release();
+                }
             }
 
             @Override
             public void onHeaders(Metadata headers) {
+                release();
                 serverCall.sendHeaders(headers);
             }
 
             @Override
             public void onMessage(RespT message) {
-                serverCall.sendMessage(message);
+                release();
+                send(message, () -> serverCall.sendMessage(message));
+                if (message instanceof Frame frame) {
+                    frame.close();
+                }
                 lock.lock();
                 try {
                     if (serverCall.isReady()) {
@@ -154,12 +269,67 @@ abstract public class GrpcProxy implements ServerCallHandler<byte[], byte[]> {
         }
 
         private final ResponseProxy clientCallListener;
+        private final Lock          retainLock = new ReentrantLock();
+        private final List<Frame>   retained   = new ArrayList<>();
         private final RequestProxy  serverCallListener;
+        private       boolean       released;
 
         public CallProxy(ServerCall<ReqT, RespT> serverCall, ClientCall<ReqT, RespT> clientCall) {
             serverCallListener = new RequestProxy(clientCall);
             clientCallListener = new ResponseProxy(serverCall);
         }
+
+        /**
+         * Release the request frames retained by the call, once the outbound call has committed and will no longer
+         * replay them
+         */
+        private void release() {
+            retainLock.lock();
+            try {
+                if (released) {
+                    return;
+                }
+                released = true;
+                retained.forEach(Frame::close);
+                retained.clear();
+            } finally {
+                retainLock.unlock();
+            }
+        }
+
+        /**
+         * Retain the request frame sent until the outbound call commits, as the call may replay it on a retry. Frames
+         * sent once the call has committed have been written by its framer and are released immediately
+         */
+        private void retain(Object message) {
+            if (!(message instanceof Frame frame)) {
+                return;
+            }
+            retainLock.lock();
+            try {
+                if (released) {
+                    frame.close();
+                } else {
+                    retained.add(frame);
+                }
+            } finally {
+                retainLock.unlock();
+            }
+        }
+
+        /**
+         * Send the message, releasing the frame if it cannot be sent
+         */
+        private static void send(Object message, Runnable send) {
+            try {
+                send.run();
+            } catch (RuntimeException e) {
+                if (message instanceof Frame frame) {
+                    frame.close();
+                }
+                throw e;
+            }
+        }
     }
 
     public HandlerRegistry newRegistry() {
@@ -178,8 +348,34 @@ abstract public class GrpcProxy implements ServerCallHandler<byte[], byte[]> {
         };
     }
 
+    /**
+     * @return the registry forwarding the raw message frames of all methods
+     */
+    public HandlerRegistry newPassthroughRegistry() {
+        return new HandlerRegistry() {
+            private final MethodDescriptor.Marshaller<Frame> marshaller = new PassthroughMarshaller();
+            private final ServerCallHandler<Frame, Frame>    handler    = GrpcProxy.this::proxy;
+
+            @Override
+            public ServerMethodDefinition<Frame, Frame> lookupMethod(String methodName, String authority) {
+                MethodDescriptor<Frame, Frame> methodDescriptor = MethodDescriptor.newBuilder(marshaller, marshaller)
+                                                                                  .setFullMethodName(methodName)
+                                                                                  .setType(
+                                                                                  MethodDescriptor.MethodType.UNKNOWN)
+                                                                                  .build();
+                return ServerMethodDefinition.create(methodDescriptor, handler);
+            }
+        };
+    }
+
     @Override
     public ServerCall.Listener<byte[]> startCall(ServerCall<byte[], byte[]> serverCall, Metadata headers) {
+        return proxy(serverCall, headers);
+    }
+
+    protected abstract ManagedChannel getChannel();
+
+    private <T> ServerCall.Listener<T> proxy(ServerCall<T, T> serverCall, Metadata headers) {
         final var channel = getChannel();
         try {
             var clientCall = channel.newCall(serverCall.getMethodDescriptor(), CallOptions.DEFAULT);
@@ -192,7 +388,4 @@ abstract public class GrpcProxy implements ServerCallHandler<byte[], byte[]> {
             channel.shutdown();
         }
     }
-
-    protected abstract ManagedChannel getChannel();
-
 }
@@ -27,6 +27,7 @@ import java.lang.reflect.Method;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -40,13 +41,34 @@ public class LocalServer implements RouterSupplier {
     private static final Logger log           = LoggerFactory.getLogger(LocalServer.class);
     private static final String NAME_TEMPLATE = "%s-%s";
 
-    private final ClientInterceptor clientInterceptor;
-    private final Member            from;
-    private final String            prefix;
+    private final ClientInterceptor                   clientInterceptor;
+    private final ExecutorService                     executor;
+    private final Member                              from;
+    private final Function<Member, ClientInterceptor> links;
+    private final String                              prefix;
 
     public LocalServer(String prefix, Member member) {
+        this(prefix, member, null);
+    }
+
+    /**
+     * @param links - if not null, supplies the interceptor modeling the link from this member to the target member
+     */
+    public LocalServer(String prefix, Member member, Function<Member, ClientInterceptor> links) {
+        this(prefix, member, links, null);
+    }
+
+    /**
+     * @param links    - if not null, supplies the interceptor modeling the link from this member to the target member
+     * @param executor - if not null, the executor of the client channels, and of the server if the router is not
+     *                 supplied one
+     */
+    public LocalServer(String prefix, Member member, Function<Member, ClientInterceptor> links,
+                       ExecutorService executor) {
+        this.executor = executor;
         this.from = member;
         this.prefix = prefix;
+        this.links = links;
         clientInterceptor = new ClientInterceptor() {
             @Override
             public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
@@ -71,7 +93,7 @@ public class LocalServer implements RouterSupplier {
                              LimitsRegistry limitsRegistry, List<ServerInterceptor> interceptors,
                              Predicate<FernetServerInterceptor.HashedToken> validator, ExecutorService executor) {
         if (executor == null) {
-            executor = Executors.newVirtualThreadPerTaskExecutor();
+            executor = this.executor == null ? Executors.newVirtualThreadPerTaskExecutor() : this.executor;
         }
         String name = String.format(NAME_TEMPLATE, prefix, qb64(from.getId()));
         var limitsBuilder = new GrpcServerLimiterBuilder().limit(serverLimit.get());
@@ -104,6 +126,12 @@ public class LocalServer implements RouterSupplier {
         final InProcessChannelBuilder builder = InProcessChannelBuilder.forName(name)
                                                                        .usePlaintext()
                                                                        .intercept(clientInterceptor);
+        if (links != null) {
+            builder.intercept(links.apply(to));
+        }
+        if (executor != null) {
+            builder.executor(executor);
+        }
         disableTrash(builder);
         InternalInProcessChannelBuilder.setStatsEnabled(builder, false);
         return builder.build();
@@ -22,14 +22,17 @@ import static com.salesforce.apollo.cryptography.QualifiedBase64.qb64;
 public class ManagedServerChannel extends ManagedChannel {
     private final static Logger log = LoggerFactory.getLogger(ManagedServerChannel.class);
 
-    private final Digest          context;
-    private final Releasable      delegate;
-    private final CallCredentials credentials;
+    private final Digest            context;
+    private final Releasable        delegate;
+    private final CallCredentials   credentials;
+    private final ClientInterceptor interceptor;
 
-    ManagedServerChannel(Digest context, Releasable delegate, CallCredentials credentials) {
+    ManagedServerChannel(Digest context, Releasable delegate, CallCredentials credentials,
+                         ClientInterceptor interceptor) {
         this.context = context;
         this.delegate = delegate;
         this.credentials = credentials;
+        this.interceptor = interceptor;
     }
 
     @Override
@@ -73,8 +76,10 @@ public class ManagedServerChannel extends ManagedChannel {
     @Override
     public <RequestT, ResponseT> ClientCall<RequestT, ResponseT> newCall(
     MethodDescriptor<RequestT, ResponseT> methodDescriptor, CallOptions callOptions) {
-        return new SimpleForwardingClientCall<RequestT, ResponseT>(
-        delegate.getChannel().newCall(methodDescriptor, callOptions)) {
+        var channel = delegate.getChannel();
+        var call = interceptor == null ? channel.newCall(methodDescriptor, callOptions)
+                                       : interceptor.interceptCall(methodDescriptor, callOptions, channel);
+        return new SimpleForwardingClientCall<RequestT, ResponseT>(call) {
             @Override
             public void start(Listener<ResponseT> responseListener, Metadata headers) {
                 headers.put(Constants.METADATA_CONTEXT_KEY, qb64(context));
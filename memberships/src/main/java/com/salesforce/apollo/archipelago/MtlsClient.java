@@ -19,6 +19,7 @@ import io.netty.channel.ChannelOption;
 import io.netty.handler.ssl.ClientAuth;
 
 import java.net.SocketAddress;
+import java.util.concurrent.Executor;
 
 /**
  * @author hal.hildebrand
@@ -29,17 +30,31 @@ public class MtlsClient {
 
     public MtlsClient(SocketAddress address, ClientAuth clientAuth, String alias, ClientContextSupplier supplier,
                       CertificateValidator validator) {
+        this(address, clientAuth, alias, supplier, validator, null, null);
+    }
 
-        Limiter<GrpcClientRequestContext> limiter = new GrpcClientLimiterBuilder().blockOnLimit(false).build();
-        channel = NettyChannelBuilder.forAddress(address)
-                                     //                                     .executor(executor)
-                                     .withOption(ChannelOption.TCP_NODELAY, true)
-                                     .sslContext(supplier.forClient(clientAuth, alias, validator, MtlsServer.TL_SV1_3))
-                                     .intercept(new ConcurrencyLimitClientInterceptor(limiter,
-                                                                                      () -> Status.RESOURCE_EXHAUSTED.withDescription(
-                                                                                      "Client side concurrency limit exceeded")))
-                                     .build();
+    /**
+     * @param eventLoops - the event loops of the channel, or null for Netty's defaults
+     * @param executor   - the executor of the call callbacks, or null for gRPC's default
+     */
+    public MtlsClient(SocketAddress address, ClientAuth clientAuth, String alias, ClientContextSupplier supplier,
+                      CertificateValidator validator, EventLoops eventLoops, Executor executor) {
 
+        Limiter<GrpcClientRequestContext> limiter = new GrpcClientLimiterBuilder().blockOnLimit(false).build();
+        var builder = NettyChannelBuilder.forAddress(address)
+                                         .withOption(ChannelOption.TCP_NODELAY, true)
+                                         .sslContext(
+                                         supplier.forClient(clientAuth, alias, validator, MtlsServer.TL_SV1_3))
+                                         .intercept(new ConcurrencyLimitClientInterceptor(limiter,
+                                                                                          () -> Status.RESOURCE_EXHAUSTED.withDescription(
+                                                                                          "Client side concurrency limit exceeded")));
+        if (executor != null) {
+            builder.executor(executor);
+        }
+        if (eventLoops != null) {
+            eventLoops.configure(builder);
+        }
+        channel = builder.build();
     }
 
     public ManagedChannel getChannel() {
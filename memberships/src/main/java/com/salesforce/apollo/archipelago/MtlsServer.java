@@ -43,6 +43,7 @@ import java.security.Security;
 import java.security.cert.X509Certificate;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -59,13 +60,26 @@ public class MtlsServer implements RouterSupplier {
     private final LoadingCache<X509Certificate, Digest>   cachedMembership;
     private final Function<Member, ClientContextSupplier> contextSupplier;
     private final EndpointProvider                        epProvider;
+    private final EventLoops                              eventLoops;
+    private final Executor                                clientExecutor;
     private final Member                                  from;
     private final Context.Key<SSLSession>                 sslSessionContext = Context.key("SSLSession");
     private final ServerContextSupplier                   supplier;
 
     public MtlsServer(Member from, EndpointProvider epProvider, Function<Member, ClientContextSupplier> contextSupplier,
                       ServerContextSupplier supplier) {
+        this(from, epProvider, contextSupplier, supplier, null, null);
+    }
+
+    /**
+     * @param eventLoops     - the event loops of the server and its clients, or null for Netty's defaults
+     * @param clientExecutor - the executor of the client call callbacks, or null for gRPC's default
+     */
+    public MtlsServer(Member from, EndpointProvider epProvider, Function<Member, ClientContextSupplier> contextSupplier,
+                      ServerContextSupplier supplier, EventLoops eventLoops, Executor clientExecutor) {
         this.from = from;
+        this.eventLoops = eventLoops;
+        this.clientExecutor = clientExecutor;
         this.epProvider = epProvider;
         this.contextSupplier = contextSupplier;
         this.supplier = supplier;
@@ -140,15 +154,11 @@ public class MtlsServer implements RouterSupplier {
     public RouterImpl router(ServerConnectionCache.Builder cacheBuilder, Supplier<Limit> serverLimit,
                              LimitsRegistry limitsRegistry, List<ServerInterceptor> interceptors,
                              Predicate<FernetServerInterceptor.HashedToken> validator, ExecutorService executor) {
-        //        if (executor == null) {
-        //            executor = Executors.newVirtualThreadPerTaskExecutor();
-        //        }
         var limitsBuilder = new GrpcServerLimiterBuilder().limit(serverLimit.get());
         if (limitsRegistry != null) {
             limitsBuilder.metricRegistry(limitsRegistry);
         }
         NettyServerBuilder serverBuilder = NettyServerBuilder.forAddress(epProvider.getBindAddress())
-                                                             //                                                             .executor(executor)
                                                              .withOption(ChannelOption.SO_REUSEADDR, true)
                                                              .sslContext(supplier.forServer(ClientAuth.REQUIRE,
                                                                                             epProvider.getAlias(),
@@ -158,6 +168,12 @@ public class MtlsServer implements RouterSupplier {
                                                              .withChildOption(ChannelOption.TCP_NODELAY, true)
                                                              .intercept(new TlsInterceptor(sslSessionContext))
                                                              .intercept(EnableCompressionInterceptor.SINGLETON);
+        if (executor != null) {
+            serverBuilder.executor(executor);
+        }
+        if (eventLoops != null) {
+            eventLoops.configure(serverBuilder);
+        }
         interceptors.forEach(i -> {
             serverBuilder.intercept(i);
         });
@@ -181,7 +197,7 @@ public class MtlsServer implements RouterSupplier {
         var address = epProvider.addressFor(to);
         log.debug("Connecting to: {} address: {} on: {}", to.getId(), address, from.getId());
         return new MtlsClient(address, epProvider.getClientAuth(), epProvider.getAlias(), contextSupplier.apply(from),
-                              epProvider.getValidator()).getChannel();
+                              epProvider.getValidator(), eventLoops, clientExecutor).getChannel();
     }
 
     private X509Certificate getCert() {
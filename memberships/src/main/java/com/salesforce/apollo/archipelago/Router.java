@@ -51,6 +51,18 @@ public interface Router {
                                                                                 Client localLoopback,
                                                                                 Predicate<FernetServerInterceptor.HashedToken> validator);
 
+    /**
+     * Create the communications of the service, whose calls are executed according to the policy. The policy of the
+     * gRPC service is established by the first creation of the routing label
+     */
+    <Client extends Link, Service> CommonCommunications<Client, Service> create(Member member, Digest context,
+                                                                                Service service, String routingLabel,
+                                                                                Function<RoutableService<Service>, BindableService> factory,
+                                                                                CreateClientCommunications<Client> createFunction,
+                                                                                Client localLoopback,
+                                                                                Predicate<FernetServerInterceptor.HashedToken> validator,
+                                                                                ExecutorPolicy policy);
+
     ClientIdentity getClientIdentityProvider();
 
     Member getFrom();
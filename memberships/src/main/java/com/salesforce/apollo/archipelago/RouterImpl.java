@@ -23,6 +23,7 @@ import java.io.IOException;
 import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
@@ -44,11 +45,12 @@ public class RouterImpl implements Router {
     private final ServerConnectionCache                          cache;
     private final ClientIdentity                                 clientIdentityProvider;
     private final Consumer<Digest>                               contextRegistration;
+    private final Map<String, Executor>                          executors = new ConcurrentHashMap<>();
     private final Member                                         from;
-    private final MutableHandlerRegistry                         registry = new MutableHandlerRegistry();
+    private final MutableHandlerRegistry                         registry  = new MutableHandlerRegistry();
     private final Server                                         server;
-    private final Map<String, RoutableService<?>>                services = new ConcurrentHashMap<>();
-    private final AtomicBoolean                                  started  = new AtomicBoolean();
+    private final Map<String, RoutableService<?>>                services  = new ConcurrentHashMap<>();
+    private final AtomicBoolean                                  started   = new AtomicBoolean();
     private final Predicate<FernetServerInterceptor.HashedToken> validator;
 
     public RouterImpl(Member from, ServerBuilder<?> serverBuilder, ServerConnectionCache.Builder cacheBuilder,
@@ -65,7 +67,16 @@ public class RouterImpl implements Router {
     public RouterImpl(Member from, ServerBuilder<?> serverBuilder, ServerConnectionCache.Builder cacheBuilder,
                       ClientIdentity clientIdentityProvider, Consumer<Digest> contextRegistration,
                       Predicate<FernetServerInterceptor.HashedToken> validator) {
-        this.server = serverBuilder.fallbackHandlerRegistry(registry).intercept(serverInterceptor()).build();
+        this.server = serverBuilder.fallbackHandlerRegistry(registry)
+                                   .callExecutor(new ServerCallExecutorSupplier() {
+                                       @Override
+                                       public <ReqT, RespT> Executor getExecutor(ServerCall<ReqT, RespT> call,
+                                                                                 Metadata metadata) {
+                                           return executors.get(call.getMethodDescriptor().getServiceName());
+                                       }
+                                   })
+                                   .intercept(serverInterceptor())
+                                   .build();
         this.cache = cacheBuilder.clone().setMember(from.getId()).build();
         this.clientIdentityProvider = clientIdentityProvider;
         this.contextRegistration = contextRegistration;
@@ -177,6 +188,20 @@ public class RouterImpl implements Router {
         return create(member, context, service, routingLabel, factory, createFunction, localLoopback, validator);
     }
 
+    @Override
+    public <Client extends Link, Service> CommonCommunications<Client, Service> create(Member member, Digest context,
+                                                                                       Service service,
+                                                                                       String routingLabel,
+                                                                                       Function<RoutableService<Service>, BindableService> factory,
+                                                                                       CreateClientCommunications<Client> createFunction,
+                                                                                       Client localLoopback,
+                                                                                       Predicate<FernetServerInterceptor.HashedToken> validator,
+                                                                                       ExecutorPolicy policy) {
+        return new CommonCommunications<>(context, member,
+                                          getRoutableService(member, context, service, routingLabel, factory,
+                                                             validator, policy), createFunction, localLoopback);
+    }
+
     @Override
     public ClientIdentity getClientIdentityProvider() {
         return clientIdentityProvider;
@@ -204,11 +229,24 @@ public class RouterImpl implements Router {
                                                                   String routingLabel,
                                                                   Function<RoutableService<Service>, BindableService> factory,
                                                                   Predicate<FernetServerInterceptor.HashedToken> validator) {
+        return getRoutableService(member, context, service, routingLabel, factory, validator, null);
+    }
+
+    private <Service> RoutableService<Service> getRoutableService(Member member, Digest context, Service service,
+                                                                  String routingLabel,
+                                                                  Function<RoutableService<Service>, BindableService> factory,
+                                                                  Predicate<FernetServerInterceptor.HashedToken> validator,
+                                                                  ExecutorPolicy policy) {
         @SuppressWarnings("unchecked")
         RoutableService<Service> routing = (RoutableService<Service>) services.computeIfAbsent(routingLabel, c -> {
             var route = new RoutableService<Service>();
-            BindableService bindableService = factory.apply(route);
-            registry.addService(bindableService);
+            var definition = factory.apply(route).bindService();
+            if (policy != null && policy.executor() != null) {
+                executors.put(definition.getServiceDescriptor().getName(), policy.executor());
+                log.info("Service: {} executing: {} on: {}", definition.getServiceDescriptor().getName(), policy,
+                         from.getId());
+            }
+            registry.addService(definition);
             return route;
         });
         routing.bind(context, service, validator);
@@ -9,6 +9,7 @@ package com.salesforce.apollo.archipelago;
 import com.netflix.concurrency.limits.Limit;
 import com.salesforce.apollo.archipelago.server.FernetServerInterceptor;
 import com.salesforce.apollo.protocols.LimitsRegistry;
+import com.salesforce.apollo.protocols.RpcMetrics;
 import io.grpc.ServerInterceptor;
 
 import java.util.Collections;
@@ -33,6 +34,15 @@ public interface RouterSupplier {
         return router(cacheBuilder, RouterImpl::defaultServerLimit, null, Collections.emptyList(), null, executor);
     }
 
+    /**
+     * Answer a router whose client channels and server record their calls in the supplied RpcMetrics
+     */
+    default Router router(ServerConnectionCache.Builder cacheBuilder, RpcMetrics rpcMetrics,
+                          ExecutorService executor) {
+        return router(cacheBuilder.clone().setInterceptor(rpcMetrics.clientInterceptor()),
+                      RouterImpl::defaultServerLimit, null, List.of(rpcMetrics.serverInterceptor()), null, executor);
+    }
+
     default Router router(ServerConnectionCache.Builder cacheBuilder, Supplier<Limit> serverLimit,
                           LimitsRegistry limitsRegistry) {
         return router(cacheBuilder, serverLimit, limitsRegistry, Collections.emptyList());
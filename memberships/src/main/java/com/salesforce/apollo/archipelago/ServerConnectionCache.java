@@ -12,6 +12,7 @@ import com.codahale.metrics.Timer;
 import com.salesforce.apollo.cryptography.Digest;
 import com.salesforce.apollo.membership.Member;
 import io.grpc.CallCredentials;
+import io.grpc.ClientInterceptor;
 import io.grpc.ManagedChannel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -58,9 +59,16 @@ public class ServerConnectionCache {
     private final Digest                                  member;
     private final CallCredentials                         credentials;
     private final AtomicBoolean                           open  = new AtomicBoolean(true);
+    private final ClientInterceptor                       interceptor;
 
     public ServerConnectionCache(Digest member, CallCredentials credentials, ServerConnectionFactory factory,
                                  int target, Duration minIdle, Clock clock, ServerConnectionCacheMetrics metrics) {
+        this(member, credentials, factory, target, minIdle, clock, metrics, null);
+    }
+
+    public ServerConnectionCache(Digest member, CallCredentials credentials, ServerConnectionFactory factory,
+                                 int target, Duration minIdle, Clock clock, ServerConnectionCacheMetrics metrics,
+                                 ClientInterceptor interceptor) {
         assert member != null;
         this.factory = factory;
         this.target = Math.max(target, 1);
@@ -69,6 +77,7 @@ public class ServerConnectionCache {
         this.metrics = metrics;
         this.member = member;
         this.credentials = credentials;
+        this.interceptor = interceptor;
     }
 
     public static Builder newBuilder() {
@@ -110,7 +119,7 @@ public class ServerConnectionCache {
             }
             log.trace("Borrowed channel to: {}, borrowed: {} on: {}", connection.member.getId(), connection.borrowed,
                       member);
-            return new ManagedServerChannel(context, connection, credentials);
+            return new ManagedServerChannel(context, connection, credentials, interceptor);
         });
     }
 
@@ -236,9 +245,11 @@ public class ServerConnectionCache {
         private int                          target  = 10;
         private Digest                       member;
         private CallCredentials              credentials;
+        private ClientInterceptor            interceptor;
 
         public ServerConnectionCache build() {
-            return new ServerConnectionCache(member, credentials, factory, target, minIdle, clock, metrics);
+            return new ServerConnectionCache(member, credentials, factory, target, minIdle, clock, metrics,
+                                             interceptor);
         }
 
         @Override
@@ -277,6 +288,18 @@ public class ServerConnectionCache {
             return this;
         }
 
+        public ClientInterceptor getInterceptor() {
+            return interceptor;
+        }
+
+        /**
+         * @param interceptor - the interceptor applied to the calls of the channels borrowed from the cache
+         */
+        public Builder setInterceptor(ClientInterceptor interceptor) {
+            this.interceptor = interceptor;
+            return this;
+        }
+
         public Digest getMember() {
             return member;
         }
@@ -26,6 +26,7 @@ import com.salesforce.apollo.membership.messaging.rbc.comms.RbcServer;
 import com.salesforce.apollo.membership.messaging.rbc.comms.ReliableBroadcast;
 import com.salesforce.apollo.messaging.proto.*;
 import com.salesforce.apollo.utils.Entropy;
+import com.salesforce.apollo.utils.Schedulers;
 import com.salesforce.apollo.utils.Utils;
 import io.grpc.StatusRuntimeException;
 import org.slf4j.Logger;
@@ -34,7 +35,6 @@ import org.slf4j.LoggerFactory;
 import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -194,7 +194,7 @@ public class ReliableBroadcaster {
         }
         log.info("Starting Reliable Broadcaster[{}] for {}", context.getId(), member.getId());
         comm.register(context.getId(), new Service(), validator);
-        schedule(duration, Executors.newScheduledThreadPool(1, Thread.ofVirtual().factory()));
+        schedule(duration, params.schedulers().newScheduler("ReliableBroadcaster"));
     }
 
     public void stop() {
@@ -287,11 +287,7 @@ public class ReliableBroadcaster {
                         handle(g, link, i.ring(), timer);
                     }
                 }
-                try {
-                    Thread.sleep(duration.toMillis());
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
+                params.schedulers().pause(duration);
             });
         } finally {
             schedule(duration, scheduler);
@@ -299,7 +295,7 @@ public class ReliableBroadcaster {
     }
 
     private void schedule(final Duration duration, ScheduledExecutorService scheduler) {
-        Thread.ofVirtual().start(Utils.wrapped(() -> oneRound(duration, scheduler), log));
+        params.schedulers().start(Utils.wrapped(() -> oneRound(duration, scheduler), log));
     }
 
     @FunctionalInterface
@@ -317,19 +313,20 @@ public class ReliableBroadcaster {
     }
 
     public record Parameters(int bufferSize, int maxMessages, DigestAlgorithm digestAlgorithm,
-                             double falsePositiveRate) {
+                             double falsePositiveRate, Schedulers.Runtime schedulers) {
         public static Parameters.Builder newBuilder() {
             return new Builder();
         }
 
         public static class Builder implements Cloneable {
-            private int             bufferSize        = 1500;
-            private DigestAlgorithm digestAlgorithm   = DigestAlgorithm.DEFAULT;
-            private double          falsePositiveRate = 0.0000125;
-            private int             maxMessages       = 500;
+            private int                bufferSize        = 1500;
+            private DigestAlgorithm    digestAlgorithm   = DigestAlgorithm.DEFAULT;
+            private double             falsePositiveRate = 0.0000125;
+            private int                maxMessages       = 500;
+            private Schedulers.Runtime schedulers        = Schedulers.DEFAULT;
 
             public Parameters build() {
-                return new Parameters(bufferSize, maxMessages, digestAlgorithm, falsePositiveRate);
+                return new Parameters(bufferSize, maxMessages, digestAlgorithm, falsePositiveRate, schedulers);
             }
 
             @Override
@@ -376,6 +373,15 @@ public class ReliableBroadcaster {
                 this.maxMessages = maxMessages;
                 return this;
             }
+
+            public Schedulers.Runtime getSchedulers() {
+                return schedulers;
+            }
+
+            public Builder setSchedulers(Schedulers.Runtime schedulers) {
+                this.schedulers = schedulers;
+                return this;
+            }
         }
 
     }
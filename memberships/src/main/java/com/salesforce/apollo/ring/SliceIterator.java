@@ -10,7 +10,7 @@ import com.salesforce.apollo.archipelago.Link;
 import com.salesforce.apollo.archipelago.RouterImpl.CommonCommunications;
 import com.salesforce.apollo.membership.Member;
 import com.salesforce.apollo.membership.SigningMember;
-import com.salesforce.apollo.utils.Entropy;
+import com.salesforce.apollo.utils.Schedulers;
 import com.salesforce.apollo.utils.Utils;
 import io.grpc.StatusRuntimeException;
 import org.slf4j.Logger;
@@ -35,6 +35,7 @@ public class SliceIterator<Comm extends Link> {
     private final    SigningMember                 member;
     private final    List<? extends Member>        slice;
     private final    ScheduledExecutorService      scheduler;
+    private final    Schedulers.Runtime            schedulers;
     private final    int                           majority;
     private volatile Member                        current;
     private volatile Iterator<? extends Member>    currentIteration;
@@ -44,7 +45,7 @@ public class SliceIterator<Comm extends Link> {
 
     public SliceIterator(String label, SigningMember member, Collection<? extends Member> slice,
                          CommonCommunications<Comm, ?> comm) {
-        this(label, member, slice, comm, Executors.newScheduledThreadPool(1, Thread.ofVirtual().factory()));
+        this(label, member, slice, comm, Schedulers.DEFAULT.newScheduler(label));
     }
 
     public SliceIterator(String label, SigningMember member, Collection<? extends Member> s,
@@ -52,8 +53,23 @@ public class SliceIterator<Comm extends Link> {
         this(label, member, s, comm, scheduler, -1);
     }
 
+    public SliceIterator(String label, SigningMember member, Collection<? extends Member> s,
+                         CommonCommunications<Comm, ?> comm, ScheduledExecutorService scheduler,
+                         Schedulers.Runtime schedulers) {
+        this(label, member, s, comm, scheduler, -1, schedulers);
+    }
+
     public SliceIterator(String label, SigningMember member, Collection<? extends Member> s,
                          CommonCommunications<Comm, ?> comm, ScheduledExecutorService scheduler, int majority) {
+        this(label, member, s, comm, scheduler, majority, Schedulers.DEFAULT);
+    }
+
+    /**
+     * @param schedulers - the runtime the iteration's threads are started from and the slice is shuffled by
+     */
+    public SliceIterator(String label, SigningMember member, Collection<? extends Member> s,
+                         CommonCommunications<Comm, ?> comm, ScheduledExecutorService scheduler, int majority,
+                         Schedulers.Runtime schedulers) {
         assert member != null && s != null && comm != null;
         assert !s.stream().filter(Objects::nonNull).toList().isEmpty() : "All elements must be non-null: " + s;
         this.label = label;
@@ -61,8 +77,9 @@ public class SliceIterator<Comm extends Link> {
         this.slice = new CopyOnWriteArrayList<>(s);
         this.comm = comm;
         this.scheduler = scheduler;
+        this.schedulers = schedulers;
         this.majority = majority;
-        Entropy.secureShuffle(this.slice);
+        Collections.shuffle(this.slice, schedulers.random());
         this.currentIteration = slice.iterator();
         log.debug("Slice for: <{}> is: {} on: {}", label, slice.stream().map(Member::getId).toList(), member.getId());
     }
@@ -76,9 +93,8 @@ public class SliceIterator<Comm extends Link> {
                             Runnable onComplete, Duration frequency, Runnable failedMajority) {
         log.trace("Starting iteration of: <{}> on: {}", label, member.getId());
         var tally = new AtomicInteger(0);
-        Thread.ofVirtual()
-              .start(Utils.wrapped(
-              () -> internalIterate(round, onMajority, handler, onComplete, tally, failedMajority, frequency), log));
+        schedulers.start(Utils.wrapped(
+        () -> internalIterate(round, onMajority, handler, onComplete, tally, failedMajority, frequency), log));
     }
 
     public <T> void iterate(Function<Comm, T> round, SlicePredicateHandler<T, Comm> handler, Duration frequency) {
@@ -137,7 +153,7 @@ public class SliceIterator<Comm extends Link> {
 
     private Comm next() {
         if (!currentIteration.hasNext()) {
-            Entropy.secureShuffle(slice);
+            Collections.shuffle(slice, schedulers.random());
             currentIteration = slice.iterator();
         }
         if (!currentIteration.hasNext()) {
@@ -176,7 +192,7 @@ public class SliceIterator<Comm extends Link> {
             }
             log.trace("Proceeding for: <{}> on: {}", label, member.getId());
             try {
-                scheduler.schedule(() -> Thread.ofVirtual().start(Utils.wrapped(proceed, log)), frequency.toNanos(),
+                scheduler.schedule(() -> schedulers.start(Utils.wrapped(proceed, log)), frequency.toNanos(),
                                    TimeUnit.NANOSECONDS);
             } catch (RejectedExecutionException e) {
                 // ignore
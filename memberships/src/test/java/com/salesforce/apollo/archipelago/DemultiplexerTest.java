@@ -10,12 +10,17 @@ import com.google.common.primitives.Ints;
 import com.google.protobuf.Any;
 import com.google.protobuf.ByteString;
 import com.salesforce.apollo.comm.grpc.DomainSocketServerInterceptor;
+import com.salesforce.apollo.cryptography.Digest;
 import com.salesforce.apollo.cryptography.DigestAlgorithm;
 import com.salesforce.apollo.test.proto.ByteMessage;
 import com.salesforce.apollo.test.proto.PeerCreds;
 import com.salesforce.apollo.test.proto.TestItGrpc;
 import com.salesforce.apollo.test.proto.TestItGrpc.TestItImplBase;
+import com.salesforce.apollo.utils.Entropy;
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
 import io.grpc.ManagedChannel;
+import io.grpc.MethodDescriptor;
 import io.grpc.Server;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
@@ -31,6 +36,7 @@ import io.netty.channel.unix.DomainSocketAddress;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -62,6 +68,7 @@ public class DemultiplexerTest {
     private final List<ManagedChannel> opened         = new ArrayList<>();
     private       Server               serverA;
     private       Server               serverB;
+    private       Server               serverEcho;
     private       Demultiplexer        terminus;
 
     @AfterEach
@@ -77,6 +84,10 @@ public class DemultiplexerTest {
             serverB.shutdownNow();
             serverB.awaitTermination();
         }
+        if (serverEcho != null) {
+            serverEcho.shutdownNow();
+            serverEcho.awaitTermination();
+        }
         opened.forEach(mc -> mc.shutdown());
         opened.clear();
     }
@@ -113,6 +124,104 @@ public class DemultiplexerTest {
         assertEquals("Hello Server", msg.getContents().toStringUtf8());
     }
 
+    /**
+     * The passthrough frames replay from their start each time they are streamed, as the outbound call streams the
+     * message again on a transparent retry
+     */
+    @Test
+    public void framesReplay() throws Exception {
+        var bytes = new byte[1024];
+        Entropy.nextBitsStreamBytes(bytes);
+        var marshaller = new GrpcProxy.PassthroughMarshaller();
+        try (var frame = marshaller.parse(new ByteArrayInputStream(bytes))) {
+            for (int i = 0; i < 3; i++) {
+                try (var stream = marshaller.stream(frame)) {
+                    assertEquals(bytes.length, stream.available());
+                    assertArrayEquals(bytes, stream.readAllBytes());
+                }
+            }
+        }
+    }
+
+    /**
+     * Forward the raw frames detached from a Netty transport, rather than the copies of the in process transport
+     */
+    @Test
+    public void passthroughNetty() throws Exception {
+        var echo = serverEcho();
+        var address = socketAddress();
+        terminus = new Demultiplexer(inbound(address), Constants.METADATA_CONTEXT_KEY, d -> handler(echo), true);
+        terminus.start();
+
+        var ctx = DigestAlgorithm.DEFAULT.getOrigin();
+        var channel = client(address, ctx);
+        opened.add(channel);
+        var client = TestItGrpc.newBlockingStub(channel);
+        for (var size : new int[] { 0, 1, 1024, 64 * 1024, 1024 * 1024 }) {
+            var bytes = new byte[size];
+            Entropy.nextBitsStreamBytes(bytes);
+            var payload = Any.pack(ByteMessage.newBuilder().setContents(ByteString.copyFrom(bytes)).build());
+            for (int i = 0; i < 10; i++) {
+                assertEquals(payload, client.ping(payload));
+            }
+        }
+    }
+
+    /**
+     * Bytes per second of echoed payloads across a domain socket demultiplexer to a domain socket server, copying each
+     * message versus forwarding the raw frames. Forwarding the frames must not be slower than copying them, within a
+     * margin for the noise of a shared test host
+     */
+    @Test
+    public void throughput() throws Exception {
+        var echo = serverEcho();
+        var bytes = new byte[64 * 1024];
+        Entropy.nextBitsStreamBytes(bytes);
+        var payload = Any.pack(ByteMessage.newBuilder().setContents(ByteString.copyFrom(bytes)).build());
+        var calls = 1000;
+        var ctx = DigestAlgorithm.DEFAULT.getOrigin();
+
+        // The proxy shuts down the channel of each call, so share one channel, ignoring its shutdown
+        var shared = new Unclosable(handler(echo));
+        opened.add(shared.delegate);
+
+        var rates = new double[2];
+        for (var passthrough : new boolean[] { false, true }) {
+            var address = socketAddress();
+            var demux = new Demultiplexer(inbound(address), Constants.METADATA_CONTEXT_KEY, d -> shared,
+                                          passthrough);
+            demux.start();
+            try {
+                var channel = client(address, ctx);
+                opened.add(channel);
+                var client = TestItGrpc.newBlockingStub(channel);
+                for (int i = 0; i < calls / 10; i++) {
+                    assertEquals(payload, client.ping(payload));
+                }
+                var start = System.nanoTime();
+                for (int i = 0; i < calls; i++) {
+                    assertEquals(payload, client.ping(payload));
+                }
+                var elapsed = System.nanoTime() - start;
+                rates[passthrough ? 1 : 0] = (2.0 * calls * payload.getSerializedSize()) / (elapsed / 1_000_000_000.0);
+            } finally {
+                demux.close(Duration.ofSeconds(1));
+            }
+        }
+        assertTrue(rates[1] >= rates[0] * 0.5,
+                   "Passthrough: %.0f bytes/s slower than copying: %.0f bytes/s".formatted(rates[1], rates[0]));
+    }
+
+    private ManagedChannel client(DomainSocketAddress address, Digest ctx) {
+        return NettyChannelBuilder.forAddress(address)
+                                  .executor(executor)
+                                  .eventLoopGroup(eventLoopGroup)
+                                  .channelType(channelType)
+                                  .usePlaintext()
+                                  .intercept(clientInterceptor(ctx))
+                                  .build();
+    }
+
     private ManagedChannel handler(DomainSocketAddress address) {
         return NettyChannelBuilder.forAddress(address)
                                   .withOption(ChannelOption.TCP_NODELAY, true)
@@ -124,6 +233,14 @@ public class DemultiplexerTest {
                                   .build();
     }
 
+    private NettyServerBuilder inbound(DomainSocketAddress address) {
+        return NettyServerBuilder.forAddress(address)
+                                 .protocolNegotiator(new DomainSocketNegotiator(IMPL))
+                                 .channelType(IMPL.getServerDomainSocketChannelClass())
+                                 .workerEventLoopGroup(IMPL.getEventLoopGroup())
+                                 .bossEventLoopGroup(IMPL.getEventLoopGroup());
+    }
+
     private DomainSocketAddress serverA() throws IOException {
         Path socketPathA = Path.of("target").resolve(UUID.randomUUID().toString());
         Files.deleteIfExists(socketPathA);
@@ -160,6 +277,79 @@ public class DemultiplexerTest {
         return address;
     }
 
+    private DomainSocketAddress serverEcho() throws IOException {
+        Path socketPath = Path.of("target").resolve(UUID.randomUUID().toString());
+        Files.deleteIfExists(socketPath);
+        assertFalse(Files.exists(socketPath));
+
+        final var address = new DomainSocketAddress(socketPath.toFile());
+        serverEcho = NettyServerBuilder.forAddress(address)
+                                       .protocolNegotiator(new DomainSocketNegotiator(IMPL))
+                                       .channelType(IMPL.getServerDomainSocketChannelClass())
+                                       .workerEventLoopGroup(IMPL.getEventLoopGroup())
+                                       .bossEventLoopGroup(IMPL.getEventLoopGroup())
+                                       .addService(new TestItImplBase() {
+                                           @Override
+                                           public void ping(Any request, StreamObserver<Any> responseObserver) {
+                                               responseObserver.onNext(request);
+                                               responseObserver.onCompleted();
+                                           }
+                                       })
+                                       .build();
+        serverEcho.start();
+        return address;
+    }
+
+    private DomainSocketAddress socketAddress() throws IOException {
+        Path socketPath = Path.of("target").resolve(UUID.randomUUID().toString());
+        Files.deleteIfExists(socketPath);
+        return new DomainSocketAddress(socketPath.toFile());
+    }
+
+    private static class Unclosable extends ManagedChannel {
+        private final ManagedChannel delegate;
+
+        private Unclosable(ManagedChannel delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String authority() {
+            return delegate.authority();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return false;
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public <ReqT, RespT> ClientCall<ReqT, RespT> newCall(MethodDescriptor<ReqT, RespT> methodDescriptor,
+                                                             CallOptions callOptions) {
+            return delegate.newCall(methodDescriptor, callOptions);
+        }
+
+        @Override
+        public ManagedChannel shutdown() {
+            return this;
+        }
+
+        @Override
+        public ManagedChannel shutdownNow() {
+            return this;
+        }
+    }
+
     public static class ServerA extends TestItImplBase {
         @Override
         public void ping(Any request, StreamObserver<Any> responseObserver) {
@@ -6,12 +6,14 @@
  */
 package com.salesforce.apollo.archipelago;
 
+import com.codahale.metrics.MetricRegistry;
 import com.google.protobuf.Any;
 import com.google.protobuf.ByteString;
 import com.salesforce.apollo.archipelago.RouterImpl.CommonCommunications;
 import com.salesforce.apollo.cryptography.DigestAlgorithm;
 import com.salesforce.apollo.membership.Member;
 import com.salesforce.apollo.membership.impl.SigningMemberImpl;
+import com.salesforce.apollo.protocols.RpcMetrics;
 import com.salesforce.apollo.test.proto.ByteMessage;
 import com.salesforce.apollo.test.proto.TestItGrpc;
 import com.salesforce.apollo.test.proto.TestItGrpc.TestItBlockingStub;
@@ -24,9 +26,9 @@ import org.junit.jupiter.api.Test;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * @author hal.hildebrand
@@ -49,6 +51,86 @@ public class LocalServerTest {
         }
     };
 
+    @Test
+    public void executorPolicy() throws Exception {
+        final var memberA = new SigningMemberImpl(Utils.getMember(0), ULong.MIN);
+        final var memberB = new SigningMemberImpl(Utils.getMember(1), ULong.MIN);
+        final var ctxA = DigestAlgorithm.DEFAULT.getOrigin().prefix(0x666);
+        final var prefix = UUID.randomUUID().toString();
+        var policy = ExecutorPolicy.pooled("policy", 2);
+        var executedOn = new AtomicReference<String>();
+
+        var routerA = new LocalServer(prefix, memberA).router(ServerConnectionCache.newBuilder());
+        CommonCommunications<TestItService, TestIt> commsA = routerA.create(memberA, ctxA, new ServerA(), "A",
+                                                                            r -> new Server(r),
+                                                                            c -> new TestItClient(c), local);
+        var routerB = new LocalServer(prefix, memberB).router(ServerConnectionCache.newBuilder());
+        routerB.create(memberB, ctxA, (TestIt) (request, responseObserver) -> {
+            executedOn.set(Thread.currentThread().getName());
+            new ServerB().ping(request, responseObserver);
+        }, "B", r -> new Server(r), c -> new TestItClient(c), local, null, policy);
+
+        routerA.start();
+        routerB.start();
+        try (var clientA = commsA.connect(memberB)) {
+            assertNotNull(clientA.ping(Any.getDefaultInstance()));
+            assertTrue(executedOn.get().startsWith("policy"), "Executed on: " + executedOn.get());
+        } finally {
+            routerA.close(Duration.ofSeconds(0));
+            routerB.close(Duration.ofSeconds(0));
+            policy.shutdown();
+        }
+    }
+
+    @Test
+    public void rpcMetrics() throws Exception {
+        final var memberA = new SigningMemberImpl(Utils.getMember(0), ULong.MIN);
+        final var memberB = new SigningMemberImpl(Utils.getMember(1), ULong.MIN);
+        final var ctxA = DigestAlgorithm.DEFAULT.getOrigin().prefix(0x666);
+        final var prefix = UUID.randomUUID().toString();
+        var registryA = new MetricRegistry();
+        var registryB = new MetricRegistry();
+
+        var routerA = new LocalServer(prefix, memberA).router(ServerConnectionCache.newBuilder(),
+                                                              new RpcMetrics(registryA), null);
+        CommonCommunications<TestItService, TestIt> commsA = routerA.create(memberA, ctxA, new ServerA(), "A",
+                                                                            r -> new Server(r),
+                                                                            c -> new TestItClient(c), local);
+        var routerB = new LocalServer(prefix, memberB).router(ServerConnectionCache.newBuilder(),
+                                                              new RpcMetrics(registryB), null);
+        routerB.create(memberB, ctxA, new ServerB(), "B", r -> new Server(r), c -> new TestItClient(c), local);
+
+        routerA.start();
+        routerB.start();
+        try {
+            var calls = 10;
+            try (var clientA = commsA.connect(memberB)) {
+                for (int i = 0; i < calls; i++) {
+                    assertNotNull(clientA.ping(Any.getDefaultInstance()));
+                }
+            }
+
+            var clientLatency = registryA.getTimers(
+            (n, m) -> n.startsWith("rpc.client.") && n.endsWith(".ping.latency"));
+            assertEquals(1, clientLatency.size());
+            assertEquals(calls, clientLatency.values().iterator().next().getCount());
+            var responses = registryA.getHistograms(
+            (n, m) -> n.startsWith("rpc.client.") && n.endsWith(".ping.response.bytes"));
+            assertEquals(1, responses.size());
+            assertTrue(responses.values().iterator().next().getSnapshot().getMin() > 0);
+
+            var serverLatency = registryB.getTimers(
+            (n, m) -> n.startsWith("rpc.server.") && n.endsWith(".ping.latency"));
+            assertEquals(1, serverLatency.size());
+            assertEquals(calls, serverLatency.values().iterator().next().getCount());
+            var inFlight = registryB.getCounters((n, m) -> n.endsWith(".ping.inflight"));
+            assertEquals(0, inFlight.values().iterator().next().getCount());
+        } finally {
+            routerA.close(Duration.ofSeconds(0));
+            routerB.close(Duration.ofSeconds(0));
+        }
+    }
+
     @Test
     public void smokin() throws Exception {
         final var memberA = new SigningMemberImpl(Utils.getMember(0), ULong.MIN);
@@ -22,4 +22,9 @@ public interface EndpointMetrics {
     LimitsRegistry limitsMetrics();
 
     Meter outboundBandwidth();
+
+    /**
+     * @return the per method metrics of the gRPC calls made and served by the endpoint
+     */
+    RpcMetrics rpcMetrics();
 }
@@ -18,11 +18,13 @@ public class EndpointMetricsImpl implements EndpointMetrics {
     @SuppressWarnings("unused")
     private final LimitsRegistry limits;
     private final Meter          outboundBandwidth;
+    private final RpcMetrics     rpcMetrics;
 
     public EndpointMetricsImpl(MetricRegistry registry) {
         inboundBandwidth = registry.meter(INBOUND_BANDWIDTH);
         outboundBandwidth = registry.meter(OUTBOUND_BANDWIDTH);
         limits = new LimitsRegistry("endpoint", registry);
+        rpcMetrics = new RpcMetrics(registry);
     }
 
     @Override
@@ -39,4 +41,9 @@ public class EndpointMetricsImpl implements EndpointMetrics {
     public Meter outboundBandwidth() {
         return outboundBandwidth;
     }
+
+    @Override
+    public RpcMetrics rpcMetrics() {
+        return rpcMetrics;
+    }
 }
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.protocols;
+
+import com.codahale.metrics.Clock;
+import com.codahale.metrics.Reservoir;
+import com.codahale.metrics.Snapshot;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramIterationValue;
+import org.HdrHistogram.Recorder;
+
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * A metrics Reservoir backed by an HdrHistogram, over a sliding time window. Values are recorded into an HdrHistogram
+ * Recorder, which is wait free and does not allocate. The window is divided into slices; the interval histogram of the
+ * recorder is folded into the current slice whenever the reservoir is read, and slices older than the window are
+ * cleared. A snapshot is the sum of the slices of the window, so that, as with a decaying reservoir, the statistics
+ * reflect recent values rather than the lifetime of the process. Values are attributed to the slice current when the
+ * reservoir is next read, so the window is accurate to the slice and the reading period. The reservoir has a fixed
+ * footprint, determined by the number of significant digits and slices, regardless of the number of values recorded.
+ *
+ * @author hal.hildebrand
+ */
+public class HdrHistogramReservoir implements Reservoir {
+    public static final Duration DEFAULT_WINDOW = Duration.ofMinutes(1);
+    public static final int      DEFAULT_SLICES = 6;
+
+    private final Clock       clock;
+    private final Recorder    recorder;
+    private final long        sliceTicks;
+    private final Histogram[] slices;
+    private       int         current;
+    private       Histogram   interval;
+    private       long        sliceStart;
+
+    public HdrHistogramReservoir() {
+        this(2);
+    }
+
+    /**
+     * @param significantDigits - the number of significant decimal digits of precision, 0 to 5
+     */
+    public HdrHistogramReservoir(int significantDigits) {
+        this(significantDigits, DEFAULT_WINDOW, DEFAULT_SLICES, Clock.defaultClock());
+    }
+
+    /**
+     * @param significantDigits - the number of significant decimal digits of precision, 0 to 5
+     * @param window            - the sliding window of the values reflected by snapshots
+     * @param slices            - the number of slices the window is divided into
+     * @param clock             - the source of time
+     */
+    public HdrHistogramReservoir(int significantDigits, Duration window, int slices, Clock clock) {
+        if (slices < 1) {
+            throw new IllegalArgumentException("Must have at least one slice: " + slices);
+        }
+        this.clock = clock;
+        this.recorder = new Recorder(significantDigits);
+        this.sliceTicks = Math.max(1, window.toNanos() / slices);
+        this.slices = new Histogram[slices];
+        for (int i = 0; i < slices; i++) {
+            this.slices[i] = new Histogram(significantDigits);
+        }
+        this.sliceStart = clock.getTick();
+    }
+
+    @Override
+    public synchronized Snapshot getSnapshot() {
+        return new HdrSnapshot(windowed());
+    }
+
+    @Override
+    public synchronized int size() {
+        return (int) Math.min(Integer.MAX_VALUE, windowed().getTotalCount());
+    }
+
+    @Override
+    public void update(long value) {
+        recorder.recordValue(Math.max(0, value));
+    }
+
+    /**
+     * Clear the slices that have left the window, then fold the values recorded since the last read into the current
+     * slice
+     */
+    private void roll() {
+        var elapsed = (clock.getTick() - sliceStart) / sliceTicks;
+        if (elapsed > 0) {
+            for (long i = 0; i < Math.min(elapsed, slices.length); i++) {
+                current = (current + 1) % slices.length;
+                slices[current].reset();
+            }
+            sliceStart += elapsed * sliceTicks;
+        }
+        interval = recorder.getIntervalHistogram(interval);
+        slices[current].add(interval);
+    }
+
+    private Histogram windowed() {
+        roll();
+        var sum = slices[current].copy();
+        for (int i = 0; i < slices.length; i++) {
+            if (i != current) {
+                sum.add(slices[i]);
+            }
+        }
+        return sum;
+    }
+
+    private static class HdrSnapshot extends Snapshot {
+        private final Histogram histogram;
+
+        private HdrSnapshot(Histogram histogram) {
+            this.histogram = histogram;
+        }
+
+        @Override
+        public void dump(OutputStream output) {
+            try (var out = new PrintWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8))) {
+                for (var value : getValues()) {
+                    out.printf("%d%n", value);
+                }
+            }
+        }
+
+        @Override
+        public long getMax() {
+            return histogram.getMaxValue();
+        }
+
+        @Override
+        public double getMean() {
+            return histogram.getMean();
+        }
+
+        @Override
+        public long getMin() {
+            return histogram.getMinValue();
+        }
+
+        @Override
+        public double getStdDev() {
+            return histogram.getStdDeviation();
+        }
+
+        @Override
+        public double getValue(double quantile) {
+            return histogram.getValueAtPercentile(quantile * 100.0);
+        }
+
+        /**
+         * @return every recorded value of the window, to the precision of the histogram, in ascending order
+         */
+        @Override
+        public long[] getValues() {
+            var values = new long[size()];
+            int i = 0;
+            for (HistogramIterationValue value : histogram.recordedValues()) {
+                var v = value.getValueIteratedTo();
+                for (long c = value.getCountAddedInThisIterationStep(); c > 0 && i < values.length; c--) {
+                    values[i++] = v;
+                }
+            }
+            return values;
+        }
+
+        @Override
+        public int size() {
+            return (int) Math.min(Integer.MAX_VALUE, histogram.getTotalCount());
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.protocols;
+
+import com.codahale.metrics.*;
+import com.google.protobuf.MessageLite;
+import io.grpc.*;
+import io.grpc.ForwardingClientCall.SimpleForwardingClientCall;
+import io.grpc.ForwardingClientCallListener.SimpleForwardingClientCallListener;
+import io.grpc.ForwardingServerCall.SimpleForwardingServerCall;
+import io.grpc.ForwardingServerCallListener.SimpleForwardingServerCallListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * Per service, per method metrics of gRPC calls, recorded by a client and server interceptor pair. For each method
+ * this records the call latency, the serialized sizes of the requests and responses, the calls in flight and the
+ * calls that did not complete OK. Latencies and sizes are recorded in HdrHistogram backed reservoirs, and the metrics
+ * of a method are resolved once and cached, so that recording a call does not allocate beyond the call's wrappers.
+ * <p>
+ * Metrics are named rpc.[client|server].[service].[method].[latency|request.bytes|response.bytes|inflight|errors]
+ *
+ * @author hal.hildebrand
+ */
+public class RpcMetrics {
+    private final Map<String, MethodMetrics> client = new ConcurrentHashMap<>();
+    private final MetricRegistry             registry;
+    private final Map<String, MethodMetrics> server = new ConcurrentHashMap<>();
+
+    public RpcMetrics(MetricRegistry registry) {
+        this.registry = registry;
+    }
+
+    private static int size(Object message) {
+        return message instanceof MessageLite m ? m.getSerializedSize() : 0;
+    }
+
+    /**
+     * @return the interceptor recording the calls made by a client channel
+     */
+    public ClientInterceptor clientInterceptor() {
+        return new ClientInterceptor() {
+            @Override
+            public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+                                                                       CallOptions callOptions, Channel next) {
+                var metrics = client.computeIfAbsent(method.getFullMethodName(), n -> metrics("client", method));
+                return new SimpleForwardingClientCall<>(next.newCall(method, callOptions)) {
+                    @Override
+                    public void sendMessage(ReqT message) {
+                        metrics.requestBytes.update(size(message));
+                        super.sendMessage(message);
+                    }
+
+                    @Override
+                    public void start(Listener<RespT> responseListener, Metadata headers) {
+                        var start = System.nanoTime();
+                        var completed = new AtomicBoolean();
+                        metrics.inFlight.inc();
+                        try {
+                            super.start(new SimpleForwardingClientCallListener<>(responseListener) {
+                                @Override
+                                public void onClose(Status status, Metadata trailers) {
+                                    if (completed.compareAndSet(false, true)) {
+                                        metrics.complete(status, System.nanoTime() - start);
+                                    }
+                                    super.onClose(status, trailers);
+                                }
+
+                                @Override
+                                public void onMessage(RespT message) {
+                                    metrics.responseBytes.update(size(message));
+                                    super.onMessage(message);
+                                }
+                            }, headers);
+                        } catch (RuntimeException | Error e) {
+                            if (completed.compareAndSet(false, true)) {
+                                metrics.complete(Status.fromThrowable(e), System.nanoTime() - start);
+                            }
+                            throw e;
+                        }
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * @return the interceptor recording the calls served by a server
+     */
+    public ServerInterceptor serverInterceptor() {
+        return new ServerInterceptor() {
+            @Override
+            public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call,
+                                                                         Metadata headers,
+                                                                         ServerCallHandler<ReqT, RespT> next) {
+                var method = call.getMethodDescriptor();
+                var metrics = server.computeIfAbsent(method.getFullMethodName(), n -> metrics("server", method));
+                var start = System.nanoTime();
+                var completed = new AtomicBoolean();
+                metrics.inFlight.inc();
+                var wrapped = new SimpleForwardingServerCall<>(call) {
+                    @Override
+                    public void close(Status status, Metadata trailers) {
+                        if (completed.compareAndSet(false, true)) {
+                            metrics.complete(status, System.nanoTime() - start);
+                        }
+                        super.close(status, trailers);
+                    }
+
+                    @Override
+                    public void sendMessage(RespT message) {
+                        metrics.responseBytes.update(size(message));
+                        super.sendMessage(message);
+                    }
+                };
+                ServerCall.Listener<ReqT> listener;
+                try {
+                    listener = next.startCall(wrapped, headers);
+                } catch (RuntimeException | Error e) {
+                    if (completed.compareAndSet(false, true)) {
+                        metrics.complete(Status.fromThrowable(e), System.nanoTime() - start);
+                    }
+                    throw e;
+                }
+                return new SimpleForwardingServerCallListener<>(listener) {
+                    @Override
+                    public void onCancel() {
+                        if (completed.compareAndSet(false, true)) {
+                            metrics.complete(Status.CANCELLED, System.nanoTime() - start);
+                        }
+                        super.onCancel();
+                    }
+
+                    @Override
+                    public void onMessage(ReqT message) {
+                        metrics.requestBytes.update(size(message));
+                        super.onMessage(message);
+                    }
+                };
+            }
+        };
+    }
+
+    private MethodMetrics metrics(String side, MethodDescriptor<?, ?> method) {
+        var service = method.getServiceName();
+        var bare = method.getBareMethodName();
+        return new MethodMetrics(
+        registry.timer(name("rpc", side, service, bare, "latency"), () -> new Timer(new HdrHistogramReservoir())),
+        registry.histogram(name("rpc", side, service, bare, "request.bytes"),
+                           () -> new Histogram(new HdrHistogramReservoir())),
+        registry.histogram(name("rpc", side, service, bare, "response.bytes"),
+                           () -> new Histogram(new HdrHistogramReservoir())),
+        registry.counter(name("rpc", side, service, bare, "inflight")),
+        registry.meter(name("rpc", side, service, bare, "errors")));
+    }
+
+    private record MethodMetrics(Timer latency, Histogram requestBytes, Histogram responseBytes, Counter inFlight,
+                                 Meter errors) {
+        void complete(Status status, long nanos) {
+            inFlight.dec();
+            latency.update(nanos, TimeUnit.NANOSECONDS);
+            if (!status.isOk()) {
+                errors.mark();
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.protocols;
+
+import com.codahale.metrics.Clock;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author hal.hildebrand
+ */
+public class HdrHistogramReservoirTest {
+
+    @Test
+    public void slidingWindow() {
+        var clock = new ManualClock();
+        var reservoir = new HdrHistogramReservoir(2, Duration.ofSeconds(60), 6, clock);
+        reservoir.update(1000);
+        reservoir.update(1000);
+        assertEquals(2, reservoir.size());
+
+        clock.advance(Duration.ofSeconds(30));
+        reservoir.update(10);
+        assertEquals(3, reservoir.size());
+        assertEquals(1000, reservoir.getSnapshot().getMax(), 10);
+
+        clock.advance(Duration.ofSeconds(35));
+        var snapshot = reservoir.getSnapshot();
+        assertEquals(1, snapshot.size());
+        assertEquals(10, snapshot.getMax());
+
+        clock.advance(Duration.ofSeconds(60));
+        assertEquals(0, reservoir.size());
+    }
+
+    @Test
+    public void valuesMatchSize() {
+        var reservoir = new HdrHistogramReservoir();
+        reservoir.update(5);
+        reservoir.update(5);
+        reservoir.update(7);
+        var snapshot = reservoir.getSnapshot();
+        assertEquals(3, snapshot.size());
+        assertArrayEquals(new long[] { 5, 5, 7 }, snapshot.getValues());
+    }
+
+    private static class ManualClock extends Clock {
+        private long tick;
+
+        @Override
+        public long getTick() {
+            return tick;
+        }
+
+        void advance(Duration duration) {
+            tick += duration.toNanos();
+        }
+    }
+}
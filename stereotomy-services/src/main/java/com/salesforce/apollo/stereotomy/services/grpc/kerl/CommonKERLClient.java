@@ -18,6 +18,10 @@ import org.joou.ULong;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * @author hal.hildebrand
@@ -119,6 +123,11 @@ public class CommonKERLClient implements ProtoKERLService {
             public Validations getValidations(EventCoords coords) {
                 return service.getValidations(coords);
             }
+
+            @Override
+            public Stream<KeyEventWithAttachments> streamKERL(Ident identifier) {
+                return service.streamKERL(identifier);
+            }
         };
     }
 
@@ -268,6 +277,30 @@ public class CommonKERLClient implements ProtoKERLService {
         return kerl.equals(KERL_.getDefaultInstance()) ? null : kerl;
     }
 
+    @Override
+    public Stream<KeyEventWithAttachments> streamKERL(Ident identifier) {
+        Context timer = metrics == null ? null : metrics.getKERLClient().time();
+        if (metrics != null) {
+            final var bsize = identifier.getSerializedSize();
+            metrics.outboundBandwidth().mark(bsize);
+            metrics.outboundGetKERLRequest().mark(bsize);
+        }
+        var events = client.streamKERL(identifier);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(events, Spliterator.ORDERED), false)
+                            .peek(event -> {
+                                if (metrics != null) {
+                                    final var serializedSize = event.getSerializedSize();
+                                    metrics.inboundBandwidth().mark(serializedSize);
+                                    metrics.inboundGetKERLResponse().mark(serializedSize);
+                                }
+                            })
+                            .onClose(() -> {
+                                if (timer != null) {
+                                    timer.stop();
+                                }
+                            });
+    }
+
     @Override
     public KeyEvent_ getKeyEvent(EventCoords coordinates) {
         Context timer = metrics == null ? null : metrics.getKeyEventCoordsClient().time();
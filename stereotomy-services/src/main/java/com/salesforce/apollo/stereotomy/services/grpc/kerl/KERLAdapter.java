@@ -133,8 +133,8 @@ public class KERLAdapter implements KERL.AppendKERL {
 
     @Override
     public List<EventWithAttachments> kerl(Identifier identifier) {
-        var k = kerl.getKERL(identifier.toIdent());
-        return k == null ? Collections.emptyList()
-                         : k.getEventsList().stream().map(kwa -> ProtobufEventFactory.from(kwa)).toList();
+        try (var events = kerl.streamKERL(identifier.toIdent())) {
+            return events.map(ProtobufEventFactory::from).toList();
+        }
     }
 }
@@ -196,6 +196,32 @@ public class KERLServer extends KERLServiceImplBase {
         });
     }
 
+    @Override
+    public void streamKERL(Ident request, StreamObserver<KeyEventWithAttachments> responseObserver) {
+        Context timer = metrics != null ? metrics.getKERLService().time() : null;
+        if (metrics != null) {
+            final var serializedSize = request.getSerializedSize();
+            metrics.inboundBandwidth().mark(serializedSize);
+            metrics.inboundGetKERLRequest().mark(serializedSize);
+        }
+        routing.evaluate(responseObserver, s -> {
+            try (var events = s.streamKERL(request)) {
+                events.forEach(event -> {
+                    responseObserver.onNext(event);
+                    if (metrics != null) {
+                        final var serializedSize = event.getSerializedSize();
+                        metrics.outboundBandwidth().mark(serializedSize);
+                        metrics.outboundGetKERLResponse().mark(serializedSize);
+                    }
+                });
+            }
+            responseObserver.onCompleted();
+            if (timer != null) {
+                timer.stop();
+            }
+        });
+    }
+
     @Override
     public void getKeyEventCoords(EventCoords request, StreamObserver<KeyEvent_> responseObserver) {
         Context timer = metrics != null ? metrics.getKeyEventCoordsService().time() : null;
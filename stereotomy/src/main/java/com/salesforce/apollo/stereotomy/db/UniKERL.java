@@ -13,6 +13,7 @@ import com.salesforce.apollo.cryptography.JohnHancock;
 import com.salesforce.apollo.cryptography.proto.Sig;
 import com.salesforce.apollo.stereotomy.DigestKERL;
 import com.salesforce.apollo.stereotomy.EventCoordinates;
+import com.salesforce.apollo.stereotomy.KERL.EventWithAttachments;
 import com.salesforce.apollo.stereotomy.KeyState;
 import com.salesforce.apollo.stereotomy.event.AttachmentEvent;
 import com.salesforce.apollo.stereotomy.event.AttachmentEvent.Attachment;
@@ -43,10 +44,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.sql.Connection;
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
+import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.zip.GZIPInputStream;
@@ -400,18 +398,11 @@ abstract public class UniKERL implements DigestKERL {
                        .where(ATTACHMENT.FOR.eq(resolved.value1()))
                        .fetch()
                        .stream()
-                       .map(r -> {
-                           try {
-                               return Seal.from(Sealed.parseFrom(decompress(r.value1())));
-                           } catch (InvalidProtocolBufferException e) {
-                               log.error("Error deserializing seal: {}", e);
-                               return null;
-                           }
-                       })
+                       .map(r -> toSeal(r.value1()))
                        .filter(Objects::nonNull)
                        .toList();
 
-        record receipt(int witness, Sig signature) {
+        record receipt(int witness, JohnHancock signature) {
         }
         var receipts = dsl.select(RECEIPT.WITNESS, RECEIPT.SIGNATURE)
                           .from(RECEIPT)
@@ -419,15 +410,11 @@ abstract public class UniKERL implements DigestKERL {
                           .fetch()
                           .stream()
                           .map(r -> {
-                              try {
-                                  return new receipt(r.value1(), Sig.parseFrom(decompress(r.value2())));
-                              } catch (InvalidProtocolBufferException e) {
-                                  log.error("Error deserializing signature witness: {}", e);
-                                  return null;
-                              }
+                              var signature = toSignature(r.value2());
+                              return signature == null ? null : new receipt(r.value1(), signature);
                           })
                           .filter(Objects::nonNull)
-                          .collect(Collectors.toMap(r -> r.witness, r -> JohnHancock.from(r.signature)));
+                          .collect(Collectors.toMap(r -> r.witness, r -> r.signature));
         return new AttachmentImpl(seals, receipts);
     }
 
@@ -584,4 +571,102 @@ abstract public class UniKERL implements DigestKERL {
         log.trace("Resolve validations: {} result: {}", coordinates, validations);
         return validations;
     }
+
+    /**
+     * The KERL of the identifier, resolved with a single recursive query following the chain of prior event digests
+     * back from the current key state of the identifier, and a single range query over the coordinates of the
+     * identifier for each of the attachment's seals and receipts, rather than a query per event
+     */
+    @Override
+    public List<EventWithAttachments> kerl(Identifier identifier) {
+        var identifierId = dsl.select(IDENTIFIER.ID)
+                              .from(IDENTIFIER)
+                              .where(IDENTIFIER.PREFIX.eq(b64(identifier.toIdent())))
+                              .fetchOne();
+        if (identifierId == null) {
+            return Collections.emptyList();
+        }
+        var chainDigest = DSL.field(DSL.name("chain", "digest"), String.class);
+        var chain = DSL.name("chain")
+                       .fields("id", "digest")
+                       .as(dsl.select(COORDINATES.ID, COORDINATES.DIGEST)
+                              .from(CURRENT_KEY_STATE)
+                              .join(COORDINATES)
+                              .on(COORDINATES.ID.eq(CURRENT_KEY_STATE.CURRENT))
+                              .where(CURRENT_KEY_STATE.IDENTIFIER.eq(identifierId.value1()))
+                              .unionAll(dsl.select(COORDINATES.ID, COORDINATES.DIGEST)
+                                           .from(DSL.table(DSL.name("chain")))
+                                           .join(EVENT)
+                                           .on(EVENT.DIGEST.eq(chainDigest))
+                                           .join(COORDINATES)
+                                           .on(COORDINATES.ID.eq(EVENT.COORDINATES))
+                                           .where(chainDigest.ne(DIGEST_NONE_ENCODED))
+                                           .and(COORDINATES.ID.ne(0L))));
+        var chainId = chain.field("id", Long.class);
+        var events = dsl.withRecursive(chain)
+                        .select(COORDINATES.ID, EVENT.CONTENT, COORDINATES.ILK)
+                        .from(chain)
+                        .join(EVENT)
+                        .on(EVENT.COORDINATES.eq(chainId))
+                        .join(COORDINATES)
+                        .on(COORDINATES.ID.eq(chainId))
+                        .orderBy(COORDINATES.SEQUENCE_NUMBER)
+                        .fetch();
+        if (events.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        var seals = new HashMap<Long, List<Seal>>();
+        dsl.select(ATTACHMENT.FOR, ATTACHMENT.SEAL)
+           .from(ATTACHMENT)
+           .join(COORDINATES)
+           .on(COORDINATES.ID.eq(ATTACHMENT.FOR))
+           .where(COORDINATES.IDENTIFIER.eq(identifierId.value1()))
+           .forEach(r -> {
+               var seal = toSeal(r.value2());
+               if (seal != null) {
+                   seals.computeIfAbsent(r.value1(), k -> new ArrayList<>()).add(seal);
+               }
+           });
+        var receipts = new HashMap<Long, Map<Integer, JohnHancock>>();
+        dsl.select(RECEIPT.FOR, RECEIPT.WITNESS, RECEIPT.SIGNATURE)
+           .from(RECEIPT)
+           .join(COORDINATES)
+           .on(COORDINATES.ID.eq(RECEIPT.FOR))
+           .where(COORDINATES.IDENTIFIER.eq(identifierId.value1()))
+           .forEach(r -> {
+               var signature = toSignature(r.value3());
+               if (signature != null) {
+                   receipts.computeIfAbsent(r.value1(), k -> new HashMap<>()).put(r.value2(), signature);
+               }
+           });
+
+        var kerl = new ArrayList<EventWithAttachments>(events.size());
+        for (var r : events) {
+            var id = r.value1();
+            kerl.add(new EventWithAttachments(toKeyEvent(decompress(r.value2()), r.value3()),
+                                              new AttachmentImpl(seals.getOrDefault(id, Collections.emptyList()),
+                                                                 receipts.getOrDefault(id, Collections.emptyMap()))));
+        }
+        log.info("Get kerl: {} events: {}", identifier, kerl.size());
+        return kerl;
+    }
+
+    private Seal toSeal(String encoded) {
+        try {
+            return Seal.from(Sealed.parseFrom(decompress(encoded)));
+        } catch (InvalidProtocolBufferException e) {
+            log.error("Error deserializing seal: {}", e);
+            return null;
+        }
+    }
+
+    private JohnHancock toSignature(String encoded) {
+        try {
+            return JohnHancock.from(Sig.parseFrom(decompress(encoded)));
+        } catch (InvalidProtocolBufferException e) {
+            log.error("Error deserializing signature witness: {}", e);
+            return null;
+        }
+    }
 }
@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.stereotomy.mem;
+
+import com.salesforce.apollo.cryptography.Digest;
+import com.salesforce.apollo.cryptography.DigestAlgorithm;
+import com.salesforce.apollo.cryptography.JohnHancock;
+import com.salesforce.apollo.stereotomy.EventCoordinates;
+import com.salesforce.apollo.stereotomy.KERL;
+import com.salesforce.apollo.stereotomy.KeyState;
+import com.salesforce.apollo.stereotomy.caching.CachingKERL;
+import com.salesforce.apollo.stereotomy.event.AttachmentEvent;
+import com.salesforce.apollo.stereotomy.event.AttachmentEvent.Attachment;
+import com.salesforce.apollo.stereotomy.event.KeyEvent;
+import com.salesforce.apollo.stereotomy.event.Seal;
+import com.salesforce.apollo.stereotomy.identifier.Identifier;
+import com.salesforce.apollo.stereotomy.processing.KeyEventProcessor;
+import org.joou.ULong;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * An in memory KERL keyed by the binary form of the coordinates, rather than by the Base64 encoded strings of the
+ * MemKERL. Events are held in an array per identifier, indexed by the primitive sequence number of the event and
+ * matched by the words of the coordinates' digest, so lookups and appends neither encode nor allocate keys. Identifiers
+ * are keyed by their own equality; that of a self addressing identifier is the equality of its digest.
+ * <p>
+ * Each slot of an identifier's array heads the events appended with that sequence number, most recent first. The
+ * current KERL of the identifier is the head of each slot up to the sequence number of its current key state; events
+ * superseded by a later append at the same sequence number remain retrievable by their coordinates.
+ * <p>
+ * The array only grows to cover the identifier's events. Attachments and validations - which peers may supply for
+ * arbitrary coordinates - of sequence numbers beyond the next event of the identifier are held in a sparse map, and
+ * move to the array as it grows to cover them.
+ *
+ * @author hal.hildebrand
+ */
+public class CompactMemKERL implements KERL.AppendKERL {
+
+    private final DigestAlgorithm                digestAlgorithm;
+    private final Map<Identifier, IdentifierLog> logs      = new ConcurrentHashMap<>();
+    private final KeyEventProcessor              processor = new KeyEventProcessor(this);
+
+    public CompactMemKERL(DigestAlgorithm digestAlgorithm) {
+        this.digestAlgorithm = digestAlgorithm;
+    }
+
+    @Override
+    public KeyState append(KeyEvent event) {
+        final var newState = processor.process(event);
+        log(event.getIdentifier()).append(event, newState);
+        return newState;
+    }
+
+    @Override
+    public Void append(List<AttachmentEvent> events) {
+        events.forEach(event -> {
+            var coordinates = event.coordinates();
+            log(coordinates.getIdentifier()).appendAttachment(coordinates, event.attachments());
+        });
+        return null;
+    }
+
+    @Override
+    public List<KeyState> append(List<KeyEvent> events, List<AttachmentEvent> attachments) {
+        var states = events.stream().map(this::append).toList();
+        append(attachments);
+        return states;
+    }
+
+    @Override
+    public Void appendValidations(EventCoordinates coordinates, Map<EventCoordinates, JohnHancock> v) {
+        log(coordinates.getIdentifier()).appendValidations(coordinates, v);
+        return null;
+    }
+
+    public AppendKERL cached() {
+        return new CachingKERL(f -> f.apply(this));
+    }
+
+    @Override
+    public Attachment getAttachment(EventCoordinates coordinates) {
+        return read(coordinates, entry -> entry.attachment);
+    }
+
+    @Override
+    public DigestAlgorithm getDigestAlgorithm() {
+        return digestAlgorithm;
+    }
+
+    @Override
+    public KeyEvent getKeyEvent(EventCoordinates coordinates) {
+        return read(coordinates, entry -> entry.event);
+    }
+
+    @Override
+    public KeyState getKeyState(EventCoordinates coordinates) {
+        return read(coordinates, entry -> entry.state);
+    }
+
+    @Override
+    public KeyState getKeyState(Identifier identifier) {
+        var log = logs.get(identifier);
+        return log == null ? null : log.current();
+    }
+
+    @Override
+    public KeyState getKeyState(Identifier identifier, ULong sequenceNumber) {
+        var log = logs.get(identifier);
+        return log == null ? null : log.state(sequenceNumber.longValue());
+    }
+
+    @Override
+    public Map<EventCoordinates, JohnHancock> getValidations(EventCoordinates coordinates) {
+        var validations = read(coordinates, entry -> entry.validations);
+        return validations == null ? Collections.emptyMap() : validations;
+    }
+
+    @Override
+    public List<EventWithAttachments> kerl(Identifier identifier) {
+        var log = logs.get(identifier);
+        return log == null ? Collections.emptyList() : log.kerl();
+    }
+
+    private IdentifierLog log(Identifier identifier) {
+        return logs.computeIfAbsent(identifier, k -> new IdentifierLog());
+    }
+
+    /**
+     * Answer the field of the entry of the coordinates, read under the lock of the identifier's log
+     */
+    private <T> T read(EventCoordinates coordinates, Function<Entry, T> field) {
+        var log = logs.get(coordinates.getIdentifier());
+        return log == null ? null : log.read(coordinates.getSequenceNumber().longValue(), coordinates.getDigest(),
+                                             field);
+    }
+
+    /**
+     * The event, state and attachments of a set of coordinates. The event and state are null for coordinates with
+     * attachments or validations appended before the event
+     */
+    private static class Entry {
+        private final Digest                             digest;
+        private       Attachment                         attachment;
+        private       KeyEvent                           event;
+        private       Entry                              next;
+        private       KeyState                           state;
+        private       Map<EventCoordinates, JohnHancock> validations;
+
+        private Entry(Digest digest, Entry next) {
+            this.digest = digest;
+            this.next = next;
+        }
+    }
+
+    /**
+     * The events of an identifier, indexed by sequence number
+     */
+    private static class IdentifierLog {
+        private final Map<Long, Entry> sparse  = new HashMap<>();
+        private       long             current = -1;
+        private       Entry[]          slots   = new Entry[4];
+
+        private synchronized void append(KeyEvent event, KeyState state) {
+            var sequenceNumber = event.getSequenceNumber().longValue();
+            cover(sequenceNumber);
+            var entry = find(sequenceNumber, event.getCoordinates().getDigest());
+            if (entry == null) {
+                entry = push(sequenceNumber, event.getCoordinates().getDigest());
+            } else {
+                promote(sequenceNumber, entry);
+            }
+            entry.event = event;
+            entry.state = state;
+            current = sequenceNumber;
+        }
+
+        private synchronized void appendAttachment(EventCoordinates coordinates, Attachment attachment) {
+            var entry = findOrCreate(coordinates);
+            entry.attachment = combine(attachment, entry.attachment);
+        }
+
+        private synchronized void appendValidations(EventCoordinates coordinates,
+                                                    Map<EventCoordinates, JohnHancock> validations) {
+            findOrCreate(coordinates).validations = validations;
+        }
+
+        private Attachment combine(Attachment attachment, Attachment previous) {
+            if (previous == null) {
+                return attachment;
+            }
+            List<Seal> seals = new ArrayList<>(previous.seals());
+            seals.addAll(attachment.seals());
+            Map<Integer, JohnHancock> endorsements = new HashMap<>(previous.endorsements());
+            endorsements.putAll(attachment.endorsements());
+            return new AttachmentEvent.AttachmentImpl(seals, endorsements);
+        }
+
+        private synchronized KeyState current() {
+            return current < 0 ? null : slots[(int) current].state;
+        }
+
+        private Entry find(long sequenceNumber, Digest digest) {
+            for (var entry = head(sequenceNumber); entry != null; entry = entry.next) {
+                if (entry.digest.equals(digest)) {
+                    return entry;
+                }
+            }
+            return null;
+        }
+
+        private Entry findOrCreate(EventCoordinates coordinates) {
+            var sequenceNumber = coordinates.getSequenceNumber().longValue();
+            var entry = find(sequenceNumber, coordinates.getDigest());
+            if (entry != null) {
+                return entry;
+            }
+            if (sequenceNumber < 0) {
+                throw new IllegalArgumentException("Sequence number out of range: " + sequenceNumber);
+            }
+            if (sequenceNumber >= slots.length && sequenceNumber > current + 1) {
+                // Beyond the identifier's events, so not on its KERL; the array does not grow to the peer's whim
+                entry = new Entry(coordinates.getDigest(), sparse.get(sequenceNumber));
+                sparse.put(sequenceNumber, entry);
+                return entry;
+            }
+            entry = push(sequenceNumber, coordinates.getDigest());
+            var head = entry.next;
+            if (head != null) {
+                // Retain the head of the slot, which is on the current KERL
+                slots[(int) sequenceNumber] = head;
+                entry.next = head.next;
+                head.next = entry;
+            }
+            return entry;
+        }
+
+        /**
+         * @return the most recent entry of the sequence number, or null
+         */
+        private Entry head(long sequenceNumber) {
+            if (sequenceNumber < 0) {
+                return null;
+            }
+            return sequenceNumber < slots.length ? slots[(int) sequenceNumber] : sparse.get(sequenceNumber);
+        }
+
+        private synchronized List<EventWithAttachments> kerl() {
+            var kerl = new ArrayList<EventWithAttachments>((int) (current + 1));
+            for (int i = 0; i <= current; i++) {
+                var entry = slots[i];
+                if (entry != null && entry.event != null) {
+                    kerl.add(new EventWithAttachments(entry.event, entry.attachment));
+                }
+            }
+            return kerl;
+        }
+
+        private void promote(long sequenceNumber, Entry entry) {
+            var slot = (int) sequenceNumber;
+            if (slots[slot] == entry) {
+                return;
+            }
+            for (var e = slots[slot]; e != null; e = e.next) {
+                if (e.next == entry) {
+                    e.next = entry.next;
+                    break;
+                }
+            }
+            entry.next = slots[slot];
+            slots[slot] = entry;
+        }
+
+        private Entry push(long sequenceNumber, Digest digest) {
+            cover(sequenceNumber);
+            var slot = (int) sequenceNumber;
+            var entry = new Entry(digest, slots[slot]);
+            slots[slot] = entry;
+            return entry;
+        }
+
+        /**
+         * Grow the array to cover the sequence number, moving the sparse entries it now covers into the array
+         */
+        private void cover(long sequenceNumber) {
+            if (sequenceNumber < 0 || sequenceNumber >= Integer.MAX_VALUE - 8) {
+                throw new IllegalArgumentException("Sequence number out of range: " + sequenceNumber);
+            }
+            if (sequenceNumber < slots.length) {
+                return;
+            }
+            slots = Arrays.copyOf(slots, (int) Math.max(sequenceNumber + 1,
+                                                        Math.min(slots.length * 2L, Integer.MAX_VALUE - 8)));
+            if (sparse.isEmpty()) {
+                return;
+            }
+            var moved = sparse.entrySet().iterator();
+            while (moved.hasNext()) {
+                var e = moved.next();
+                if (e.getKey() < slots.length) {
+                    slots[e.getKey().intValue()] = e.getValue();
+                    moved.remove();
+                }
+            }
+        }
+
+        private synchronized <T> T read(long sequenceNumber, Digest digest, Function<Entry, T> field) {
+            var entry = find(sequenceNumber, digest);
+            return entry == null ? null : field.apply(entry);
+        }
+
+        private synchronized KeyState state(long sequenceNumber) {
+            for (var entry = head(sequenceNumber); entry != null; entry = entry.next) {
+                if (entry.state != null) {
+                    return entry.state;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -40,6 +40,8 @@ public class MemKERL implements KERL.AppendKERL {
     private final Map<String, KeyState>                                     keyState                 = new ConcurrentHashMap<>();
     // Order by <identifier>
     private final Map<String, String>                                       keyStateByIdentifier     = new ConcurrentHashMap<>();
+    // Order by <identifier>, indexed by sequence number
+    private final Map<String, List<String>>                                 kerls                    = new ConcurrentHashMap<>();
     private final Map<String, Digest>                                       locationToHash           = new ConcurrentHashMap<>();
     private final Map<String, String>                                       sequenceNumberToLocation = new ConcurrentHashMap<>();
     private final KeyEventProcessor                                         processor                = new KeyEventProcessor(
@@ -166,6 +168,27 @@ public class MemKERL implements KERL.AppendKERL {
         return validations.computeIfAbsent(coordinates, k -> Collections.emptyMap());
     }
 
+    /**
+     * The KERL of the identifier, resolved from the index of the coordinates of the identifier's events by sequence
+     * number
+     */
+    @Override
+    public List<EventWithAttachments> kerl(Identifier identifier) {
+        var kerl = kerls.get(qb64(identifier));
+        if (kerl == null) {
+            return Collections.emptyList();
+        }
+        List<String> coordinates;
+        synchronized (kerl) {
+            coordinates = new ArrayList<>(kerl);
+        }
+        var result = new ArrayList<EventWithAttachments>(coordinates.size());
+        for (var c : coordinates) {
+            result.add(new EventWithAttachments(events.get(c), receipts.get(c)));
+        }
+        return result;
+    }
+
     private void append(KeyEvent event, KeyState newState) {
         String coordinates = coordinateOrdering(event.getCoordinates());
         events.put(coordinates, event);
@@ -174,6 +197,13 @@ public class MemKERL implements KERL.AppendKERL {
         sequenceNumberToLocation.put(locationOrdering(event.getIdentifier(), event.getSequenceNumber()), coordinates);
         keyState.put(coordinates, newState);
         keyStateByIdentifier.put(qb64(event.getIdentifier()), coordinates);
+        var kerl = kerls.computeIfAbsent(qb64(event.getIdentifier()), k -> new ArrayList<>());
+        synchronized (kerl) {
+            // The event supersedes any events from its sequence number on
+            var sequenceNumber = (int) Math.min(event.getSequenceNumber().longValue(), kerl.size());
+            kerl.subList(sequenceNumber, kerl.size()).clear();
+            kerl.add(coordinates);
+        }
     }
 
     private void appendAttachments(EventCoordinates coordinates, Attachment attachment) {
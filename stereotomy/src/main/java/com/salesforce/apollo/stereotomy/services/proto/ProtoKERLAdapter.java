@@ -28,6 +28,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * @author hal.hildebrand
@@ -177,6 +178,12 @@ public class ProtoKERLAdapter implements ProtoKERLService {
                           .build();
     }
 
+    @Override
+    public Stream<KeyEventWithAttachments> streamKERL(Ident identifier) {
+        List<EventWithAttachments> kerl = this.kerl.kerl(Identifier.from(identifier));
+        return kerl == null ? Stream.empty() : kerl.stream().map(EventWithAttachments::toKeyEvente);
+    }
+
     private KERL_ kerl(List<EventWithAttachments> k) {
         var builder = KERL_.newBuilder();
         k.forEach(ewa -> builder.addEvents(ewa.toKeyEvente()));
@@ -9,6 +9,8 @@ package com.salesforce.apollo.stereotomy.services.proto;
 import com.salesforce.apollo.stereotomy.event.proto.*;
 import org.joou.ULong;
 
+import java.util.stream.Stream;
+
 /**
  * @author hal.hildebrand
  */
@@ -32,4 +34,12 @@ public interface ProtoKERLProvider {
     KeyStateWithEndorsementsAndValidations_ getKeyStateWithEndorsementsAndValidations(EventCoords coordinates);
 
     Validations getValidations(EventCoords coords);
+
+    /**
+     * @return the events of the KERL of the identifier, in order, without materializing the KERL as a single message
+     */
+    default Stream<KeyEventWithAttachments> streamKERL(Ident identifier) {
+        var kerl = getKERL(identifier);
+        return kerl == null ? Stream.empty() : kerl.getEventsList().stream();
+    }
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2024, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.apollo.stereotomy;
+
+import com.salesforce.apollo.cryptography.DigestAlgorithm;
+import com.salesforce.apollo.cryptography.JohnHancock;
+import com.salesforce.apollo.cryptography.SignatureAlgorithm;
+import com.salesforce.apollo.stereotomy.event.KeyEvent;
+import com.salesforce.apollo.stereotomy.mem.CompactMemKERL;
+import org.joou.ULong;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author hal.hildebrand
+ */
+public class StereotomyCompactKelTest extends StereotomyTests {
+
+    @Test
+    public void validationsBeyondKerl() throws Exception {
+        Stereotomy controller = new StereotomyImpl(ks, kel, secureRandom);
+        var i = controller.newIdentifier();
+        var digest = DigestAlgorithm.DEFAULT.digest("validations".getBytes());
+        var validations = Map.of(i.getCoordinates(),
+                                 new JohnHancock(SignatureAlgorithm.DEFAULT, new byte[0], ULong.valueOf(0)));
+
+        // coordinates supplied far beyond the identifier's events, and just beyond the initial array
+        var far = new EventCoordinates(i.getIdentifier(), ULong.valueOf(1L << 40), digest, KeyEvent.ROTATION_TYPE);
+        var near = new EventCoordinates(i.getIdentifier(), ULong.valueOf(5), digest, KeyEvent.ROTATION_TYPE);
+        kel.appendValidations(far, validations);
+        kel.appendValidations(near, validations);
+        assertEquals(validations, kel.getValidations(far));
+        assertEquals(validations, kel.getValidations(near));
+
+        // the KERL grows over the near coordinates
+        for (int r = 0; r < 6; r++) {
+            i.rotate();
+        }
+        assertEquals(7, kel.kerl(i.getIdentifier()).size());
+        assertEquals(validations, kel.getValidations(far));
+        assertEquals(validations, kel.getValidations(near));
+    }
+
+    void initializeKel() {
+        kel = new CompactMemKERL(DigestAlgorithm.DEFAULT);
+    }
+}
@@ -7,6 +7,9 @@
 
 package com.salesforce.apollo.thoth;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.salesforce.apollo.cryptography.Digest;
 import com.salesforce.apollo.cryptography.JohnHancock;
 import com.salesforce.apollo.cryptography.SignatureAlgorithm;
@@ -28,19 +31,63 @@ import java.util.Optional;
 
 /**
  * Stereotomy key event validation, certificate validator and verifiers
+ * <p>
+ * The results of witness validation are memoized by the coordinates of the validated event, in a bounded cache. Valid
+ * results expire after the ttl, invalid results after the - usually much shorter - negative ttl, as an event that
+ * failed validation may become valid as the endorsements of its witnesses arrive. The result for coordinates should be
+ * invalidated when new endorsements of the event are appended
  *
  * @author hal.hildebrand
  */
 public class Ani {
+    public static final int      DEFAULT_CACHE_SIZE   = 10_000;
+    public static final Duration DEFAULT_NEGATIVE_TTL = Duration.ofSeconds(2);
+    public static final Duration DEFAULT_TTL          = Duration.ofMinutes(10);
 
     private static final Logger log = LoggerFactory.getLogger(Ani.class);
 
-    private final Digest member;
-    private final KERL   kerl;
+    private final KERL                             kerl;
+    private final Digest                           member;
+    private final Cache<EventCoordinates, Boolean> validations;
 
     public Ani(Digest member, KERL kerl) {
+        this(member, kerl, DEFAULT_CACHE_SIZE, DEFAULT_TTL, DEFAULT_NEGATIVE_TTL);
+    }
+
+    /**
+     * @param member      - the id of the member
+     * @param kerl        - the KERL validated against
+     * @param cacheSize   - the maximum number of validation results cached, 0 to disable caching
+     * @param ttl         - the time a valid result is cached
+     * @param negativeTtl - the time an invalid result is cached
+     */
+    public Ani(Digest member, KERL kerl, int cacheSize, Duration ttl, Duration negativeTtl) {
         this.member = member;
         this.kerl = kerl;
+        final var ttlNanos = ttl.toNanos();
+        final var negativeTtlNanos = negativeTtl.toNanos();
+        this.validations = Caffeine.newBuilder()
+                                   .maximumSize(cacheSize)
+                                   .expireAfter(new Expiry<EventCoordinates, Boolean>() {
+                                       @Override
+                                       public long expireAfterCreate(EventCoordinates key, Boolean valid,
+                                                                     long currentTime) {
+                                           return valid ? ttlNanos : negativeTtlNanos;
+                                       }
+
+                                       @Override
+                                       public long expireAfterRead(EventCoordinates key, Boolean valid,
+                                                                   long currentTime, long currentDuration) {
+                                           return currentDuration;
+                                       }
+
+                                       @Override
+                                       public long expireAfterUpdate(EventCoordinates key, Boolean valid,
+                                                                     long currentTime, long currentDuration) {
+                                           return valid ? ttlNanos : negativeTtlNanos;
+                                       }
+                                   })
+                                   .build();
     }
 
     public CertificateValidator certificateValidator(Duration timeout) {
@@ -70,6 +117,20 @@ public class Ani {
         };
     }
 
+    /**
+     * Invalidate all cached validation results
+     */
+    public void clear() {
+        validations.invalidateAll();
+    }
+
+    /**
+     * Invalidate the cached validation result of the coordinates, as when new endorsements of the event arrive
+     */
+    public void invalidate(EventCoordinates coordinates) {
+        validations.invalidate(coordinates);
+    }
+
     public Verifiers verifiers(Duration timeout) {
         return new Verifiers() {
 
@@ -124,7 +185,18 @@ public class Ani {
         return kerlValidate(timeout, ksa, event);
     }
 
+    /**
+     * Validation queries the KERL, so is performed outside the cache's computation rather than holding its lock; racing
+     * validations of the same coordinates are idempotent, the last put wins
+     */
     private boolean validateKerl(KeyEvent event, Duration timeout) {
-        return performKerlValidation(event.getCoordinates(), timeout);
+        var coordinates = event.getCoordinates();
+        var cached = validations.getIfPresent(coordinates);
+        if (cached != null) {
+            return cached;
+        }
+        var valid = performKerlValidation(coordinates, timeout);
+        validations.put(coordinates, valid);
+        return valid;
     }
 }
@@ -31,6 +31,7 @@ import com.salesforce.apollo.stereotomy.db.UniKERLDirectPooled;
 import com.salesforce.apollo.stereotomy.db.UniKERLDirectPooled.ClosableKERL;
 import com.salesforce.apollo.stereotomy.event.KeyEvent;
 import com.salesforce.apollo.stereotomy.event.proto.*;
+import com.salesforce.apollo.stereotomy.event.protobuf.ProtobufEventFactory;
 import com.salesforce.apollo.stereotomy.identifier.Identifier;
 import com.salesforce.apollo.stereotomy.services.grpc.StereotomyMetrics;
 import com.salesforce.apollo.stereotomy.services.grpc.kerl.KERLAdapter;
@@ -49,6 +50,7 @@ import com.salesforce.apollo.thoth.proto.Intervals;
 import com.salesforce.apollo.thoth.proto.Update;
 import com.salesforce.apollo.thoth.proto.Updating;
 import com.salesforce.apollo.utils.Entropy;
+import com.salesforce.apollo.utils.Schedulers;
 import com.salesforce.apollo.utils.Utils;
 import liquibase.Liquibase;
 import liquibase.Scope;
@@ -75,7 +77,6 @@ import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -112,6 +113,7 @@ public class KerlDHT implements ProtoKERLService {
     private final CommonCommunications<ReconciliationService, Reconciliation> reconcileComms;
     private final Reconcile                                                   reconciliation = new Reconcile();
     private final ScheduledExecutorService                                    scheduler;
+    private final Schedulers.Runtime                                          schedulers;
     private final Service                                                     service        = new Service();
     private final AtomicBoolean                                               started        = new AtomicBoolean();
     private final Duration                                                    operationTimeout;
@@ -120,13 +122,25 @@ public class KerlDHT implements ProtoKERLService {
                    BiFunction<KerlDHT, KERL.AppendKERL, KERL.AppendKERL> wrap, JdbcConnectionPool connectionPool,
                    DigestAlgorithm digestAlgorithm, Router communications, Duration operationTimeout,
                    double falsePositiveRate, StereotomyMetrics metrics) {
+        this(operationsFrequency, context, member, wrap, connectionPool, digestAlgorithm, communications,
+             operationTimeout, falsePositiveRate, metrics, Schedulers.DEFAULT);
+    }
+
+    /**
+     * @param schedulers - the runtime providing the clock, scheduler and threads of the DHT
+     */
+    public KerlDHT(Duration operationsFrequency, Context<? extends Member> context, SigningMember member,
+                   BiFunction<KerlDHT, KERL.AppendKERL, KERL.AppendKERL> wrap, JdbcConnectionPool connectionPool,
+                   DigestAlgorithm digestAlgorithm, Router communications, Duration operationTimeout,
+                   double falsePositiveRate, StereotomyMetrics metrics, Schedulers.Runtime schedulers) {
         assert member != null;
         this.context = new DelegatedContext<>((Context<Member>) new StaticContext<>(context));
         this.member = member;
         this.operationTimeout = operationTimeout;
         this.fpr = falsePositiveRate;
         this.operationsFrequency = operationsFrequency;
-        this.scheduler = Executors.newScheduledThreadPool(1, Thread.ofVirtual().factory());
+        this.schedulers = schedulers;
+        this.scheduler = schedulers.newScheduler("KerlDHT");
         var kerlAdapter = new KERLAdapter(this, digestAlgorithm);
         this.cache = new CachingKERL(f -> {
             try {
@@ -197,12 +211,13 @@ public class KerlDHT implements ProtoKERLService {
         if (identifier == null) {
             return null;
         }
-        Instant timedOut = Instant.now().plus(operationTimeout);
-        Supplier<Boolean> isTimedOut = () -> Instant.now().isAfter(timedOut);
+        Instant timedOut = schedulers.clock().instant().plus(operationTimeout);
+        Supplier<Boolean> isTimedOut = () -> schedulers.clock().instant().isAfter(timedOut);
         var result = new CompletableFuture<KeyStates>();
         HashMultiset<KeyStates> gathered = HashMultiset.create();
         var slice = context.bftSubset(identifier);
-        var iterator = new SliceIterator<>(context.getId().toString(), member, slice, dhtComms, scheduler);
+        var iterator = new SliceIterator<>(context.getId().toString(), member, slice, dhtComms, scheduler,
+                                           schedulers);
         try {
             iterator.iterate((link) -> link.append(Collections.emptyList(), Collections.singletonList(event)),
                              (futureSailor, tally, link, _) -> mutate(gathered, futureSailor, identifier, isTimedOut,
@@ -219,6 +234,8 @@ public class KerlDHT implements ProtoKERLService {
                 return KeyState_.getDefaultInstance();
             }
             throw new IllegalStateException(e.getCause());
+        } finally {
+            invalidate(Collections.singletonList(event));
         }
     }
 
@@ -232,12 +249,13 @@ public class KerlDHT implements ProtoKERLService {
         if (identifier == null) {
             return Collections.emptyList();
         }
-        Instant timedOut = Instant.now().plus(operationTimeout);
-        Supplier<Boolean> isTimedOut = () -> Instant.now().isAfter(timedOut);
+        Instant timedOut = schedulers.clock().instant().plus(operationTimeout);
+        Supplier<Boolean> isTimedOut = () -> schedulers.clock().instant().isAfter(timedOut);
         var result = new CompletableFuture<KeyStates>();
         HashMultiset<KeyStates> gathered = HashMultiset.create();
         var slice = context.bftSubset(identifier);
-        var iterator = new SliceIterator<>(context.getId().toString(), member, slice, dhtComms, scheduler);
+        var iterator = new SliceIterator<>(context.getId().toString(), member, slice, dhtComms, scheduler,
+                                           schedulers);
         try {
             iterator.iterate((link) -> link.append(kerl),
                              (futureSailor, tally, link, _) -> mutate(gathered, futureSailor, identifier, isTimedOut,
@@ -253,6 +271,8 @@ public class KerlDHT implements ProtoKERLService {
                 return Collections.emptyList();
             }
             throw new IllegalStateException(e.getCause());
+        } finally {
+            invalidate(kerl);
         }
     }
 
@@ -261,12 +281,13 @@ public class KerlDHT implements ProtoKERLService {
         if (identifier == null) {
             return null;
         }
-        Instant timedOut = Instant.now().plus(operationTimeout);
-        Supplier<Boolean> isTimedOut = () -> Instant.now().isAfter(timedOut);
+        Instant timedOut = schedulers.clock().instant().plus(operationTimeout);
+        Supplier<Boolean> isTimedOut = () -> schedulers.clock().instant().isAfter(timedOut);
         var result = new CompletableFuture<KeyStates>();
         HashMultiset<KeyStates> gathered = HashMultiset.create();
         var slice = context.bftSubset(identifier);
-        var iterator = new SliceIterator<>(context.getId().toString(), member, slice, dhtComms, scheduler);
+        var iterator = new SliceIterator<>(context.getId().toString(), member, slice, dhtComms, scheduler,
+                                           schedulers);
         try {
             iterator.iterate((link) -> link.append(Collections.singletonList(event)),
                              (futureSailor, tally, link, _) -> mutate(gathered, futureSailor, identifier, isTimedOut,
@@ -318,12 +339,13 @@ public class KerlDHT implements ProtoKERLService {
         if (identifier == null) {
             return Empty.getDefaultInstance();
         }
-        Instant timedOut = Instant.now().plus(operationTimeout);
-        Supplier<Boolean> isTimedOut = () -> Instant.now().isAfter(timedOut);
+        Instant timedOut = schedulers.clock().instant().plus(operationTimeout);
+        Supplier<Boolean> isTimedOut = () -> schedulers.clock().instant().isAfter(timedOut);
         var result = new CompletableFuture<Empty>();
         HashMultiset<Empty> gathered = HashMultiset.create();
         var slice = context.bftSubset(identifier);
-        var iterator = new SliceIterator<>(context.getId().toString(), member, slice, dhtComms, scheduler);
+        var iterator = new SliceIterator<>(context.getId().toString(), member, slice, dhtComms, scheduler,
+                                           schedulers);
         try {
             iterator.iterate((link) -> link.appendAttachments(events),
                              (futureSailor, tally, link, _) -> mutate(gathered, futureSailor, identifier, isTimedOut,
@@ -339,6 +361,8 @@ public class KerlDHT implements ProtoKERLService {
                 return Empty.getDefaultInstance();
             }
             throw new IllegalStateException(e.getCause());
+        } finally {
+            invalidate(events);
         }
     }
 
@@ -351,12 +375,13 @@ public class KerlDHT implements ProtoKERLService {
         if (identifier == null) {
             return null;
         }
-        Instant timedOut = Instant.now().plus(operationTimeout);
-        Supplier<Boolean> isTimedOut = () -> Instant.now().isAfter(timedOut);
+        Instant timedOut = schedulers.clock().instant().plus(operationTimeout);
+        Supplier<Boolean> isTimedOut = () -> schedulers.clock().instant().isAfter(timedOut);
         var result = new CompletableFuture<Empty>();
         HashMultiset<Empty> gathered = HashMultiset.create();
         var slice = context.bftSubset(identifier);
-        var iterator = new SliceIterator<>(context.getId().toString(), member, slice, dhtComms, scheduler);
+        var iterator = new SliceIterator<>(context.getId().toString(), member, slice, dhtComms, scheduler,
+                                           schedulers);
         try {
             iterator.iterate((link) -> link.appendValidations(validations),
                              (futureSailor, tally, link, _) -> mutate(gathered, futureSailor, identifier, isTimedOut,
@@ -384,6 +409,7 @@ public class KerlDHT implements ProtoKERLService {
      */
     public void clearCache() {
         cache.clear();
+        ani.clear();
     }
 
     public DigestAlgorithm digestAlgorithm() {
@@ -403,13 +429,14 @@ public class KerlDHT implements ProtoKERLService {
         if (identifier == null) {
             return Attachment.getDefaultInstance();
         }
-        Instant timedOut = Instant.now().plus(operationTimeout);
-        Supplier<Boolean> isTimedOut = () -> Instant.now().isAfter(timedOut);
+        Instant timedOut = schedulers.clock().instant().plus(operationTimeout);
+        Supplier<Boolean> isTimedOut = () -> schedulers.clock().instant().isAfter(timedOut);
         var result = new CompletableFuture<Attachment>();
         HashMultiset<Attachment> gathered = HashMultiset.create();
         var operation = "getAttachment(%s)".formatted(EventCoordinates.from(coordinates));
         var slice = context.bftSubset(identifier);
-        var iter = new SliceIterator<>(context.getId().toString(), member, slice, dhtComms, scheduler);
+        var iter = new SliceIterator<>(context.getId().toString(), member, slice, dhtComms, scheduler,
+                                       schedulers);
         iter.iterate(link -> link.getAttachment(coordinates),
                      (futureSailor, tally, destination, _) -> read(result, gathered, tally, futureSailor, identifier,
                                                                    isTimedOut, destination, operation),
@@ -437,13 +464,14 @@ public class KerlDHT implements ProtoKERLService {
         if (digest == null) {
             return KERL_.getDefaultInstance();
         }
-        Instant timedOut = Instant.now().plus(operationTimeout);
-        Supplier<Boolean> isTimedOut = () -> Instant.now().isAfter(timedOut);
+        Instant timedOut = schedulers.clock().instant().plus(operationTimeout);
+        Supplier<Boolean> isTimedOut = () -> schedulers.clock().instant().isAfter(timedOut);
         var result = new CompletableFuture<KERL_>();
         HashMultiset<KERL_> gathered = HashMultiset.create();
         var operation = "getKerl(%s)".formatted(Identifier.from(identifier));
         var slice = context.bftSubset(digest);
-        var iter = new SliceIterator<>(context.getId().toString(), member, slice, dhtComms, scheduler);
+        var iter = new SliceIterator<>(context.getId().toString(), member, slice, dhtComms, scheduler,
+                                       schedulers);
         iter.iterate(link -> link.getKERL(identifier),
                      (futureSailor, tally, destination, _) -> read(result, gathered, tally, futureSailor, digest,
                                                                    isTimedOut, destination, operation),
@@ -476,12 +504,13 @@ public class KerlDHT implements ProtoKERLService {
         if (digest == null) {
             return KeyEvent_.getDefaultInstance();
         }
-        Instant timedOut = Instant.now().plus(operationTimeout);
-        Supplier<Boolean> isTimedOut = () -> Instant.now().isAfter(timedOut);
+        Instant timedOut = schedulers.clock().instant().plus(operationTimeout);
+        Supplier<Boolean> isTimedOut = () -> schedulers.clock().instant().isAfter(timedOut);
         var result = new CompletableFuture<KeyEvent_>();
         HashMultiset<KeyEvent_> gathered = HashMultiset.create();
         var slice = context.bftSubset(digest);
-        var iter = new SliceIterator<>(context.getId().toString(), member, slice, dhtComms, scheduler);
+        var iter = new SliceIterator<>(context.getId().toString(), member, slice, dhtComms, scheduler,
+                                       schedulers);
         iter.iterate(link -> link.getKeyEvent(coordinates),
                      (futureSailor, tally, destination, _) -> read(result, gathered, tally, futureSailor, digest,
                                                                    isTimedOut, destination, operation),
@@ -511,12 +540,13 @@ public class KerlDHT implements ProtoKERLService {
         if (digest == null) {
             return KeyState_.getDefaultInstance();
         }
-        Instant timedOut = Instant.now().plus(operationTimeout);
-        Supplier<Boolean> isTimedOut = () -> Instant.now().isAfter(timedOut);
+        Instant timedOut = schedulers.clock().instant().plus(operationTimeout);
+        Supplier<Boolean> isTimedOut = () -> schedulers.clock().instant().isAfter(timedOut);
         var result = new CompletableFuture<KeyState_>();
         HashMultiset<KeyState_> gathered = HashMultiset.create();
         var slice = context.bftSubset(digest);
-        var iter = new SliceIterator<>(context.getId().toString(), member, slice, dhtComms, scheduler);
+        var iter = new SliceIterator<>(context.getId().toString(), member, slice, dhtComms, scheduler,
+                                       schedulers);
         iter.iterate(link -> link.getKeyState(coordinates),
                      (futureSailor, tally, destination, _) -> read(result, gathered, tally, futureSailor, digest,
                                                                    isTimedOut, destination, operation),
@@ -550,12 +580,13 @@ public class KerlDHT implements ProtoKERLService {
                                      .setIdentifier(identifier)
                                      .setSequenceNumber(sequenceNumber.longValue())
                                      .build();
-        Instant timedOut = Instant.now().plus(operationTimeout);
-        Supplier<Boolean> isTimedOut = () -> Instant.now().isAfter(timedOut);
+        Instant timedOut = schedulers.clock().instant().plus(operationTimeout);
+        Supplier<Boolean> isTimedOut = () -> schedulers.clock().instant().isAfter(timedOut);
         var result = new CompletableFuture<KeyState_>();
         HashMultiset<KeyState_> gathered = HashMultiset.create();
         var slice = context.bftSubset(digest);
-        var iter = new SliceIterator<>(context.getId().toString(), member, slice, dhtComms, scheduler);
+        var iter = new SliceIterator<>(context.getId().toString(), member, slice, dhtComms, scheduler,
+                                       schedulers);
         iter.iterate(link -> link.getKeyState(identAndSeq),
                      (futureSailor, tally, destination, _) -> read(result, gathered, tally, futureSailor, digest,
                                                                    isTimedOut, destination, operation),
@@ -585,12 +616,13 @@ public class KerlDHT implements ProtoKERLService {
         if (digest == null) {
             return KeyState_.getDefaultInstance();
         }
-        Instant timedOut = Instant.now().plus(operationTimeout);
-        Supplier<Boolean> isTimedOut = () -> Instant.now().isAfter(timedOut);
+        Instant timedOut = schedulers.clock().instant().plus(operationTimeout);
+        Supplier<Boolean> isTimedOut = () -> schedulers.clock().instant().isAfter(timedOut);
         var result = new CompletableFuture<KeyState_>();
         HashMultiset<KeyState_> gathered = HashMultiset.create();
         var slice = context.bftSubset(digest);
-        var iter = new SliceIterator<>(context.getId().toString(), member, slice, dhtComms, scheduler);
+        var iter = new SliceIterator<>(context.getId().toString(), member, slice, dhtComms, scheduler,
+                                       schedulers);
         iter.iterate(link -> link.getKeyState(identifier),
                      (futureSailor, tally, destination, _) -> read(result, gathered, tally, futureSailor, digest,
                                                                    isTimedOut, destination, operation),
@@ -623,12 +655,13 @@ public class KerlDHT implements ProtoKERLService {
             return KeyState_.getDefaultInstance();
         }
         var identAndSeq = IdentAndSeq.newBuilder().setIdentifier(identifier).setSequenceNumber(sequenceNumber).build();
-        Instant timedOut = Instant.now().plus(operationTimeout);
-        Supplier<Boolean> isTimedOut = () -> Instant.now().isAfter(timedOut);
+        Instant timedOut = schedulers.clock().instant().plus(operationTimeout);
+        Supplier<Boolean> isTimedOut = () -> schedulers.clock().instant().isAfter(timedOut);
         var result = new CompletableFuture<KeyState_>();
         HashMultiset<KeyState_> gathered = HashMultiset.create();
         var slice = context.bftSubset(digest);
-        var iter = new SliceIterator<>(context.getId().toString(), member, slice, dhtComms, scheduler);
+        var iter = new SliceIterator<>(context.getId().toString(), member, slice, dhtComms, scheduler,
+                                       schedulers);
         iter.iterate(link -> link.getKeyState(identAndSeq),
                      (futureSailor, tally, destination, _) -> read(result, gathered, tally, futureSailor, digest,
                                                                    isTimedOut, destination, operation),
@@ -658,12 +691,13 @@ public class KerlDHT implements ProtoKERLService {
         if (digest == null) {
             return KeyStateWithAttachments_.getDefaultInstance();
         }
-        Instant timedOut = Instant.now().plus(operationTimeout);
-        Supplier<Boolean> isTimedOut = () -> Instant.now().isAfter(timedOut);
+        Instant timedOut = schedulers.clock().instant().plus(operationTimeout);
+        Supplier<Boolean> isTimedOut = () -> schedulers.clock().instant().isAfter(timedOut);
         var result = new CompletableFuture<KeyStateWithAttachments_>();
         HashMultiset<KeyStateWithAttachments_> gathered = HashMultiset.create();
         var slice = context.bftSubset(digest);
-        var iter = new SliceIterator<>(context.getId().toString(), member, slice, dhtComms, scheduler);
+        var iter = new SliceIterator<>(context.getId().toString(), member, slice, dhtComms, scheduler,
+                                       schedulers);
         iter.iterate(link -> link.getKeyStateWithAttachments(coordinates),
                      (futureSailor, tally, destination, _) -> read(result, gathered, tally, futureSailor, digest,
                                                                    isTimedOut, destination, operation),
@@ -693,12 +727,13 @@ public class KerlDHT implements ProtoKERLService {
         if (digest == null) {
             return KeyStateWithEndorsementsAndValidations_.getDefaultInstance();
         }
-        Instant timedOut = Instant.now().plus(operationTimeout);
-        Supplier<Boolean> isTimedOut = () -> Instant.now().isAfter(timedOut);
+        Instant timedOut = schedulers.clock().instant().plus(operationTimeout);
+        Supplier<Boolean> isTimedOut = () -> schedulers.clock().instant().isAfter(timedOut);
         var result = new CompletableFuture<KeyStateWithEndorsementsAndValidations_>();
         HashMultiset<KeyStateWithEndorsementsAndValidations_> gathered = HashMultiset.create();
         var slice = context.bftSubset(digest);
-        var iter = new SliceIterator<>(context.getId().toString(), member, slice, dhtComms, scheduler);
+        var iter = new SliceIterator<>(context.getId().toString(), member, slice, dhtComms, scheduler,
+                                       schedulers);
         iter.iterate(link -> link.getKeyStateWithEndorsementsAndValidations(coordinates),
                      (futureSailor, tally, destination, _) -> read(result, gathered, tally, futureSailor, digest,
                                                                    isTimedOut, destination, operation),
@@ -728,12 +763,13 @@ public class KerlDHT implements ProtoKERLService {
         if (identifier == null) {
             return Validations.getDefaultInstance();
         }
-        Instant timedOut = Instant.now().plus(operationTimeout);
-        Supplier<Boolean> isTimedOut = () -> Instant.now().isAfter(timedOut);
+        Instant timedOut = schedulers.clock().instant().plus(operationTimeout);
+        Supplier<Boolean> isTimedOut = () -> schedulers.clock().instant().isAfter(timedOut);
         var result = new CompletableFuture<Validations>();
         HashMultiset<Validations> gathered = HashMultiset.create();
         var slice = context.bftSubset(identifier);
-        var iter = new SliceIterator<>(context.getId().toString(), member, slice, dhtComms, scheduler);
+        var iter = new SliceIterator<>(context.getId().toString(), member, slice, dhtComms, scheduler,
+                                       schedulers);
         iter.iterate(link -> link.getValidations(coordinates),
                      (futureSailor, tally, destination, _) -> read(result, gathered, tally, futureSailor, identifier,
                                                                    isTimedOut, destination, operation),
@@ -973,11 +1009,7 @@ public class KerlDHT implements ProtoKERLService {
                 if (link != null) {
                     reconcile(reconcile(link, i.ring()), link);
                 }
-                try {
-                    Thread.sleep(duration.toMillis());
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
+                schedulers.pause(duration);
             } catch (IOException e) {
                 log.debug("Error reconciling with: {} on: {}", i.m(), member.getId(), e);
             } finally {
@@ -987,7 +1019,7 @@ public class KerlDHT implements ProtoKERLService {
     }
 
     private void schedule(Duration duration) {
-        Thread.ofVirtual().start(() -> Utils.wrapped(() -> reconcile(duration), log));
+        schedulers.start(() -> Utils.wrapped(() -> reconcile(duration), log));
     }
 
     private void updateLocationHash(Identifier identifier) {
@@ -1003,6 +1035,23 @@ public class KerlDHT implements ProtoKERLService {
         }
     }
 
+    /**
+     * Invalidate the validations of the events endorsed by the attachments
+     */
+    private void invalidate(List<AttachmentEvent> attachments) {
+        attachments.forEach(attachment -> ani.invalidate(EventCoordinates.from(attachment.getCoordinates())));
+    }
+
+    /**
+     * Invalidate the validations of the events of the KERL with attachments
+     */
+    private void invalidate(KERL_ kerl) {
+        kerl.getEventsList()
+            .stream()
+            .filter(KeyEventWithAttachments::hasAttachment)
+            .forEach(kwa -> ani.invalidate(ProtobufEventFactory.from(kwa).event().getCoordinates()));
+    }
+
     private boolean valid(Digest from, int ring) {
         if (ring >= context.getRingCount() || ring < 0) {
             log.warn("invalid ring {} from {} on: {}", ring, from, member.getId());
@@ -1101,7 +1150,11 @@ public class KerlDHT implements ProtoKERLService {
         @Override
         public List<KeyState_> append(KERL_ kerl_) {
             log.debug("appending kerl on: {}", member.getId());
-            return complete(k -> k.append(kerl_));
+            try {
+                return complete(k -> k.append(kerl_));
+            } finally {
+                invalidate(kerl_);
+            }
         }
 
         @Override
@@ -1113,13 +1166,21 @@ public class KerlDHT implements ProtoKERLService {
         @Override
         public List<KeyState_> append(List<KeyEvent_> events, List<AttachmentEvent> attachments) {
             log.debug("appending events and attachments on: {}", member.getId());
-            return complete(k -> k.append(events, attachments));
+            try {
+                return complete(k -> k.append(events, attachments));
+            } finally {
+                invalidate(attachments);
+            }
         }
 
         @Override
         public Empty appendAttachments(List<AttachmentEvent> attachments) {
             log.debug("append attachments on: {}", member.getId());
-            return complete(k -> k.appendAttachments(attachments));
+            try {
+                return complete(k -> k.appendAttachments(attachments));
+            } finally {
+                invalidate(attachments);
+            }
         }
 
         @Override
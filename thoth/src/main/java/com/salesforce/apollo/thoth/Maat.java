@@ -6,6 +6,9 @@
  */
 package com.salesforce.apollo.thoth;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.protobuf.ByteString;
 import com.salesforce.apollo.context.Context;
 import com.salesforce.apollo.context.DynamicContext;
 import com.salesforce.apollo.cryptography.Digest;
@@ -24,28 +27,53 @@ import org.joou.ULong;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static com.salesforce.apollo.stereotomy.event.protobuf.ProtobufEventFactory.digestOf;
 
 /**
+ * A KERL that only admits inception events validated by a majority of the context.
+ * <p>
+ * The validations of an inception event are resolved and verified in parallel on the executor of the receiver, and the
+ * validation completes as soon as the majority of signatures is verified, or can no longer be reached. The inception
+ * events of a batch appended are validated in parallel. The successors of an identifier in the context are resolved by
+ * the {@link Successors} of the receiver, which are shared by the Maats of the context and cached until the membership
+ * of the context changes. Both the executor and the successors are owned by the caller, as Maats may be created for
+ * each operation on a KERL
+ *
  * @author hal.hildebrand
  */
 public class Maat extends DelegatedKERL {
-    private static final Logger log = LoggerFactory.getLogger(Maat.class);
+    private static final int    MAX_SUCCESSORS = 10_000;
+    private static final Logger log            = LoggerFactory.getLogger(Maat.class);
 
-    private final Context<Member> context;
-    private final KERL            validators;
+    private final Executor   executor;
+    private final Successors successors;
+    private final KERL       validators;
 
+    /**
+     * A Maat validating on the calling thread, without caching successors
+     */
     public Maat(DynamicContext<Member> context, AppendKERL delegate, KERL validators) {
+        this(Successors.uncached(context), delegate, validators, Runnable::run);
+    }
+
+    /**
+     * @param successors - the shared successors of the context
+     * @param delegate   - the KERL appended to
+     * @param validators - the KERL of the validators
+     * @param executor   - the shared executor the validations are verified on
+     */
+    public Maat(Successors successors, AppendKERL delegate, KERL validators, Executor executor) {
         super(delegate);
-        this.context = context;
+        this.successors = successors;
         this.validators = validators;
+        this.executor = executor;
     }
 
     @Override
@@ -62,78 +90,166 @@ public class Maat extends DelegatedKERL {
 
     @Override
     public List<KeyState> append(List<KeyEvent> events, List<AttachmentEvent> attachments) {
-        final List<KeyEvent> filtered = events.stream().filter(e -> {
+        var validated = events.stream().map(e -> {
             if (e instanceof EstablishmentEvent est && est.getCoordinates()
                                                           .getSequenceNumber()
                                                           .equals(ULong.valueOf(0))) {
-                return validate(est);
+                return validation(est);
             }
-            return true;
+            return CompletableFuture.completedFuture(true);
         }).toList();
+        final var filtered = new ArrayList<KeyEvent>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            if (validated.get(i).join()) {
+                filtered.add(events.get(i));
+            }
+        }
         return filtered.isEmpty() && attachments.isEmpty() ? Collections.emptyList()
                                                            : super.append(filtered, attachments);
     }
 
     public boolean validate(EstablishmentEvent event) {
+        return validation(event).join();
+    }
+
+    private CompletableFuture<Boolean> validation(EstablishmentEvent event) {
         Digest digest;
         if (event.getIdentifier() instanceof SelfAddressingIdentifier said) {
             digest = said.getDigest();
         } else {
-            return false;
+            return CompletableFuture.completedFuture(false);
         }
-        final Context<Member> ctx = context;
-        var successors = ctx.bftSubset(digestOf(event.getIdentifier().toIdent(), digest.getAlgorithm()))
-                            .stream()
-                            .map(m -> m.getId())
-                            .collect(Collectors.toSet());
+        final Context<Member> ctx = this.successors.context;
+        var successors = this.successors.get(digestOf(event.getIdentifier().toIdent(), digest.getAlgorithm()));
 
-        record validator(EstablishmentEvent validating, JohnHancock signature) {
+        Map<EventCoordinates, JohnHancock> validations = delegate.getValidations(event.getCoordinates());
+        var required = ctx.size() == 1 ? 1 : ctx.majority();
+        log.trace("Evaluating validation of: {} validations: {} required: {}", event.getCoordinates(),
+                  validations.size(), required);
+        if (validations.isEmpty()) {
+            log.warn("No validations of: {} ", event.getCoordinates());
+            return CompletableFuture.completedFuture(false);
+        }
+        if (validations.size() < required) {
+            log.trace("Validated: false validations: {} required: {} for: {}", validations.size(), required,
+                      event.getCoordinates());
+            return CompletableFuture.completedFuture(false);
         }
-        var mapped = new CopyOnWriteArrayList<validator>();
-        final var serialized = event.toKeyEvent_().toByteString();
 
-        Map<EventCoordinates, JohnHancock> validations = delegate.getValidations(event.getCoordinates());
-        validations.entrySet().forEach(e -> {
-            KeyEvent ev = validators.getKeyEvent(e.getKey());
-            if (ev == null) {
-                return;
-            }
-            var signer = (EstablishmentEvent) ev;
-            if ((signer.getIdentifier() instanceof SelfAddressingIdentifier sai)) {
-                if (!successors.contains(sai.getDigest())) {
-                    log.warn("Signature: {} not successor of: {} ", signer.getCoordinates(), event.getCoordinates());
+        final var serialized = event.toKeyEvent_().toByteString();
+        var result = new CompletableFuture<Boolean>();
+        var verified = new AtomicInteger();
+        var failed = new AtomicInteger();
+        var maxFailures = validations.size() - required;
+        validations.forEach((coordinates, signature) -> {
+            Runnable verification = () -> {
+                if (result.isDone()) {
+                    return;
                 }
-                mapped.add(new validator(signer, e.getValue()));
-                log.trace("Signature: {} valid for: {}", signer.getCoordinates(), event.getCoordinates());
-            } else {
-                log.warn("Signature not SAI: {} for: {}", signer.getCoordinates(), event.getCoordinates(),
-                         event.getCoordinates());
+                boolean valid;
+                try {
+                    valid = verify(event, coordinates, signature, successors, serialized);
+                } catch (Throwable t) {
+                    log.warn("Error verifying validation: {} of: {}", coordinates, event.getCoordinates(), t);
+                    valid = false;
+                }
+                if (valid) {
+                    if (verified.incrementAndGet() >= required && result.complete(true)) {
+                        log.trace("Validated: true valid: {} required: {} for: {}", verified.get(), required,
+                                  event.getCoordinates());
+                    }
+                } else if (failed.incrementAndGet() > maxFailures && result.complete(false)) {
+                    log.trace("Validated: false failed: {} required: {} out of: {} for: {}", failed.get(), required,
+                              validations.size(), event.getCoordinates());
+                }
+            };
+            try {
+                executor.execute(verification);
+            } catch (RejectedExecutionException e) {
+                verification.run();
             }
         });
+        return result;
+    }
 
-        log.trace("Evaluating validation of: {} validations: {} mapped: {}", event.getCoordinates(), validations.size(),
-                  mapped.size());
-        if (mapped.size() == 0) {
-            log.warn("No validations of: {} ", event.getCoordinates());
+    private boolean verify(EstablishmentEvent event, EventCoordinates coordinates, JohnHancock signature,
+                           Set<Digest> successors, ByteString serialized) {
+        KeyEvent ev = validators.getKeyEvent(coordinates);
+        if (ev == null) {
+            return false;
+        }
+        var signer = (EstablishmentEvent) ev;
+        if (!(signer.getIdentifier() instanceof SelfAddressingIdentifier sai)) {
+            log.warn("Signature not SAI: {} for: {}", signer.getCoordinates(), event.getCoordinates());
             return false;
         }
+        if (!successors.contains(sai.getDigest())) {
+            log.warn("Signature: {} not successor of: {} ", signer.getCoordinates(), event.getCoordinates());
+        }
+        var verifier = new DefaultVerifier(signer.getKeys().get(0));
+        if (verifier.verify(signature, serialized)) {
+            log.trace("Signature: {} valid for: {}", signer.getCoordinates(), event.getCoordinates());
+            return true;
+        }
+        log.trace("Cannot verify sig: {} of: {} by: {}", signature, event.getCoordinates(), signer.getIdentifier());
+        return false;
+    }
 
-        var verified = 0;
-        for (var r : mapped) {
-            var verifier = new DefaultVerifier(r.validating.getKeys().get(0));
-            if (verifier.verify(r.signature, serialized)) {
-                verified++;
+    /**
+     * The successors of identifiers in a context, cached until the membership of the context changes. The successors of
+     * a dynamic context listen for its membership changes, and must be closed to deregister the listener
+     */
+    public static final class Successors implements AutoCloseable {
+        private final Cache<Digest, Set<Digest>> cache;
+        private final Context<Member>            context;
+        private final UUID                       registration;
+
+        public Successors(Context<Member> context) {
+            this.context = context;
+            this.cache = Caffeine.newBuilder().maximumSize(MAX_SUCCESSORS).build();
+            if (context instanceof DynamicContext<Member> dynamic) {
+                registration = dynamic.register(new DynamicContext.MembershipListener<>() {
+                    @Override
+                    public void active(Member member) {
+                        cache.invalidateAll();
+                    }
+
+                    @Override
+                    public void offline(Member member) {
+                        cache.invalidateAll();
+                    }
+                });
             } else {
-                log.trace("Cannot verify sig: {} of: {} by: {}", r.signature, event.getCoordinates(),
-                          r.validating.getIdentifier());
+                registration = null;
+            }
+        }
+
+        private Successors(Context<Member> context, Cache<Digest, Set<Digest>> cache) {
+            this.context = context;
+            this.cache = cache;
+            this.registration = null;
+        }
+
+        private static Successors uncached(Context<Member> context) {
+            return new Successors(context, null);
+        }
+
+        /**
+         * Deregister from the membership changes of the context
+         */
+        @Override
+        public void close() {
+            if (registration != null && context instanceof DynamicContext<Member> dynamic) {
+                dynamic.deregister(registration);
             }
         }
-        var ctxMajority = context.size() == 1 ? 1 : context.majority();
-        var validated = verified >= ctxMajority;
 
-        log.trace("Validated: {} valid: {} out of: {} required: {} for: {}  ", validated, verified, mapped.size(),
-                  ctx.majority(), event.getCoordinates());
-        return validated;
+        private Set<Digest> get(Digest identifier) {
+            return cache == null ? successorsOf(identifier) : cache.get(identifier, this::successorsOf);
+        }
+
+        private Set<Digest> successorsOf(Digest identifier) {
+            return context.bftSubset(identifier).stream().map(Member::getId).collect(Collectors.toSet());
+        }
     }
 }
-
@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import java.security.SecureRandom;
 import java.time.Duration;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -23,6 +24,41 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  */
 public class AniTest extends AbstractDhtTest {
 
+    @Test
+    public void memoized() throws Exception {
+        var entropy = SecureRandom.getInstance("SHA1PRNG");
+        entropy.setSeed(new byte[] { 6, 6, 6 });
+
+        routers.values().forEach(lr -> lr.start());
+        dhts.values().forEach(e -> e.start(Duration.ofSeconds(1)));
+
+        var entry = dhts.firstEntry();
+        var dht = entry.getValue();
+        var uncached = new Ani(entry.getKey().getId(), dht.asKERL(), 0, Duration.ZERO, Duration.ZERO);
+        var cached = new Ani(entry.getKey().getId(), dht.asKERL());
+
+        var specification = IdentifierSpecification.newBuilder();
+        var initialKeyPair = specification.getSignatureAlgorithm().generateKeyPair(entropy);
+        var nextKeyPair = specification.getSignatureAlgorithm().generateKeyPair(entropy);
+        var inception = inception(specification, initialKeyPair, factory, nextKeyPair);
+        dht.append(Collections.singletonList(inception.toKeyEvent_()));
+
+        var validations = 1_000;
+        var timeout = Duration.ofSeconds(10);
+        for (var ani : List.of(uncached, cached)) {
+            var validation = ani.eventValidation(timeout);
+            var start = System.nanoTime();
+            for (int i = 0; i < validations; i++) {
+                assertTrue(validation.validate(inception));
+            }
+            var elapsed = System.nanoTime() - start;
+            System.out.printf("%s validations/sec: %,.0f%n", ani == cached ? "Cached" : "Uncached",
+                              validations / (elapsed / 1_000_000_000.0));
+        }
+        cached.invalidate(inception.getCoordinates());
+        assertTrue(cached.eventValidation(timeout).validate(inception));
+    }
+
     @Test
     public void smokin() throws Exception {
         var entropy = SecureRandom.getInstance("SHA1PRNG");
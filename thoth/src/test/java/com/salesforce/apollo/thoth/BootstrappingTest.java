@@ -36,6 +36,8 @@ import org.junit.jupiter.api.Test;
 import java.security.SecureRandom;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -47,13 +49,23 @@ import static org.mockito.Mockito.mock;
  */
 public class BootstrappingTest extends AbstractDhtTest {
 
-    private Router clientRouter;
+    private Router          clientRouter;
+    private ExecutorService validations;
+    private Maat.Successors successors;
 
     @AfterEach
     public void closeClient() throws Exception {
         if (clientRouter != null) {
             clientRouter.close(Duration.ofSeconds(0));
         }
+        if (successors != null) {
+            successors.close();
+            successors = null;
+        }
+        if (validations != null) {
+            validations.shutdown();
+            validations = null;
+        }
     }
 
     @Test
@@ -126,6 +138,12 @@ public class BootstrappingTest extends AbstractDhtTest {
     @Override
     protected BiFunction<KerlDHT, KERL.AppendKERL, KERL.AppendKERL> wrap() {
         // This allows us to have the core member keys trusted for this test, as we're testing the bootstrapping of the client, not the entire system
-        return (t, k) -> gate.get() ? new Maat(context, k, k) : k;
+        if (successors == null) {
+            successors = new Maat.Successors(context);
+            validations = Executors.newVirtualThreadPerTaskExecutor();
+        }
+        final var s = successors;
+        final var e = validations;
+        return (t, k) -> gate.get() ? new Maat(s, k, k, e) : k;
     }
 }
@@ -11,7 +11,9 @@ import com.salesforce.apollo.cryptography.DigestAlgorithm;
 import com.salesforce.apollo.cryptography.JohnHancock;
 import com.salesforce.apollo.membership.stereotomy.ControlledIdentifierMember;
 import com.salesforce.apollo.stereotomy.EventCoordinates;
+import com.salesforce.apollo.stereotomy.KeyState;
 import com.salesforce.apollo.stereotomy.StereotomyImpl;
+import com.salesforce.apollo.stereotomy.event.KeyEvent;
 import com.salesforce.apollo.stereotomy.event.protobuf.ProtobufEventFactory;
 import com.salesforce.apollo.stereotomy.identifier.SelfAddressingIdentifier;
 import com.salesforce.apollo.stereotomy.identifier.spec.IdentifierSpecification;
@@ -20,8 +22,13 @@ import com.salesforce.apollo.stereotomy.mem.MemKeyStore;
 import org.junit.jupiter.api.Test;
 
 import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.Executors;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
@@ -30,6 +37,55 @@ import static org.junit.jupiter.api.Assertions.assertNull;
  */
 public class MaatTest {
 
+    @Test
+    public void batch() throws Exception {
+        var entropy = SecureRandom.getInstance("SHA1PRNG");
+        entropy.setSeed(new byte[] { 6, 6, 6 });
+        final var kerl_ = new MemKERL(DigestAlgorithm.DEFAULT);
+        var stereotomy = new StereotomyImpl(new MemKeyStore(), kerl_, entropy);
+        var b = DynamicContext.newBuilder();
+        b.setCardinality(4);
+        var context = b.build();
+        for (int i = 0; i < 4; i++) {
+            context.activate(new ControlledIdentifierMember(stereotomy.newIdentifier()));
+        }
+
+        var inceptions = new ArrayList<KeyEvent>();
+        for (int i = 0; i < 6; i++) {
+            var specification = IdentifierSpecification.newBuilder();
+            var initialKeyPair = specification.getSignatureAlgorithm().generateKeyPair(entropy);
+            var nextKeyPair = specification.getSignatureAlgorithm().generateKeyPair(entropy);
+            var inception = AbstractDhtTest.inception(specification, initialKeyPair, ProtobufEventFactory.INSTANCE,
+                                                      nextKeyPair);
+            inceptions.add(inception);
+            if (i % 2 == 1) {
+                continue; // unvalidated
+            }
+            var digest = ((SelfAddressingIdentifier) inception.getIdentifier()).getDigest();
+            var serialized = inception.toKeyEvent_().toByteString();
+            var validations = new HashMap<EventCoordinates, JohnHancock>();
+            context.successors(digest).stream().map(m -> (ControlledIdentifierMember) m).forEach(m -> {
+                validations.put(m.getEvent().getCoordinates(), m.sign(serialized));
+            });
+            kerl_.appendValidations(inception.getCoordinates(), validations);
+        }
+
+        List<KeyState> states;
+        try (var successors = new Maat.Successors(context);
+             var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            states = new Maat(successors, kerl_, kerl_, executor).append(inceptions, Collections.emptyList());
+        }
+        assertEquals(3, states.size());
+        for (int i = 0; i < inceptions.size(); i++) {
+            var state = kerl_.getKeyState(inceptions.get(i).getIdentifier());
+            if (i % 2 == 0) {
+                assertNotNull(state, "Should have appended validated event: " + i);
+            } else {
+                assertNull(state, "Should not have appended unvalidated event: " + i);
+            }
+        }
+    }
+
     @Test
     public void smokin() throws Exception {
         var entropy = SecureRandom.getInstance("SHA1PRNG");